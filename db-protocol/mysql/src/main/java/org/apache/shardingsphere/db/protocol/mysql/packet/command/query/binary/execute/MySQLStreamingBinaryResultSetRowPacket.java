@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Streaming binary result set row packet for MySQL.
+ *
+ * <p>Null bitmap and cell values are written into payload directly with binary protocol values chosen for columns in advance, row data will not be materialized.</p>
+ *
+ * @param <T> type of cell
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_binary_resultset.html#sect_protocol_binary_resultset_row">Binary Protocol Resultset Row</a>
+ */
+@RequiredArgsConstructor
+public final class MySQLStreamingBinaryResultSetRowPacket<T> extends MySQLPacket {
+    
+    private static final int PACKET_HEADER = 0x00;
+    
+    private static final int NULL_BITMAP_OFFSET = 2;
+    
+    private static final MySQLBinaryProtocolValue GENERAL_PROTOCOL_VALUE = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(MySQLBinaryColumnType.VAR_STRING);
+    
+    @Getter
+    private final List<T> cells;
+    
+    @Getter
+    private final Function<T, Object> cellValueExtractor;
+    
+    private final MySQLBinaryProtocolValue[] protocolValues;
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        payload.writeInt1(PACKET_HEADER);
+        writeNullBitmap(payload);
+        writeValues(payload);
+    }
+    
+    private void writeNullBitmap(final MySQLPacketPayload payload) {
+        int size = cells.size();
+        int nullBitmapLength = (size + NULL_BITMAP_OFFSET + 7) / 8;
+        for (int byteIndex = 0; byteIndex < nullBitmapLength; byteIndex++) {
+            int nullBits = 0;
+            for (int bitIndex = 0; bitIndex < 8; bitIndex++) {
+                int columnIndex = byteIndex * 8 + bitIndex - NULL_BITMAP_OFFSET;
+                if (columnIndex >= 0 && columnIndex < size && null == cellValueExtractor.apply(cells.get(columnIndex))) {
+                    nullBits |= 1 << bitIndex;
+                }
+            }
+            payload.writeInt1(nullBits);
+        }
+    }
+    
+    private void writeValues(final MySQLPacketPayload payload) {
+        for (int i = 0, size = cells.size(); i < size; i++) {
+            Object value = cellValueExtractor.apply(cells.get(i));
+            if (null != value) {
+                getProtocolValue(i).write(payload, value);
+            }
+        }
+    }
+    
+    private MySQLBinaryProtocolValue getProtocolValue(final int columnIndex) {
+        return columnIndex < protocolValues.length ? protocolValues[columnIndex] : GENERAL_PROTOCOL_VALUE;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Streaming text result set row packet for MySQL.
+ *
+ * <p>Cell values are extracted and written into payload one by one with text protocol values chosen for columns in advance, row data will not be materialized.</p>
+ *
+ * @param <T> type of cell
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_com_query_response_text_resultset_row.html">Text Resultset Row</a>
+ */
+@RequiredArgsConstructor
+public final class MySQLStreamingTextResultSetRowPacket<T> extends MySQLPacket {
+    
+    private static final int NULL = 0xfb;
+    
+    @Getter
+    private final List<T> cells;
+    
+    @Getter
+    private final Function<T, Object> cellValueExtractor;
+    
+    private final MySQLTextProtocolValue[] protocolValues;
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        for (int i = 0, size = cells.size(); i < size; i++) {
+            Object value = cellValueExtractor.apply(cells.get(i));
+            if (null == value) {
+                payload.writeInt1(NULL);
+            } else {
+                getProtocolValue(i).write(payload, value);
+            }
+        }
+    }
+    
+    private MySQLTextProtocolValue getProtocolValue(final int columnIndex) {
+        return columnIndex < protocolValues.length ? protocolValues[columnIndex] : MySQLTextProtocolValueFactory.getGeneralTextProtocolValue();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol;
+
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.infra.util.datetime.DateTimeFormatterFactory;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * General text protocol value for MySQL.
+ */
+public final class MySQLGeneralTextProtocolValue implements MySQLTextProtocolValue {
+    
+    private static final byte[] TRUE_BYTES = {1};
+    
+    private static final byte[] FALSE_BYTES = {0};
+    
+    @Override
+    public void write(final MySQLPacketPayload payload, final Object value) {
+        if (value instanceof byte[]) {
+            payload.writeBytesLenenc((byte[]) value);
+        } else if (value instanceof Timestamp && 0 == ((Timestamp) value).getNanos()) {
+            payload.writeStringLenenc(value.toString().split("\\.")[0]);
+        } else if (value instanceof BigDecimal) {
+            payload.writeStringLenenc(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Boolean) {
+            payload.writeBytesLenenc((boolean) value ? TRUE_BYTES : FALSE_BYTES);
+        } else if (value instanceof LocalDateTime) {
+            payload.writeStringLenenc(DateTimeFormatterFactory.getStandardFormatter().format((LocalDateTime) value));
+        } else {
+            payload.writeStringLenenc(value.toString());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+/**
+ * Integer text protocol value for MySQL.
+ *
+ * <p>Integer values are written as digits without creating strings, other values are written by general text protocol value.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLIntegerTextProtocolValue implements MySQLTextProtocolValue {
+    
+    private final MySQLTextProtocolValue generalProtocolValue;
+    
+    @Override
+    public void write(final MySQLPacketPayload payload, final Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            payload.writeLongAsStringLenenc(((Number) value).longValue());
+        } else {
+            generalProtocolValue.write(payload, value);
+        }
+    }
+}
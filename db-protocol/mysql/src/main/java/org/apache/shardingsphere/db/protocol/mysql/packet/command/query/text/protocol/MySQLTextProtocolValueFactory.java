@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Types;
+
+/**
+ * Text protocol value factory for MySQL.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLTextProtocolValueFactory {
+    
+    private static final MySQLTextProtocolValue GENERAL_PROTOCOL_VALUE = new MySQLGeneralTextProtocolValue();
+    
+    private static final MySQLTextProtocolValue INTEGER_PROTOCOL_VALUE = new MySQLIntegerTextProtocolValue(GENERAL_PROTOCOL_VALUE);
+    
+    private static final MySQLTextProtocolValue STRING_PROTOCOL_VALUE = new MySQLStringTextProtocolValue(GENERAL_PROTOCOL_VALUE);
+    
+    /**
+     * Get text protocol value.
+     *
+     * @param jdbcType JDBC type
+     * @return text protocol value
+     */
+    public static MySQLTextProtocolValue getTextProtocolValue(final int jdbcType) {
+        switch (jdbcType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return INTEGER_PROTOCOL_VALUE;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return STRING_PROTOCOL_VALUE;
+            default:
+                return GENERAL_PROTOCOL_VALUE;
+        }
+    }
+    
+    /**
+     * Get general text protocol value.
+     *
+     * @return general text protocol value
+     */
+    public static MySQLTextProtocolValue getGeneralTextProtocolValue() {
+        return GENERAL_PROTOCOL_VALUE;
+    }
+}
@@ -19,11 +19,13 @@ package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import com.google.common.base.Strings;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * MySQL payload operation for MySQL packet data types.
@@ -182,12 +184,12 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte((int) value);
             return;
         }
-        if (value < Math.pow(2D, 16D)) {
+        if (value < 0x10000L) {
             byteBuf.writeByte(0xfc);
             byteBuf.writeShortLE((int) value);
             return;
         }
-        if (value < Math.pow(2D, 24D)) {
+        if (value < 0x1000000L) {
             byteBuf.writeByte(0xfd);
             byteBuf.writeMediumLE((int) value);
             return;
@@ -241,11 +243,55 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte(0);
             return;
         }
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            int length = ByteBufUtil.utf8Bytes(value);
+            writeIntLenenc(length);
+            ByteBufUtil.reserveAndWriteUtf8(byteBuf, value, length);
+            return;
+        }
         byte[] valueBytes = value.getBytes(charset);
         writeIntLenenc(valueBytes.length);
         byteBuf.writeBytes(valueBytes);
     }
     
+    /**
+     * Write lenenc string of long value to byte buffers.
+     *
+     * <p>Digits are written into byte buffers directly, the result is the same as writing lenenc string of {@code String.valueOf(value)}.</p>
+     *
+     * @param value long value
+     */
+    public void writeLongAsStringLenenc(final long value) {
+        if (Long.MIN_VALUE == value) {
+            writeStringLenenc(String.valueOf(value));
+            return;
+        }
+        long remaining = Math.abs(value);
+        int length = value < 0L ? getDigitsCount(remaining) + 1 : getDigitsCount(remaining);
+        byteBuf.ensureWritable(length + 1);
+        byteBuf.writeByte(length);
+        int writerIndex = byteBuf.writerIndex();
+        if (value < 0L) {
+            byteBuf.setByte(writerIndex, '-');
+        }
+        int index = writerIndex + length - 1;
+        do {
+            byteBuf.setByte(index--, '0' + (int) (remaining % 10L));
+            remaining /= 10L;
+        } while (remaining > 0L);
+        byteBuf.writerIndex(writerIndex + length);
+    }
+    
+    private int getDigitsCount(final long value) {
+        int result = 1;
+        long threshold = 10L;
+        while (result < 19 && value >= threshold) {
+            result++;
+            threshold *= 10L;
+        }
+        return result;
+    }
+    
     /**
      * Write lenenc bytes to byte buffers.
      *
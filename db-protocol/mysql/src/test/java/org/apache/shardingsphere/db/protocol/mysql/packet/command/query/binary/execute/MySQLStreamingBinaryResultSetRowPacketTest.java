@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLStreamingBinaryResultSetRowPacketTest {
+    
+    @Mock
+    private MySQLPacketPayload payload;
+    
+    @Test
+    void assertWrite() {
+        MySQLBinaryProtocolValue stringProtocolValue = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(MySQLBinaryColumnType.STRING);
+        MySQLStreamingBinaryResultSetRowPacket<Object> actual = new MySQLStreamingBinaryResultSetRowPacket<>(
+                Arrays.asList("value", null), Function.identity(), new MySQLBinaryProtocolValue[]{stringProtocolValue, stringProtocolValue});
+        actual.write(payload);
+        verify(payload).writeInt1(0x00);
+        verify(payload).writeInt1(0x08);
+        verify(payload).writeStringLenenc("value");
+    }
+    
+    @Test
+    void assertWriteWithMoreCellsThanProtocolValues() {
+        MySQLBinaryProtocolValue longProtocolValue = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(MySQLBinaryColumnType.LONGLONG);
+        new MySQLStreamingBinaryResultSetRowPacket<>(Arrays.<Object>asList(1L, 2), Function.identity(), new MySQLBinaryProtocolValue[]{longProtocolValue}).write(payload);
+        verify(payload).writeInt8(1L);
+        verify(payload).writeStringLenenc("2");
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLStreamingTextResultSetRowPacketTest {
+    
+    @Test
+    void assertWriteSameAsTextResultSetRowPacket() {
+        List<Object> values = Arrays.asList(null, 1L, -20, (short) 3, "value", "中文", BigDecimal.TEN, Boolean.TRUE, new byte[]{1, 2}, "extra");
+        MySQLTextProtocolValue[] protocolValues = {
+                MySQLTextProtocolValueFactory.getTextProtocolValue(Types.INTEGER), MySQLTextProtocolValueFactory.getTextProtocolValue(Types.BIGINT),
+                MySQLTextProtocolValueFactory.getTextProtocolValue(Types.INTEGER), MySQLTextProtocolValueFactory.getTextProtocolValue(Types.SMALLINT),
+                MySQLTextProtocolValueFactory.getTextProtocolValue(Types.VARCHAR), MySQLTextProtocolValueFactory.getTextProtocolValue(Types.CHAR),
+                MySQLTextProtocolValueFactory.getTextProtocolValue(Types.DECIMAL), MySQLTextProtocolValueFactory.getTextProtocolValue(Types.BIT),
+                MySQLTextProtocolValueFactory.getTextProtocolValue(Types.VARBINARY)};
+        ByteBuf expected = Unpooled.buffer();
+        new MySQLTextResultSetRowPacket(values).write(new MySQLPacketPayload(expected, StandardCharsets.UTF_8));
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLStreamingTextResultSetRowPacket<>(values, Function.identity(), protocolValues).write(new MySQLPacketPayload(actual, StandardCharsets.UTF_8));
+        assertThat(actual, is(expected));
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -209,11 +211,30 @@ class MySQLPacketPayloadTest {
     
     @Test
     void assertWriteStringLenenc() {
-        new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).writeStringLenenc("value");
+        new MySQLPacketPayload(byteBuf, StandardCharsets.ISO_8859_1).writeStringLenenc("value");
         verify(byteBuf).writeByte(5);
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    void assertWriteStringLenencWithUTF8() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeStringLenenc("value_\u4e2d\u6587");
+        byte[] expected = "value_\u4e2d\u6587".getBytes(StandardCharsets.UTF_8);
+        assertThat(actual.readUnsignedByte(), is((short) expected.length));
+        assertThat(ByteBufUtil.getBytes(actual), is(expected));
+    }
+    
+    @Test
+    void assertWriteLongAsStringLenenc() {
+        for (long each : new long[]{0L, 7L, -7L, 1234567890L, -1234567890L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            ByteBuf actual = Unpooled.buffer();
+            new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeLongAsStringLenenc(each);
+            assertThat(actual.readUnsignedByte(), is((short) String.valueOf(each).length()));
+            assertThat(actual.toString(StandardCharsets.UTF_8), is(String.valueOf(each)));
+        }
+    }
+    
     @Test
     void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).readStringFix(0), is(""));
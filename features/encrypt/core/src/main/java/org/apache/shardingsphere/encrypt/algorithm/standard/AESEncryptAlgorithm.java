@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContex
 import org.apache.shardingsphere.infra.algorithm.cryptographic.core.CryptographicAlgorithm;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -61,6 +62,11 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         return cryptographicAlgorithm.decrypt(cipherValue);
     }
     
+    @Override
+    public List<Object> batchDecrypt(final List<Object> cipherValues, final AlgorithmSQLContext algorithmSQLContext) {
+        return cryptographicAlgorithm.batchDecrypt(cipherValues);
+    }
+    
     @Override
     public AlgorithmConfiguration toConfiguration() {
         Properties properties = new Properties();
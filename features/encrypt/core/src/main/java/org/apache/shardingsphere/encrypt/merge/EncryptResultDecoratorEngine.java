@@ -24,6 +24,7 @@ import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecoratorEngine;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -41,7 +42,8 @@ public final class EncryptResultDecoratorEngine implements ResultDecoratorEngine
     public Optional<ResultDecorator<EncryptRule>> newInstance(final ShardingSphereMetaData metaData,
                                                               final ShardingSphereDatabase database, final ConfigurationProperties props, final SQLStatementContext sqlStatementContext) {
         if (sqlStatementContext instanceof SelectStatementContext) {
-            return Optional.of(new EncryptDQLResultDecorator(database, metaData, (SelectStatementContext) sqlStatementContext));
+            return Optional.of(new EncryptDQLResultDecorator(
+                    database, metaData, (SelectStatementContext) sqlStatementContext, props.<Integer>getValue(ConfigurationPropertyKey.ENCRYPT_DECRYPT_BATCH_SIZE)));
         }
         if (sqlStatementContext.getSqlStatement() instanceof DALStatement) {
             return Optional.of(new EncryptDALResultDecorator(metaData.getGlobalRuleMetaData()));
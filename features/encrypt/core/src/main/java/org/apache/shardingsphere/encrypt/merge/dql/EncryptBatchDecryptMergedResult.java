@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch decrypt merged result for encrypt.
+ *
+ * <p>Reads ahead a block of rows from the merged result as memory merged result does, and decrypts each encrypt column of the block in one batch.</p>
+ */
+public final class EncryptBatchDecryptMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private final MergedResult mergedResult;
+    
+    private final int columnCount;
+    
+    private final Map<Integer, EncryptColumnDecryptor> decryptors;
+    
+    private final List<Object[]> rows;
+    
+    private final int batchSize;
+    
+    private int currentRowIndex;
+    
+    private boolean exhausted;
+    
+    private boolean wasNull;
+    
+    public EncryptBatchDecryptMergedResult(final MergedResult mergedResult, final int columnCount, final Map<Integer, EncryptColumnDecryptor> decryptors, final int batchSize) {
+        this.mergedResult = mergedResult;
+        this.columnCount = columnCount;
+        this.decryptors = decryptors;
+        this.batchSize = batchSize;
+        rows = new ArrayList<>(batchSize);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        currentRowIndex++;
+        if (currentRowIndex < rows.size()) {
+            return true;
+        }
+        if (exhausted) {
+            return false;
+        }
+        loadRows();
+        currentRowIndex = 0;
+        return !rows.isEmpty();
+    }
+    
+    private void loadRows() throws SQLException {
+        rows.clear();
+        while (rows.size() < batchSize) {
+            if (!mergedResult.next()) {
+                exhausted = true;
+                break;
+            }
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = mergedResult.getValue(i + 1, Object.class);
+            }
+            rows.add(row);
+        }
+        for (Map.Entry<Integer, EncryptColumnDecryptor> entry : decryptors.entrySet()) {
+            decryptColumn(entry.getKey() - 1, entry.getValue());
+        }
+    }
+    
+    private void decryptColumn(final int columnOffset, final EncryptColumnDecryptor decryptor) {
+        List<Object> cipherValues = new ArrayList<>(rows.size());
+        for (Object[] each : rows) {
+            cipherValues.add(each[columnOffset]);
+        }
+        List<Object> plainValues = decryptor.batchDecrypt(cipherValues);
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i)[columnOffset] = plainValues.get(i);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkNotContains(INVALID_MEMORY_TYPES, type, () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        return getCell(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getCell(columnIndex);
+    }
+    
+    private Object getCell(final int columnIndex) {
+        Object result = rows.get(currentRowIndex)[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+}
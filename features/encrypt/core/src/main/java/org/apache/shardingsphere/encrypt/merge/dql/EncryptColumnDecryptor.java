@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.infra.exception.core.external.sql.identifier.SQLExceptionIdentifier;
+
+import java.util.List;
+
+/**
+ * Encrypt column decryptor.
+ */
+@RequiredArgsConstructor
+public final class EncryptColumnDecryptor {
+    
+    private final String databaseName;
+    
+    private final String schemaName;
+    
+    private final String tableName;
+    
+    private final String columnName;
+    
+    private final EncryptColumn encryptColumn;
+    
+    /**
+     * Decrypt.
+     *
+     * @param cipherValue cipher value
+     * @return plain value
+     * @throws DecryptFailedException decrypt failed exception
+     */
+    public Object decrypt(final Object cipherValue) {
+        try {
+            return encryptColumn.getCipher().decrypt(databaseName, schemaName, tableName, columnName, cipherValue);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(databaseName, tableName, columnName), ex);
+        }
+    }
+    
+    /**
+     * Decrypt in batch.
+     *
+     * @param cipherValues cipher values
+     * @return plain values
+     * @throws DecryptFailedException decrypt failed exception
+     */
+    public List<Object> batchDecrypt(final List<Object> cipherValues) {
+        try {
+            return encryptColumn.getCipher().batchDecrypt(databaseName, schemaName, tableName, columnName, cipherValues);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new DecryptFailedException(String.valueOf(cipherValues), new SQLExceptionIdentifier(databaseName, tableName, columnName), ex);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.ColumnSegmentBoundInfo;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Encrypt column decryptor finder.
+ *
+ * <p>Decryptor of each column index is resolved only once for the query result.</p>
+ */
+@RequiredArgsConstructor
+public final class EncryptColumnDecryptorFinder {
+    
+    private final ShardingSphereDatabase database;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final Map<Integer, Optional<EncryptColumnDecryptor>> decryptors = new HashMap<>();
+    
+    /**
+     * Find encrypt column decryptor.
+     *
+     * @param columnIndex column index
+     * @return found decryptor, empty when column is not encrypt column
+     */
+    public Optional<EncryptColumnDecryptor> find(final int columnIndex) {
+        return decryptors.computeIfAbsent(columnIndex, this::load);
+    }
+    
+    private Optional<EncryptColumnDecryptor> load(final int columnIndex) {
+        Optional<ColumnSegmentBoundInfo> columnSegmentBoundInfo = selectStatementContext.findColumnBoundInfo(columnIndex);
+        if (!columnSegmentBoundInfo.isPresent()) {
+            return Optional.empty();
+        }
+        String originalTableName = columnSegmentBoundInfo.get().getOriginalTable().getValue();
+        String originalColumnName = columnSegmentBoundInfo.get().getOriginalColumn().getValue();
+        ShardingSphereDatabase database = metaData.containsDatabase(columnSegmentBoundInfo.get().getOriginalDatabase().getValue())
+                ? metaData.getDatabase(columnSegmentBoundInfo.get().getOriginalDatabase().getValue())
+                : this.database;
+        Optional<EncryptRule> rule = database.getRuleMetaData().findSingleRule(EncryptRule.class);
+        if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
+            return Optional.empty();
+        }
+        EncryptColumn encryptColumn = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
+        String schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
+        return Optional.of(new EncryptColumnDecryptor(database.getName(), schemaName, originalTableName, originalColumnName, encryptColumn));
+    }
+}
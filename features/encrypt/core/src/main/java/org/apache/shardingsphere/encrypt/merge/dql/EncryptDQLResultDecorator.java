@@ -26,6 +26,9 @@ import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * DQL result decorator for encrypt.
  */
@@ -38,8 +41,27 @@ public final class EncryptDQLResultDecorator implements ResultDecorator<EncryptR
     
     private final SelectStatementContext selectStatementContext;
     
+    private final int decryptBatchSize;
+    
     @Override
     public MergedResult decorate(final MergedResult mergedResult, final SQLStatementContext sqlStatementContext, final EncryptRule rule) {
+        if (decryptBatchSize > 1) {
+            int columnCount = selectStatementContext.getProjectionsContext().getExpandProjections().size();
+            Map<Integer, EncryptColumnDecryptor> decryptors = findDecryptors(columnCount);
+            if (!decryptors.isEmpty()) {
+                return new EncryptBatchDecryptMergedResult(mergedResult, columnCount, decryptors, decryptBatchSize);
+            }
+        }
         return new EncryptMergedResult(database, metaData, selectStatementContext, mergedResult);
     }
+    
+    private Map<Integer, EncryptColumnDecryptor> findDecryptors(final int columnCount) {
+        EncryptColumnDecryptorFinder decryptorFinder = new EncryptColumnDecryptorFinder(database, metaData, selectStatementContext);
+        Map<Integer, EncryptColumnDecryptor> result = new LinkedHashMap<>(columnCount, 1F);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            int index = columnIndex;
+            decryptorFinder.find(columnIndex).ifPresent(optional -> result.put(index, optional));
+        }
+        return result;
+    }
 }
@@ -88,4 +88,18 @@ public final class CipherColumnItem {
         }
         return encryptor.decrypt(cipherValue, new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName));
     }
+    
+    /**
+     * Decrypt in batch.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param logicColumnName logic column name
+     * @param cipherValues cipher values
+     * @return decrypted values
+     */
+    public List<Object> batchDecrypt(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final List<Object> cipherValues) {
+        return encryptor.batchDecrypt(cipherValues, new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName));
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.apache.shardingsphere.test.matcher.ShardingSphereArgumentVerifyMatchers.deepEq;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EncryptBatchDecryptMergedResultTest {
+    
+    @Mock
+    private MergedResult mergedResult;
+    
+    @Test
+    void assertNextAndGetValue() throws SQLException {
+        when(mergedResult.next()).thenReturn(true, true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 2, 3);
+        when(mergedResult.getValue(2, Object.class)).thenReturn("cipher_1", null, "cipher_3");
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        AlgorithmSQLContext algorithmSQLContext = new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "foo_col");
+        when(encryptAlgorithm.batchDecrypt(eq(Arrays.asList("cipher_1", null)), deepEq(algorithmSQLContext))).thenReturn(Arrays.asList("plain_1", null));
+        when(encryptAlgorithm.batchDecrypt(eq(Collections.singletonList("cipher_3")), deepEq(algorithmSQLContext))).thenReturn(Collections.singletonList("plain_3"));
+        EncryptBatchDecryptMergedResult actual = new EncryptBatchDecryptMergedResult(mergedResult, 2, createDecryptors(encryptAlgorithm), 2);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertThat(actual.getValue(2, String.class), is("plain_1"));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertNull(actual.getValue(2, String.class));
+        assertTrue(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3));
+        assertThat(actual.getValue(2, String.class), is("plain_3"));
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        verify(encryptAlgorithm, times(2)).batchDecrypt(anyList(), any());
+    }
+    
+    @Test
+    void assertNextWithDecryptFailed() throws SQLException {
+        when(mergedResult.next()).thenReturn(true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1);
+        when(mergedResult.getValue(2, Object.class)).thenReturn("cipher_1");
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.batchDecrypt(anyList(), any())).thenThrow(new RuntimeException("Test failed"));
+        assertThrows(DecryptFailedException.class, () -> new EncryptBatchDecryptMergedResult(mergedResult, 2, createDecryptors(encryptAlgorithm), 2).next());
+    }
+    
+    @Test
+    void assertGetValueWithInvalidMemoryType() throws SQLException {
+        when(mergedResult.next()).thenReturn(true, false);
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.batchDecrypt(anyList(), any())).thenReturn(Collections.singletonList(null));
+        EncryptBatchDecryptMergedResult actual = new EncryptBatchDecryptMergedResult(mergedResult, 2, createDecryptors(encryptAlgorithm), 2);
+        assertTrue(actual.next());
+        assertThrows(SQLFeatureNotSupportedException.class, () -> actual.getValue(1, InputStream.class));
+        assertThrows(SQLFeatureNotSupportedException.class, () -> actual.getInputStream(1, "Ascii"));
+        assertThrows(SQLFeatureNotSupportedException.class, () -> actual.getCharacterStream(1));
+    }
+    
+    private Map<Integer, EncryptColumnDecryptor> createDecryptors(final EncryptAlgorithm encryptAlgorithm) {
+        EncryptColumn encryptColumn = new EncryptColumn("foo_col", new CipherColumnItem("foo_cipher_col", encryptAlgorithm));
+        return Collections.singletonMap(2, new EncryptColumnDecryptor("foo_db", "foo_schema", "foo_tbl", "foo_col", encryptColumn));
+    }
+}
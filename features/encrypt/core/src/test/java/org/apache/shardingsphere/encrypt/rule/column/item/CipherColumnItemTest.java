@@ -67,4 +67,12 @@ class CipherColumnItemTest {
         CipherColumnItem cipherColumnItem = new CipherColumnItem("foo_col", encryptAlgorithm);
         assertThat(cipherColumnItem.decrypt("foo_db", "foo_schema", "foo_tbl", "foo_col", "encrypted_foo_value"), is("foo_value"));
     }
+    
+    @Test
+    void assertBatchDecrypt() {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.batchDecrypt(eq(Arrays.asList(null, "encrypted_foo_value")), deepEq(new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "foo_col")))).thenReturn(Arrays.asList(null, "foo_value"));
+        CipherColumnItem cipherColumnItem = new CipherColumnItem("foo_col", encryptAlgorithm);
+        assertThat(cipherColumnItem.batchDecrypt("foo_db", "foo_schema", "foo_tbl", "foo_col", Arrays.asList(null, "encrypted_foo_value")), is(Arrays.asList(null, "foo_value")));
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sharding auto table route table.
+ *
+ * <p>Maps shard index to target name directly, target names are built once per data node info and then looked up by index without string building.</p>
+ */
+public final class ShardingAutoTableRouteTable {
+    
+    private final String[] suffixes;
+    
+    private final Map<DataNodeInfo, String[]> targetNames = new ConcurrentHashMap<>();
+    
+    public ShardingAutoTableRouteTable(final int shardingCount) {
+        this(shardingCount, false);
+    }
+    
+    public ShardingAutoTableRouteTable(final int shardingCount, final boolean zeroPadding) {
+        suffixes = new String[shardingCount];
+        int paddingSize = String.valueOf(Math.max(shardingCount - 1, 0)).length();
+        for (int i = 0; i < shardingCount; i++) {
+            suffixes[i] = zeroPadding ? Strings.padStart(String.valueOf(i), paddingSize, '0') : String.valueOf(i);
+        }
+    }
+    
+    /**
+     * Find matched target name.
+     *
+     * @param availableTargetNames available target names
+     * @param index shard index
+     * @param dataNodeInfo data node info
+     * @return matched target name
+     */
+    public Optional<String> findMatchedTargetName(final Collection<String> availableTargetNames, final int index, final DataNodeInfo dataNodeInfo) {
+        String result = getTargetName(index, dataNodeInfo);
+        return availableTargetNames.contains(result) ? Optional.of(result) : Optional.empty();
+    }
+    
+    private String getTargetName(final int index, final DataNodeInfo dataNodeInfo) {
+        String[] names = targetNames.get(dataNodeInfo);
+        if (null == names) {
+            names = targetNames.computeIfAbsent(dataNodeInfo, key -> new String[suffixes.length]);
+        }
+        String result = names[index];
+        if (null == result) {
+            result = dataNodeInfo.getPrefix() + Strings.padStart(suffixes[index], dataNodeInfo.getSuffixMinLength(), dataNodeInfo.getPaddingChar());
+            names[index] = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.compiler;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Absolute value integral expression.
+ */
+@RequiredArgsConstructor
+final class AbsIntegralExpression implements IntegralExpression {
+    
+    private final IntegralExpression operand;
+    
+    @Override
+    public long evaluate(final Object columnValue, final boolean longColumn) {
+        long result = Math.abs(operand.evaluate(columnValue, longColumn));
+        return isLongResult(longColumn) ? result : (int) result;
+    }
+    
+    @Override
+    public boolean isLongResult(final boolean longColumn) {
+        return operand.isLongResult(longColumn);
+    }
+    
+    @Override
+    public boolean isIntegralColumnRequired() {
+        return operand.isIntegralColumnRequired();
+    }
+    
+    @Override
+    public Optional<IntegralValueRange> getValueRange() {
+        return operand.getValueRange().filter(each -> Long.MIN_VALUE != each.getLowerBound())
+                .map(each -> new IntegralValueRange(0L, Math.max(Math.abs(each.getLowerBound()), Math.abs(each.getUpperBound()))));
+    }
+}
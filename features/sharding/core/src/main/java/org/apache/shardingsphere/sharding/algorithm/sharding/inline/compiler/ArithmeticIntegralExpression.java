@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.compiler;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Arithmetic integral expression.
+ */
+@RequiredArgsConstructor
+final class ArithmeticIntegralExpression implements IntegralExpression {
+    
+    private static final long MAX_RANGE_BOUND = Integer.MAX_VALUE;
+    
+    private final char operator;
+    
+    private final IntegralExpression left;
+    
+    private final IntegralExpression right;
+    
+    @Override
+    public long evaluate(final Object columnValue, final boolean longColumn) {
+        long leftValue = left.evaluate(columnValue, longColumn);
+        long rightValue = right.evaluate(columnValue, longColumn);
+        long result;
+        switch (operator) {
+            case '+':
+                result = leftValue + rightValue;
+                break;
+            case '-':
+                result = leftValue - rightValue;
+                break;
+            case '*':
+                result = leftValue * rightValue;
+                break;
+            default:
+                result = leftValue % rightValue;
+                break;
+        }
+        return isLongResult(longColumn) ? result : (int) result;
+    }
+    
+    @Override
+    public boolean isLongResult(final boolean longColumn) {
+        return left.isLongResult(longColumn) || right.isLongResult(longColumn);
+    }
+    
+    @Override
+    public boolean isIntegralColumnRequired() {
+        return left.isIntegralColumnRequired() || right.isIntegralColumnRequired();
+    }
+    
+    @Override
+    public Optional<IntegralValueRange> getValueRange() {
+        if ('%' == operator) {
+            return getModuloValueRange();
+        }
+        if ('*' == operator) {
+            return Optional.empty();
+        }
+        Optional<IntegralValueRange> leftRange = left.getValueRange().filter(this::isBounded);
+        Optional<IntegralValueRange> rightRange = right.getValueRange().filter(this::isBounded);
+        if (!leftRange.isPresent() || !rightRange.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of('+' == operator
+                ? new IntegralValueRange(leftRange.get().getLowerBound() + rightRange.get().getLowerBound(), leftRange.get().getUpperBound() + rightRange.get().getUpperBound())
+                : new IntegralValueRange(leftRange.get().getLowerBound() - rightRange.get().getUpperBound(), leftRange.get().getUpperBound() - rightRange.get().getLowerBound()));
+    }
+    
+    private Optional<IntegralValueRange> getModuloValueRange() {
+        if (!(right instanceof LiteralIntegralExpression) || 0L == ((LiteralIntegralExpression) right).getValue() || Long.MIN_VALUE == ((LiteralIntegralExpression) right).getValue()) {
+            return Optional.empty();
+        }
+        long maxRemainder = Math.abs(((LiteralIntegralExpression) right).getValue()) - 1L;
+        boolean nonNegativeDividend = left.getValueRange().map(each -> each.getLowerBound() >= 0L).orElse(false);
+        return Optional.of(new IntegralValueRange(nonNegativeDividend ? 0L : -maxRemainder, maxRemainder));
+    }
+    
+    private boolean isBounded(final IntegralValueRange range) {
+        return range.getLowerBound() >= -MAX_RANGE_BOUND && range.getUpperBound() <= MAX_RANGE_BOUND;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.compiler;
+
+import java.util.Optional;
+
+/**
+ * Column integral expression.
+ */
+final class ColumnIntegralExpression implements IntegralExpression {
+    
+    @Override
+    public long evaluate(final Object columnValue, final boolean longColumn) {
+        return ((Number) columnValue).longValue();
+    }
+    
+    @Override
+    public boolean isLongResult(final boolean longColumn) {
+        return longColumn;
+    }
+    
+    @Override
+    public boolean isIntegralColumnRequired() {
+        return true;
+    }
+    
+    @Override
+    public Optional<IntegralValueRange> getValueRange() {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.compiler;
+
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>Evaluates integral sharding values with primitive arithmetic which keeps the same result as Groovy evaluation, and looks up the target name from precomputed table when result range is small.</p>
+ */
+public final class CompiledInlineExpression {
+    
+    private static final int MAX_TARGET_NAME_TABLE_SIZE = 4096;
+    
+    @Getter
+    private final String columnName;
+    
+    private final String[] literals;
+    
+    private final IntegralExpression[] expressions;
+    
+    private final boolean integralColumnRequired;
+    
+    private final long targetNameTableOffset;
+    
+    private final String[] targetNameTable;
+    
+    CompiledInlineExpression(final String columnName, final String[] literals, final IntegralExpression[] expressions) {
+        this.columnName = columnName;
+        this.literals = literals;
+        this.expressions = expressions;
+        integralColumnRequired = isIntegralColumnRequired(expressions);
+        Optional<IntegralValueRange> valueRange = 1 == expressions.length ? expressions[0].getValueRange() : Optional.empty();
+        if (valueRange.isPresent() && valueRange.get().getUpperBound() - valueRange.get().getLowerBound() < MAX_TARGET_NAME_TABLE_SIZE) {
+            targetNameTableOffset = valueRange.get().getLowerBound();
+            targetNameTable = createTargetNameTable(valueRange.get());
+        } else {
+            targetNameTableOffset = 0L;
+            targetNameTable = null;
+        }
+    }
+    
+    private boolean isIntegralColumnRequired(final IntegralExpression[] expressions) {
+        for (IntegralExpression each : expressions) {
+            if (each.isIntegralColumnRequired()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private String[] createTargetNameTable(final IntegralValueRange valueRange) {
+        String[] result = new String[(int) (valueRange.getUpperBound() - valueRange.getLowerBound() + 1L)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = literals[0] + (valueRange.getLowerBound() + i) + literals[1];
+        }
+        return result;
+    }
+    
+    /**
+     * Evaluate sharding value.
+     *
+     * @param shardingValue sharding value
+     * @return evaluated target name, empty when sharding value type is not supported by compiled expression
+     */
+    public Optional<String> evaluate(final Comparable<?> shardingValue) {
+        boolean longColumn = shardingValue instanceof Long;
+        if (integralColumnRequired && !longColumn && !isIntColumn(shardingValue)) {
+            return Optional.empty();
+        }
+        if (null != targetNameTable) {
+            return Optional.of(targetNameTable[(int) (expressions[0].evaluate(shardingValue, longColumn) - targetNameTableOffset)]);
+        }
+        StringBuilder result = new StringBuilder(literals[0]);
+        for (int i = 0; i < expressions.length; i++) {
+            result.append(expressions[i].evaluate(shardingValue, longColumn)).append(literals[i + 1]);
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private boolean isIntColumn(final Comparable<?> shardingValue) {
+        return shardingValue instanceof Integer || shardingValue instanceof Short || shardingValue instanceof Byte;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.compiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ *
+ * <p>Compiles inline expression such as {@code t_order_${order_id % 16}} whose placeholders only contain sharding column, integer literals, {@code + - * %}, parentheses,
+ * {@code hashCode()}, {@code abs()} and {@code Math.abs()}. Other expressions are not compiled and should still be evaluated by Groovy.</p>
+ */
+public final class InlineExpressionCompiler {
+    
+    private static final Collection<String> RESERVED_IDENTIFIERS = new HashSet<>(Arrays.asList("it", "this", "super", "true", "false", "null", "new", "Math"));
+    
+    private final String expression;
+    
+    private int position;
+    
+    private int endPosition;
+    
+    private String columnName;
+    
+    private InlineExpressionCompiler(final String expression) {
+        this.expression = expression;
+    }
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with placeholders already handled
+     * @return compiled inline expression, empty when inline expression can not be compiled
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        try {
+            return Optional.of(new InlineExpressionCompiler(inlineExpression).compile());
+        } catch (final UncompilableExpressionException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private CompiledInlineExpression compile() {
+        List<String> literals = new ArrayList<>();
+        List<IntegralExpression> expressions = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        while (position < expression.length()) {
+            char each = expression.charAt(position);
+            if ('"' == each || '\\' == each || '{' == each || '}' == each) {
+                throw new UncompilableExpressionException();
+            }
+            if ('$' != each) {
+                literal.append(each);
+                position++;
+                continue;
+            }
+            if (position + 1 >= expression.length() || '{' != expression.charAt(position + 1)) {
+                throw new UncompilableExpressionException();
+            }
+            endPosition = expression.indexOf('}', position);
+            if (-1 == endPosition || -1 != expression.substring(position + 2, endPosition).indexOf('{')) {
+                throw new UncompilableExpressionException();
+            }
+            position += 2;
+            literals.add(literal.toString());
+            literal.setLength(0);
+            expressions.add(parseAdditive());
+            skipWhitespaces();
+            if (position != endPosition) {
+                throw new UncompilableExpressionException();
+            }
+            position++;
+        }
+        literals.add(literal.toString());
+        if (expressions.isEmpty() || null == columnName) {
+            throw new UncompilableExpressionException();
+        }
+        return new CompiledInlineExpression(columnName, literals.toArray(new String[0]), expressions.toArray(new IntegralExpression[0]));
+    }
+    
+    private IntegralExpression parseAdditive() {
+        IntegralExpression result = parseMultiplicative();
+        while (true) {
+            char operator = peek();
+            if ('+' != operator && '-' != operator) {
+                return result;
+            }
+            consumeOperator(operator);
+            result = new ArithmeticIntegralExpression(operator, result, parseMultiplicative());
+        }
+    }
+    
+    private IntegralExpression parseMultiplicative() {
+        IntegralExpression result = parseUnary();
+        while (true) {
+            char operator = peek();
+            if ('*' != operator && '%' != operator) {
+                return result;
+            }
+            consumeOperator(operator);
+            result = new ArithmeticIntegralExpression(operator, result, parseUnary());
+        }
+    }
+    
+    private IntegralExpression parseUnary() {
+        char next = peek();
+        if ('-' == next) {
+            consumeOperator(next);
+            return new NegateIntegralExpression(parseUnary());
+        }
+        return parsePostfix();
+    }
+    
+    private IntegralExpression parsePostfix() {
+        IntegralExpression result = parsePrimary();
+        while ('.' == peek()) {
+            position++;
+            String methodName = parseIdentifier();
+            parseEmptyArguments();
+            if ("hashCode".equals(methodName)) {
+                result = new HashCodeIntegralExpression(result);
+            } else if ("abs".equals(methodName)) {
+                result = new AbsIntegralExpression(result);
+            } else {
+                throw new UncompilableExpressionException();
+            }
+        }
+        return result;
+    }
+    
+    private IntegralExpression parsePrimary() {
+        char next = peek();
+        if ('(' == next) {
+            position++;
+            IntegralExpression result = parseAdditive();
+            expect(')');
+            return result;
+        }
+        if (Character.isDigit(next)) {
+            return parseLiteral();
+        }
+        String identifier = parseIdentifier();
+        if ("Math".equals(identifier)) {
+            expect('.');
+            if (!"abs".equals(parseIdentifier())) {
+                throw new UncompilableExpressionException();
+            }
+            expect('(');
+            IntegralExpression result = new AbsIntegralExpression(parseAdditive());
+            expect(')');
+            return result;
+        }
+        if (RESERVED_IDENTIFIERS.contains(identifier) || null != columnName && !columnName.equals(identifier)) {
+            throw new UncompilableExpressionException();
+        }
+        columnName = identifier;
+        return new ColumnIntegralExpression();
+    }
+    
+    private IntegralExpression parseLiteral() {
+        int start = position;
+        while (position < endPosition && Character.isDigit(expression.charAt(position))) {
+            position++;
+        }
+        String digits = expression.substring(start, position);
+        if (digits.length() > 1 && '0' == digits.charAt(0)) {
+            throw new UncompilableExpressionException();
+        }
+        boolean longSuffix = position < endPosition && ('L' == expression.charAt(position) || 'l' == expression.charAt(position));
+        if (longSuffix) {
+            position++;
+        }
+        if (position < endPosition && (Character.isJavaIdentifierPart(expression.charAt(position)) || '.' == expression.charAt(position))) {
+            throw new UncompilableExpressionException();
+        }
+        long value;
+        try {
+            value = Long.parseLong(digits);
+        } catch (final NumberFormatException ignored) {
+            throw new UncompilableExpressionException();
+        }
+        return new LiteralIntegralExpression(value, longSuffix || value > Integer.MAX_VALUE);
+    }
+    
+    private String parseIdentifier() {
+        skipWhitespaces();
+        int start = position;
+        if (position >= endPosition || !Character.isJavaIdentifierStart(expression.charAt(position)) || '$' == expression.charAt(position)) {
+            throw new UncompilableExpressionException();
+        }
+        while (position < endPosition && Character.isJavaIdentifierPart(expression.charAt(position)) && '$' != expression.charAt(position)) {
+            position++;
+        }
+        return expression.substring(start, position);
+    }
+    
+    private void parseEmptyArguments() {
+        expect('(');
+        expect(')');
+    }
+    
+    private void consumeOperator(final char operator) {
+        position++;
+        char next = peekWithoutWhitespaces();
+        if (operator == next || '=' == next) {
+            throw new UncompilableExpressionException();
+        }
+    }
+    
+    private void expect(final char expected) {
+        if (expected != peek()) {
+            throw new UncompilableExpressionException();
+        }
+        position++;
+    }
+    
+    private char peek() {
+        skipWhitespaces();
+        return peekWithoutWhitespaces();
+    }
+    
+    private char peekWithoutWhitespaces() {
+        return position < endPosition ? expression.charAt(position) : '\0';
+    }
+    
+    private void skipWhitespaces() {
+        while (position < endPosition && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private static final class UncompilableExpressionException extends RuntimeException {
+        
+        private static final long serialVersionUID = -6286410416306637386L;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.compiler;
+
+import java.util.Optional;
+
+/**
+ * Integral expression compiled from inline sharding expression.
+ */
+interface IntegralExpression {
+    
+    /**
+     * Evaluate.
+     *
+     * @param columnValue sharding column value
+     * @param longColumn whether sharding column value is long
+     * @return evaluated value, which is narrowed to int range when result is not long
+     */
+    long evaluate(Object columnValue, boolean longColumn);
+    
+    /**
+     * Judge whether result is long.
+     *
+     * @param longColumn whether sharding column value is long
+     * @return result is long or not
+     */
+    boolean isLongResult(boolean longColumn);
+    
+    /**
+     * Judge whether sharding column value is required to be integral.
+     *
+     * @return sharding column value is required to be integral or not
+     */
+    boolean isIntegralColumnRequired();
+    
+    /**
+     * Get value range.
+     *
+     * @return value range
+     */
+    Optional<IntegralValueRange> getValueRange();
+}
@@ -19,7 +19,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
-import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableRouteTable;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -38,9 +38,12 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     
     private int shardingCount;
     
+    private ShardingAutoTableRouteTable routeTable;
+    
     @Override
     public void init(final Properties props) {
         shardingCount = getShardingCount(props);
+        routeTable = new ShardingAutoTableRouteTable(shardingCount);
     }
     
     private int getShardingCount(final Properties props) {
@@ -53,8 +56,8 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
-        String suffix = String.valueOf(hashShardingValue(shardingValue.getValue()) % shardingCount);
-        return ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).orElse(null);
+        int shardIndex = (int) (hashShardingValue(shardingValue.getValue()) % shardingCount);
+        return routeTable.findMatchedTargetName(availableTargetNames, shardIndex, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
     @Override
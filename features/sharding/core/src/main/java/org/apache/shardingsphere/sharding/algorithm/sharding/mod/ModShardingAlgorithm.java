@@ -19,7 +19,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
-import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableRouteTable;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -51,17 +51,14 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     private int stopOffset;
     
-    private boolean zeroPadding;
-    
-    private int maxPaddingSize;
+    private ShardingAutoTableRouteTable routeTable;
     
     @Override
     public void init(final Properties props) {
         shardingCount = getShardingCount(props);
         startOffset = getStartOffset(props);
         stopOffset = getStopOffset(props);
-        zeroPadding = isZeroPadding(props);
-        maxPaddingSize = calculateMaxPaddingSize();
+        routeTable = new ShardingAutoTableRouteTable(shardingCount, isZeroPadding(props));
     }
     
     private int getShardingCount(final Properties props) {
@@ -87,21 +84,10 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         return Boolean.parseBoolean(String.valueOf(props.getProperty(ZERO_PADDING_KEY, Boolean.FALSE.toString())));
     }
     
-    private int calculateMaxPaddingSize() {
-        int result = 0;
-        int calculatingShardingCount = shardingCount - 1;
-        while (0 != calculatingShardingCount) {
-            result++;
-            calculatingShardingCount = calculatingShardingCount / 10;
-        }
-        return Math.max(result, 1);
-    }
-    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
-        String shardingResultSuffix = getShardingResultSuffix(cutShardingValue(shardingValue.getValue()).mod(new BigInteger(String.valueOf(shardingCount))).toString());
-        return ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).orElse(null);
+        return routeTable.findMatchedTargetName(availableTargetNames, getShardIndex(shardingValue.getValue()), shardingValue.getDataNodeInfo()).orElse(null);
     }
     
     @Override
@@ -118,20 +104,22 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size(), 1F);
         BigInteger lower = new BigInteger(shardingValue.getValueRange().lowerEndpoint().toString());
         BigInteger upper = new BigInteger(shardingValue.getValueRange().upperEndpoint().toString());
-        BigInteger shardingCountBigInter = new BigInteger(String.valueOf(shardingCount));
-        for (BigInteger i = lower; i.compareTo(upper) <= 0; i = i.add(BigInteger.ONE)) {
-            String shardingResultSuffix = getShardingResultSuffix(String.valueOf(i.mod(shardingCountBigInter)));
-            ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).ifPresent(result::add);
+        if (lower.compareTo(upper) > 0) {
+            return result;
+        }
+        int firstShardIndex = lower.mod(BigInteger.valueOf(shardingCount)).intValue();
+        int shardSpan = upper.subtract(lower).min(BigInteger.valueOf(shardingCount - 1)).intValue() + 1;
+        for (int i = 0; i < shardSpan; i++) {
+            routeTable.findMatchedTargetName(availableTargetNames, (firstShardIndex + i) % shardingCount, shardingValue.getDataNodeInfo()).ifPresent(result::add);
         }
         return result;
     }
     
-    private String getShardingResultSuffix(final String shardingResultSuffix) {
-        return zeroPadding ? fillZero(shardingResultSuffix) : shardingResultSuffix;
-    }
-    
-    private String fillZero(final String value) {
-        return String.format("%0" + maxPaddingSize + "d", Integer.parseInt(value));
+    private int getShardIndex(final Comparable<?> shardingValue) {
+        if (0 == startOffset && 0 == stopOffset && shardingValue instanceof Number) {
+            return (int) Math.floorMod(((Number) shardingValue).longValue(), (long) shardingCount);
+        }
+        return cutShardingValue(shardingValue).mod(BigInteger.valueOf(shardingCount)).intValue();
     }
     
     private BigInteger cutShardingValue(final Comparable<?> shardingValue) {
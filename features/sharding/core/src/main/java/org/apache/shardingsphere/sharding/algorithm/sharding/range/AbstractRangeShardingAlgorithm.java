@@ -17,18 +17,23 @@
 
 package org.apache.shardingsphere.sharding.algorithm.sharding.range;
 
+import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
-import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableRouteTable;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
@@ -40,9 +45,33 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     
     private Map<Integer, Range<Comparable<?>>> partitionRange;
     
+    private long[] sortedPartitionLowers;
+    
+    private int[] sortedPartitions;
+    
+    private ShardingAutoTableRouteTable routeTable;
+    
     @Override
     public final void init(final Properties props) {
         partitionRange = calculatePartitionRange(props);
+        List<Entry<Integer, Range<Comparable<?>>>> sortedEntries = new ArrayList<>(partitionRange.size());
+        partitionRange.entrySet().stream().filter(each -> !each.getValue().isEmpty()).forEach(sortedEntries::add);
+        sortedEntries.sort(Comparator.comparingLong(each -> getInclusiveLower(each.getValue())));
+        sortedPartitionLowers = new long[sortedEntries.size()];
+        sortedPartitions = new int[sortedEntries.size()];
+        for (int i = 0; i < sortedEntries.size(); i++) {
+            sortedPartitionLowers[i] = getInclusiveLower(sortedEntries.get(i).getValue());
+            sortedPartitions[i] = sortedEntries.get(i).getKey();
+        }
+        routeTable = new ShardingAutoTableRouteTable(partitionRange.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1);
+    }
+    
+    private long getInclusiveLower(final Range<Comparable<?>> range) {
+        if (!range.hasLowerBound()) {
+            return Long.MIN_VALUE;
+        }
+        long result = ((Number) range.lowerEndpoint()).longValue();
+        return BoundType.OPEN == range.lowerBoundType() ? result + 1L : result;
     }
     
     protected abstract Map<Integer, Range<Comparable<?>>> calculatePartitionRange(Properties props);
@@ -50,8 +79,7 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     @Override
     public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
-        String suffix = String.valueOf(getPartition(shardingValue.getValue()));
-        return ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).orElse(null);
+        return routeTable.findMatchedTargetName(availableTargetNames, getPartition(shardingValue.getValue()), shardingValue.getDataNodeInfo()).orElse(null);
     }
     
     @Override
@@ -60,8 +88,7 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
         for (int partition = firstPartition; partition <= lastPartition; partition++) {
-            String suffix = String.valueOf(partition);
-            ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).ifPresent(result::add);
+            routeTable.findMatchedTargetName(availableTargetNames, partition, shardingValue.getDataNodeInfo()).ifPresent(result::add);
         }
         return result;
     }
@@ -74,17 +101,18 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
         return valueRange.hasUpperBound() ? getPartition(valueRange.upperEndpoint()) : partitionRange.size() - 1;
     }
     
-    private Integer getPartition(final Comparable<?> value) {
-        for (Entry<Integer, Range<Comparable<?>>> entry : partitionRange.entrySet()) {
-            if (entry.getValue().contains(getLongValue(value))) {
-                return entry.getKey();
-            }
+    private int getPartition(final Comparable<?> value) {
+        long longValue = getLongValue(value);
+        int index = Arrays.binarySearch(sortedPartitionLowers, longValue);
+        if (index < 0) {
+            index = -index - 2;
         }
-        throw new UnsupportedSQLOperationException("");
+        ShardingSpherePreconditions.checkState(index >= 0 && partitionRange.get(sortedPartitions[index]).contains(longValue), () -> new UnsupportedSQLOperationException(""));
+        return sortedPartitions[index];
     }
     
-    private Long getLongValue(final Comparable<?> value) {
-        return Long.parseLong(value.toString());
+    private long getLongValue(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte ? ((Number) value).longValue() : Long.parseLong(value.toString());
     }
     
     @Override
@@ -66,20 +66,16 @@ public final class CachedShardingSQLRouter {
             }
             shardingConditionParams.add(queryContext.getParameters().get(each));
         }
+        shardingCache.getRouteCache().invalidateIfDatabaseChanged(database);
         Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams))
                 .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
         RouteContext result = cachedResult.orElseGet(() -> originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), tableNames, props));
-        if (!cachedResult.isPresent() && hitOneShardOnly(result)) {
+        if (!cachedResult.isPresent() && !result.getRouteUnits().isEmpty()) {
             shardingCache.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
         }
         return Optional.of(result);
     }
     
-    private boolean hitOneShardOnly(final RouteContext routeContext) {
-        return 1 == routeContext.getRouteUnits().size() && 1 == routeContext.getRouteUnits().iterator().next().getTableMappers().size()
-                && 1 == routeContext.getOriginalDataNodes().size() && 1 == routeContext.getOriginalDataNodes().iterator().next().size();
-    }
-    
     @FunctionalInterface
     public interface OriginSQLRouter {
         
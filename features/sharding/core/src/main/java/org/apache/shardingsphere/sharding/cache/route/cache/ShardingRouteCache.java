@@ -19,9 +19,11 @@ package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Cache for sharding route.
@@ -30,18 +32,37 @@ public final class ShardingRouteCache {
     
     private final Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> cache;
     
+    private final AtomicReference<ShardingSphereDatabase> cachedDatabase = new AtomicReference<>();
+    
     public ShardingRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
         cache = buildRouteCache(cacheOptions);
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<ShardingRouteCacheKey, ShardingRouteCacheValue> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity())
+                .maximumWeight(cacheOptions.getMaximumSize()).weigher((key, value) -> value.getWeight());
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
         return result.build();
     }
     
+    /**
+     * Invalidate all cached route results if database is changed.
+     * <p>Database will be rebuilt when rule or meta data changed, so route results cached for previous database should not be reused.</p>
+     *
+     * @param database database
+     */
+    public void invalidateIfDatabaseChanged(final ShardingSphereDatabase database) {
+        ShardingSphereDatabase previousDatabase = cachedDatabase.get();
+        if (previousDatabase == database) {
+            return;
+        }
+        if (cachedDatabase.compareAndSet(previousDatabase, database) && null != previousDatabase) {
+            cache.invalidateAll();
+        }
+    }
+    
     /**
      * Cache route result.
      *
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -40,8 +41,19 @@ public final class ShardingRouteCacheValue {
     
     private final RouteContext cachedRouteContext;
     
+    @Getter
+    private final int weight;
+    
     public ShardingRouteCacheValue(final RouteContext routeContext) {
-        this(null != routeContext, routeContext);
+        this(null != routeContext, routeContext, null == routeContext ? 1 : calculateWeight(routeContext));
+    }
+    
+    private static int calculateWeight(final RouteContext routeContext) {
+        int result = 0;
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            result += Math.max(1, each.getTableMappers().size());
+        }
+        return Math.max(1, result);
     }
     
     /**
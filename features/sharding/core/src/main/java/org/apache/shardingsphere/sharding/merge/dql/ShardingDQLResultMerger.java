@@ -35,7 +35,9 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillableMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.DistinctAggregationOption;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.builder.PaginationDecoratorMergedResultBuilder;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
@@ -55,6 +57,18 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final long groupByMemoryMergeMaxBytes;
+    
+    private final DistinctAggregationOption distinctAggregationOption;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, 0L);
+    }
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType, final long groupByMemoryMergeMaxBytes) {
+        this(protocolType, groupByMemoryMergeMaxBytes, new DistinctAggregationOption());
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -117,8 +131,14 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema, distinctAggregationOption);
+        }
+        if (groupByMemoryMergeMaxBytes > 0L) {
+            return new GroupBySpillableMergedResult(queryResults, selectStatementContext, schema, groupByMemoryMergeMaxBytes, distinctAggregationOption);
+        }
+        return distinctAggregationOption.getMaxMemoryBytes() > 0L || distinctAggregationOption.isApproximateCount()
+                ? new GroupBySpillableMergedResult(queryResults, selectStatementContext, schema, Long.MAX_VALUE, distinctAggregationOption)
                 : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.DistinctAggregationOption;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Group by aggregation table.
+ *
+ * <p>Each group keeps its first row and an array of aggregation units indexed by aggregation projection position.</p>
+ */
+public final class GroupByAggregationTable {
+    
+    private static final int GROUP_OVERHEAD_BYTES = 96;
+    
+    private static final int AGGREGATION_UNIT_OVERHEAD_BYTES = 32;
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    private final AggregationProjection[] aggregationProjections;
+    
+    private final boolean[] distinctAggregations;
+    
+    private final int columnCount;
+    
+    private final DistinctAggregationOption distinctAggregationOption;
+    
+    private final Map<GroupByValue, GroupByAggregationRow> groups = new HashMap<>(1024, 1F);
+    
+    @Getter
+    private long estimatedBytes;
+    
+    public GroupByAggregationTable(final SelectStatementContext selectStatementContext, final int columnCount) {
+        this(selectStatementContext, columnCount, new DistinctAggregationOption());
+    }
+    
+    public GroupByAggregationTable(final SelectStatementContext selectStatementContext, final int columnCount, final DistinctAggregationOption distinctAggregationOption) {
+        groupByItems = selectStatementContext.getGroupByContext().getItems();
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+        distinctAggregations = new boolean[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            distinctAggregations[i] = aggregationProjections[i] instanceof AggregationDistinctProjection;
+        }
+        this.columnCount = columnCount;
+        this.distinctAggregationOption = distinctAggregationOption;
+    }
+    
+    /**
+     * Create group by value of current row of query result.
+     *
+     * @param queryResult query result
+     * @return group by value
+     * @throws SQLException SQL exception
+     */
+    public GroupByValue createGroupByValue(final QueryResult queryResult) throws SQLException {
+        return new GroupByValue(queryResult, groupByItems);
+    }
+    
+    /**
+     * Create group by value of row.
+     *
+     * @param row row
+     * @return group by value
+     */
+    public GroupByValue createGroupByValue(final MemoryQueryResultRow row) {
+        return new GroupByValue(row, groupByItems);
+    }
+    
+    /**
+     * Judge whether group exists.
+     *
+     * @param groupByValue group by value
+     * @return group exists or not
+     */
+    public boolean contains(final GroupByValue groupByValue) {
+        return groups.containsKey(groupByValue);
+    }
+    
+    /**
+     * Aggregate current row of query result into its group, the group will be created if absent.
+     *
+     * @param groupByValue group by value
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final GroupByValue groupByValue, final QueryResult queryResult) throws SQLException {
+        GroupByAggregationRow aggregationRow = groups.get(groupByValue);
+        if (null == aggregationRow) {
+            aggregationRow = createGroup(groupByValue, new MemoryQueryResultRow(queryResult));
+        }
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (aggregationProjections[i].getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult.getValue(aggregationProjections[i].getIndex(), Object.class)));
+            } else {
+                for (AggregationProjection each : aggregationProjections[i].getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(queryResult.getValue(each.getIndex(), Object.class)));
+                }
+            }
+            merge(aggregationRow, i, values);
+        }
+    }
+    
+    /**
+     * Aggregate row into its group, the group will be created if absent.
+     *
+     * @param groupByValue group by value
+     * @param row row
+     */
+    public void aggregate(final GroupByValue groupByValue, final MemoryQueryResultRow row) {
+        GroupByAggregationRow aggregationRow = groups.get(groupByValue);
+        if (null == aggregationRow) {
+            aggregationRow = createGroup(groupByValue, row);
+        }
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (aggregationProjections[i].getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(row.getCell(aggregationProjections[i].getIndex())));
+            } else {
+                for (AggregationProjection each : aggregationProjections[i].getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(row.getCell(each.getIndex())));
+                }
+            }
+            merge(aggregationRow, i, values);
+        }
+    }
+    
+    private GroupByAggregationRow createGroup(final GroupByValue groupByValue, final MemoryQueryResultRow row) {
+        AggregationUnit[] aggregationUnits = new AggregationUnit[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            aggregationUnits[i] = AggregationUnitFactory.create(
+                    aggregationProjections[i].getType(), distinctAggregations[i], aggregationProjections[i].getSeparator().orElse(null), distinctAggregationOption);
+        }
+        GroupByAggregationRow result = new GroupByAggregationRow(row, aggregationUnits);
+        groups.put(groupByValue, result);
+        estimatedBytes += GROUP_OVERHEAD_BYTES + (long) AGGREGATION_UNIT_OVERHEAD_BYTES * aggregationProjections.length + estimateRowBytes(row);
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final Object value) {
+        ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", value));
+        return (Comparable<?>) value;
+    }
+    
+    private void merge(final GroupByAggregationRow aggregationRow, final int index, final List<Comparable<?>> values) {
+        aggregationRow.getAggregationUnits()[index].merge(values);
+        if (distinctAggregations[index]) {
+            estimatedBytes += estimateCellBytes(values.get(0));
+        }
+    }
+    
+    private long estimateRowBytes(final MemoryQueryResultRow row) {
+        long result = 16L + 8L * columnCount;
+        for (int i = 1; i <= columnCount; i++) {
+            result += estimateCellBytes(row.getCell(i));
+        }
+        return result;
+    }
+    
+    private long estimateCellBytes(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return 64L;
+        }
+        return 24L;
+    }
+    
+    /**
+     * Judge whether there is no group.
+     *
+     * @return there is no group or not
+     */
+    public boolean isEmpty() {
+        return groups.isEmpty();
+    }
+    
+    /**
+     * Set aggregation results into rows and release the groups.
+     *
+     * @return aggregated rows
+     */
+    public List<MemoryQueryResultRow> finish() {
+        List<MemoryQueryResultRow> result = new ArrayList<>(groups.size());
+        for (GroupByAggregationRow each : groups.values()) {
+            for (int i = 0; i < aggregationProjections.length; i++) {
+                each.getRow().setCell(aggregationProjections[i].getIndex(), each.getAggregationUnits()[i].getResult());
+            }
+            result.add(each.getRow());
+        }
+        groups.clear();
+        estimatedBytes = 0L;
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.spill.SpillFile;
+
+/**
+ * Local temporary file which rows of group by merge are spilled to.
+ */
+public final class GroupBySpillFile implements AutoCloseable {
+    
+    private final SpillFile spillFile;
+    
+    private final int columnCount;
+    
+    public GroupBySpillFile(final int columnCount) {
+        spillFile = new SpillFile("shardingsphere-group-by-", columnCount);
+        this.columnCount = columnCount;
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     */
+    public void write(final MemoryQueryResultRow row) {
+        Object[] data = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            data[i] = row.getCell(i + 1);
+        }
+        spillFile.write(data);
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if all rows are read
+     */
+    public MemoryQueryResultRow read() {
+        Object[] data = spillFile.read();
+        return null == data ? null : new MemoryQueryResultRow(data);
+    }
+    
+    @Override
+    public void close() {
+        spillFile.close();
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.DistinctAggregationOption;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Spillable merged result for group by.
+ *
+ * <p>Groups are aggregated in memory until the estimated bytes reach the budget, rows of the groups after that are hash partitioned into local spill files.
+ * Every partition is aggregated separately within the same budget when iterating at first, and is partitioned again if it still exceeds the budget.
+ * Aggregated partitions are written as sorted runs, and all sorted runs are merged lazily while iterating. Spill files are deleted when the result is closed.</p>
+ */
+public final class GroupBySpillableMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int MAX_PARTITION_DEPTH = 4;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final DistinctAggregationOption distinctAggregationOption;
+    
+    private final long maxMemoryBytes;
+    
+    private final int columnCount;
+    
+    private final Deque<GroupBySpillFile> pendingPartitions = new LinkedList<>();
+    
+    private final Deque<Integer> pendingPartitionDepths = new LinkedList<>();
+    
+    private Iterator<MemoryQueryResultRow> memoryRows;
+    
+    private Comparator<MemoryQueryResultRow> rowComparator;
+    
+    private PriorityQueue<GroupBySortedRun> sortedRuns;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillableMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                        final ShardingSphereSchema schema, final long maxMemoryBytes) throws SQLException {
+        this(queryResults, selectStatementContext, schema, maxMemoryBytes, new DistinctAggregationOption());
+    }
+    
+    public GroupBySpillableMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                        final ShardingSphereSchema schema, final long maxMemoryBytes, final DistinctAggregationOption distinctAggregationOption) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.distinctAggregationOption = distinctAggregationOption;
+        this.maxMemoryBytes = maxMemoryBytes;
+        if (queryResults.isEmpty()) {
+            columnCount = 0;
+            memoryRows = GroupByMergedResultUtils.getEmptyGroupRows(selectStatementContext).iterator();
+            return;
+        }
+        columnCount = queryResults.get(0).getMetaData().getColumnCount();
+        GroupByAggregationTable aggregationTable = new GroupByAggregationTable(selectStatementContext, columnCount, distinctAggregationOption);
+        boolean aggregated = false;
+        try {
+            aggregate(queryResults, aggregationTable);
+            aggregated = true;
+        } finally {
+            if (!aggregated) {
+                close();
+            }
+        }
+        if (aggregationTable.isEmpty() && pendingPartitions.isEmpty()) {
+            memoryRows = GroupByMergedResultUtils.getEmptyGroupRows(selectStatementContext).iterator();
+            return;
+        }
+        rowComparator = new GroupByRowComparator(selectStatementContext, GroupByMergedResultUtils.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema));
+        if (pendingPartitions.isEmpty()) {
+            List<MemoryQueryResultRow> rows = aggregationTable.finish();
+            rows.sort(rowComparator);
+            memoryRows = rows.iterator();
+            return;
+        }
+        sortedRuns = new PriorityQueue<>(PARTITION_COUNT + 1, (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        addSortedRun(aggregationTable);
+    }
+    
+    private void aggregate(final List<QueryResult> queryResults, final GroupByAggregationTable aggregationTable) throws SQLException {
+        GroupBySpillFile[] partitions = null;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = aggregationTable.createGroupByValue(each);
+                if (aggregationTable.getEstimatedBytes() < maxMemoryBytes || aggregationTable.contains(groupByValue)) {
+                    aggregationTable.aggregate(groupByValue, each);
+                    continue;
+                }
+                if (null == partitions) {
+                    partitions = createPartitions(0);
+                }
+                partitions[getPartitionIndex(groupByValue, 0)].write(new MemoryQueryResultRow(each));
+            }
+        }
+    }
+    
+    private GroupBySpillFile[] createPartitions(final int depth) {
+        GroupBySpillFile[] result = new GroupBySpillFile[PARTITION_COUNT];
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            result[i] = new GroupBySpillFile(columnCount);
+            pendingPartitions.add(result[i]);
+            pendingPartitionDepths.add(depth + 1);
+        }
+        return result;
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        int hash = groupByValue.hashCode() * 0x9E3779B9;
+        return hash >>> (Integer.SIZE - PARTITION_BITS * (depth + 1)) & (PARTITION_COUNT - 1);
+    }
+    
+    private void aggregatePendingPartitions() {
+        while (!pendingPartitions.isEmpty()) {
+            int depth = pendingPartitionDepths.peek();
+            try (GroupBySpillFile partition = pendingPartitions.peek()) {
+                addSortedRun(aggregatePartition(partition, depth));
+            } finally {
+                pendingPartitions.poll();
+                pendingPartitionDepths.poll();
+            }
+        }
+    }
+    
+    private GroupByAggregationTable aggregatePartition(final GroupBySpillFile partition, final int depth) {
+        GroupByAggregationTable result = new GroupByAggregationTable(selectStatementContext, columnCount, distinctAggregationOption);
+        GroupBySpillFile[] subPartitions = null;
+        MemoryQueryResultRow row;
+        while (null != (row = partition.read())) {
+            GroupByValue groupByValue = result.createGroupByValue(row);
+            if (depth >= MAX_PARTITION_DEPTH || result.getEstimatedBytes() < maxMemoryBytes || result.contains(groupByValue)) {
+                result.aggregate(groupByValue, row);
+                continue;
+            }
+            if (null == subPartitions) {
+                subPartitions = createPartitions(depth);
+            }
+            subPartitions[getPartitionIndex(groupByValue, depth)].write(row);
+        }
+        return result;
+    }
+    
+    private void addSortedRun(final GroupByAggregationTable aggregationTable) {
+        if (aggregationTable.isEmpty()) {
+            return;
+        }
+        List<MemoryQueryResultRow> rows = aggregationTable.finish();
+        rows.sort(rowComparator);
+        GroupBySpillFile file = new GroupBySpillFile(columnCount);
+        for (MemoryQueryResultRow each : rows) {
+            file.write(each);
+        }
+        GroupBySortedRun sortedRun = new GroupBySortedRun(file);
+        if (sortedRun.next()) {
+            sortedRuns.offer(sortedRun);
+        }
+    }
+    
+    @Override
+    public boolean next() {
+        if (null != memoryRows) {
+            if (memoryRows.hasNext()) {
+                currentRow = memoryRows.next();
+                return true;
+            }
+            return false;
+        }
+        aggregatePendingPartitions();
+        if (sortedRuns.isEmpty()) {
+            return false;
+        }
+        GroupBySortedRun sortedRun = sortedRuns.poll();
+        currentRow = sortedRun.getCurrentRow();
+        if (sortedRun.next()) {
+            sortedRuns.offer(sortedRun);
+        }
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkNotContains(INVALID_MEMORY_TYPES, type, () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        // TODO implement with calendar
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        while (!pendingPartitions.isEmpty()) {
+            pendingPartitions.poll().close();
+        }
+        pendingPartitionDepths.clear();
+        if (null != sortedRuns) {
+            while (!sortedRuns.isEmpty()) {
+                sortedRuns.poll().close();
+            }
+        }
+        distinctAggregationOption.getMemoryBudget().close();
+    }
+}
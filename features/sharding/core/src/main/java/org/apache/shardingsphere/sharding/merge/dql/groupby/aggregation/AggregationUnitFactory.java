@@ -38,15 +38,29 @@ public final class AggregationUnitFactory {
      * @throws UnsupportedSQLOperationException unsupported SQL operation exception
      */
     public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final String separator) {
+        return create(type, isDistinct, separator, new DistinctAggregationOption());
+    }
+    
+    /**
+     * Create aggregation unit instance.
+     *
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param separator is separator for group_concat
+     * @param distinctAggregationOption distinct aggregation option
+     * @return aggregation unit instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final String separator, final DistinctAggregationOption distinctAggregationOption) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
             case MIN:
                 return new ComparableAggregationUnit(true);
             case SUM:
-                return isDistinct ? new DistinctSumAggregationUnit() : new AccumulationAggregationUnit();
+                return isDistinct ? new DistinctSumAggregationUnit(distinctAggregationOption.getMemoryBudget()) : new AccumulationAggregationUnit();
             case COUNT:
-                return isDistinct ? new DistinctCountAggregationUnit() : new AccumulationAggregationUnit();
+                return isDistinct ? createDistinctCountAggregationUnit(distinctAggregationOption) : new AccumulationAggregationUnit();
             case AVG:
                 return isDistinct ? new DistinctAverageAggregationUnit() : new AverageAggregationUnit();
             case BIT_XOR:
@@ -57,4 +71,10 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedSQLOperationException(type.name());
         }
     }
+    
+    private static AggregationUnit createDistinctCountAggregationUnit(final DistinctAggregationOption distinctAggregationOption) {
+        return distinctAggregationOption.isApproximateCount()
+                ? new ApproximateDistinctCountAggregationUnit()
+                : new DistinctCountAggregationUnit(distinctAggregationOption.getMemoryBudget());
+    }
 }
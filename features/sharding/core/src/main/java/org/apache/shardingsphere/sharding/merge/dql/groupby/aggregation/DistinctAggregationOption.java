@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.Getter;
+
+/**
+ * Option of distinct aggregation.
+ *
+ * <p>The memory budget is shared by all distinct aggregations created with the option, so an option is created for every query.</p>
+ */
+@Getter
+public final class DistinctAggregationOption {
+    
+    private final long maxMemoryBytes;
+    
+    private final boolean approximateCount;
+    
+    private final DistinctMemoryBudget memoryBudget;
+    
+    public DistinctAggregationOption() {
+        this(0L, false);
+    }
+    
+    public DistinctAggregationOption(final long maxMemoryBytes, final boolean approximateCount) {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.approximateCount = approximateCount;
+        memoryBudget = new DistinctMemoryBudget(maxMemoryBytes);
+    }
+}
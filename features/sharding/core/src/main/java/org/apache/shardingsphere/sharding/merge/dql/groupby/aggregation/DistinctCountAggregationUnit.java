@@ -17,19 +17,24 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
-import lombok.RequiredArgsConstructor;
-
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 
 /**
  * Distinct count aggregation unit.
  */
-@RequiredArgsConstructor
 public final class DistinctCountAggregationUnit implements AggregationUnit {
     
-    private final Collection<Comparable<?>> values = new HashSet<>();
+    private final DistinctValueSet values;
+    
+    private Integer result;
+    
+    public DistinctCountAggregationUnit() {
+        this(new DistinctMemoryBudget(0L));
+    }
+    
+    public DistinctCountAggregationUnit(final DistinctMemoryBudget memoryBudget) {
+        values = new DistinctValueSet(memoryBudget);
+    }
     
     @Override
     public void merge(final List<Comparable<?>> values) {
@@ -41,6 +46,10 @@ public final class DistinctCountAggregationUnit implements AggregationUnit {
     
     @Override
     public Comparable<?> getResult() {
-        return values.size();
+        if (null == result) {
+            result = Math.toIntExact(values.size());
+            values.close();
+        }
+        return result;
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Memory budget shared by all distinct value sets of one query.
+ *
+ * <p>When the estimated bytes of all sets in memory reach the budget, the largest sets are spilled until half of the budget is free.</p>
+ */
+public final class DistinctMemoryBudget implements AutoCloseable {
+    
+    @Getter
+    private final long maxMemoryBytes;
+    
+    private final Collection<DistinctValueSet> valueSets = new LinkedHashSet<>();
+    
+    private long usedBytes;
+    
+    public DistinctMemoryBudget(final long maxMemoryBytes) {
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+    
+    /**
+     * Judge whether budget is limited.
+     *
+     * @return budget is limited or not
+     */
+    public boolean isLimited() {
+        return maxMemoryBytes > 0L;
+    }
+    
+    void allocate(final DistinctValueSet valueSet, final long bytes) {
+        if (!isLimited()) {
+            return;
+        }
+        valueSets.add(valueSet);
+        usedBytes += bytes;
+        if (usedBytes >= maxMemoryBytes) {
+            spill();
+        }
+    }
+    
+    private void spill() {
+        List<DistinctValueSet> candidates = new ArrayList<>(valueSets);
+        candidates.sort(Comparator.comparingLong(DistinctValueSet::getEstimatedBytes).reversed());
+        for (DistinctValueSet each : candidates) {
+            if (usedBytes <= maxMemoryBytes / 2L || 0L == each.getEstimatedBytes()) {
+                return;
+            }
+            each.spill();
+        }
+    }
+    
+    void release(final long bytes) {
+        if (isLimited()) {
+            usedBytes -= bytes;
+        }
+    }
+    
+    void unregister(final DistinctValueSet valueSet) {
+        valueSets.remove(valueSet);
+    }
+    
+    @Override
+    public void close() {
+        for (DistinctValueSet each : new ArrayList<>(valueSets)) {
+            each.close();
+        }
+    }
+}
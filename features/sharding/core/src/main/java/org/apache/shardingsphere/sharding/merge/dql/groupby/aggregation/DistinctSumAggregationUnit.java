@@ -17,38 +17,49 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
-import lombok.RequiredArgsConstructor;
-
 import java.math.BigDecimal;
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 
 /**
  * Distinct sum aggregation unit.
  */
-@RequiredArgsConstructor
 public final class DistinctSumAggregationUnit implements AggregationUnit {
     
+    private final DistinctValueSet values;
+    
+    private boolean finished;
+    
     private BigDecimal result;
     
-    private final Collection<Comparable<?>> values = new HashSet<>();
+    public DistinctSumAggregationUnit() {
+        this(new DistinctMemoryBudget(0L));
+    }
+    
+    public DistinctSumAggregationUnit(final DistinctMemoryBudget memoryBudget) {
+        values = new DistinctValueSet(memoryBudget);
+    }
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0)) {
             return;
         }
-        if (this.values.add(values.get(0))) {
-            if (null == result) {
-                result = BigDecimal.ZERO;
-            }
-            result = result.add(new BigDecimal(values.get(0).toString()));
-        }
+        this.values.add(values.get(0));
     }
     
     @Override
     public Comparable<?> getResult() {
+        if (!finished) {
+            values.forEach(each -> result = null == result ? toBigDecimal(each) : result.add(toBigDecimal(each)));
+            values.close();
+            finished = true;
+        }
         return result;
     }
+    
+    private BigDecimal toBigDecimal(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte
+                ? BigDecimal.valueOf(((Number) value).longValue())
+                : new BigDecimal(value.toString());
+    }
 }
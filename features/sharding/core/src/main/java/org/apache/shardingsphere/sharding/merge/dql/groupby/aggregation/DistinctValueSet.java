@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.spill.SpillFile;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Consumer;
+
+/**
+ * Set of distinct values for distinct aggregation.
+ *
+ * <p>Integral values are kept in primitive hash sets per value type, other values are kept in hash set.
+ * Estimated bytes are accounted against the memory budget shared by the query, which spills the largest sets to their own local file.
+ * When distinct values are visited, the spilled values are deduplicated in memory, and only hash partitioned into more spill files
+ * if they still exceed the budget.</p>
+ */
+public final class DistinctValueSet implements AutoCloseable {
+    
+    private static final String SPILL_FILE_PREFIX = "shardingsphere-distinct-";
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final long LONG_VALUE_BYTES = 16L;
+    
+    private final DistinctMemoryBudget memoryBudget;
+    
+    private final Map<Class<?>, LongHashSet> integralValues = new LinkedHashMap<>(4, 1F);
+    
+    private Collection<Comparable<?>> values = new HashSet<>();
+    
+    @Getter(AccessLevel.PACKAGE)
+    private long estimatedBytes;
+    
+    private SpillFile spillFile;
+    
+    public DistinctValueSet(final long maxMemoryBytes) {
+        this(new DistinctMemoryBudget(maxMemoryBytes));
+    }
+    
+    public DistinctValueSet(final DistinctMemoryBudget memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     */
+    public void add(final Comparable<?> value) {
+        long addedBytes = 0L;
+        if (isIntegralValue(value)) {
+            if (integralValues.computeIfAbsent(value.getClass(), key -> new LongHashSet()).add(((Number) value).longValue())) {
+                addedBytes = LONG_VALUE_BYTES;
+            }
+        } else if (values.add(value)) {
+            addedBytes = estimateBytes(value);
+        }
+        if (addedBytes > 0L) {
+            estimatedBytes += addedBytes;
+            memoryBudget.allocate(this, addedBytes);
+        }
+    }
+    
+    private boolean isIntegralValue(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private long estimateBytes(final Comparable<?> value) {
+        if (value instanceof String) {
+            return 72L + 2L * ((String) value).length();
+        }
+        return value instanceof BigDecimal ? 96L : 56L;
+    }
+    
+    void spill() {
+        if (0L == estimatedBytes) {
+            return;
+        }
+        if (null == spillFile) {
+            spillFile = new SpillFile(SPILL_FILE_PREFIX, 1);
+        }
+        forEachInMemory(each -> spillFile.write(new Object[]{each}));
+        spillFile.finish();
+        clearMemory();
+    }
+    
+    private void clearMemory() {
+        integralValues.clear();
+        values = new HashSet<>();
+        memoryBudget.release(estimatedBytes);
+        estimatedBytes = 0L;
+    }
+    
+    /**
+     * Get count of distinct values.
+     *
+     * <p>Spilled values are consumed, so only one of {@code size} and {@code forEach} should be called after values are all added.</p>
+     *
+     * @return count of distinct values
+     */
+    public long size() {
+        if (null == spillFile) {
+            long result = values.size();
+            for (LongHashSet each : integralValues.values()) {
+                result += each.size();
+            }
+            return result;
+        }
+        long[] result = new long[1];
+        forEach(each -> result[0]++);
+        return result[0];
+    }
+    
+    /**
+     * Perform action for each distinct value.
+     *
+     * <p>Spilled values are consumed, so only one of {@code size} and {@code forEach} should be called after values are all added.</p>
+     *
+     * @param action action to be performed
+     */
+    public void forEach(final Consumer<Comparable<?>> action) {
+        if (null == spillFile) {
+            forEachInMemory(action);
+            return;
+        }
+        spill();
+        try {
+            forEachSpilled(action);
+        } finally {
+            spillFile.close();
+            spillFile = null;
+        }
+    }
+    
+    private void forEachSpilled(final Consumer<Comparable<?>> action) {
+        DistinctValueSet spilledValues = new DistinctValueSet(0L);
+        SpillFile[] partitions = null;
+        try {
+            Object[] row;
+            while (null != (row = spillFile.read())) {
+                Comparable<?> value = (Comparable<?>) row[0];
+                if (null != partitions) {
+                    writePartition(partitions, value);
+                    continue;
+                }
+                spilledValues.add(value);
+                if (memoryBudget.isLimited() && spilledValues.estimatedBytes >= memoryBudget.getMaxMemoryBytes()) {
+                    SpillFile[] createdPartitions = new SpillFile[PARTITION_COUNT];
+                    spilledValues.forEachInMemory(each -> writePartition(createdPartitions, each));
+                    spilledValues.clearMemory();
+                    partitions = createdPartitions;
+                }
+            }
+            if (null == partitions) {
+                spilledValues.forEachInMemory(action);
+                return;
+            }
+            for (SpillFile each : partitions) {
+                if (null != each) {
+                    forEachPartition(each, action);
+                }
+            }
+        } finally {
+            closePartitions(partitions);
+        }
+    }
+    
+    private void writePartition(final SpillFile[] partitions, final Comparable<?> value) {
+        int index = (value.hashCode() & Integer.MAX_VALUE) % PARTITION_COUNT;
+        if (null == partitions[index]) {
+            partitions[index] = new SpillFile(SPILL_FILE_PREFIX, 1);
+        }
+        partitions[index].write(new Object[]{value});
+    }
+    
+    private void forEachPartition(final SpillFile partition, final Consumer<Comparable<?>> action) {
+        DistinctValueSet partitionValues = new DistinctValueSet(0L);
+        Object[] row;
+        while (null != (row = partition.read())) {
+            partitionValues.add((Comparable<?>) row[0]);
+        }
+        partitionValues.forEachInMemory(action);
+    }
+    
+    private void closePartitions(final SpillFile[] partitions) {
+        if (null == partitions) {
+            return;
+        }
+        for (SpillFile each : partitions) {
+            if (null != each) {
+                each.close();
+            }
+        }
+    }
+    
+    private void forEachInMemory(final Consumer<Comparable<?>> action) {
+        for (Entry<Class<?>, LongHashSet> entry : integralValues.entrySet()) {
+            Class<?> valueType = entry.getKey();
+            entry.getValue().forEach(each -> action.accept(box(each, valueType)));
+        }
+        values.forEach(action);
+    }
+    
+    private Comparable<?> box(final long value, final Class<?> valueType) {
+        if (Integer.class == valueType) {
+            return (int) value;
+        }
+        if (Short.class == valueType) {
+            return (short) value;
+        }
+        if (Byte.class == valueType) {
+            return (byte) value;
+        }
+        return value;
+    }
+    
+    @Override
+    public void close() {
+        clearMemory();
+        memoryBudget.unregister(this);
+        if (null != spillFile) {
+            spillFile.close();
+            spillFile = null;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog sketch to estimate count of distinct values in fixed memory.
+ *
+ * <p>With precision 14 there are 16384 registers, the standard error of estimation is about 0.8%.
+ * Registers start in a sparse sorted array of non-zero registers, and become a dense 16 KB array only when more than 1024 registers are set,
+ * so sketches of small groups stay small.</p>
+ */
+public final class HyperLogLog {
+    
+    private static final int PRECISION = 14;
+    
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    
+    private static final int MAX_SPARSE_SIZE = REGISTER_COUNT >> 4;
+    
+    private static final int INITIAL_SPARSE_CAPACITY = 8;
+    
+    private static final int RANK_BITS = 8;
+    
+    private static final int RANK_MASK = (1 << RANK_BITS) - 1;
+    
+    private static final double ALPHA = 0.7213D / (1D + 1.079D / REGISTER_COUNT);
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private int[] sparseRegisters = new int[INITIAL_SPARSE_CAPACITY];
+    
+    private int sparseSize;
+    
+    private byte[] registers;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     */
+    public void add(final Comparable<?> value) {
+        long hash = value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte
+                ? HASH_FUNCTION.hashLong(((Number) value).longValue()).asLong()
+                : HASH_FUNCTION.hashString(value.toString(), StandardCharsets.UTF_8).asLong();
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros(hash << PRECISION | 1L << (PRECISION - 1)) + 1);
+        if (null == registers) {
+            addSparse(index, rank);
+        } else if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    private void addSparse(final int index, final byte rank) {
+        int position = findSparsePosition(index);
+        if (position >= 0) {
+            if (rank > (sparseRegisters[position] & RANK_MASK)) {
+                sparseRegisters[position] = index << RANK_BITS | rank;
+            }
+            return;
+        }
+        if (sparseSize == MAX_SPARSE_SIZE) {
+            toDense();
+            registers[index] = rank;
+            return;
+        }
+        int insertPosition = -position - 1;
+        if (sparseSize == sparseRegisters.length) {
+            sparseRegisters = Arrays.copyOf(sparseRegisters, Math.min(sparseRegisters.length << 1, MAX_SPARSE_SIZE));
+        }
+        System.arraycopy(sparseRegisters, insertPosition, sparseRegisters, insertPosition + 1, sparseSize - insertPosition);
+        sparseRegisters[insertPosition] = index << RANK_BITS | rank;
+        sparseSize++;
+    }
+    
+    private int findSparsePosition(final int index) {
+        int low = 0;
+        int high = sparseSize - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleIndex = sparseRegisters[middle] >>> RANK_BITS;
+            if (middleIndex < index) {
+                low = middle + 1;
+            } else if (middleIndex > index) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+    
+    private void toDense() {
+        registers = new byte[REGISTER_COUNT];
+        for (int i = 0; i < sparseSize; i++) {
+            registers[sparseRegisters[i] >>> RANK_BITS] = (byte) (sparseRegisters[i] & RANK_MASK);
+        }
+        sparseRegisters = null;
+        sparseSize = 0;
+    }
+    
+    /**
+     * Estimate count of distinct values.
+     *
+     * @return estimated count of distinct values
+     */
+    public long estimate() {
+        double sum = 0D;
+        int zeroRegisterCount = 0;
+        if (null == registers) {
+            zeroRegisterCount = REGISTER_COUNT - sparseSize;
+            sum = zeroRegisterCount;
+            for (int i = 0; i < sparseSize; i++) {
+                sum += 1D / (1L << (sparseRegisters[i] & RANK_MASK));
+            }
+        } else {
+            for (byte each : registers) {
+                sum += 1D / (1L << each);
+                if (0 == each) {
+                    zeroRegisterCount++;
+                }
+            }
+        }
+        double result = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (result <= 2.5D * REGISTER_COUNT && zeroRegisterCount > 0) {
+            result = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisterCount);
+        }
+        return Math.round(result);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Open addressing hash set of primitive long values.
+ */
+public final class LongHashSet {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private static final long EMPTY = 0L;
+    
+    private long[] keys = new long[INITIAL_CAPACITY];
+    
+    private boolean containsEmpty;
+    
+    private int size;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     * @return true if value is absent before
+     */
+    public boolean add(final long value) {
+        if (EMPTY == value) {
+            if (containsEmpty) {
+                return false;
+            }
+            containsEmpty = true;
+            size++;
+            return true;
+        }
+        int mask = keys.length - 1;
+        int index = mix(value) & mask;
+        while (EMPTY != keys[index]) {
+            if (value == keys[index]) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = value;
+        size++;
+        if (size * 4L >= keys.length * 3L) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+    
+    private void rehash(final int capacity) {
+        long[] oldKeys = keys;
+        keys = new long[capacity];
+        int mask = capacity - 1;
+        for (long each : oldKeys) {
+            if (EMPTY != each) {
+                int index = mix(each) & mask;
+                while (EMPTY != keys[index]) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = each;
+            }
+        }
+    }
+    
+    private int mix(final long value) {
+        long result = value * 0x9E3779B97F4A7C15L;
+        return (int) (result ^ result >>> 32);
+    }
+    
+    /**
+     * Get size.
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Perform action for each value.
+     *
+     * @param action action
+     */
+    public void forEach(final LongConsumer action) {
+        if (containsEmpty) {
+            action.accept(EMPTY);
+        }
+        for (long each : keys) {
+            if (EMPTY != each) {
+                action.accept(each);
+            }
+        }
+    }
+}
@@ -20,16 +20,19 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
 
+import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -50,14 +53,44 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final SelectStatementContext selectStatementContext;
     
-    private List<Comparable<?>> orderValues;
+    private final OrderBySortKeyType[] sortKeyTypes;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private final Object[] orderValues;
+    
+    private final long[] longOrderValues;
+    
+    private final double[] doubleOrderValues;
+    
+    private final boolean[] typedOrderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        this(queryResult, orderByItems, selectStatementContext, schema, Collections.nCopies(orderByItems.size(), OrderBySortKeyType.COMPARABLE));
+    }
+    
+    public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
+                        final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final List<OrderBySortKeyType> sortKeyTypes) throws SQLException {
         this.queryResult = queryResult;
         this.orderByItems = orderByItems;
         this.selectStatementContext = selectStatementContext;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        this.sortKeyTypes = sortKeyTypes.toArray(new OrderBySortKeyType[0]);
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullsOrderTypes = new NullsOrderType[orderByItems.size()];
+        int index = 0;
+        for (OrderByItem each : orderByItems) {
+            orderDirections[index] = each.getSegment().getOrderDirection();
+            nullsOrderTypes[index] = each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType());
+            index++;
+        }
+        orderValues = new Object[orderByItems.size()];
+        longOrderValues = new long[orderByItems.size()];
+        doubleOrderValues = new double[orderByItems.size()];
+        typedOrderValues = new boolean[orderByItems.size()];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
@@ -99,31 +132,112 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            decodeOrderValues();
+        } else {
+            clearOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
+    private void decodeOrderValues() throws SQLException {
+        int index = 0;
         for (OrderByItem each : orderByItems) {
             Object value = queryResult.getValue(each.getIndex(), Object.class);
-            ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
-            result.add((Comparable<?>) value);
+            orderValues[index] = value;
+            typedOrderValues[index] = decodeTypedOrderValue(index, value);
+            ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable || typedOrderValues[index], () -> new NotImplementComparableValueException("Order by", value));
+            index++;
+        }
+    }
+    
+    private boolean decodeTypedOrderValue(final int index, final Object value) {
+        switch (sortKeyTypes[index]) {
+            case LONG:
+                if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                    longOrderValues[index] = ((Number) value).longValue();
+                    return true;
+                }
+                return false;
+            case DOUBLE:
+                if (value instanceof Double || value instanceof Float) {
+                    doubleOrderValues[index] = ((Number) value).doubleValue();
+                    return true;
+                }
+                return false;
+            case BYTES:
+                return value instanceof byte[];
+            default:
+                return false;
+        }
+    }
+    
+    private void clearOrderValues() {
+        for (int i = 0; i < orderValues.length; i++) {
+            orderValues[i] = null;
+            typedOrderValues[i] = false;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtils.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = typedOrderValues[i] && orderByValue.typedOrderValues[i] ? compareTypedOrderValue(i, orderByValue) : compareOrderValue(i, orderByValue);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareTypedOrderValue(final int index, final OrderByValue orderByValue) {
+        int result;
+        switch (sortKeyTypes[index]) {
+            case LONG:
+                result = Long.compare(longOrderValues[index], orderByValue.longOrderValues[index]);
+                break;
+            case DOUBLE:
+                result = Double.compare(doubleOrderValues[index], orderByValue.doubleOrderValues[index]);
+                break;
+            default:
+                result = compareBytes((byte[]) orderValues[index], (byte[]) orderByValue.orderValues[index]);
+                break;
+        }
+        return OrderDirection.ASC == orderDirections[index] ? result : -result;
+    }
+    
+    private int compareBytes(final byte[] thisValue, final byte[] otherValue) {
+        int length = Math.min(thisValue.length, otherValue.length);
+        for (int i = 0; i < length; i++) {
+            int result = Integer.compare(thisValue[i] & 0xff, otherValue[i] & 0xff);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return Integer.compare(thisValue.length, otherValue.length);
+    }
+    
+    private int compareOrderValue(final int index, final OrderByValue orderByValue) {
+        Object thisValue = orderValues[index];
+        Object otherValue = orderByValue.orderValues[index];
+        if (null == thisValue || null == otherValue) {
+            return null == thisValue && null == otherValue ? 0 : (null == thisValue) == (NullsOrderType.FIRST == nullsOrderTypes[index]) ? -1 : 1;
+        }
+        if (isNumericSortKey(index) && thisValue instanceof Number && otherValue instanceof Number) {
+            int result = compareNumbers((Number) thisValue, (Number) otherValue);
+            return OrderDirection.ASC == orderDirections[index] ? result : -result;
+        }
+        return CompareUtils.compareTo((Comparable<?>) thisValue, (Comparable<?>) otherValue, orderDirections[index], nullsOrderTypes[index], orderValuesCaseSensitive.get(index));
+    }
+    
+    private boolean isNumericSortKey(final int index) {
+        return OrderBySortKeyType.LONG == sortKeyTypes[index] || OrderBySortKeyType.DOUBLE == sortKeyTypes[index];
+    }
+    
+    private int compareNumbers(final Number thisValue, final Number otherValue) {
+        if (thisValue instanceof Double || thisValue instanceof Float || otherValue instanceof Double || otherValue instanceof Float) {
+            return Double.compare(thisValue.doubleValue(), otherValue.doubleValue());
+        }
+        return new BigDecimal(thisValue.toString()).compareTo(new BigDecimal(otherValue.toString()));
+    }
 }
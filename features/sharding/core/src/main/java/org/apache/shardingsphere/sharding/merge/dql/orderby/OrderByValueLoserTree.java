@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ *
+ * <p>Each leaf is the current row of one query result. Replaying the winner after it advances costs one comparison per tree level,
+ * ties are broken by the position of query result to keep the merged order stable.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] leaves;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] nodes;
+    
+    private int remaining;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[leaves.length];
+        nodes = new int[Math.max(leaves.length, 1)];
+        remaining = leaves.length;
+        build();
+    }
+    
+    private void build() {
+        if (0 == leaves.length) {
+            return;
+        }
+        int virtualMinLeaf = leaves.length;
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = virtualMinLeaf;
+        }
+        for (int i = leaves.length - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    private void replay(final int leafIndex) {
+        int winner = leafIndex;
+        for (int parent = (leafIndex + leaves.length) >> 1; parent > 0; parent >>= 1) {
+            if (isBefore(nodes[parent], winner)) {
+                int loser = winner;
+                winner = nodes[parent];
+                nodes[parent] = loser;
+            }
+        }
+        nodes[0] = winner;
+    }
+    
+    private boolean isBefore(final int thisLeaf, final int otherLeaf) {
+        if (thisLeaf == leaves.length) {
+            return true;
+        }
+        if (otherLeaf == leaves.length) {
+            return false;
+        }
+        if (exhausted[thisLeaf]) {
+            return false;
+        }
+        if (exhausted[otherLeaf]) {
+            return true;
+        }
+        int result = leaves[thisLeaf].compareTo(leaves[otherLeaf]);
+        return result < 0 || 0 == result && thisLeaf < otherLeaf;
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remaining;
+    }
+    
+    /**
+     * Peek the order by value of current winner.
+     *
+     * @return order by value of current winner
+     */
+    public OrderByValue peek() {
+        return leaves[nodes[0]];
+    }
+    
+    /**
+     * Move the current winner to its next row and replay the tournament.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        int winner = nodes[0];
+        if (!leaves[winner].next()) {
+            exhausted[winner] = true;
+            remaining--;
+        }
+        replay(winner);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.apache.shardingsphere.infra.database.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.database.core.metadata.database.metadata.DialectDatabaseMetaData;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.statistics.collector.shardingsphere.ShardingSphereTableStatisticsCollector;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.aggregate.AggregatedDataSourceRuleAttribute;
+import org.apache.shardingsphere.sharding.metadata.data.dialect.DialectShardingColumnStatisticsCollector;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sharding column statistics collector.
+ */
+public final class ShardingColumnStatisticsCollector implements ShardingSphereTableStatisticsCollector {
+    
+    private long currentId = 1;
+    
+    @Override
+    public Collection<Map<String, Object>> collect(final String databaseName, final String schemaName, final String tableName, final ShardingSphereMetaData metaData) throws SQLException {
+        Collection<Map<String, Object>> result = new LinkedList<>();
+        DatabaseType protocolType = metaData.getAllDatabases().iterator().next().getProtocolType();
+        DialectDatabaseMetaData dialectDatabaseMetaData = new DatabaseTypeRegistry(protocolType).getDialectDatabaseMetaData();
+        currentId = 1;
+        if (dialectDatabaseMetaData.getSchemaOption().getDefaultSchema().isPresent()) {
+            collectFromDatabase(metaData.getDatabase(databaseName), result);
+        } else {
+            for (ShardingSphereDatabase each : metaData.getAllDatabases()) {
+                collectFromDatabase(each, result);
+            }
+        }
+        return result;
+    }
+    
+    private void collectFromDatabase(final ShardingSphereDatabase database, final Collection<Map<String, Object>> rows) throws SQLException {
+        Optional<ShardingRule> rule = database.getRuleMetaData().findSingleRule(ShardingRule.class);
+        if (!rule.isPresent()) {
+            return;
+        }
+        for (ShardingTable each : rule.get().getShardingTables().values()) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                collectForDataNode(database, rule.get(), each, dataNode, rows);
+            }
+        }
+    }
+    
+    private void collectForDataNode(final ShardingSphereDatabase database, final ShardingRule rule, final ShardingTable shardingTable, final DataNode dataNode,
+                                    final Collection<Map<String, Object>> rows) throws SQLException {
+        for (Map<String, Object> each : collectColumnStatistics(database.getResourceMetaData().getStorageUnits(), dataNode, rule)) {
+            Map<String, Object> rowColumnValues = new CaseInsensitiveMap<>();
+            rowColumnValues.put("id", currentId++);
+            rowColumnValues.put("logic_database_name", database.getName());
+            rowColumnValues.put("logic_table_name", shardingTable.getLogicTable());
+            rowColumnValues.put("actual_database_name", dataNode.getDataSourceName());
+            rowColumnValues.put("actual_table_name", dataNode.getTableName());
+            rowColumnValues.putAll(each);
+            rows.add(rowColumnValues);
+        }
+    }
+    
+    private Collection<Map<String, Object>> collectColumnStatistics(final Map<String, StorageUnit> storageUnits, final DataNode dataNode, final ShardingRule rule) throws SQLException {
+        DataSource dataSource;
+        DatabaseType databaseType;
+        StorageUnit storageUnit = storageUnits.get(dataNode.getDataSourceName());
+        if (null != storageUnit) {
+            dataSource = storageUnit.getDataSource();
+            databaseType = storageUnit.getStorageType();
+        } else {
+            Optional<AggregatedDataSourceRuleAttribute> aggregatedDataSourceRuleAttribute = rule.getAttributes().findAttribute(AggregatedDataSourceRuleAttribute.class);
+            dataSource = aggregatedDataSourceRuleAttribute.map(optional -> optional.getAggregatedDataSources().get(dataNode.getDataSourceName())).orElse(null);
+            databaseType = null != dataSource ? DatabaseTypeEngine.getStorageType(dataSource) : null;
+        }
+        if (null == dataSource || null == databaseType) {
+            return Collections.emptyList();
+        }
+        Optional<DialectShardingColumnStatisticsCollector> dialectCollector = DatabaseTypedSPILoader.findService(DialectShardingColumnStatisticsCollector.class, databaseType);
+        if (!dialectCollector.isPresent()) {
+            return Collections.emptyList();
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            return dialectCollector.get().collect(connection, dataNode);
+        }
+    }
+    
+    @Override
+    public String getSchemaName() {
+        return "shardingsphere";
+    }
+    
+    @Override
+    public String getTableName() {
+        return "sharding_column_statistics";
+    }
+    
+    @Override
+    public String getType() {
+        return "shardingsphere.sharding_column_statistics";
+    }
+}
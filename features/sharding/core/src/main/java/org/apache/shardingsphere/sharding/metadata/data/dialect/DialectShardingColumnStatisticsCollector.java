@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data.dialect;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Dialect sharding column statistics collector.
+ */
+@SingletonSPI
+public interface DialectShardingColumnStatisticsCollector extends DatabaseTypedSPI {
+    
+    String COLUMN_NAME = "column_name";
+    
+    String DISTINCT_COUNT = "distinct_count";
+    
+    String MIN_VALUE = "min_value";
+    
+    String MAX_VALUE = "max_value";
+    
+    String HISTOGRAM_BOUNDS = "histogram_bounds";
+    
+    /**
+     * Collect column statistics of data node from catalog of storage unit.
+     *
+     * <p>Histogram bounds are comma separated ascending numeric values which split rows of data node into buckets of nearly equal size.</p>
+     *
+     * @param connection connection
+     * @param dataNode data node
+     * @return column statistics, one row column values for each column with collected statistics
+     * @throws SQLException SQL exception
+     */
+    Collection<Map<String, Object>> collect(Connection connection, DataNode dataNode) throws SQLException;
+}
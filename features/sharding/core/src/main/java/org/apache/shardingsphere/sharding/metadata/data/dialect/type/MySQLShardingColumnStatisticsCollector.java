@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data.dialect.type;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.util.json.JsonUtils;
+import org.apache.shardingsphere.sharding.metadata.data.dialect.DialectShardingColumnStatisticsCollector;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Sharding column statistics collector of MySQL.
+ */
+public final class MySQLShardingColumnStatisticsCollector implements DialectShardingColumnStatisticsCollector {
+    
+    private static final String FETCH_DISTINCT_COUNT_SQL = "SELECT COLUMN_NAME, MAX(CARDINALITY) AS DISTINCT_COUNT FROM information_schema.STATISTICS "
+            + "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND SEQ_IN_INDEX = 1 GROUP BY COLUMN_NAME";
+    
+    private static final String FETCH_HISTOGRAM_SQL = "SELECT COLUMN_NAME, HISTOGRAM FROM information_schema.COLUMN_STATISTICS WHERE SCHEMA_NAME = ? AND TABLE_NAME = ?";
+    
+    private static final int HISTOGRAM_SUPPORTED_MAJOR_VERSION = 8;
+    
+    private static final String EQUI_HEIGHT_HISTOGRAM_TYPE = "equi-height";
+    
+    @Override
+    public Collection<Map<String, Object>> collect(final Connection connection, final DataNode dataNode) throws SQLException {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        collectDistinctCount(connection, dataNode, result);
+        if (connection.getMetaData().getDatabaseMajorVersion() >= HISTOGRAM_SUPPORTED_MAJOR_VERSION) {
+            collectHistogram(connection, dataNode, result);
+        }
+        return result.values();
+    }
+    
+    private void collectDistinctCount(final Connection connection, final DataNode dataNode, final Map<String, Map<String, Object>> columnStatistics) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(FETCH_DISTINCT_COUNT_SQL)) {
+            preparedStatement.setString(1, connection.getCatalog());
+            preparedStatement.setString(2, dataNode.getTableName());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    getColumnStatistics(columnStatistics, resultSet.getString("COLUMN_NAME")).put(DISTINCT_COUNT, resultSet.getBigDecimal("DISTINCT_COUNT"));
+                }
+            }
+        }
+    }
+    
+    private void collectHistogram(final Connection connection, final DataNode dataNode, final Map<String, Map<String, Object>> columnStatistics) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(FETCH_HISTOGRAM_SQL)) {
+            preparedStatement.setString(1, connection.getCatalog());
+            preparedStatement.setString(2, dataNode.getTableName());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    appendHistogram(getColumnStatistics(columnStatistics, resultSet.getString("COLUMN_NAME")), resultSet.getString("HISTOGRAM"));
+                }
+            }
+        }
+    }
+    
+    private Map<String, Object> getColumnStatistics(final Map<String, Map<String, Object>> columnStatistics, final String columnName) {
+        return columnStatistics.computeIfAbsent(columnName, key -> {
+            Map<String, Object> result = new CaseInsensitiveMap<>();
+            result.put(COLUMN_NAME, key);
+            return result;
+        });
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void appendHistogram(final Map<String, Object> columnStatistics, final String histogram) {
+        if (null == histogram) {
+            return;
+        }
+        Map<String, Object> histogramValues = JsonUtils.fromJsonString(histogram, new TypeReference<Map<String, Object>>() {
+        });
+        List<List<Object>> buckets = ((Collection<?>) histogramValues.getOrDefault("buckets", new LinkedList<>())).stream()
+                .map(each -> (List<Object>) each).filter(each -> !each.isEmpty() && each.get(0) instanceof Number).collect(Collectors.toList());
+        if (buckets.isEmpty()) {
+            return;
+        }
+        boolean equiHeight = EQUI_HEIGHT_HISTOGRAM_TYPE.equals(histogramValues.get("histogram-type"));
+        columnStatistics.put(MIN_VALUE, toValue(buckets.get(0).get(0)));
+        columnStatistics.put(MAX_VALUE, toValue(buckets.get(buckets.size() - 1).get(equiHeight ? 1 : 0)));
+        if (equiHeight) {
+            columnStatistics.put(DISTINCT_COUNT, BigDecimal.valueOf(buckets.stream().mapToLong(each -> ((Number) each.get(3)).longValue()).sum()));
+            columnStatistics.put(HISTOGRAM_BOUNDS, toHistogramBounds(buckets));
+        } else {
+            columnStatistics.put(DISTINCT_COUNT, BigDecimal.valueOf(buckets.size()));
+        }
+    }
+    
+    private String toHistogramBounds(final List<List<Object>> buckets) {
+        Collection<String> result = new LinkedList<>();
+        result.add(toValue(buckets.get(0).get(0)));
+        for (List<Object> each : buckets) {
+            result.add(toValue(each.get(1)));
+        }
+        return String.join(",", result);
+    }
+    
+    private String toValue(final Object value) {
+        return new BigDecimal(value.toString()).toPlainString();
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data.dialect.type;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.metadata.data.dialect.DialectShardingColumnStatisticsCollector;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Sharding column statistics collector of PostgreSQL.
+ */
+public final class PostgreSQLShardingColumnStatisticsCollector implements DialectShardingColumnStatisticsCollector {
+    
+    private static final String FETCH_COLUMN_STATISTICS_SQL = "SELECT S.ATTNAME AS COLUMN_NAME, CASE WHEN S.N_DISTINCT < 0 THEN -S.N_DISTINCT * C.RELTUPLES ELSE S.N_DISTINCT END AS DISTINCT_COUNT, "
+            + "S.HISTOGRAM_BOUNDS::TEXT AS HISTOGRAM_BOUNDS FROM PG_STATS S JOIN PG_NAMESPACE N ON N.NSPNAME = S.SCHEMANAME JOIN PG_CLASS C ON C.RELNAMESPACE = N.OID AND C.RELNAME = S.TABLENAME "
+            + "WHERE S.SCHEMANAME = ? AND S.TABLENAME = ?";
+    
+    @Override
+    public Collection<Map<String, Object>> collect(final Connection connection, final DataNode dataNode) throws SQLException {
+        Collection<Map<String, Object>> result = new LinkedList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(FETCH_COLUMN_STATISTICS_SQL)) {
+            preparedStatement.setString(1, null == dataNode.getSchemaName() ? connection.getSchema() : dataNode.getSchemaName());
+            preparedStatement.setString(2, dataNode.getTableName());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(createColumnStatistics(resultSet));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Object> createColumnStatistics(final ResultSet resultSet) throws SQLException {
+        Map<String, Object> result = new CaseInsensitiveMap<>();
+        result.put(COLUMN_NAME, resultSet.getString("COLUMN_NAME"));
+        BigDecimal distinctCount = resultSet.getBigDecimal("DISTINCT_COUNT");
+        result.put(DISTINCT_COUNT, null == distinctCount ? null : distinctCount.setScale(0, RoundingMode.HALF_UP));
+        List<String> histogramBounds = parseNumericHistogramBounds(resultSet.getString("HISTOGRAM_BOUNDS"));
+        if (!histogramBounds.isEmpty()) {
+            result.put(MIN_VALUE, histogramBounds.get(0));
+            result.put(MAX_VALUE, histogramBounds.get(histogramBounds.size() - 1));
+            result.put(HISTOGRAM_BOUNDS, String.join(",", histogramBounds));
+        }
+        return result;
+    }
+    
+    private List<String> parseNumericHistogramBounds(final String histogramBounds) {
+        if (null == histogramBounds || histogramBounds.length() < 2) {
+            return new LinkedList<>();
+        }
+        List<String> result = new LinkedList<>();
+        for (String each : histogramBounds.substring(1, histogramBounds.length() - 1).split(",")) {
+            String bound = each.trim();
+            if (!isNumeric(bound)) {
+                return new LinkedList<>();
+            }
+            result.add(new BigDecimal(bound).toPlainString());
+        }
+        return result.stream().distinct().collect(Collectors.toList());
+    }
+    
+    private boolean isNumeric(final String value) {
+        try {
+            new BigDecimal(value);
+            return true;
+        } catch (final NumberFormatException ignored) {
+            return false;
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditi
 import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValueGeneratorFactory;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.AlwaysFalseShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.LongIntervalSet;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -83,7 +84,7 @@ public final class WhereClauseShardingConditionEngine {
     
     private Collection<ShardingCondition> createShardingConditions(final ExpressionSegment expression, final List<Object> params) {
         Collection<AndPredicate> andPredicates = ExpressionExtractor.extractAndPredicates(expression);
-        Collection<ShardingCondition> result = new LinkedList<>();
+        List<ShardingCondition> result = new LinkedList<>();
         for (AndPredicate each : andPredicates) {
             Map<Column, Collection<ShardingConditionValue>> shardingConditionValues = createShardingConditionValueMap(each.getPredicates(), params);
             if (shardingConditionValues.isEmpty()) {
@@ -94,9 +95,55 @@ public final class WhereClauseShardingConditionEngine {
             shardingCondition.setStartIndex(expression.getStartIndex());
             result.add(shardingCondition);
         }
+        return result.size() > 1 ? unionShardingConditions(result, expression.getStartIndex()).orElse(result) : result;
+    }
+    
+    private Collection<ShardingCondition> createShardingConditions(final String columnName, final String tableName, final LongIntervalSet intervalSet, final Class<?> valueType,
+                                                                   final List<Integer> parameterMarkerIndexes, final int startIndex) {
+        Collection<ShardingCondition> result = new LinkedList<>();
+        List<Comparable<?>> pointValues = intervalSet.getPointValues(valueType);
+        if (!pointValues.isEmpty()) {
+            result.add(createShardingCondition(new ListShardingConditionValue<>(columnName, tableName, pointValues, parameterMarkerIndexes), startIndex));
+        }
+        for (int i = 0; i < intervalSet.size(); i++) {
+            if (!intervalSet.isPoint(i)) {
+                intervalSet.findRange(i, valueType).ifPresent(optional -> result.add(createShardingCondition(
+                        new RangeShardingConditionValue<>(columnName, tableName, optional, parameterMarkerIndexes), startIndex)));
+            }
+        }
         return result;
     }
     
+    private Optional<Collection<ShardingCondition>> unionShardingConditions(final List<ShardingCondition> shardingConditions, final int startIndex) {
+        if (shardingConditions.get(0) instanceof AlwaysFalseShardingCondition || 1 != shardingConditions.get(0).getValues().size()) {
+            return Optional.empty();
+        }
+        ShardingConditionValue firstValue = shardingConditions.get(0).getValues().get(0);
+        Optional<Class<?>> valueType = findIntegralValueType(firstValue);
+        if (!valueType.isPresent()) {
+            return Optional.empty();
+        }
+        List<LongIntervalSet> intervalSets = new ArrayList<>(shardingConditions.size());
+        Set<Integer> parameterMarkerIndexes = new HashSet<>();
+        for (ShardingCondition each : shardingConditions) {
+            if (each instanceof AlwaysFalseShardingCondition || 1 != each.getValues().size()) {
+                return Optional.empty();
+            }
+            ShardingConditionValue value = each.getValues().get(0);
+            if (!firstValue.getColumnName().equals(value.getColumnName()) || !firstValue.getTableName().equals(value.getTableName())) {
+                return Optional.empty();
+            }
+            Optional<LongIntervalSet> eachIntervalSet = findIntervalSet(value, valueType.get());
+            if (!eachIntervalSet.isPresent()) {
+                return Optional.empty();
+            }
+            intervalSets.add(eachIntervalSet.get());
+            parameterMarkerIndexes.addAll(value.getParameterMarkerIndexes());
+        }
+        return Optional.of(createShardingConditions(
+                firstValue.getColumnName(), firstValue.getTableName(), LongIntervalSet.unionAll(intervalSets), valueType.get(), new ArrayList<>(parameterMarkerIndexes), startIndex));
+    }
+    
     private Map<Column, Collection<ShardingConditionValue>> createShardingConditionValueMap(final Collection<ExpressionSegment> predicates, final List<Object> params) {
         Map<Column, Collection<ShardingConditionValue>> result = new HashMap<>(predicates.size(), 1F);
         for (ExpressionSegment each : predicates) {
@@ -133,8 +180,19 @@ public final class WhereClauseShardingConditionEngine {
         return result;
     }
     
+    private ShardingCondition createShardingCondition(final ShardingConditionValue shardingConditionValue, final int startIndex) {
+        ShardingCondition result = new ShardingCondition();
+        result.getValues().add(shardingConditionValue);
+        result.setStartIndex(startIndex);
+        return result;
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private ShardingConditionValue mergeShardingConditionValues(final Column column, final Collection<ShardingConditionValue> shardingConditionValues) {
+        Optional<ShardingConditionValue> integralShardingConditionValue = mergeIntegralShardingConditionValues(column, shardingConditionValues);
+        if (integralShardingConditionValue.isPresent()) {
+            return integralShardingConditionValue.get();
+        }
         Collection<Comparable<?>> listValue = null;
         Range<Comparable<?>> rangeValue = null;
         Set<Integer> parameterMarkerIndexes = new HashSet<>();
@@ -164,6 +222,54 @@ public final class WhereClauseShardingConditionEngine {
                 : new ListShardingConditionValue<>(column.getName(), column.getTableName(), listValue, new ArrayList<>(parameterMarkerIndexes));
     }
     
+    private Optional<ShardingConditionValue> mergeIntegralShardingConditionValues(final Column column, final Collection<ShardingConditionValue> shardingConditionValues) {
+        if (shardingConditionValues.size() < 2) {
+            return Optional.empty();
+        }
+        Optional<Class<?>> valueType = findIntegralValueType(shardingConditionValues.iterator().next());
+        if (!valueType.isPresent()) {
+            return Optional.empty();
+        }
+        boolean containsListValue = false;
+        LongIntervalSet intervalSet = null;
+        Set<Integer> parameterMarkerIndexes = new HashSet<>();
+        for (ShardingConditionValue each : shardingConditionValues) {
+            Optional<LongIntervalSet> eachIntervalSet = findIntervalSet(each, valueType.get());
+            if (!eachIntervalSet.isPresent()) {
+                return Optional.empty();
+            }
+            containsListValue = containsListValue || each instanceof ListShardingConditionValue;
+            intervalSet = null == intervalSet ? eachIntervalSet.get() : intervalSet.intersect(eachIntervalSet.get());
+            parameterMarkerIndexes.addAll(each.getParameterMarkerIndexes());
+        }
+        if (!containsListValue) {
+            return Optional.empty();
+        }
+        return Optional.of(intervalSet.isEmpty() ? new AlwaysFalseShardingConditionValue()
+                : new ListShardingConditionValue<>(column.getName(), column.getTableName(), intervalSet.getPointValues(valueType.get()), new ArrayList<>(parameterMarkerIndexes)));
+    }
+    
+    private Optional<Class<?>> findIntegralValueType(final ShardingConditionValue shardingConditionValue) {
+        Object value = null;
+        if (shardingConditionValue instanceof ListShardingConditionValue && !((ListShardingConditionValue<?>) shardingConditionValue).getValues().isEmpty()) {
+            value = ((ListShardingConditionValue<?>) shardingConditionValue).getValues().iterator().next();
+        } else if (shardingConditionValue instanceof RangeShardingConditionValue) {
+            Range<?> range = ((RangeShardingConditionValue<?>) shardingConditionValue).getValueRange();
+            value = range.hasLowerBound() ? range.lowerEndpoint() : range.hasUpperBound() ? range.upperEndpoint() : null;
+        }
+        return null != value && LongIntervalSet.isIntegralType(value.getClass()) ? Optional.of(value.getClass()) : Optional.empty();
+    }
+    
+    private Optional<LongIntervalSet> findIntervalSet(final ShardingConditionValue shardingConditionValue, final Class<?> valueType) {
+        if (shardingConditionValue instanceof ListShardingConditionValue) {
+            return LongIntervalSet.findPoints(((ListShardingConditionValue<?>) shardingConditionValue).getValues(), valueType);
+        }
+        if (shardingConditionValue instanceof RangeShardingConditionValue) {
+            return LongIntervalSet.findInterval(((RangeShardingConditionValue<?>) shardingConditionValue).getValueRange(), valueType);
+        }
+        return Optional.empty();
+    }
+    
     private Collection<Comparable<?>> mergeListShardingValues(final Collection<Comparable<?>> value1, final Collection<Comparable<?>> value2) {
         if (null == value2) {
             return value1;
@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.condition.value;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interval set of integral sharding values.
+ *
+ * <p>Intervals are normalized as sorted and disjoint closed intervals in primitive arrays, points are intervals whose lower and upper are same.
+ * Union and intersection are computed by merging sorted intervals in linear time.
+ * {@code Long.MIN_VALUE} as lower and {@code Long.MAX_VALUE} as upper mean unbounded.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LongIntervalSet {
+    
+    private final long[] lowers;
+    
+    private final long[] uppers;
+    
+    private final int size;
+    
+    /**
+     * Create interval set of points.
+     *
+     * @param values values
+     * @return created interval set, values are sorted and deduplicated
+     */
+    public static LongIntervalSet ofPoints(final long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (0 == i || sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return new LongIntervalSet(sorted, sorted, size);
+    }
+    
+    /**
+     * Create interval set of one closed interval.
+     *
+     * @param lower lower of interval
+     * @param upper upper of interval
+     * @return created interval set, empty if lower is greater than upper
+     */
+    public static LongIntervalSet ofInterval(final long lower, final long upper) {
+        return lower > upper ? new LongIntervalSet(new long[0], new long[0], 0) : new LongIntervalSet(new long[]{lower}, new long[]{upper}, 1);
+    }
+    
+    /**
+     * Find interval set of values.
+     *
+     * @param values values
+     * @param valueType type of values, only integral types are supported
+     * @return interval set of points, empty if any value is not instance of value type
+     */
+    public static Optional<LongIntervalSet> findPoints(final Collection<?> values, final Class<?> valueType) {
+        if (!isIntegralType(valueType)) {
+            return Optional.empty();
+        }
+        long[] points = new long[values.size()];
+        int index = 0;
+        for (Object each : values) {
+            if (null == each || valueType != each.getClass()) {
+                return Optional.empty();
+            }
+            points[index++] = ((Number) each).longValue();
+        }
+        return Optional.of(ofPoints(points));
+    }
+    
+    /**
+     * Find interval set of range.
+     *
+     * @param range range
+     * @param valueType type of range endpoints, only integral types are supported
+     * @return interval set of range, empty if any endpoint is not instance of value type
+     */
+    public static Optional<LongIntervalSet> findInterval(final Range<?> range, final Class<?> valueType) {
+        if (!isIntegralType(valueType) || range.hasLowerBound() && valueType != range.lowerEndpoint().getClass()
+                || range.hasUpperBound() && valueType != range.upperEndpoint().getClass()) {
+            return Optional.empty();
+        }
+        boolean lowerOpen = range.hasLowerBound() && BoundType.OPEN == range.lowerBoundType();
+        boolean upperOpen = range.hasUpperBound() && BoundType.OPEN == range.upperBoundType();
+        long lower = range.hasLowerBound() ? ((Number) range.lowerEndpoint()).longValue() : Long.MIN_VALUE;
+        long upper = range.hasUpperBound() ? ((Number) range.upperEndpoint()).longValue() : Long.MAX_VALUE;
+        if (lowerOpen && lower >= getMaxValue(valueType) || upperOpen && upper <= getMinValue(valueType)) {
+            return Optional.of(ofInterval(1L, 0L));
+        }
+        return Optional.of(ofInterval(lowerOpen ? lower + 1L : lower, upperOpen ? upper - 1L : upper));
+    }
+    
+    /**
+     * Judge whether type is supported integral type.
+     *
+     * @param valueType value type
+     * @return is integral type or not
+     */
+    public static boolean isIntegralType(final Class<?> valueType) {
+        return Long.class == valueType || Integer.class == valueType || Short.class == valueType || Byte.class == valueType;
+    }
+    
+    /**
+     * Union interval sets.
+     *
+     * <p>Interval sets are unioned pairwise in rounds, so the cost is {@code O(n log k)} rather than {@code O(n k)} for {@code k} interval sets.</p>
+     *
+     * @param intervalSets interval sets to be unioned
+     * @return union interval set
+     */
+    public static LongIntervalSet unionAll(final List<LongIntervalSet> intervalSets) {
+        if (intervalSets.isEmpty()) {
+            return ofInterval(1L, 0L);
+        }
+        List<LongIntervalSet> current = intervalSets;
+        while (current.size() > 1) {
+            List<LongIntervalSet> next = new ArrayList<>((current.size() + 1) / 2);
+            for (int i = 0; i < current.size(); i += 2) {
+                next.add(i + 1 < current.size() ? current.get(i).union(current.get(i + 1)) : current.get(i));
+            }
+            current = next;
+        }
+        return current.get(0);
+    }
+    
+    /**
+     * Union with other interval set.
+     *
+     * @param other other interval set
+     * @return union interval set
+     */
+    public LongIntervalSet union(final LongIntervalSet other) {
+        long[] resultLowers = new long[size + other.size];
+        long[] resultUppers = new long[size + other.size];
+        int resultSize = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            long lower;
+            long upper;
+            if (j >= other.size || i < size && lowers[i] <= other.lowers[j]) {
+                lower = lowers[i];
+                upper = uppers[i++];
+            } else {
+                lower = other.lowers[j];
+                upper = other.uppers[j++];
+            }
+            if (resultSize > 0 && lower <= resultUppers[resultSize - 1]) {
+                resultUppers[resultSize - 1] = Math.max(resultUppers[resultSize - 1], upper);
+            } else {
+                resultLowers[resultSize] = lower;
+                resultUppers[resultSize++] = upper;
+            }
+        }
+        return new LongIntervalSet(resultLowers, resultUppers, resultSize);
+    }
+    
+    /**
+     * Intersect with other interval set.
+     *
+     * @param other other interval set
+     * @return intersection interval set
+     */
+    public LongIntervalSet intersect(final LongIntervalSet other) {
+        long[] resultLowers = new long[size + other.size];
+        long[] resultUppers = new long[size + other.size];
+        int resultSize = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            long lower = Math.max(lowers[i], other.lowers[j]);
+            long upper = Math.min(uppers[i], other.uppers[j]);
+            if (lower <= upper) {
+                resultLowers[resultSize] = lower;
+                resultUppers[resultSize++] = upper;
+            }
+            if (uppers[i] < other.uppers[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return new LongIntervalSet(resultLowers, resultUppers, resultSize);
+    }
+    
+    /**
+     * Judge whether interval set is empty.
+     *
+     * @return is empty or not
+     */
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+    
+    /**
+     * Get intervals count.
+     *
+     * @return intervals count
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Judge whether interval is point.
+     *
+     * @param index index of interval
+     * @return is point or not
+     */
+    public boolean isPoint(final int index) {
+        return lowers[index] == uppers[index];
+    }
+    
+    /**
+     * Judge whether all intervals are points.
+     *
+     * @return all intervals are points or not
+     */
+    public boolean isPoints() {
+        for (int i = 0; i < size; i++) {
+            if (!isPoint(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Get values of points.
+     *
+     * @param valueType type of values
+     * @return values of points in ascending order, points out of value type are ignored
+     */
+    public List<Comparable<?>> getPointValues(final Class<?> valueType) {
+        List<Comparable<?>> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (isPoint(i) && lowers[i] >= getMinValue(valueType) && lowers[i] <= getMaxValue(valueType)) {
+                result.add(box(lowers[i], valueType));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Find range of interval.
+     *
+     * <p>Bounds are clamped to value type, bound below minimum of value type is treated as unbounded on that side,
+     * and interval whose lower is above maximum or upper is below minimum of value type is treated as empty.</p>
+     *
+     * @param index index of interval
+     * @param valueType type of range endpoints
+     * @return range of interval, empty if interval is out of value type
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Optional<Range<Comparable<?>>> findRange(final int index, final Class<?> valueType) {
+        long minValue = getMinValue(valueType);
+        long maxValue = getMaxValue(valueType);
+        if (lowers[index] > maxValue || uppers[index] < minValue) {
+            return Optional.empty();
+        }
+        boolean hasLower = lowers[index] > minValue;
+        boolean hasUpper = uppers[index] < maxValue;
+        if (hasLower && hasUpper) {
+            return Optional.of((Range) Range.closed(box(lowers[index], valueType), box(uppers[index], valueType)));
+        }
+        if (hasLower) {
+            return Optional.of((Range) Range.atLeast(box(lowers[index], valueType)));
+        }
+        return Optional.of(hasUpper ? (Range) Range.atMost(box(uppers[index], valueType)) : Range.all());
+    }
+    
+    private static long getMinValue(final Class<?> valueType) {
+        if (Integer.class == valueType) {
+            return Integer.MIN_VALUE;
+        }
+        if (Short.class == valueType) {
+            return Short.MIN_VALUE;
+        }
+        return Byte.class == valueType ? Byte.MIN_VALUE : Long.MIN_VALUE;
+    }
+    
+    private static long getMaxValue(final Class<?> valueType) {
+        if (Integer.class == valueType) {
+            return Integer.MAX_VALUE;
+        }
+        if (Short.class == valueType) {
+            return Short.MAX_VALUE;
+        }
+        return Byte.class == valueType ? Byte.MAX_VALUE : Long.MAX_VALUE;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable box(final long value, final Class<?> valueType) {
+        if (Integer.class == valueType) {
+            return (int) value;
+        }
+        if (Short.class == valueType) {
+            return (short) value;
+        }
+        if (Byte.class == valueType) {
+            return (byte) value;
+        }
+        return value;
+    }
+}
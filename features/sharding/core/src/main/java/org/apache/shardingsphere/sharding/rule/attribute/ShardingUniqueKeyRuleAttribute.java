@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule.attribute;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import com.google.common.base.Splitter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.rule.attribute.table.UniqueKeyRuleAttribute;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Sharding unique key rule attribute.
+ */
+@RequiredArgsConstructor
+public final class ShardingUniqueKeyRuleAttribute implements UniqueKeyRuleAttribute {
+    
+    private final ShardingRule rule;
+    
+    @Override
+    public boolean isUniqueAcrossDataNodes(final String logicTableName, final Collection<String> keyColumnNames) {
+        Optional<ShardingTable> shardingTable = rule.findShardingTable(logicTableName);
+        if (!shardingTable.isPresent()) {
+            return true;
+        }
+        Collection<String> keyColumns = new CaseInsensitiveSet<>(keyColumnNames);
+        return containsShardingColumns(rule.getDatabaseShardingStrategyConfiguration(shardingTable.get()), keyColumns)
+                && containsShardingColumns(rule.getTableShardingStrategyConfiguration(shardingTable.get()), keyColumns);
+    }
+    
+    private boolean containsShardingColumns(final ShardingStrategyConfiguration shardingStrategyConfig, final Collection<String> keyColumns) {
+        if (shardingStrategyConfig instanceof NoneShardingStrategyConfiguration) {
+            return true;
+        }
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            String shardingColumn = null == ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn()
+                    ? rule.getDefaultShardingColumn()
+                    : ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+            return null != shardingColumn && keyColumns.contains(shardingColumn);
+        }
+        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            return keyColumns.containsAll(Splitter.on(",").trimResults().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns()));
+        }
+        return false;
+    }
+}
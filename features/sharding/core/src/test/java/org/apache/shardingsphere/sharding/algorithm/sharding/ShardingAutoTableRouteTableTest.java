@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardingAutoTableRouteTableTest {
+    
+    private final Collection<String> availableTargetNames = Arrays.asList("t_order_00", "t_order_01", "t_order_02");
+    
+    @Test
+    void assertFindMatchedTargetNameWhenTableExist() {
+        ShardingAutoTableRouteTable routeTable = new ShardingAutoTableRouteTable(4);
+        Optional<String> actual = routeTable.findMatchedTargetName(availableTargetNames, 2, new DataNodeInfo("t_order_", 2, '0'));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("t_order_02"));
+        assertThat(routeTable.findMatchedTargetName(availableTargetNames, 2, new DataNodeInfo("t_order_", 2, '0')).orElse(null), is("t_order_02"));
+    }
+    
+    @Test
+    void assertFindMatchedTargetNameWhenTableNotExist() {
+        assertFalse(new ShardingAutoTableRouteTable(4).findMatchedTargetName(availableTargetNames, 3, new DataNodeInfo("t_order_", 2, '0')).isPresent());
+    }
+    
+    @Test
+    void assertFindMatchedTargetNameWithZeroPadding() {
+        ShardingAutoTableRouteTable routeTable = new ShardingAutoTableRouteTable(16, true);
+        assertThat(routeTable.findMatchedTargetName(Arrays.asList("t_order_05", "t_order_5"), 5, new DataNodeInfo("t_order_", 1, '0')).orElse(null), is("t_order_05"));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.compiler;
+
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InlineExpressionCompilerTest {
+    
+    private static final Collection<Comparable<?>> SHARDING_VALUES = Arrays.asList(0, 1, -1, 15, -17, 123456789, Integer.MAX_VALUE, Integer.MIN_VALUE,
+            0L, -5L, 787694822390497280L, Long.MAX_VALUE, Long.MIN_VALUE, (short) -3, (byte) 7);
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"t_order_${order_id % 16}", "t_order_${(order_id % 4).abs()}", "t_order_${Math.abs(order_id % 4)}", "t_order_${Math.abs(order_id.hashCode()) % 8}",
+            "t_order_${order_id.hashCode() % 8}_suffix", "ds_${order_id % 2}.t_order_${(order_id * 31 + 7) % 64}", "t_order_${order_id - -1}", "t_order_${-order_id % 3 + 1}",
+            "t_order_${order_id * 1000000}", "t_order_${order_id % 3000000000}", "t_order_${order_id % 5L}", "t_order_${ order_id %10 }"})
+    void assertCompileWithSameResultAsGroovy(final String expression) {
+        Optional<CompiledInlineExpression> actual = InlineExpressionCompiler.compile(expression);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getColumnName(), is("order_id"));
+        for (Comparable<?> each : SHARDING_VALUES) {
+            String expected = InlineExpressionParserFactory.newInstance(expression).evaluateWithArgs(Collections.singletonMap("order_id", each));
+            assertThat(expression + " with " + each, actual.get().evaluate(each), is(Optional.of(expected)));
+        }
+    }
+    
+    @Test
+    void assertEvaluateHashCodeWithStringValue() {
+        String expression = "t_order_${Math.abs(order_id.hashCode()) % 8}";
+        String expected = InlineExpressionParserFactory.newInstance(expression).evaluateWithArgs(Collections.singletonMap("order_id", "order_abc"));
+        assertThat(InlineExpressionCompiler.compile(expression).flatMap(each -> each.evaluate("order_abc")), is(Optional.of(expected)));
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedValue() {
+        Optional<CompiledInlineExpression> actual = InlineExpressionCompiler.compile("t_order_${order_id % 4}");
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().evaluate(new BigInteger("787694822390497280787694822390497280")).isPresent());
+        assertFalse(actual.get().evaluate("foo").isPresent());
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"t_order", "t_order_${order_id / 4}", "t_order_${order_id ** 2}", "t_order_${order_id % 4}_${user_id % 4}", "t_order_$order_id", "t_order_${it % 4}",
+            "t_order_${order_id.toString()}", "t_order_${order_id % 010}", "t_order_${order_id % 4.0}", "t_order_${order_id % 4G}", "t_order_${order_id--}", "t_order_${order_id %= 2}",
+            "t_order_${[0, 1][order_id % 2]}", "t_order_${order_id % 99999999999999999999}", "t_order_${order_id % 4", "t_order_${(order_id % 4}", "t_order_\"${order_id % 4}\""})
+    void assertCompileWithUnsupportedExpression(final String expression) {
+        assertFalse(InlineExpressionCompiler.compile(expression).isPresent());
+    }
+}
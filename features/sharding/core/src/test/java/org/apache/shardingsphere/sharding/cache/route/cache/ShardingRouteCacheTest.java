@@ -17,14 +17,21 @@
 
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
 class ShardingRouteCacheTest {
     
@@ -36,4 +43,35 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertPutMultiDataNodesRouteContext() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 1, 4));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id in (?, ?)", Arrays.asList(1, 2));
+        ShardingRouteCacheValue value = new ShardingRouteCacheValue(createRouteContext());
+        assertThat(value.getWeight(), is(4));
+        cache.put(key, value);
+        assertTrue(cache.get(key).isPresent());
+        assertThat(cache.get(key).get().getCachedRouteContext().get().getRouteUnits().size(), is(2));
+    }
+    
+    private RouteContext createRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Arrays.asList(new RouteMapper("t", "t_0"), new RouteMapper("t", "t_2"))));
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Arrays.asList(new RouteMapper("t", "t_1"), new RouteMapper("t", "t_3"))));
+        return result;
+    }
+    
+    @Test
+    void assertInvalidateIfDatabaseChanged() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 1, 1));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        cache.invalidateIfDatabaseChanged(database);
+        cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
+        cache.invalidateIfDatabaseChanged(database);
+        assertTrue(cache.get(key).isPresent());
+        cache.invalidateIfDatabaseChanged(mock(ShardingSphereDatabase.class));
+        assertFalse(cache.get(key).isPresent());
+    }
 }
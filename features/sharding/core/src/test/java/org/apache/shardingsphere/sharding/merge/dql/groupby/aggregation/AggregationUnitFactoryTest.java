@@ -52,6 +52,12 @@ class AggregationUnitFactoryTest {
         assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, null), instanceOf(DistinctCountAggregationUnit.class));
     }
     
+    @Test
+    void assertCreateApproximateDistinctCountAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, null, new DistinctAggregationOption(0L, true)), instanceOf(ApproximateDistinctCountAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, null, new DistinctAggregationOption(0L, true)), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
     @Test
     void assertCreateDistinctAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG, true, null), instanceOf(DistinctAverageAggregationUnit.class));
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DistinctValueSetTest {
+    
+    @Test
+    void assertSizeInMemory() {
+        DistinctValueSet actual = new DistinctValueSet(0L);
+        actual.add(1L);
+        actual.add(1L);
+        actual.add(0L);
+        actual.add(1);
+        actual.add("1");
+        actual.add("1");
+        assertThat(actual.size(), is(4L));
+    }
+    
+    @Test
+    void assertSizeWithSpill() {
+        DistinctValueSet actual = new DistinctValueSet(1024L);
+        for (int i = 0; i < 3; i++) {
+            for (long j = 0L; j < 1000L; j++) {
+                actual.add(j);
+                actual.add("value_" + j);
+            }
+        }
+        assertThat(actual.size(), is(2000L));
+    }
+    
+    @Test
+    void assertForEachWithSpill() {
+        DistinctValueSet actual = new DistinctValueSet(256L);
+        for (int i = 0; i < 100; i++) {
+            actual.add(i % 50);
+            actual.add(new BigDecimal(i % 10));
+        }
+        Set<Comparable<?>> values = new HashSet<>();
+        actual.forEach(values::add);
+        assertThat(values.size(), is(60));
+        assertThat(values.contains(49), is(true));
+        assertThat(values.contains(new BigDecimal(9)), is(true));
+    }
+    
+    @Test
+    void assertSpillLargestSetWithSharedBudget() {
+        DistinctMemoryBudget memoryBudget = new DistinctMemoryBudget(1024L);
+        DistinctValueSet smallSet = new DistinctValueSet(memoryBudget);
+        DistinctValueSet largeSet = new DistinctValueSet(memoryBudget);
+        smallSet.add(1L);
+        for (long i = 0L; i < 63L; i++) {
+            largeSet.add(i);
+        }
+        assertThat(smallSet.getEstimatedBytes(), is(16L));
+        assertThat(largeSet.getEstimatedBytes(), is(0L));
+        for (long i = 0L; i < 10L; i++) {
+            largeSet.add(i);
+        }
+        assertThat(largeSet.getEstimatedBytes(), is(160L));
+        assertThat(smallSet.size(), is(1L));
+        assertThat(largeSet.size(), is(63L));
+        memoryBudget.close();
+    }
+    
+    @Test
+    void assertSizeWithPartitionedSpill() {
+        DistinctMemoryBudget memoryBudget = new DistinctMemoryBudget(1024L);
+        DistinctValueSet actual = new DistinctValueSet(memoryBudget);
+        for (int i = 0; i < 2; i++) {
+            for (long j = 0L; j < 5000L; j++) {
+                actual.add("value_" + j);
+            }
+        }
+        assertThat(actual.size(), is(5000L));
+        actual.close();
+    }
+    
+    @Test
+    void assertCloseReleasesBudget() {
+        DistinctMemoryBudget memoryBudget = new DistinctMemoryBudget(64L);
+        DistinctValueSet closedSet = new DistinctValueSet(memoryBudget);
+        closedSet.add(1L);
+        closedSet.add(2L);
+        closedSet.add(3L);
+        closedSet.close();
+        DistinctValueSet actual = new DistinctValueSet(memoryBudget);
+        actual.add(1L);
+        actual.add(2L);
+        actual.add(3L);
+        assertThat(actual.getEstimatedBytes(), is(48L));
+        memoryBudget.close();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class OrderBySortKeyTypeTest {
+    
+    @Test
+    void assertFromIntegralColumnType() {
+        assertThat(OrderBySortKeyType.fromColumnType(Types.INTEGER), is(OrderBySortKeyType.LONG));
+        assertThat(OrderBySortKeyType.fromColumnType(Types.BIGINT), is(OrderBySortKeyType.LONG));
+    }
+    
+    @Test
+    void assertFromFloatingColumnType() {
+        assertThat(OrderBySortKeyType.fromColumnType(Types.DOUBLE), is(OrderBySortKeyType.DOUBLE));
+    }
+    
+    @Test
+    void assertFromBinaryColumnType() {
+        assertThat(OrderBySortKeyType.fromColumnType(Types.VARBINARY), is(OrderBySortKeyType.BYTES));
+    }
+    
+    @Test
+    void assertFromOtherColumnType() {
+        assertThat(OrderBySortKeyType.fromColumnType(Types.VARCHAR), is(OrderBySortKeyType.COMPARABLE));
+        assertThat(OrderBySortKeyType.fromColumnType(Types.DECIMAL), is(OrderBySortKeyType.COMPARABLE));
+    }
+}
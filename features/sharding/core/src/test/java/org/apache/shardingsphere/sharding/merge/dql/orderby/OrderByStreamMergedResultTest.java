@@ -46,6 +46,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -198,9 +199,36 @@ class OrderByStreamMergedResultTest {
         assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("A"));
         assertTrue(actual.next());
-        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
-        assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("b"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextForTypedSortKeys() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
+        for (int i = 0; i < 5; i++) {
+            QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+            when(queryResults.get(i).getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnName(1)).thenReturn("col1");
+            when(metaData.getColumnName(2)).thenReturn("col2");
+            when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        }
+        when(queryResults.get(0).next()).thenReturn(true, true, false);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn(3L, 3L, 8L, 8L);
+        when(queryResults.get(1).next()).thenReturn(true, false);
+        when(queryResults.get(1).getValue(1, Object.class)).thenReturn(1, 1);
+        when(queryResults.get(3).next()).thenReturn(true, true, false);
+        when(queryResults.get(3).getValue(1, Object.class)).thenReturn(2L, 2L, 5L, 5L);
+        when(queryResults.get(4).next()).thenReturn(true, false);
+        when(queryResults.get(4).getValue(1, Object.class)).thenReturn(4L, 4L);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(databaseType);
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+        for (long each : new long[]{1L, 2L, 3L, 4L, 5L, 8L}) {
+            assertTrue(actual.next());
+            assertThat(((Number) actual.getValue(1, Object.class)).longValue(), is(each));
+        }
         assertFalse(actual.next());
     }
     
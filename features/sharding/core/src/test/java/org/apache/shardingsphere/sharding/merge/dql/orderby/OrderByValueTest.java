@@ -46,9 +46,12 @@ import org.apache.shardingsphere.sql.parser.statement.sqlserver.dml.SQLServerSel
 import org.junit.jupiter.api.Test;
 import org.mockito.internal.configuration.plugins.Plugins;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -220,7 +223,53 @@ class OrderByValueTest {
         assertFalse(orderByValue2.getQueryResult().next());
     }
     
-    private QueryResult createQueryResult(final String... values) throws SQLException {
+    @Test
+    void assertCompareToWithTypedSortKeys() throws SQLException {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(createOrderBySegment());
+        SelectStatementContext selectStatementContext = new SelectStatementContext(createShardingSphereMetaData(), Collections.emptyList(), selectStatement, "foo_db", Collections.emptyList());
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        List<OrderByItem> orderByItems = Arrays.asList(
+                createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST)),
+                createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, NullsOrderType.FIRST)),
+                createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST)));
+        List<OrderBySortKeyType> sortKeyTypes = Arrays.asList(OrderBySortKeyType.LONG, OrderBySortKeyType.DOUBLE, OrderBySortKeyType.BYTES);
+        OrderByValue orderByValue1 = new OrderByValue(createQueryResult(1, 2.5D, new byte[]{1, (byte) 0x80}), orderByItems, selectStatementContext, schema, sortKeyTypes);
+        assertTrue(orderByValue1.next());
+        OrderByValue orderByValue2 = new OrderByValue(createQueryResult(1L, 2.5F, new byte[]{1, 0x7f}), orderByItems, selectStatementContext, schema, sortKeyTypes);
+        assertTrue(orderByValue2.next());
+        assertTrue(orderByValue1.compareTo(orderByValue2) > 0);
+        OrderByValue orderByValue3 = new OrderByValue(createQueryResult(1L, 3D, null), orderByItems, selectStatementContext, schema, sortKeyTypes);
+        assertTrue(orderByValue3.next());
+        assertTrue(orderByValue3.compareTo(orderByValue1) < 0);
+        OrderByValue orderByValue4 = new OrderByValue(createQueryResult(1L, 2.5D, null), orderByItems, selectStatementContext, schema, sortKeyTypes);
+        assertTrue(orderByValue4.next());
+        assertTrue(orderByValue4.compareTo(orderByValue2) < 0);
+    }
+    
+    @Test
+    void assertCompareToWithMixedNumericTypes() throws SQLException {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(createOrderBySegment());
+        SelectStatementContext selectStatementContext = new SelectStatementContext(createShardingSphereMetaData(), Collections.emptyList(), selectStatement, "foo_db", Collections.emptyList());
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        List<OrderByItem> orderByItems = Arrays.asList(
+                createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST)),
+                createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, NullsOrderType.FIRST)));
+        List<OrderBySortKeyType> sortKeyTypes = Arrays.asList(OrderBySortKeyType.LONG, OrderBySortKeyType.DOUBLE);
+        OrderByValue orderByValue1 = new OrderByValue(createQueryResult(new BigInteger("9223372036854775808"), 1.5D), orderByItems, selectStatementContext, schema, sortKeyTypes);
+        assertTrue(orderByValue1.next());
+        OrderByValue orderByValue2 = new OrderByValue(createQueryResult(Long.MAX_VALUE, 1.5D), orderByItems, selectStatementContext, schema, sortKeyTypes);
+        assertTrue(orderByValue2.next());
+        assertTrue(orderByValue1.compareTo(orderByValue2) > 0);
+        OrderByValue orderByValue3 = new OrderByValue(createQueryResult(new BigDecimal("9223372036854775808"), new BigDecimal("1.25")), orderByItems, selectStatementContext, schema, sortKeyTypes);
+        assertTrue(orderByValue3.next());
+        assertTrue(orderByValue1.compareTo(orderByValue3) < 0);
+    }
+    
+    private QueryResult createQueryResult(final Object... values) throws SQLException {
         QueryResult result = mock(QueryResult.class);
         when(result.next()).thenReturn(true, false);
         for (int i = 0; i < values.length; i++) {
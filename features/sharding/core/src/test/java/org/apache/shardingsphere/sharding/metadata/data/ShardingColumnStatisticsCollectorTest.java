@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.statistics.collector.DialectTableStatisticsCollector;
+import org.apache.shardingsphere.infra.metadata.statistics.collector.shardingsphere.ShardingSphereTableStatisticsCollector;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardingColumnStatisticsCollectorTest {
+    
+    private DialectTableStatisticsCollector statisticsCollector;
+    
+    @BeforeEach
+    void setUp() {
+        statisticsCollector = TypedSPILoader.getService(ShardingSphereTableStatisticsCollector.class, "shardingsphere.sharding_column_statistics");
+    }
+    
+    @Test
+    void assertCollectWithoutShardingRule() throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        when(database.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(
+                Collections.singleton(database), mock(ResourceMetaData.class), mock(RuleMetaData.class), new ConfigurationProperties(new Properties()));
+        assertTrue(statisticsCollector.collect("foo_db", "shardingsphere", "sharding_column_statistics", metaData).isEmpty());
+    }
+    
+    @Test
+    void assertCollectWithoutDialectCollector() throws SQLException {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+        ShardingRule rule = mock(ShardingRule.class);
+        when(rule.getShardingTables()).thenReturn(Collections.singletonMap("foo_tbl", new ShardingTable(Arrays.asList("ds_0", "ds_1"), "foo_tbl")));
+        Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+        storageUnits.put("ds_0", mock(StorageUnit.class, RETURNS_DEEP_STUBS));
+        storageUnits.put("ds_1", mock(StorageUnit.class, RETURNS_DEEP_STUBS));
+        ShardingSphereDatabase database = new ShardingSphereDatabase(
+                "foo_db", databaseType, new ResourceMetaData(Collections.emptyMap(), storageUnits), new RuleMetaData(Collections.singleton(rule)), Collections.emptyList());
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), new ConfigurationProperties(new Properties()));
+        assertTrue(statisticsCollector.collect("foo_db", "shardingsphere", "sharding_column_statistics", metaData).isEmpty());
+    }
+    
+    @Test
+    void assertCollectWithDialectCollector() throws SQLException {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "PostgreSQL");
+        ShardingRule rule = mock(ShardingRule.class);
+        when(rule.getShardingTables()).thenReturn(Collections.singletonMap("foo_tbl", new ShardingTable(Arrays.asList("ds_0", "ds_1"), "foo_tbl")));
+        Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+        storageUnits.put("ds_0", mockStorageUnit(databaseType, mock(ResultSet.class)));
+        storageUnits.put("ds_1", mockStorageUnit(databaseType, mockResultSet()));
+        ShardingSphereDatabase database = new ShardingSphereDatabase(
+                "foo_db", databaseType, new ResourceMetaData(Collections.emptyMap(), storageUnits), new RuleMetaData(Collections.singleton(rule)), Collections.emptyList());
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), new ConfigurationProperties(new Properties()));
+        Collection<Map<String, Object>> actualRows = statisticsCollector.collect("foo_db", "shardingsphere", "sharding_column_statistics", metaData);
+        assertThat(actualRows.size(), is(1));
+        Iterator<Map<String, Object>> actualRowsIterator = actualRows.iterator();
+        Map<String, Object> actualRow = actualRowsIterator.next();
+        assertThat(actualRow.get("id"), is(1L));
+        assertThat(actualRow.get("logic_database_name"), is("foo_db"));
+        assertThat(actualRow.get("logic_table_name"), is("foo_tbl"));
+        assertThat(actualRow.get("column_name"), is("order_id"));
+        assertThat(actualRow.get("actual_database_name"), is("ds_1"));
+        assertThat(actualRow.get("actual_table_name"), is("foo_tbl"));
+        assertThat(actualRow.get("distinct_count"), is(new BigDecimal("100")));
+        assertThat(actualRow.get("min_value"), is("1"));
+        assertThat(actualRow.get("max_value"), is("100"));
+        assertThat(actualRow.get("histogram_bounds"), is("1,50,100"));
+    }
+    
+    private StorageUnit mockStorageUnit(final DatabaseType databaseType, final ResultSet resultSet) throws SQLException {
+        StorageUnit result = mock(StorageUnit.class);
+        when(result.getStorageType()).thenReturn(databaseType);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.prepareStatement(anyString()).executeQuery()).thenReturn(resultSet);
+        when(result.getDataSource()).thenReturn(new MockedDataSource(connection));
+        return result;
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, false);
+        when(result.getString("COLUMN_NAME")).thenReturn("order_id");
+        when(result.getBigDecimal("DISTINCT_COUNT")).thenReturn(new BigDecimal("100"));
+        when(result.getString("HISTOGRAM_BOUNDS")).thenReturn("{1,50,100}");
+        return result;
+    }
+}
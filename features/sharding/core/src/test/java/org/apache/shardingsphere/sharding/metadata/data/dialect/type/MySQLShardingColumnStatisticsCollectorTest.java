@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data.dialect.type;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.metadata.data.dialect.DialectShardingColumnStatisticsCollector;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MySQLShardingColumnStatisticsCollectorTest {
+    
+    private final DialectShardingColumnStatisticsCollector collector = DatabaseTypedSPILoader.getService(
+            DialectShardingColumnStatisticsCollector.class, TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+    
+    @Test
+    void assertCollectWithoutHistogram() throws SQLException {
+        Connection connection = mockConnection(5);
+        ResultSet distinctCountResultSet = mockDistinctCountResultSet();
+        when(connection.prepareStatement(startsWith("SELECT COLUMN_NAME, MAX(CARDINALITY)")).executeQuery()).thenReturn(distinctCountResultSet);
+        Collection<Map<String, Object>> actual = collector.collect(connection, new DataNode("ds_0.foo_tbl"));
+        assertThat(actual.size(), is(1));
+        Map<String, Object> actualColumnStatistics = actual.iterator().next();
+        assertThat(actualColumnStatistics.get("column_name"), is("order_id"));
+        assertThat(actualColumnStatistics.get("distinct_count"), is(new BigDecimal("10")));
+        assertThat(actualColumnStatistics.get("histogram_bounds"), is(nullValue()));
+    }
+    
+    @Test
+    void assertCollectWithEquiHeightHistogram() throws SQLException {
+        Connection connection = mockConnection(8);
+        ResultSet distinctCountResultSet = mockDistinctCountResultSet();
+        when(connection.prepareStatement(startsWith("SELECT COLUMN_NAME, MAX(CARDINALITY)")).executeQuery()).thenReturn(distinctCountResultSet);
+        ResultSet histogramResultSet = mock(ResultSet.class);
+        when(histogramResultSet.next()).thenReturn(true, true, false);
+        when(histogramResultSet.getString("COLUMN_NAME")).thenReturn("order_id", "status");
+        when(histogramResultSet.getString("HISTOGRAM")).thenReturn(
+                "{\"buckets\": [[1, 50, 0.5, 40], [51, 100, 1.0, 45]], \"histogram-type\": \"equi-height\"}", "{\"buckets\": [[1, 0.3], [2, 1.0]], \"histogram-type\": \"singleton\"}");
+        when(connection.prepareStatement(startsWith("SELECT COLUMN_NAME, HISTOGRAM")).executeQuery()).thenReturn(histogramResultSet);
+        Collection<Map<String, Object>> actual = collector.collect(connection, new DataNode("ds_0.foo_tbl"));
+        assertThat(actual.size(), is(2));
+        Iterator<Map<String, Object>> iterator = actual.iterator();
+        Map<String, Object> actualOrderIdStatistics = iterator.next();
+        assertThat(actualOrderIdStatistics.get("distinct_count"), is(new BigDecimal("85")));
+        assertThat(actualOrderIdStatistics.get("min_value"), is("1"));
+        assertThat(actualOrderIdStatistics.get("max_value"), is("100"));
+        assertThat(actualOrderIdStatistics.get("histogram_bounds"), is("1,50,100"));
+        Map<String, Object> actualStatusStatistics = iterator.next();
+        assertThat(actualStatusStatistics.get("column_name"), is("status"));
+        assertThat(actualStatusStatistics.get("distinct_count"), is(new BigDecimal("2")));
+        assertThat(actualStatusStatistics.get("min_value"), is("1"));
+        assertThat(actualStatusStatistics.get("max_value"), is("2"));
+        assertThat(actualStatusStatistics.get("histogram_bounds"), is(nullValue()));
+    }
+    
+    private Connection mockConnection(final int majorVersion) throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.getCatalog()).thenReturn("foo_db");
+        when(result.getMetaData().getDatabaseMajorVersion()).thenReturn(majorVersion);
+        return result;
+    }
+    
+    private ResultSet mockDistinctCountResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, false);
+        when(result.getString("COLUMN_NAME")).thenReturn("order_id");
+        when(result.getBigDecimal("DISTINCT_COUNT")).thenReturn(new BigDecimal("10"));
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data.dialect.type;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.metadata.data.dialect.DialectShardingColumnStatisticsCollector;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLShardingColumnStatisticsCollectorTest {
+    
+    private final DialectShardingColumnStatisticsCollector collector = DatabaseTypedSPILoader.getService(
+            DialectShardingColumnStatisticsCollector.class, TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"));
+    
+    @Test
+    void assertCollect() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString("COLUMN_NAME")).thenReturn("order_id", "status");
+        when(resultSet.getBigDecimal("DISTINCT_COUNT")).thenReturn(new BigDecimal("99.6"), new BigDecimal("3"));
+        when(resultSet.getString("HISTOGRAM_BOUNDS")).thenReturn("{1,50,100}", "{init,paid}");
+        when(connection.prepareStatement(anyString()).executeQuery()).thenReturn(resultSet);
+        Collection<Map<String, Object>> actual = collector.collect(connection, new DataNode("ds_0.foo_tbl"));
+        assertThat(actual.size(), is(2));
+        Iterator<Map<String, Object>> iterator = actual.iterator();
+        Map<String, Object> actualOrderIdStatistics = iterator.next();
+        assertThat(actualOrderIdStatistics.get("column_name"), is("order_id"));
+        assertThat(actualOrderIdStatistics.get("distinct_count"), is(new BigDecimal("100")));
+        assertThat(actualOrderIdStatistics.get("min_value"), is("1"));
+        assertThat(actualOrderIdStatistics.get("max_value"), is("100"));
+        assertThat(actualOrderIdStatistics.get("histogram_bounds"), is("1,50,100"));
+        Map<String, Object> actualStatusStatistics = iterator.next();
+        assertThat(actualStatusStatistics.get("distinct_count"), is(new BigDecimal("3")));
+        assertThat(actualStatusStatistics.get("histogram_bounds"), is(nullValue()));
+    }
+}
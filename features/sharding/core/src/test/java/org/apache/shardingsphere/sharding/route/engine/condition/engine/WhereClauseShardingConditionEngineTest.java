@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.route.engine.condition.engine;
 
+import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
@@ -24,6 +25,7 @@ import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShar
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BetweenExpression;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.InExpression;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ListExpression;
@@ -37,6 +39,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -96,4 +99,48 @@ class WhereClauseShardingConditionEngineTest {
         assertThat(actual.get(0).getStartIndex(), is(0));
         assertThat(actual.get(0).getValues().get(0), instanceOf(ListShardingConditionValue.class));
     }
+    
+    @Test
+    void assertCreateShardingConditionsForSelectInAndInStatement() {
+        ColumnSegment column = new ColumnSegment(0, 0, new IdentifierValue("foo_sharding_col"));
+        ExpressionSegment expression = new BinaryOperationExpression(0, 0, createInExpression(column, 5, 3, 5, 1), createInExpression(column, 1, 5, 7), "AND", "");
+        when(whereSegment.getExpr()).thenReturn(expression);
+        when(rule.findShardingColumn(any(), any())).thenReturn(Optional.of("foo_sharding_col"));
+        List<ShardingCondition> actual = shardingConditionEngine.createShardingConditions(sqlStatementContext, Collections.emptyList());
+        assertThat(actual.size(), is(1));
+        assertThat(((ListShardingConditionValue<?>) actual.get(0).getValues().get(0)).getValues(), is(Arrays.asList(1, 5)));
+    }
+    
+    @Test
+    void assertCreateShardingConditionsForSelectOrStatement() {
+        ColumnSegment column = new ColumnSegment(0, 0, new IdentifierValue("foo_sharding_col"));
+        ExpressionSegment inExpression = new BinaryOperationExpression(0, 0, createInExpression(column, 3), createInExpression(column, 1, 3), "OR", "");
+        ExpressionSegment betweenExpression = new BinaryOperationExpression(0, 0, createBetweenExpression(column, 10, 20), createBetweenExpression(column, 15, 30), "OR", "");
+        when(whereSegment.getExpr()).thenReturn(new BinaryOperationExpression(0, 0, inExpression, betweenExpression, "OR", ""));
+        when(rule.findShardingColumn(any(), any())).thenReturn(Optional.of("foo_sharding_col"));
+        List<ShardingCondition> actual = shardingConditionEngine.createShardingConditions(sqlStatementContext, Collections.emptyList());
+        assertThat(actual.size(), is(2));
+        assertThat(((ListShardingConditionValue<?>) actual.get(0).getValues().get(0)).getValues(), is(Arrays.asList(1, 3)));
+        assertThat(((RangeShardingConditionValue<?>) actual.get(1).getValues().get(0)).getValueRange(), is(Range.closed(10, 30)));
+    }
+    
+    @Test
+    void assertCreateShardingConditionsForSelectOrStatementWithDifferentValueTypes() {
+        ColumnSegment column = new ColumnSegment(0, 0, new IdentifierValue("foo_sharding_col"));
+        when(whereSegment.getExpr()).thenReturn(new BinaryOperationExpression(0, 0, createInExpression(column, 1), createInExpression(column, "foo"), "OR", ""));
+        when(rule.findShardingColumn(any(), any())).thenReturn(Optional.of("foo_sharding_col"));
+        assertThat(shardingConditionEngine.createShardingConditions(sqlStatementContext, Collections.emptyList()).size(), is(2));
+    }
+    
+    private InExpression createInExpression(final ColumnSegment column, final Object... values) {
+        ListExpression right = new ListExpression(0, 0);
+        for (Object each : values) {
+            right.getItems().add(new LiteralExpressionSegment(0, 0, each));
+        }
+        return new InExpression(0, 0, column, right, false);
+    }
+    
+    private BetweenExpression createBetweenExpression(final ColumnSegment column, final int between, final int and) {
+        return new BetweenExpression(0, 0, column, new LiteralExpressionSegment(0, 0, between), new LiteralExpressionSegment(0, 0, and), false);
+    }
 }
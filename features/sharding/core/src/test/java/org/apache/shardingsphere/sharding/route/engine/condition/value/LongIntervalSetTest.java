@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.condition.value;
+
+import com.google.common.collect.Range;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongIntervalSetTest {
+    
+    @Test
+    void assertOfPoints() {
+        LongIntervalSet actual = LongIntervalSet.ofPoints(new long[]{5L, 1L, 3L, 5L, 1L});
+        assertThat(actual.size(), is(3));
+        assertTrue(actual.isPoints());
+        assertThat(actual.getPointValues(Long.class), is(Arrays.<Comparable<?>>asList(1L, 3L, 5L)));
+        assertThat(actual.getPointValues(Integer.class), is(Arrays.<Comparable<?>>asList(1, 3, 5)));
+    }
+    
+    @Test
+    void assertFindPoints() {
+        assertThat(LongIntervalSet.findPoints(Arrays.asList(2, 1), Integer.class).map(optional -> optional.getPointValues(Integer.class)),
+                is(Optional.of(Arrays.<Comparable<?>>asList(1, 2))));
+        assertFalse(LongIntervalSet.findPoints(Arrays.asList(1, 2L), Integer.class).isPresent());
+        assertFalse(LongIntervalSet.findPoints(Collections.singleton(null), Integer.class).isPresent());
+        assertFalse(LongIntervalSet.findPoints(Collections.singleton("1"), String.class).isPresent());
+    }
+    
+    @Test
+    void assertFindInterval() {
+        assertThat(LongIntervalSet.findInterval(Range.open(1, 5), Integer.class).map(optional -> optional.findRange(0, Integer.class)), is(Optional.of(Optional.of(Range.closed(2, 4)))));
+        assertThat(LongIntervalSet.findInterval(Range.greaterThan(1L), Long.class).map(optional -> optional.findRange(0, Long.class)), is(Optional.of(Optional.of(Range.atLeast(2L)))));
+        assertThat(LongIntervalSet.findInterval(Range.atMost(1L), Long.class).map(optional -> optional.findRange(0, Long.class)), is(Optional.of(Optional.of(Range.atMost(1L)))));
+        assertTrue(LongIntervalSet.findInterval(Range.greaterThan(Long.MAX_VALUE), Long.class).map(LongIntervalSet::isEmpty).orElse(false));
+        assertTrue(LongIntervalSet.findInterval(Range.open(1, 2), Integer.class).map(LongIntervalSet::isEmpty).orElse(false));
+        assertFalse(LongIntervalSet.findInterval(Range.closed(1, 2), Long.class).isPresent());
+    }
+    
+    @Test
+    void assertUnion() {
+        LongIntervalSet actual = LongIntervalSet.ofInterval(10L, 20L).union(LongIntervalSet.ofPoints(new long[]{1L, 15L, 25L})).union(LongIntervalSet.ofInterval(18L, 30L));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.isPoint(0));
+        assertThat(actual.getPointValues(Long.class), is(Collections.<Comparable<?>>singletonList(1L)));
+        assertThat(actual.findRange(1, Long.class), is(Optional.of(Range.closed(10L, 30L))));
+    }
+    
+    @Test
+    void assertUnionAll() {
+        LongIntervalSet actual = LongIntervalSet.unionAll(Arrays.asList(LongIntervalSet.ofPoints(new long[]{5L}), LongIntervalSet.ofInterval(10L, 20L), LongIntervalSet.ofPoints(new long[]{1L, 15L}),
+                LongIntervalSet.ofInterval(18L, 30L), LongIntervalSet.ofPoints(new long[]{1L})));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.getPointValues(Long.class), is(Arrays.<Comparable<?>>asList(1L, 5L)));
+        assertThat(actual.findRange(2, Long.class), is(Optional.of(Range.closed(10L, 30L))));
+        assertTrue(LongIntervalSet.unionAll(Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    void assertIntersect() {
+        LongIntervalSet actual = LongIntervalSet.ofPoints(new long[]{1L, 5L, 7L, 9L}).intersect(LongIntervalSet.ofPoints(new long[]{9L, 5L, 3L})).intersect(LongIntervalSet.ofInterval(5L, 10L));
+        assertThat(actual.getPointValues(Long.class), is(Arrays.<Comparable<?>>asList(5L, 9L)));
+        assertTrue(LongIntervalSet.ofPoints(new long[]{1L}).intersect(LongIntervalSet.ofInterval(2L, 3L)).isEmpty());
+    }
+    
+    @Test
+    void assertUnboundedRange() {
+        assertThat(LongIntervalSet.ofInterval(Long.MIN_VALUE, Long.MAX_VALUE).findRange(0, Integer.class), is(Optional.of(Range.all())));
+    }
+    
+    @Test
+    void assertFindIntervalBeyondIntegerBoundary() {
+        assertTrue(LongIntervalSet.findInterval(Range.greaterThan(Integer.MAX_VALUE), Integer.class).map(LongIntervalSet::isEmpty).orElse(false));
+        assertTrue(LongIntervalSet.findInterval(Range.lessThan(Integer.MIN_VALUE), Integer.class).map(LongIntervalSet::isEmpty).orElse(false));
+        assertThat(LongIntervalSet.findInterval(Range.atLeast(Integer.MAX_VALUE), Integer.class).map(optional -> optional.findRange(0, Integer.class)),
+                is(Optional.of(Optional.of(Range.atLeast(Integer.MAX_VALUE)))));
+    }
+    
+    @Test
+    void assertFindRangeBeyondIntegerBoundary() {
+        assertFalse(LongIntervalSet.ofInterval(Integer.MAX_VALUE + 1L, Long.MAX_VALUE).findRange(0, Integer.class).isPresent());
+        assertFalse(LongIntervalSet.ofInterval(Long.MIN_VALUE, Integer.MIN_VALUE - 1L).findRange(0, Integer.class).isPresent());
+        assertThat(LongIntervalSet.ofInterval(Integer.MIN_VALUE - 1L, 10L).findRange(0, Integer.class), is(Optional.of(Range.atMost(10))));
+        assertThat(LongIntervalSet.ofInterval(-10L, Integer.MAX_VALUE + 1L).findRange(0, Integer.class), is(Optional.of(Range.atLeast(-10))));
+        assertThat(LongIntervalSet.ofPoints(new long[]{Integer.MIN_VALUE - 1L, 1L, Integer.MAX_VALUE + 1L}).getPointValues(Integer.class), is(Collections.<Comparable<?>>singletonList(1)));
+    }
+    
+    @Test
+    void assertFindRangeBeyondShortBoundary() {
+        assertTrue(LongIntervalSet.findInterval(Range.greaterThan(Short.MAX_VALUE), Short.class).map(LongIntervalSet::isEmpty).orElse(false));
+        assertTrue(LongIntervalSet.findInterval(Range.lessThan(Short.MIN_VALUE), Short.class).map(LongIntervalSet::isEmpty).orElse(false));
+        assertFalse(LongIntervalSet.ofInterval(Short.MAX_VALUE + 1L, Long.MAX_VALUE).findRange(0, Short.class).isPresent());
+        assertThat(LongIntervalSet.ofInterval(Short.MIN_VALUE - 1L, (short) 10).findRange(0, Short.class), is(Optional.of(Range.atMost((short) 10))));
+        assertThat(LongIntervalSet.ofInterval((short) -10, Short.MAX_VALUE + 1L).findRange(0, Short.class), is(Optional.of(Range.atLeast((short) -10))));
+    }
+    
+    @Test
+    void assertFindRangeBeyondByteBoundary() {
+        assertTrue(LongIntervalSet.findInterval(Range.greaterThan(Byte.MAX_VALUE), Byte.class).map(LongIntervalSet::isEmpty).orElse(false));
+        assertTrue(LongIntervalSet.findInterval(Range.lessThan(Byte.MIN_VALUE), Byte.class).map(LongIntervalSet::isEmpty).orElse(false));
+        assertFalse(LongIntervalSet.ofInterval(Long.MIN_VALUE, Byte.MIN_VALUE - 1L).findRange(0, Byte.class).isPresent());
+        assertThat(LongIntervalSet.ofInterval(Byte.MIN_VALUE - 1L, (byte) 10).findRange(0, Byte.class), is(Optional.of(Range.atMost((byte) 10))));
+        assertThat(LongIntervalSet.ofInterval((byte) -10, Byte.MAX_VALUE + 1L).findRange(0, Byte.class), is(Optional.of(Range.atLeast((byte) -10))));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule.attribute;
+
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardingUniqueKeyRuleAttributeTest {
+    
+    private final ShardingRule rule = mock(ShardingRule.class);
+    
+    private final ShardingTable shardingTable = mock(ShardingTable.class);
+    
+    @Test
+    void assertIsUniqueAcrossDataNodesWithoutShardingTable() {
+        when(rule.findShardingTable("foo_tbl")).thenReturn(Optional.empty());
+        assertTrue(new ShardingUniqueKeyRuleAttribute(rule).isUniqueAcrossDataNodes("foo_tbl", Collections.singleton("id")));
+    }
+    
+    @Test
+    void assertIsUniqueAcrossDataNodesWithShardingColumns() {
+        when(rule.findShardingTable("foo_tbl")).thenReturn(Optional.of(shardingTable));
+        when(rule.getDatabaseShardingStrategyConfiguration(shardingTable)).thenReturn(new StandardShardingStrategyConfiguration("user_id", "foo_algo"));
+        when(rule.getTableShardingStrategyConfiguration(shardingTable)).thenReturn(new ComplexShardingStrategyConfiguration("order_id, user_id", "bar_algo"));
+        assertTrue(new ShardingUniqueKeyRuleAttribute(rule).isUniqueAcrossDataNodes("foo_tbl", Arrays.asList("ORDER_ID", "user_id")));
+        assertFalse(new ShardingUniqueKeyRuleAttribute(rule).isUniqueAcrossDataNodes("foo_tbl", Collections.singleton("order_id")));
+    }
+    
+    @Test
+    void assertIsUniqueAcrossDataNodesWithDefaultShardingColumn() {
+        when(rule.findShardingTable("foo_tbl")).thenReturn(Optional.of(shardingTable));
+        when(rule.getDatabaseShardingStrategyConfiguration(shardingTable)).thenReturn(new StandardShardingStrategyConfiguration(null, "foo_algo"));
+        when(rule.getTableShardingStrategyConfiguration(shardingTable)).thenReturn(new NoneShardingStrategyConfiguration());
+        when(rule.getDefaultShardingColumn()).thenReturn("user_id");
+        assertTrue(new ShardingUniqueKeyRuleAttribute(rule).isUniqueAcrossDataNodes("foo_tbl", Collections.singleton("user_id")));
+        assertFalse(new ShardingUniqueKeyRuleAttribute(rule).isUniqueAcrossDataNodes("foo_tbl", Collections.singleton("id")));
+    }
+    
+    @Test
+    void assertIsUniqueAcrossDataNodesWithHintSharding() {
+        when(rule.findShardingTable("foo_tbl")).thenReturn(Optional.of(shardingTable));
+        when(rule.getDatabaseShardingStrategyConfiguration(shardingTable)).thenReturn(new HintShardingStrategyConfiguration("foo_algo"));
+        when(rule.getTableShardingStrategyConfiguration(shardingTable)).thenReturn(new NoneShardingStrategyConfiguration());
+        assertFalse(new ShardingUniqueKeyRuleAttribute(rule).isUniqueAcrossDataNodes("foo_tbl", Collections.singleton("id")));
+    }
+}
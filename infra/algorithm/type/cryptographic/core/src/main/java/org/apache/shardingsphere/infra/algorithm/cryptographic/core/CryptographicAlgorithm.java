@@ -19,6 +19,9 @@ package org.apache.shardingsphere.infra.algorithm.cryptographic.core;
 
 import org.apache.shardingsphere.infra.algorithm.core.ShardingSphereAlgorithm;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Cryptographic algorithm.
  */
@@ -39,4 +42,18 @@ public interface CryptographicAlgorithm extends ShardingSphereAlgorithm {
      * @return plain value
      */
     Object decrypt(Object cipherValue);
+    
+    /**
+     * Decrypt values in batch.
+     *
+     * @param cipherValues cipher values
+     * @return plain values
+     */
+    default List<Object> batchDecrypt(final List<Object> cipherValues) {
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(decrypt(each));
+        }
+        return result;
+    }
 }
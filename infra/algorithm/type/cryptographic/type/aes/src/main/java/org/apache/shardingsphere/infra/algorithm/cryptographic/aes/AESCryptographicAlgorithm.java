@@ -26,19 +26,28 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * AES cryptographic algorithm.
+ *
+ * <p>Cipher instances are initialized once per thread and per mode with the configured key, and reused by later calls of the same thread until the algorithm is initialized again.</p>
  */
 public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     
-    private CryptographicPropertiesProvider propsProvider;
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    private ThreadLocal<Cipher> decryptCipher;
     
     @Override
     public void init(final Properties props) {
-        propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        CryptographicPropertiesProvider propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        SecretKeySpec secretKeySpec = new SecretKeySpec(propsProvider.getSecretKey(), getType());
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE, secretKeySpec));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE, secretKeySpec));
     }
     
     @SneakyThrows(GeneralSecurityException.class)
@@ -47,7 +56,7 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        byte[] result = doFinal(encryptCipher, encryptCipher.get(), String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
         return encode(result);
     }
     
@@ -61,17 +70,42 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(decode(cipherValue.toString().trim()));
+        return decrypt(decryptCipher.get(), cipherValue);
+    }
+    
+    private String decrypt(final Cipher cipher, final Object cipherValue) throws GeneralSecurityException {
+        byte[] result = doFinal(decryptCipher, cipher, decode(cipherValue.toString().trim()));
         return new String(result, StandardCharsets.UTF_8);
     }
     
+    @SneakyThrows(GeneralSecurityException.class)
+    @Override
+    public List<Object> batchDecrypt(final List<Object> cipherValues) {
+        Cipher cipher = decryptCipher.get();
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(null == each ? null : decrypt(cipher, each));
+        }
+        return result;
+    }
+    
     private byte[] decode(final String value) {
         return Base64.getDecoder().decode(value);
     }
     
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
+    private byte[] doFinal(final ThreadLocal<Cipher> cipherHolder, final Cipher cipher, final byte[] input) throws GeneralSecurityException {
+        try {
+            return cipher.doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cipherHolder.remove();
+            throw ex;
+        }
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode, final SecretKeySpec secretKeySpec) {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(propsProvider.getSecretKey(), getType()));
+        result.init(cipherMode, secretKeySpec);
         return result;
     }
     
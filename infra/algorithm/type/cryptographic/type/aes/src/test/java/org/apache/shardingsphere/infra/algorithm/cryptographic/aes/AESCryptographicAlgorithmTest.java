@@ -25,7 +25,11 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -75,4 +79,23 @@ class AESCryptographicAlgorithmTest {
     void assertDecryptNullValue() {
         assertNull(cryptographicAlgorithm.decrypt(null));
     }
+    
+    @Test
+    void assertDecryptWithReusedCipher() {
+        assertThrows(GeneralSecurityException.class, () -> cryptographicAlgorithm.decrypt("AAAA"));
+        assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
+        assertThat(cryptographicAlgorithm.decrypt(cryptographicAlgorithm.encrypt("foo")), is("foo"));
+    }
+    
+    @Test
+    void assertDecryptAfterReInit() {
+        cryptographicAlgorithm.init(PropertiesBuilder.build(new Property("aes-key-value", "foo"), new Property("digest-algorithm-name", "SHA-1")));
+        assertThat(cryptographicAlgorithm.decrypt(cryptographicAlgorithm.encrypt("test")), is("test"));
+        assertThat(cryptographicAlgorithm.encrypt("test"), not("dSpPiyENQGDUXMKFMJPGWA=="));
+    }
+    
+    @Test
+    void assertBatchDecrypt() {
+        assertThat(cryptographicAlgorithm.batchDecrypt(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, cryptographicAlgorithm.encrypt("foo"))), is(Arrays.asList("test", null, "foo")));
+    }
 }
@@ -30,8 +30,8 @@ import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -47,6 +47,9 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one millis
  * </pre>
+ * 
+ * <p>Last millisecond and sequence are packed into one atomic long, so keys are reserved by compare and set without lock, and a batch reserves a contiguous sequence range at once.
+ * The sequence space can be split into stripes, every thread starts reserving from its own stripe and borrows other stripes when its own is exhausted in current millisecond.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
     
@@ -56,6 +59,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLIS_KEY = "max-tolerate-time-difference-milliseconds";
     
+    private static final String SEQUENCE_STRIPE_COUNT_KEY = "sequence-stripe-count";
+    
     private static final long SEQUENCE_BITS = 12L;
     
     private static final long WORKER_ID_BITS = 10L;
@@ -70,6 +75,10 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLIS = 10;
     
+    private static final int DEFAULT_SEQUENCE_STRIPE_COUNT = 1;
+    
+    private static final int MAX_SEQUENCE_STRIPE_COUNT = 64;
+    
     private static final int DEFAULT_WORKER_ID = 0;
     
     @Setter
@@ -79,16 +88,16 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
     
-    private final AtomicLong sequence = new AtomicLong();
-    
-    private final AtomicLong lastMillis = new AtomicLong();
-    
     private Properties props;
     
     private int maxVibrationOffset;
     
     private int maxTolerateTimeDifferenceMillis;
     
+    private long stripeSequenceSize;
+    
+    private AtomicLong[] stripes;
+    
     static {
         EPOCH = LocalDateTime.of(2016, 11, 1, 0, 0, 0).toInstant(ZoneId.systemDefault().getRules().getOffset(Instant.now())).toEpochMilli();
     }
@@ -98,6 +107,12 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         this.props = props;
         maxVibrationOffset = getMaxVibrationOffset(props);
         maxTolerateTimeDifferenceMillis = getMaxTolerateTimeDifferenceMillis(props);
+        int sequenceStripeCount = getSequenceStripeCount(props);
+        stripeSequenceSize = (SEQUENCE_MASK + 1L) / sequenceStripeCount;
+        stripes = new AtomicLong[sequenceStripeCount];
+        for (int i = 0; i < sequenceStripeCount; i++) {
+            stripes[i] = new AtomicLong();
+        }
     }
     
     private int getMaxVibrationOffset(final Properties props) {
@@ -112,6 +127,13 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return result;
     }
     
+    private int getSequenceStripeCount(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(SEQUENCE_STRIPE_COUNT_KEY, DEFAULT_SEQUENCE_STRIPE_COUNT).toString());
+        ShardingSpherePreconditions.checkState(result > 0 && result <= MAX_SEQUENCE_STRIPE_COUNT && 0 == (result & (result - 1)),
+                () -> new AlgorithmInitializationException(this, "Sequence stripe count must be power of 2 and not greater than %d.", MAX_SEQUENCE_STRIPE_COUNT));
+        return result;
+    }
+    
     @Override
     public void setComputeNodeInstanceContext(final ComputeNodeInstanceContext computeNodeInstanceContext) {
         this.computeNodeInstanceContext.set(computeNodeInstanceContext);
@@ -122,57 +144,92 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
-        Collection<Long> result = new LinkedList<>();
-        for (int index = 0; index < keyGenerateCount; index++) {
-            result.add(generateKey());
+        Collection<Long> result = new ArrayList<>(keyGenerateCount);
+        long workerIdBits = (long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS;
+        int homeStripeIndex = 1 == stripes.length ? 0 : (int) (Thread.currentThread().getId() & (stripes.length - 1));
+        while (result.size() < keyGenerateCount) {
+            long currentMillis = getCurrentMillis(stripes[homeStripeIndex]);
+            if (!reserve(homeStripeIndex, currentMillis, keyGenerateCount - result.size(), workerIdBits, result)) {
+                waitUntilNextTime(currentMillis);
+            }
         }
         return result;
     }
     
-    private synchronized Long generateKey() {
-        long currentMillis = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMillis)) {
-            currentMillis = timeService.getCurrentMillis();
-        }
-        if (lastMillis.get() == currentMillis) {
-            sequence.set(sequence.incrementAndGet() & SEQUENCE_MASK);
-            if (0L == sequence.get()) {
-                currentMillis = waitUntilNextTime(currentMillis);
-            }
-        } else {
-            vibrateSequenceOffset();
-            sequence.set(sequenceOffset.get());
-        }
-        lastMillis.set(currentMillis);
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
+    private long getCurrentMillis(final AtomicLong stripe) {
+        long result = timeService.getCurrentMillis();
+        return waitTolerateTimeDifferenceIfNeed(stripe.get() >>> SEQUENCE_BITS, result) ? timeService.getCurrentMillis() : result;
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
-        if (lastMillis.get() <= currentMillis) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMillis, final long currentMillis) {
+        if (lastMillis <= currentMillis) {
             return false;
         }
-        long timeDifferenceMillis = lastMillis.get() - currentMillis;
+        long timeDifferenceMillis = lastMillis - currentMillis;
         ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
-                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis.get(), currentMillis));
+                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis, currentMillis));
         Thread.sleep(timeDifferenceMillis);
         return true;
     }
     
-    private long waitUntilNextTime(final long lastTime) {
-        long result = timeService.getCurrentMillis();
-        while (result <= lastTime) {
-            result = timeService.getCurrentMillis();
+    private boolean reserve(final int homeStripeIndex, final long currentMillis, final int keyGenerateCount, final long workerIdBits, final Collection<Long> result) {
+        for (int i = 0; i < stripes.length; i++) {
+            if (reserveFromStripe((homeStripeIndex + i) & (stripes.length - 1), currentMillis, keyGenerateCount, workerIdBits, result)) {
+                return true;
+            }
         }
-        return result;
+        return false;
     }
     
-    private void vibrateSequenceOffset() {
-        if (!sequenceOffset.compareAndSet(maxVibrationOffset, 0)) {
-            sequenceOffset.incrementAndGet();
+    private boolean reserveFromStripe(final int stripeIndex, final long currentMillis, final long keyGenerateCount, final long workerIdBits, final Collection<Long> result) {
+        AtomicLong stripe = stripes[stripeIndex];
+        long minSequence = stripeIndex * stripeSequenceSize;
+        long maxSequence = minSequence + stripeSequenceSize - 1L;
+        while (true) {
+            long lastState = stripe.get();
+            long lastMillis = lastState >>> SEQUENCE_BITS;
+            long millis;
+            long firstSequence;
+            if (currentMillis <= lastMillis) {
+                long lastSequence = lastState & SEQUENCE_MASK;
+                if (lastSequence >= maxSequence) {
+                    return false;
+                }
+                millis = lastMillis;
+                firstSequence = lastSequence + 1L;
+            } else {
+                millis = currentMillis;
+                firstSequence = minSequence + Math.min(vibrateSequenceOffset(), stripeSequenceSize - 1L);
+            }
+            long lastReservedSequence = firstSequence + Math.min(keyGenerateCount, maxSequence - firstSequence + 1L) - 1L;
+            if (stripe.compareAndSet(lastState, millis << SEQUENCE_BITS | lastReservedSequence)) {
+                long keyPrefix = ((millis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | workerIdBits;
+                for (long each = firstSequence; each <= lastReservedSequence; each++) {
+                    result.add(keyPrefix | each);
+                }
+                return true;
+            }
         }
     }
     
+    private void waitUntilNextTime(final long lastTime) {
+        long currentMillis = timeService.getCurrentMillis();
+        while (currentMillis <= lastTime) {
+            currentMillis = timeService.getCurrentMillis();
+        }
+    }
+    
+    private int vibrateSequenceOffset() {
+        int result;
+        int next;
+        do {
+            result = sequenceOffset.get();
+            next = result >= maxVibrationOffset ? 0 : result + 1;
+        } while (!sequenceOffset.compareAndSet(result, next));
+        return next;
+    }
+    
     private int getWorkerId() {
         return null == computeNodeInstanceContext.get() ? DEFAULT_WORKER_ID : computeNodeInstanceContext.get().getWorkerId();
     }
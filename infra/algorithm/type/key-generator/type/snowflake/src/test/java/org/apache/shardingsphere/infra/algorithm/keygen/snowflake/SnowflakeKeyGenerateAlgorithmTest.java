@@ -43,12 +43,14 @@ import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -89,7 +91,7 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof ComputeNodeInstanceContextAware) {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
-        List<Comparable<?>> expected = Arrays.asList(0L, 4194305L, 4194306L, 8388608L, 8388609L, 12582913L, 12582914L, 16777216L, 16777217L, 20971521L);
+        List<Comparable<?>> expected = Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
         assertThat(actual, is(expected));
@@ -143,8 +145,8 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof ComputeNodeInstanceContextAware) {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis() + 2L);
-        List<Comparable<?>> expected = Arrays.asList(4194304L, 8388609L, 8388610L, 12582912L, 12582913L, 16777217L, 16777218L, 20971520L, 20971521L, 25165825L);
+        setLastState(algorithm, timeService.getCurrentMillis() + 2L, 0L);
+        List<Comparable<?>> expected = Arrays.asList(8388609L, 8388610L, 8388611L, 8388612L, 8388613L, 8388614L, 8388615L, 8388616L, 8388617L, 8388618L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
         assertThat(actual, is(expected));
@@ -158,7 +160,7 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof ComputeNodeInstanceContextAware) {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis() + 2L);
+        setLastState(algorithm, timeService.getCurrentMillis() + 2L, 0L);
         assertThrows(AlgorithmExecuteException.class, () -> batchGenerate(algorithm));
     }
     
@@ -174,22 +176,60 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof ComputeNodeInstanceContextAware) {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis());
-        setSequence(algorithm, (1L << DEFAULT_SEQUENCE_BITS) - 1L);
-        List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 8388608L, 8388609L, 8388610L, 12582913L, 12582914L, 12582915L, 16777216L);
+        setLastState(algorithm, timeService.getCurrentMillis(), (1L << DEFAULT_SEQUENCE_BITS) - 1L);
+        List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 4194307L, 4194308L, 4194309L, 4194310L, 4194311L, 4194312L, 4194313L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
         assertThat(actual, is(expected));
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private void setLastMillis(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillis"), algorithm, new AtomicLong(value.longValue()));
+    @Test
+    void assertGenerateKeysWithSequenceStripes() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(Integer.MAX_VALUE));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("sequence-stripe-count", "2")));
+        if (algorithm instanceof ComputeNodeInstanceContextAware) {
+            ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        }
+        Collection<? extends Comparable<?>> actual = algorithm.generateKeys(mock(AlgorithmSQLContext.class), 4095);
+        assertThat(new HashSet<>(actual).size(), is(4095));
+        assertTrue(actual.stream().allMatch(each -> 0L == (Long) each >>> 22L));
+    }
+    
+    @Test
+    void assertGenerateKeysWithSequenceStripesAndMultipleThreads() throws ExecutionException, InterruptedException {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        int threadNumber = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("sequence-stripe-count", "4")));
+        if (algorithm instanceof ComputeNodeInstanceContextAware) {
+            ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        }
+        Collection<Future<Collection<? extends Comparable<?>>>> futures = new ArrayList<>(threadNumber * 4);
+        for (int i = 0; i < threadNumber * 4; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1000)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 4 * 1000));
+    }
+    
+    @Test
+    void assertSequenceStripeCountFailureWhenNotPowerOfTwo() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("sequence-stripe-count", "3"))));
+    }
+    
+    @Test
+    void assertSequenceStripeCountFailureWhenOutOfRange() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("sequence-stripe-count", "128"))));
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setSequence(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence"), algorithm, new AtomicLong(value.longValue()));
+    private void setLastState(final KeyGenerateAlgorithm algorithm, final long lastMillis, final long lastSequence) {
+        AtomicLong[] stripes = (AtomicLong[]) Plugins.getMemberAccessor().get(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("stripes"), algorithm);
+        stripes[0].set(lastMillis << DEFAULT_SEQUENCE_BITS | lastSequence);
     }
     
     @Test
@@ -49,16 +49,31 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_SIMPLE("sql-simple", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether cache parsed SQL statement of non-parameterized SQL, keyed by literal-normalized SQL fingerprint.
+     */
+    SQL_FINGERPRINT_CACHE_ENABLED("sql-fingerprint-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * The max thread size of worker group to execute SQL.
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL with virtual thread, only take effect when virtual thread is supported by JVM.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Whether to group execution units and choose connection mode by observed execution statistics of shards.
+     */
+    ADAPTIVE_CONNECTION_MODE_ENABLED("adaptive-connection-mode-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
@@ -69,6 +84,59 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     LOAD_TABLE_METADATA_BATCH_SIZE("load-table-metadata-batch-size", String.valueOf(1000), int.class, false),
     
+    /**
+     * Directory of local table metadata snapshot, snapshot is read on startup and only tables whose catalog change markers drifted are reloaded.
+     * Empty means table metadata snapshot is disabled.
+     */
+    LOAD_TABLE_METADATA_SNAPSHOT_PATH("load-table-metadata-snapshot-path", "", String.class, false),
+    
+    /**
+     * Max estimated bytes of groups kept in memory by group by memory merge, exceeded groups will be spilled to local disk.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MEMORY_MERGE_MAX_BYTES("group-by-memory-merge-max-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Max estimated bytes of distinct values kept in memory by all distinct aggregations of one query, the largest distinct value sets will be spilled to local disk when exceeded.
+     * Less than or equal to 0 means no limitation.
+     */
+    DISTINCT_AGGREGATION_MEMORY_MAX_BYTES("distinct-aggregation-memory-max-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Whether to estimate count distinct aggregation by HyperLogLog sketch instead of exact distinct values.
+     */
+    DISTINCT_COUNT_APPROXIMATE_ENABLED("distinct-count-approximate-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max estimated bytes of rows kept in memory by sorts, joins and aggregations of one SQL federation query, exceeded rows will be spilled to local disk.
+     * Less than or equal to 0 means operators of SQL federation keep all rows in memory.
+     */
+    SQL_FEDERATION_QUERY_MEMORY_MAX_BYTES("sql-federation-query-memory-max-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Max estimated bytes of rows kept in memory by all running SQL federation queries, exceeded rows will be spilled to local disk.
+     * Less than or equal to 0 means no limitation.
+     */
+    SQL_FEDERATION_MEMORY_MAX_BYTES("sql-federation-memory-max-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Max rows prefetched from each shard by parallel workers when SQL federation scans multiple shards, prefetched rows are buffered in a bounded queue.
+     * Less than or equal to 0 means rows of shards are read one by one on the query thread.
+     */
+    SQL_FEDERATION_SCAN_PREFETCH_ROWS("sql-federation-scan-prefetch-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Rows count of one block when decrypting query results of encrypt columns, rows of the block are read ahead and decrypted column by column.
+     * Less than or equal to 1 means decrypting cell by cell when reading.
+     */
+    ENCRYPT_DECRYPT_BATCH_SIZE("encrypt-decrypt-batch-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max estimated bytes of one multi-row insert statement coalesced from batched single-row insert statements of same data node.
+     * Less than or equal to 0 means batched insert statements are executed as JDBC batch without coalescing.
+     */
+    BATCH_INSERT_COALESCE_MAX_PACKET_SIZE("batch-insert-coalesce-max-packet-size", String.valueOf(0), int.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -79,6 +147,24 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Flush threshold of estimated bytes of records from databases for ShardingSphere-Proxy.
+     * Records are flushed by rows count of proxy-frontend-flush-threshold if it is less than or equal to 0.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max interval milliseconds between two flushes of records from databases for ShardingSphere-Proxy.
+     * Less than or equal to 0 means records are not flushed by time.
+     */
+    PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS("proxy-frontend-flush-interval-milliseconds", String.valueOf(0), long.class, false),
+    
+    /**
+     * High water mark of write buffer of frontend connection for ShardingSphere-Proxy, low water mark is half of it.
+     * Reading records from databases is paused when write buffer exceeds high water mark until it drops below low water mark.
+     */
+    PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK("proxy-frontend-write-buffer-high-water-mark", String.valueOf(64 * 1024), int.class, true),
+    
     /**
      * Proxy backend query fetch size. A larger value may increase the memory usage of ShardingSphere Proxy.
      * The default value is -1, which means set the minimum value for different JDBC drivers.
@@ -95,6 +181,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class, false),
     
+    /**
+     * Whether to run connection executors and user executors of proxy frontend with virtual threads, only take effect when virtual thread is supported by JVM.
+     */
+    PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED("proxy-frontend-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Proxy default start port.
      */
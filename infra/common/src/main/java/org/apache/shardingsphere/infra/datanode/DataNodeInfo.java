@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.datanode;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -25,6 +26,7 @@ import lombok.RequiredArgsConstructor;
  */
 @RequiredArgsConstructor
 @Getter
+@EqualsAndHashCode
 public final class DataNodeInfo {
     
     private final String prefix;
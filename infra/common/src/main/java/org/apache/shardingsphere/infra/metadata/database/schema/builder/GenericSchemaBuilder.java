@@ -17,10 +17,13 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
+import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoader;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.snapshot.MetaDataSnapshotLoader;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -32,6 +35,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.util.SchemaMetaD
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
 
+import java.nio.file.Paths;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
@@ -87,7 +91,11 @@ public final class GenericSchemaBuilder {
     
     private static Map<String, SchemaMetaData> loadSchemas(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) throws SQLException {
         Collection<MetaDataLoaderMaterial> materials = SchemaMetaDataUtils.getMetaDataLoaderMaterials(tableNames, material);
-        return materials.isEmpty() ? Collections.emptyMap() : MetaDataLoader.load(materials);
+        if (materials.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String snapshotPath = material.getProps().getValue(ConfigurationPropertyKey.LOAD_TABLE_METADATA_SNAPSHOT_PATH);
+        return Strings.isNullOrEmpty(snapshotPath) ? MetaDataLoader.load(materials) : MetaDataSnapshotLoader.load(materials, Paths.get(snapshotPath));
     }
     
     private static boolean isSameProtocolAndStorageTypes(final DatabaseType protocolType, final Map<String, StorageUnit> storageUnits) {
@@ -17,13 +17,15 @@
 
 package org.apache.shardingsphere.infra.metadata.statistics;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Table statistics.
@@ -35,5 +37,25 @@ public final class TableStatistics {
     
     private final String name;
     
-    private final Collection<RowStatistics> rows = new TreeSet<>(Comparator.comparing(RowStatistics::getUniqueKey));
+    private final Collection<RowStatistics> rows = new ConcurrentSkipListSet<>(Comparator.comparing(RowStatistics::getUniqueKey));
+    
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final AtomicLong version = new AtomicLong();
+    
+    /**
+     * Get version of rows.
+     *
+     * @return version of rows
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
+    /**
+     * Mark rows changed.
+     */
+    public void markRowsChanged() {
+        version.incrementAndGet();
+    }
 }
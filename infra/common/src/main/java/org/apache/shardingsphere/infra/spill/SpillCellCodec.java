@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Typed codec of spilled cells.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillCellCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte STRING = 1;
+    
+    private static final byte INTEGER = 2;
+    
+    private static final byte LONG = 3;
+    
+    private static final byte SHORT = 4;
+    
+    private static final byte BYTE = 5;
+    
+    private static final byte DOUBLE = 6;
+    
+    private static final byte FLOAT = 7;
+    
+    private static final byte BOOLEAN = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte SQL_DATE = 12;
+    
+    private static final byte SQL_TIME = 13;
+    
+    private static final byte SQL_TIMESTAMP = 14;
+    
+    private static final byte UTIL_DATE = 15;
+    
+    private static final byte LOCAL_DATE = 16;
+    
+    private static final byte LOCAL_TIME = 17;
+    
+    private static final byte LOCAL_DATE_TIME = 18;
+    
+    private static final byte OFFSET_DATE_TIME = 19;
+    
+    private static final byte CHARACTER = 20;
+    
+    private static final byte SERIALIZABLE = 21;
+    
+    /**
+     * Write cell.
+     *
+     * @param output data output
+     * @param value cell value
+     * @throws IOException IO exception
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static void write(final DataOutputStream output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof String) {
+            writeString(output, (String) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else if (value instanceof java.util.Date) {
+            writeDate(output, (java.util.Date) value);
+        } else if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            writeLocalDateTime(output, (LocalDateTime) value);
+        } else if (value instanceof OffsetDateTime) {
+            output.writeByte(OFFSET_DATE_TIME);
+            writeLocalDateTime(output, ((OffsetDateTime) value).toLocalDateTime());
+            output.writeInt(((OffsetDateTime) value).getOffset().getTotalSeconds());
+        } else if (value instanceof Character) {
+            output.writeByte(CHARACTER);
+            output.writeChar((Character) value);
+        } else {
+            writeSerializable(output, value);
+        }
+    }
+    
+    private static void writeString(final DataOutputStream output, final String value) throws IOException {
+        output.writeByte(STRING);
+        output.writeInt(value.length());
+        output.writeChars(value);
+    }
+    
+    private static void writeBytes(final DataOutputStream output, final byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    private static void writeDate(final DataOutputStream output, final java.util.Date value) throws IOException {
+        if (value instanceof Timestamp) {
+            output.writeByte(SQL_TIMESTAMP);
+            output.writeLong(value.getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+            return;
+        }
+        output.writeByte(value instanceof Date ? SQL_DATE : value instanceof Time ? SQL_TIME : UTIL_DATE);
+        output.writeLong(value.getTime());
+    }
+    
+    private static void writeLocalDateTime(final DataOutputStream output, final LocalDateTime value) throws IOException {
+        output.writeLong(value.toLocalDate().toEpochDay());
+        output.writeLong(value.toLocalTime().toNanoOfDay());
+    }
+    
+    private static void writeSerializable(final DataOutputStream output, final Object value) throws IOException {
+        ShardingSpherePreconditions.checkState(value instanceof Serializable, () -> new UnsupportedSQLOperationException(String.format("Spill value of type `%s`", value.getClass().getName())));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+            objectOutput.writeObject(value);
+        }
+        output.writeByte(SERIALIZABLE);
+        writeBytes(output, bytes.toByteArray());
+    }
+    
+    /**
+     * Read cell.
+     *
+     * @param input data input
+     * @return cell value
+     * @throws IOException IO exception
+     */
+    public static Object read(final DataInputStream input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(input);
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case BOOLEAN:
+                return input.readBoolean();
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BYTES:
+                return readBytes(input);
+            case SQL_DATE:
+                return new Date(input.readLong());
+            case SQL_TIME:
+                return new Time(input.readLong());
+            case SQL_TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case UTIL_DATE:
+                return new java.util.Date(input.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return readLocalDateTime(input);
+            case OFFSET_DATE_TIME:
+                LocalDateTime localDateTime = readLocalDateTime(input);
+                return OffsetDateTime.of(localDateTime, ZoneOffset.ofTotalSeconds(input.readInt()));
+            case CHARACTER:
+                return input.readChar();
+            case SERIALIZABLE:
+                return readSerializable(input);
+            default:
+                throw new IOException(String.format("Unknown spilled cell type `%s`", type));
+        }
+    }
+    
+    private static String readString(final DataInputStream input) throws IOException {
+        char[] result = new char[input.readInt()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = input.readChar();
+        }
+        return new String(result);
+    }
+    
+    private static byte[] readBytes(final DataInputStream input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private static LocalDateTime readLocalDateTime(final DataInputStream input) throws IOException {
+        return LocalDateTime.of(LocalDate.ofEpochDay(input.readLong()), LocalTime.ofNanoOfDay(input.readLong()));
+    }
+    
+    private static Object readSerializable(final DataInputStream input) throws IOException {
+        try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(readBytes(input)))) {
+            return objectInput.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
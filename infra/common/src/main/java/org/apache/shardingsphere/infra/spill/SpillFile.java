@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.spill;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Local temporary file which rows are spilled to.
+ *
+ * <p>The temporary file is created when the first row is written, and is deleted when the spill file is closed.
+ * Rows written after finishing are appended, until the first row is read.</p>
+ */
+public final class SpillFile implements AutoCloseable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final String prefix;
+    
+    private final int columnCount;
+    
+    private Path file;
+    
+    private DataOutputStream outputStream;
+    
+    private DataInputStream inputStream;
+    
+    @Getter
+    private long rowCount;
+    
+    private long readRowCount;
+    
+    public SpillFile(final String prefix, final int columnCount) {
+        this.prefix = prefix;
+        this.columnCount = columnCount;
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     */
+    @SneakyThrows(IOException.class)
+    public void write(final Object[] row) {
+        if (null == outputStream) {
+            if (null == file) {
+                file = Files.createTempFile(prefix, ".spill");
+            }
+            outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.APPEND), BUFFER_SIZE));
+        }
+        for (int i = 0; i < columnCount; i++) {
+            SpillCellCodec.write(outputStream, row[i]);
+        }
+        rowCount++;
+    }
+    
+    /**
+     * Finish writing.
+     *
+     * @return spilled bytes
+     */
+    @SneakyThrows(IOException.class)
+    public long finish() {
+        if (null != outputStream) {
+            outputStream.close();
+            outputStream = null;
+        }
+        return null == file ? 0L : Files.size(file);
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if all rows are read
+     */
+    @SneakyThrows(IOException.class)
+    public Object[] read() {
+        if (readRowCount == rowCount) {
+            return null;
+        }
+        if (null == inputStream) {
+            finish();
+            inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+        }
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = SpillCellCodec.read(inputStream);
+        }
+        readRowCount++;
+        return result;
+    }
+    
+    @SneakyThrows(IOException.class)
+    @Override
+    public void close() {
+        if (null != outputStream) {
+            outputStream.close();
+            outputStream = null;
+        }
+        if (null != inputStream) {
+            inputStream.close();
+            inputStream = null;
+        }
+        if (null != file) {
+            Files.deleteIfExists(file);
+            file = null;
+        }
+    }
+}
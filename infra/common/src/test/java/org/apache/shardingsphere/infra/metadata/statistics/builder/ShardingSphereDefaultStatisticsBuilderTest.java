@@ -33,6 +33,7 @@ class ShardingSphereDefaultStatisticsBuilderTest {
         assertTrue(databaseStatistics.getSchemaStatisticsMap().containsKey("shardingsphere"));
         assertTrue(databaseStatistics.getSchemaStatistics("shardingsphere").containsTableStatistics("cluster_information"));
         assertTrue(databaseStatistics.getSchemaStatistics("shardingsphere").containsTableStatistics("sharding_table_statistics"));
+        assertTrue(databaseStatistics.getSchemaStatistics("shardingsphere").containsTableStatistics("sharding_column_statistics"));
     }
     
     private ShardingSphereDatabase mockDatabase() {
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.spill;
+
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillFileTest {
+    
+    @Test
+    void assertWriteAndRead() {
+        Timestamp timestamp = Timestamp.valueOf("2024-01-01 10:00:00.123456789");
+        Object[] row = {null, "foo", 1, 2L, (short) 3, (byte) 4, 5.5D, 6.5F, true, new BigDecimal("-7.89"), BigInteger.TEN, new byte[]{1, 2},
+                Date.valueOf("2024-01-01"), Time.valueOf("10:00:00"), timestamp, new java.util.Date(1L), LocalDate.of(2024, 1, 1), LocalTime.of(10, 0, 0, 1),
+                LocalDateTime.of(2024, 1, 1, 10, 0), OffsetDateTime.of(2024, 1, 1, 10, 0, 0, 0, ZoneOffset.ofHours(8)), 'c', UUID.fromString("00000000-0000-0000-0000-000000000001")};
+        try (SpillFile spillFile = new SpillFile("shardingsphere-spill-test-", row.length)) {
+            spillFile.write(row);
+            spillFile.write(row);
+            assertThat(spillFile.getRowCount(), is(2L));
+            for (int i = 0; i < 2; i++) {
+                Object[] actual = spillFile.read();
+                for (int j = 0; j < row.length; j++) {
+                    assertThat(actual[j], is(row[j]));
+                }
+            }
+            assertThat(spillFile.read(), nullValue());
+        }
+    }
+    
+    @Test
+    void assertWriteAfterFinish() {
+        try (SpillFile spillFile = new SpillFile("shardingsphere-spill-test-", 1)) {
+            spillFile.write(new Object[]{"foo"});
+            long spilledBytes = spillFile.finish();
+            spillFile.write(new Object[]{"bar"});
+            assertTrue(spillFile.finish() > spilledBytes);
+            assertThat(spillFile.read()[0], is("foo"));
+            assertThat(spillFile.read()[0], is("bar"));
+            assertThat(spillFile.read(), nullValue());
+        }
+    }
+    
+    @Test
+    void assertFinishWithoutRows() {
+        try (SpillFile spillFile = new SpillFile("shardingsphere-spill-test-", 1)) {
+            assertThat(spillFile.finish(), is(0L));
+            assertThat(spillFile.read(), nullValue());
+        }
+    }
+    
+    @Test
+    void assertWriteUnsupportedValue() {
+        try (SpillFile spillFile = new SpillFile("shardingsphere-spill-test-", 1)) {
+            assertThrows(UnsupportedSQLOperationException.class, () -> spillFile.write(new Object[]{new Object()}));
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.loader.snapshot;
+
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoader;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Meta data snapshot loader.
+ *
+ * <p>Table meta data is read from local snapshot, and is only reloaded from storage units when its catalog change marker drifted.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class MetaDataSnapshotLoader {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
+            0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-MetaDataSnapshotLoader-%d").build());
+    
+    private static final String SNAPSHOT_FILE_PREFIX = "metadata-";
+    
+    private static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+    
+    /**
+     * Load meta data with local snapshot.
+     *
+     * @param materials meta data loader materials
+     * @param snapshotDirectory snapshot directory
+     * @return meta data map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials, final Path snapshotDirectory) throws SQLException {
+        Map<String, Collection<MetaDataLoaderMaterial>> storageUnitMaterials = materials.stream()
+                .collect(Collectors.groupingBy(MetaDataLoaderMaterial::getStorageUnitName, LinkedHashMap::new, Collectors.toCollection(LinkedList::new)));
+        String key = generateKey(storageUnitMaterials);
+        Path snapshotFile = snapshotDirectory.resolve(SNAPSHOT_FILE_PREFIX + key + SNAPSHOT_FILE_SUFFIX);
+        Map<String, StorageUnitMetaDataSnapshot> cachedStorageUnits = readSnapshot(snapshotFile).filter(each -> key.equals(each.getKey()))
+                .map(MetaDataSnapshot::getStorageUnits).orElseGet(Collections::emptyMap);
+        Map<String, Future<StorageUnitMetaDataSnapshot>> futures = new LinkedHashMap<>(storageUnitMaterials.size(), 1F);
+        for (Entry<String, Collection<MetaDataLoaderMaterial>> entry : storageUnitMaterials.entrySet()) {
+            StorageUnitMetaDataSnapshot cachedStorageUnit = cachedStorageUnits.get(entry.getKey());
+            futures.put(entry.getKey(), EXECUTOR_SERVICE.submit(() -> load(entry.getValue(), cachedStorageUnit)));
+        }
+        Map<String, StorageUnitMetaDataSnapshot> storageUnits = new LinkedHashMap<>(futures.size(), 1F);
+        try {
+            for (Entry<String, Future<StorageUnitMetaDataSnapshot>> entry : futures.entrySet()) {
+                storageUnits.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new SQLException(ex);
+        }
+        if (storageUnits.entrySet().stream().anyMatch(entry -> entry.getValue() != cachedStorageUnits.get(entry.getKey()))) {
+            writeSnapshot(new MetaDataSnapshot(key, storageUnits), snapshotFile);
+        }
+        return merge(storageUnits.values());
+    }
+    
+    private static StorageUnitMetaDataSnapshot load(final Collection<MetaDataLoaderMaterial> materials, final StorageUnitMetaDataSnapshot cachedStorageUnit) throws SQLException {
+        MetaDataLoaderMaterial firstMaterial = materials.iterator().next();
+        Collection<String> actualTableNames = materials.stream().flatMap(each -> each.getActualTableNames().stream()).collect(Collectors.toList());
+        Collection<String> schemaNames = materials.stream().map(MetaDataLoaderMaterial::getDefaultSchemaName).collect(Collectors.toCollection(LinkedHashSet::new));
+        if (null != cachedStorageUnit) {
+            cachedStorageUnit.getTables().values().forEach(each -> schemaNames.add(each.getSchemaName()));
+        }
+        TableChangeMarkers changeMarkers = TableChangeMarkerLoader.load(firstMaterial.getDataSource(), firstMaterial.getStorageType(), schemaNames, actualTableNames);
+        Map<String, Integer> markers = new HashMap<>(changeMarkers.getMarkers());
+        boolean reusable = null != cachedStorageUnit && Objects.equals(cachedStorageUnit.getUrl(), changeMarkers.getUrl());
+        Map<String, Collection<TableMetaDataSnapshot>> cachedTables = reusable ? groupByTableName(cachedStorageUnit.getTables().values()) : Collections.emptyMap();
+        Map<String, TableMetaDataSnapshot> tables = new LinkedHashMap<>(actualTableNames.size(), 1F);
+        Collection<MetaDataLoaderMaterial> driftedMaterials = new LinkedList<>();
+        for (MetaDataLoaderMaterial each : materials) {
+            Collection<String> driftedTableNames = new LinkedList<>();
+            for (String tableName : each.getActualTableNames()) {
+                Collection<TableMetaDataSnapshot> cachedTable = cachedTables.getOrDefault(tableName.toLowerCase(), Collections.emptyList());
+                if (!cachedTable.isEmpty() && cachedTable.stream().allMatch(table -> isUnchanged(table, markers))) {
+                    cachedTable.forEach(table -> tables.put(getTableKey(table), table));
+                } else if (!reusable || !cachedTable.isEmpty() || schemaNames.stream().anyMatch(schemaName -> markers.containsKey(TableChangeMarkers.getTableKey(schemaName, tableName)))) {
+                    driftedTableNames.add(tableName);
+                }
+            }
+            if (!driftedTableNames.isEmpty()) {
+                driftedMaterials.add(new MetaDataLoaderMaterial(driftedTableNames, each.getStorageUnitName(), each.getDataSource(), each.getStorageType(), each.getDefaultSchemaName()));
+            }
+        }
+        if (reusable && driftedMaterials.isEmpty() && tables.size() == cachedStorageUnit.getTables().size()) {
+            return cachedStorageUnit;
+        }
+        if (!driftedMaterials.isEmpty()) {
+            log.info("Reload meta data of {} drifted tables from storage unit `{}`.",
+                    driftedMaterials.stream().mapToInt(each -> each.getActualTableNames().size()).sum(), firstMaterial.getStorageUnitName());
+            Collection<SchemaMetaData> reloadedSchemas = MetaDataLoader.load(driftedMaterials).values();
+            if (Thread.currentThread().isInterrupted()) {
+                throw new SQLException(String.format("Reload meta data from storage unit `%s` is interrupted.", firstMaterial.getStorageUnitName()));
+            }
+            Collection<String> unmarkedSchemaNames = reloadedSchemas.stream().map(SchemaMetaData::getName)
+                    .filter(each -> !schemaNames.contains(each)).collect(Collectors.toCollection(LinkedHashSet::new));
+            if (!unmarkedSchemaNames.isEmpty()) {
+                markers.putAll(TableChangeMarkerLoader.load(firstMaterial.getDataSource(), firstMaterial.getStorageType(), unmarkedSchemaNames, actualTableNames).getMarkers());
+            }
+            for (SchemaMetaData each : reloadedSchemas) {
+                for (TableMetaData table : each.getTables()) {
+                    String tableKey = TableChangeMarkers.getTableKey(each.getName(), table.getName());
+                    tables.put(tableKey, new TableMetaDataSnapshot(each.getName(), table, markers.get(tableKey)));
+                }
+            }
+        }
+        return new StorageUnitMetaDataSnapshot(changeMarkers.getUrl(), tables);
+    }
+    
+    private static String generateKey(final Map<String, Collection<MetaDataLoaderMaterial>> storageUnitMaterials) {
+        Map<String, Collection<String>> sortedTableNames = new TreeMap<>();
+        for (Entry<String, Collection<MetaDataLoaderMaterial>> entry : storageUnitMaterials.entrySet()) {
+            for (MetaDataLoaderMaterial each : entry.getValue()) {
+                String storageUnitKey = String.join(":", entry.getKey(), each.getStorageType().getType(), String.valueOf(each.getDefaultSchemaName()));
+                sortedTableNames.computeIfAbsent(storageUnitKey, key -> new TreeSet<>()).addAll(each.getActualTableNames());
+            }
+        }
+        StringBuilder result = new StringBuilder();
+        for (Entry<String, Collection<String>> entry : sortedTableNames.entrySet()) {
+            result.append(entry.getKey()).append('=').append(String.join(",", entry.getValue())).append('\n');
+        }
+        return Hashing.sha256().hashString(result, StandardCharsets.UTF_8).toString();
+    }
+    
+    private static Optional<MetaDataSnapshot> readSnapshot(final Path snapshotFile) {
+        try {
+            return MetaDataSnapshotSerializer.read(snapshotFile);
+        } catch (final IOException | IllegalArgumentException ex) {
+            log.warn("Read meta data snapshot `{}` error, load meta data from storage units.", snapshotFile, ex);
+            return Optional.empty();
+        }
+    }
+    
+    private static void writeSnapshot(final MetaDataSnapshot snapshot, final Path snapshotFile) {
+        try {
+            MetaDataSnapshotSerializer.write(snapshot, snapshotFile);
+        } catch (final IOException ex) {
+            log.warn("Write meta data snapshot `{}` error.", snapshotFile, ex);
+        }
+    }
+    
+    private static Map<String, Collection<TableMetaDataSnapshot>> groupByTableName(final Collection<TableMetaDataSnapshot> tables) {
+        return tables.stream().collect(Collectors.groupingBy(each -> each.getTableMetaData().getName().toLowerCase(), Collectors.toCollection(LinkedList::new)));
+    }
+    
+    private static boolean isUnchanged(final TableMetaDataSnapshot table, final Map<String, Integer> markers) {
+        Integer marker = markers.get(getTableKey(table));
+        return null != marker && marker.equals(table.getChangeMarker());
+    }
+    
+    private static String getTableKey(final TableMetaDataSnapshot table) {
+        return TableChangeMarkers.getTableKey(table.getSchemaName(), table.getTableMetaData().getName());
+    }
+    
+    private static Map<String, SchemaMetaData> merge(final Collection<StorageUnitMetaDataSnapshot> storageUnits) {
+        Map<String, SchemaMetaData> result = new LinkedHashMap<>();
+        for (StorageUnitMetaDataSnapshot each : storageUnits) {
+            for (TableMetaDataSnapshot table : each.getTables().values()) {
+                result.computeIfAbsent(table.getSchemaName(), key -> new SchemaMetaData(key, new LinkedList<>())).getTables().add(table.getTableMetaData());
+            }
+        }
+        return result;
+    }
+}
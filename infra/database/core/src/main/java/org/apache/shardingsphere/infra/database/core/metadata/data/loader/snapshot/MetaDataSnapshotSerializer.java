@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.loader.snapshot;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ConstraintMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.IndexMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Meta data snapshot serializer.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetaDataSnapshotSerializer {
+    
+    private static final int MAGIC = 0x53534D53;
+    
+    private static final int FORMAT_VERSION = 1;
+    
+    /**
+     * Write meta data snapshot to file.
+     *
+     * @param snapshot meta data snapshot
+     * @param file snapshot file
+     * @throws IOException IO exception
+     */
+    public static void write(final MetaDataSnapshot snapshot, final Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tempFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(tempFile))))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(snapshot.getKey());
+                output.writeInt(snapshot.getStorageUnits().size());
+                for (Entry<String, StorageUnitMetaDataSnapshot> entry : snapshot.getStorageUnits().entrySet()) {
+                    output.writeUTF(entry.getKey());
+                    writeStorageUnit(output, entry.getValue());
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+    
+    private static void writeStorageUnit(final DataOutputStream output, final StorageUnitMetaDataSnapshot storageUnit) throws IOException {
+        writeNullableString(output, storageUnit.getUrl());
+        output.writeInt(storageUnit.getTables().size());
+        for (Entry<String, TableMetaDataSnapshot> entry : storageUnit.getTables().entrySet()) {
+            output.writeUTF(entry.getKey());
+            writeNullableString(output, entry.getValue().getSchemaName());
+            writeTable(output, entry.getValue().getTableMetaData());
+            output.writeBoolean(null != entry.getValue().getChangeMarker());
+            if (null != entry.getValue().getChangeMarker()) {
+                output.writeInt(entry.getValue().getChangeMarker());
+            }
+        }
+    }
+    
+    private static void writeTable(final DataOutputStream output, final TableMetaData table) throws IOException {
+        output.writeUTF(table.getName());
+        output.writeUTF(table.getType().name());
+        output.writeInt(table.getColumns().size());
+        for (ColumnMetaData each : table.getColumns()) {
+            output.writeUTF(each.getName());
+            output.writeInt(each.getDataType());
+            output.writeByte(toFlags(each.isPrimaryKey(), each.isGenerated(), each.isCaseSensitive(), each.isVisible(), each.isUnsigned(), each.isNullable()));
+        }
+        output.writeInt(table.getIndexes().size());
+        for (IndexMetaData each : table.getIndexes()) {
+            output.writeUTF(each.getName());
+            output.writeBoolean(each.isUnique());
+            output.writeInt(each.getColumns().size());
+            for (String column : each.getColumns()) {
+                output.writeUTF(column);
+            }
+        }
+        output.writeInt(table.getConstraints().size());
+        for (ConstraintMetaData each : table.getConstraints()) {
+            output.writeUTF(each.getName());
+            writeNullableString(output, each.getReferencedTableName());
+        }
+    }
+    
+    private static int toFlags(final boolean... values) {
+        int result = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i]) {
+                result |= 1 << i;
+            }
+        }
+        return result;
+    }
+    
+    private static void writeNullableString(final DataOutputStream output, final String value) throws IOException {
+        output.writeBoolean(null != value);
+        if (null != value) {
+            output.writeUTF(value);
+        }
+    }
+    
+    /**
+     * Read meta data snapshot from file.
+     *
+     * @param file snapshot file
+     * @return meta data snapshot, empty if file is absent or written by another format version
+     * @throws IOException IO exception
+     */
+    public static Optional<MetaDataSnapshot> read(final Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (MAGIC != input.readInt() || FORMAT_VERSION != input.readInt()) {
+                return Optional.empty();
+            }
+            String key = input.readUTF();
+            int storageUnitCount = input.readInt();
+            Map<String, StorageUnitMetaDataSnapshot> storageUnits = new LinkedHashMap<>(storageUnitCount, 1F);
+            for (int i = 0; i < storageUnitCount; i++) {
+                storageUnits.put(input.readUTF(), readStorageUnit(input));
+            }
+            return Optional.of(new MetaDataSnapshot(key, storageUnits));
+        }
+    }
+    
+    private static StorageUnitMetaDataSnapshot readStorageUnit(final DataInputStream input) throws IOException {
+        String url = readNullableString(input);
+        int tableCount = input.readInt();
+        Map<String, TableMetaDataSnapshot> tables = new LinkedHashMap<>(tableCount, 1F);
+        for (int i = 0; i < tableCount; i++) {
+            String tableKey = input.readUTF();
+            String schemaName = readNullableString(input);
+            TableMetaData tableMetaData = readTable(input);
+            tables.put(tableKey, new TableMetaDataSnapshot(schemaName, tableMetaData, input.readBoolean() ? input.readInt() : null));
+        }
+        return new StorageUnitMetaDataSnapshot(url, tables);
+    }
+    
+    private static TableMetaData readTable(final DataInputStream input) throws IOException {
+        final String name = input.readUTF();
+        final TableType type = TableType.valueOf(input.readUTF());
+        int columnCount = input.readInt();
+        Collection<ColumnMetaData> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            String columnName = input.readUTF();
+            int dataType = input.readInt();
+            int flags = input.readByte();
+            columns.add(new ColumnMetaData(columnName, dataType, isFlagged(flags, 0), isFlagged(flags, 1), isFlagged(flags, 2), isFlagged(flags, 3), isFlagged(flags, 4), isFlagged(flags, 5)));
+        }
+        int indexCount = input.readInt();
+        Collection<IndexMetaData> indexes = new ArrayList<>(indexCount);
+        for (int i = 0; i < indexCount; i++) {
+            IndexMetaData index = new IndexMetaData(input.readUTF());
+            index.setUnique(input.readBoolean());
+            int indexColumnCount = input.readInt();
+            for (int j = 0; j < indexColumnCount; j++) {
+                index.getColumns().add(input.readUTF());
+            }
+            indexes.add(index);
+        }
+        int constraintCount = input.readInt();
+        Collection<ConstraintMetaData> constraints = new LinkedList<>();
+        for (int i = 0; i < constraintCount; i++) {
+            constraints.add(new ConstraintMetaData(input.readUTF(), readNullableString(input)));
+        }
+        return new TableMetaData(name, columns, indexes, constraints, type);
+    }
+    
+    private static boolean isFlagged(final int flags, final int index) {
+        return 0 != (flags & 1 << index);
+    }
+    
+    private static String readNullableString(final DataInputStream input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.loader.snapshot;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderConnection;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+/**
+ * Table change marker loader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableChangeMarkerLoader {
+    
+    private static final String TABLE_NAME = "TABLE_NAME";
+    
+    private static final String COLUMN_NAME = "COLUMN_NAME";
+    
+    private static final String DATA_TYPE = "DATA_TYPE";
+    
+    private static final String TYPE_NAME = "TYPE_NAME";
+    
+    private static final String COLUMN_SIZE = "COLUMN_SIZE";
+    
+    private static final String IS_NULLABLE = "IS_NULLABLE";
+    
+    private static final String INDEX_NAME = "INDEX_NAME";
+    
+    private static final String NON_UNIQUE = "NON_UNIQUE";
+    
+    private static final String PK_NAME = "PK_NAME";
+    
+    private static final String KEY_SEQ = "KEY_SEQ";
+    
+    /**
+     * Load table change markers by one catalog query of columns per schema, and catalog queries of indexes and primary keys per table.
+     *
+     * @param dataSource data source
+     * @param databaseType database type
+     * @param schemaNames schema names
+     * @param tableNames table names
+     * @return table change markers, key is table key qualified by schema name
+     * @throws SQLException SQL exception
+     */
+    public static TableChangeMarkers load(final DataSource dataSource, final DatabaseType databaseType, final Collection<String> schemaNames, final Collection<String> tableNames) throws SQLException {
+        Collection<String> lowerCaseTableNames = tableNames.stream().map(String::toLowerCase).collect(Collectors.toSet());
+        boolean isSchemaAvailable = new DatabaseTypeRegistry(databaseType).getDialectDatabaseMetaData().getSchemaOption().isSchemaAvailable();
+        Map<String, StringBuilder> fingerprints = new HashMap<>(lowerCaseTableNames.size() * schemaNames.size(), 1F);
+        try (MetaDataLoaderConnection connection = new MetaDataLoaderConnection(databaseType, dataSource.getConnection())) {
+            for (String each : schemaNames) {
+                String schemaName = isSchemaAvailable ? each : connection.getSchema();
+                Map<String, String> actualTableNames = new HashMap<>(lowerCaseTableNames.size(), 1F);
+                try (ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), schemaName, "%", "%")) {
+                    while (resultSet.next()) {
+                        String actualTableName = resultSet.getString(TABLE_NAME);
+                        String tableName = actualTableName.toLowerCase();
+                        if (lowerCaseTableNames.contains(tableName)) {
+                            String tableKey = TableChangeMarkers.getTableKey(each, tableName);
+                            actualTableNames.putIfAbsent(tableKey, actualTableName);
+                            fingerprints.computeIfAbsent(tableKey, key -> new StringBuilder()).append(resultSet.getString(COLUMN_NAME)).append(':')
+                                    .append(resultSet.getInt(DATA_TYPE)).append(':').append(resultSet.getString(TYPE_NAME)).append(':').append(resultSet.getInt(COLUMN_SIZE)).append(':')
+                                    .append(resultSet.getString(IS_NULLABLE)).append(';');
+                        }
+                    }
+                }
+                for (Entry<String, String> entry : actualTableNames.entrySet()) {
+                    appendIndexesAndPrimaryKeys(connection, schemaName, entry.getValue(), fingerprints.get(entry.getKey()));
+                }
+            }
+            Map<String, Integer> markers = new HashMap<>(fingerprints.size(), 1F);
+            for (Entry<String, StringBuilder> entry : fingerprints.entrySet()) {
+                markers.put(entry.getKey(), entry.getValue().toString().hashCode());
+            }
+            return new TableChangeMarkers(connection.getMetaData().getURL(), markers);
+        }
+    }
+    
+    private static void appendIndexesAndPrimaryKeys(final MetaDataLoaderConnection connection, final String schemaName, final String tableName,
+                                                    final StringBuilder fingerprint) throws SQLException {
+        try (ResultSet resultSet = connection.getMetaData().getIndexInfo(connection.getCatalog(), schemaName, tableName, false, true)) {
+            while (resultSet.next()) {
+                fingerprint.append("index:").append(resultSet.getString(INDEX_NAME)).append(':').append(resultSet.getBoolean(NON_UNIQUE)).append(':')
+                        .append(resultSet.getString(COLUMN_NAME)).append(';');
+            }
+        }
+        try (ResultSet resultSet = connection.getMetaData().getPrimaryKeys(connection.getCatalog(), schemaName, tableName)) {
+            while (resultSet.next()) {
+                fingerprint.append("pk:").append(resultSet.getString(PK_NAME)).append(':').append(resultSet.getInt(KEY_SEQ)).append(':').append(resultSet.getString(COLUMN_NAME)).append(';');
+            }
+        }
+    }
+}
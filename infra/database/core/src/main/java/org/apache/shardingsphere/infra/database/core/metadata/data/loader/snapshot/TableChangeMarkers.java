@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.loader.snapshot;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Table change markers.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class TableChangeMarkers {
+    
+    private final String url;
+    
+    private final Map<String, Integer> markers;
+    
+    /**
+     * Get table key.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return lower case table key qualified by schema name
+     */
+    public static String getTableKey(final String schemaName, final String tableName) {
+        return (null == schemaName ? "" : schemaName.toLowerCase()) + "." + tableName.toLowerCase();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.loader.snapshot;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.stubbing.Answer;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MetaDataSnapshotLoaderTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "TRUNK");
+    
+    private final Map<String, String> columnTypes = new LinkedHashMap<>();
+    
+    private final Collection<String> unmarkedTableNames = new HashSet<>();
+    
+    private final Map<String, String> indexNames = new LinkedHashMap<>();
+    
+    @TempDir
+    private Path tempDir;
+    
+    private DataSource dataSource;
+    
+    private DatabaseMetaData databaseMetaData;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        columnTypes.put("t_order", "BIGINT");
+        columnTypes.put("t_user", "INT");
+        databaseMetaData = mock(DatabaseMetaData.class);
+        when(databaseMetaData.getTypeInfo()).thenAnswer((Answer<ResultSet>) invocation -> mock(ResultSet.class));
+        when(databaseMetaData.getPrimaryKeys(any(), any(), any())).thenAnswer((Answer<ResultSet>) invocation -> mock(ResultSet.class));
+        when(databaseMetaData.getIndexInfo(any(), any(), any(), anyBoolean(), anyBoolean())).thenAnswer((Answer<ResultSet>) invocation -> mockIndexResultSet(invocation.getArgument(2)));
+        when(databaseMetaData.getURL()).thenReturn("jdbc:mock://127.0.0.1/foo_db");
+        when(databaseMetaData.getColumns(any(), any(), any(), eq("%"))).thenAnswer((Answer<ResultSet>) invocation -> mockColumnResultSet(invocation.getArgument(2)));
+        when(databaseMetaData.getTables(any(), any(), any(), any())).thenAnswer((Answer<ResultSet>) invocation -> mockTableExistedResultSet());
+        ResultSet emptyResultSet = mock(ResultSet.class);
+        when(emptyResultSet.getMetaData()).thenReturn(mock(ResultSetMetaData.class));
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(any())).thenReturn(emptyResultSet);
+        Connection connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(connection.createStatement()).thenReturn(statement);
+        dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+    }
+    
+    private ResultSet mockColumnResultSet(final String tableNamePattern) throws SQLException {
+        List<String> tableNames = columnTypes.keySet().stream()
+                .filter(each -> "%".equals(tableNamePattern) ? !unmarkedTableNames.contains(each) : each.equals(tableNamePattern)).collect(Collectors.toList());
+        ResultSet result = mock(ResultSet.class);
+        Boolean[] nextResults = new Boolean[tableNames.size()];
+        Arrays.fill(nextResults, true);
+        nextResults[tableNames.size() - 1] = false;
+        when(result.next()).thenReturn(true, nextResults);
+        when(result.getString("TABLE_NAME")).thenReturn(tableNames.get(0), tableNames.subList(1, tableNames.size()).toArray(new String[0]));
+        when(result.getString("COLUMN_NAME")).thenReturn("id");
+        when(result.getString("TYPE_NAME")).thenReturn(columnTypes.get(tableNames.get(0)), tableNames.subList(1, tableNames.size()).stream().map(columnTypes::get).toArray(String[]::new));
+        return result;
+    }
+    
+    private ResultSet mockIndexResultSet(final String tableName) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        if (indexNames.containsKey(tableName)) {
+            when(result.next()).thenReturn(true, false);
+            when(result.getString("INDEX_NAME")).thenReturn(indexNames.get(tableName));
+            when(result.getString("COLUMN_NAME")).thenReturn("id");
+        }
+        return result;
+    }
+    
+    private ResultSet mockTableExistedResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true);
+        return result;
+    }
+    
+    @Test
+    void assertLoadWithoutSnapshot() throws SQLException {
+        Map<String, SchemaMetaData> actual = MetaDataSnapshotLoader.load(createMaterials(), tempDir);
+        assertThat(getTableNames(actual), is(Arrays.asList("t_order", "t_user")));
+        verify(databaseMetaData).getTables(any(), any(), eq("t_order"), any());
+        verify(databaseMetaData).getTables(any(), any(), eq("t_user"), any());
+        assertThat(tempDir.toFile().list().length, is(1));
+    }
+    
+    @Test
+    void assertLoadWithValidSnapshot() throws SQLException {
+        MetaDataSnapshotLoader.load(createMaterials(), tempDir);
+        Map<String, SchemaMetaData> actual = MetaDataSnapshotLoader.load(createMaterials(), tempDir);
+        assertThat(getTableNames(actual), is(Arrays.asList("t_order", "t_user")));
+        verify(databaseMetaData).getTables(any(), any(), eq("t_order"), any());
+        verify(databaseMetaData).getTables(any(), any(), eq("t_user"), any());
+        verify(databaseMetaData, times(2)).getColumns(any(), any(), eq("%"), eq("%"));
+    }
+    
+    @Test
+    void assertLoadWithDriftedTable() throws SQLException {
+        MetaDataSnapshotLoader.load(createMaterials(), tempDir);
+        columnTypes.put("t_user", "BIGINT");
+        Map<String, SchemaMetaData> actual = MetaDataSnapshotLoader.load(createMaterials(), tempDir);
+        assertThat(getTableNames(actual), is(Arrays.asList("t_order", "t_user")));
+        verify(databaseMetaData).getTables(any(), any(), eq("t_order"), any());
+        verify(databaseMetaData, times(2)).getTables(any(), any(), eq("t_user"), any());
+    }
+    
+    @Test
+    void assertLoadWithDriftedIndex() throws SQLException {
+        MetaDataSnapshotLoader.load(createMaterials(), tempDir);
+        indexNames.put("t_user", "idx_user_id");
+        Map<String, SchemaMetaData> actual = MetaDataSnapshotLoader.load(createMaterials(), tempDir);
+        assertThat(getTableNames(actual), is(Arrays.asList("t_order", "t_user")));
+        verify(databaseMetaData).getTables(any(), any(), eq("t_order"), any());
+        verify(databaseMetaData, times(2)).getTables(any(), any(), eq("t_user"), any());
+    }
+    
+    @Test
+    void assertLoadWithUnmarkedTable() throws SQLException {
+        unmarkedTableNames.add("t_user");
+        MetaDataSnapshotLoader.load(createMaterials(), tempDir);
+        Map<String, SchemaMetaData> actual = MetaDataSnapshotLoader.load(createMaterials(), tempDir);
+        assertThat(getTableNames(actual), is(Arrays.asList("t_order", "t_user")));
+        verify(databaseMetaData).getTables(any(), any(), eq("t_order"), any());
+        verify(databaseMetaData, times(2)).getTables(any(), any(), eq("t_user"), any());
+    }
+    
+    @Test
+    void assertLoadWithChangedTables() throws SQLException {
+        MetaDataSnapshotLoader.load(createMaterials(), tempDir);
+        Map<String, SchemaMetaData> actual = MetaDataSnapshotLoader.load(Collections.singleton(
+                new MetaDataLoaderMaterial(Collections.singleton("t_order"), "ds_0", dataSource, databaseType, "foo_db")), tempDir);
+        assertThat(getTableNames(actual), is(Collections.singletonList("t_order")));
+        verify(databaseMetaData, times(2)).getTables(any(), any(), eq("t_order"), any());
+        assertThat(tempDir.toFile().list().length, is(2));
+    }
+    
+    private Collection<MetaDataLoaderMaterial> createMaterials() {
+        return Arrays.asList(new MetaDataLoaderMaterial(Collections.singleton("t_order"), "ds_0", dataSource, databaseType, "foo_db"),
+                new MetaDataLoaderMaterial(Collections.singleton("t_user"), "ds_0", dataSource, databaseType, "foo_db"));
+    }
+    
+    private List<String> getTableNames(final Map<String, SchemaMetaData> schemaMetaDataMap) {
+        assertThat(schemaMetaDataMap.size(), is(1));
+        return schemaMetaDataMap.get("foo_db").getTables().stream().map(TableMetaData::getName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.loader.snapshot;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ConstraintMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.IndexMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetaDataSnapshotSerializerTest {
+    
+    @TempDir
+    private Path tempDir;
+    
+    @Test
+    void assertWriteAndRead() throws IOException {
+        Path file = tempDir.resolve("metadata.snapshot");
+        MetaDataSnapshotSerializer.write(createSnapshot(), file);
+        Optional<MetaDataSnapshot> actual = MetaDataSnapshotSerializer.read(file);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getKey(), is("foo_key"));
+        StorageUnitMetaDataSnapshot actualStorageUnit = actual.get().getStorageUnits().get("ds_0");
+        assertThat(actualStorageUnit.getUrl(), is("jdbc:mock://127.0.0.1/foo_db"));
+        TableMetaDataSnapshot actualOrderTable = actualStorageUnit.getTables().get("t_order");
+        assertThat(actualOrderTable.getSchemaName(), is("foo_db"));
+        assertThat(actualOrderTable.getChangeMarker(), is(10));
+        assertThat(actualOrderTable.getTableMetaData().getName(), is("t_order"));
+        assertThat(actualOrderTable.getTableMetaData().getType(), is(TableType.TABLE));
+        Iterator<ColumnMetaData> columns = actualOrderTable.getTableMetaData().getColumns().iterator();
+        ColumnMetaData orderIdColumn = columns.next();
+        assertThat(orderIdColumn.getName(), is("order_id"));
+        assertThat(orderIdColumn.getDataType(), is(Types.BIGINT));
+        assertTrue(orderIdColumn.isPrimaryKey());
+        assertTrue(orderIdColumn.isGenerated());
+        assertFalse(orderIdColumn.isCaseSensitive());
+        assertTrue(orderIdColumn.isVisible());
+        assertTrue(orderIdColumn.isUnsigned());
+        assertFalse(orderIdColumn.isNullable());
+        ColumnMetaData statusColumn = columns.next();
+        assertThat(statusColumn.getName(), is("status"));
+        assertTrue(statusColumn.isCaseSensitive());
+        assertTrue(statusColumn.isNullable());
+        IndexMetaData actualIndex = actualOrderTable.getTableMetaData().getIndexes().iterator().next();
+        assertThat(actualIndex.getName(), is("idx_status"));
+        assertThat(actualIndex.getColumns(), is(Arrays.asList("status", "order_id")));
+        assertTrue(actualIndex.isUnique());
+        ConstraintMetaData actualConstraint = actualOrderTable.getTableMetaData().getConstraints().iterator().next();
+        assertThat(actualConstraint.getName(), is("fk_user"));
+        assertThat(actualConstraint.getReferencedTableName(), is("t_user"));
+        TableMetaDataSnapshot actualView = actualStorageUnit.getTables().get("v_order");
+        assertThat(actualView.getChangeMarker(), nullValue());
+        assertThat(actualView.getTableMetaData().getType(), is(TableType.VIEW));
+    }
+    
+    private MetaDataSnapshot createSnapshot() {
+        IndexMetaData index = new IndexMetaData("idx_status", new LinkedList<>(Arrays.asList("status", "order_id")));
+        index.setUnique(true);
+        TableMetaData orderTable = new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.BIGINT, true, true, false, true, true, false),
+                new ColumnMetaData("status", Types.VARCHAR, false, false, true, true, false, true)), Collections.singleton(index), Collections.singleton(new ConstraintMetaData("fk_user", "t_user")));
+        TableMetaData orderView = new TableMetaData("v_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), TableType.VIEW);
+        Map<String, TableMetaDataSnapshot> tables = new LinkedHashMap<>(2, 1F);
+        tables.put("t_order", new TableMetaDataSnapshot("foo_db", orderTable, 10));
+        tables.put("v_order", new TableMetaDataSnapshot("foo_db", orderView, null));
+        return new MetaDataSnapshot("foo_key", Collections.singletonMap("ds_0", new StorageUnitMetaDataSnapshot("jdbc:mock://127.0.0.1/foo_db", tables)));
+    }
+    
+    @Test
+    void assertReadAbsentFile() throws IOException {
+        assertFalse(MetaDataSnapshotSerializer.read(tempDir.resolve("absent.snapshot")).isPresent());
+    }
+}
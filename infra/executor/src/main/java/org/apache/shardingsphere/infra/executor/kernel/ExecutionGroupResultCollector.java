@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupResultListener;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Execution group result collector.
+ *
+ * <p>Results of execution groups are collected in completion order, and the listener is notified by one completed group at a time.</p>
+ *
+ * @param <O> type of output value
+ */
+@RequiredArgsConstructor
+final class ExecutionGroupResultCollector<O> {
+    
+    private final ExecutionGroupResultListener<O> listener;
+    
+    private final List<O> results = new ArrayList<>();
+    
+    synchronized void collect(final Collection<O> groupResults) throws SQLException {
+        listener.onCompleted(groupResults);
+        results.addAll(groupResults);
+    }
+    
+    synchronized List<O> getResults() {
+        return new ArrayList<>(results);
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupResultListener;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
@@ -31,8 +32,9 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 
 /**
  * Executor engine.
@@ -41,10 +43,12 @@ import java.util.concurrent.Future;
 @Getter
 public final class ExecutorEngine implements AutoCloseable {
     
+    private static final String DEFAULT_NAME_FORMAT = "%d";
+    
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
     }
     
     /**
@@ -54,7 +58,18 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, false);
+    }
+    
+    /**
+     * Create executor engine with executor size and thread type.
+     *
+     * @param executorSize executor size, ignored if virtual thread is used
+     * @param virtualThreadEnabled whether to execute with virtual thread when it is supported by current JVM
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -78,6 +93,62 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
     }
     
+    /**
+     * Execute asynchronously.
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result, results are in completion order of execution groups
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext,
+                                                          final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final boolean serial) {
+        return executeAsync(executionGroupContext, firstCallback, callback, serial, groupResults -> {
+        });
+    }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * <p>The first execution group is executed in current thread, other execution groups are executed in executor service unless serial.
+     * The listener is notified with results of each execution group as soon as the group completes, one group at a time.
+     * The returned future is completed with results in completion order of execution groups, or completed exceptionally as soon as any execution group or the listener fails.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param listener execution group result listener
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result, results are in completion order of execution groups
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback,
+                                                          final ExecutorCallback<I, O> callback, final boolean serial, final ExecutionGroupResultListener<O> listener) {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        ExecutionGroupResultCollector<O> collector = new ExecutionGroupResultCollector<>(listener);
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        List<CompletableFuture<Void>> restFutures = serial ? Collections.emptyList() : collectAsync(asyncExecute(executionGroups, processId, callback), collector);
+        try {
+            collector.collect(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback));
+            while (serial && executionGroups.hasNext()) {
+                collector.collect(syncExecute(executionGroups.next(), processId, callback));
+            }
+        } catch (final SQLException ex) {
+            CompletableFuture<List<O>> result = new CompletableFuture<>();
+            result.completeExceptionally(ex);
+            return result;
+        }
+        return awaitGroupResults(restFutures).thenApply(unused -> collector.getResults());
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                          final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
@@ -91,7 +162,7 @@ public final class ExecutorEngine implements AutoCloseable {
     private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                            final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, processId, callback);
+        List<CompletableFuture<Collection<O>>> restResultFutures = asyncExecute(executionGroups, processId, callback);
         return getGroupResults(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
@@ -99,32 +170,68 @@ public final class ExecutorEngine implements AutoCloseable {
         return callback.execute(executionGroup.getInputs(), true, processId);
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> callback) {
-        Collection<Future<Collection<O>>> result = new LinkedList<>();
+    private <I, O> List<CompletableFuture<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> callback) {
+        List<CompletableFuture<Collection<O>>> result = new LinkedList<>();
         while (executionGroups.hasNext()) {
             result.add(asyncExecute(executionGroups.next(), processId, callback));
         }
         return result;
     }
     
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, processId));
+    private <I, O> CompletableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return callback.execute(executionGroup.getInputs(), false, processId);
+            } catch (final SQLException ex) {
+                throw new CompletionException(ex);
+            }
+        }, executorServiceManager.getExecutorService());
+    }
+    
+    private <O> List<CompletableFuture<Void>> collectAsync(final List<CompletableFuture<Collection<O>>> futures, final ExecutionGroupResultCollector<O> collector) {
+        List<CompletableFuture<Void>> result = new LinkedList<>();
+        for (CompletableFuture<Collection<O>> each : futures) {
+            result.add(each.thenAccept(groupResults -> {
+                try {
+                    collector.collect(groupResults);
+                } catch (final SQLException ex) {
+                    throw new CompletionException(ex);
+                }
+            }));
+        }
+        return result;
     }
     
-    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
+    private <O> List<O> getGroupResults(final Collection<O> firstResults, final List<CompletableFuture<Collection<O>>> restFutures) throws SQLException {
+        try {
+            awaitGroupResults(restFutures).get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ex) {
+            return throwException(ex);
+        }
         List<O> result = new LinkedList<>(firstResults);
-        for (Future<Collection<O>> each : restFutures) {
-            try {
-                result.addAll(each.get());
-            } catch (final InterruptedException ex) {
-                Thread.currentThread().interrupt();
-            } catch (final ExecutionException ex) {
-                return throwException(ex);
+        for (CompletableFuture<Collection<O>> each : restFutures) {
+            if (each.isDone() && !each.isCompletedExceptionally()) {
+                result.addAll(each.join());
             }
         }
         return result;
     }
     
+    private CompletableFuture<Void> awaitGroupResults(final List<? extends CompletableFuture<?>> restFutures) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        for (CompletableFuture<?> each : restFutures) {
+            each.whenComplete((unused, ex) -> {
+                if (null != ex) {
+                    result.completeExceptionally(ex instanceof CompletionException && null != ex.getCause() ? ex.getCause() : ex);
+                }
+            });
+        }
+        CompletableFuture.allOf(restFutures.toArray(new CompletableFuture[0])).thenRun(() -> result.complete(null));
+        return result;
+    }
+    
     private <O> List<O> throwException(final Exception exception) throws SQLException {
         if (exception.getCause() instanceof SQLException) {
             throw (SQLException) exception.getCause();
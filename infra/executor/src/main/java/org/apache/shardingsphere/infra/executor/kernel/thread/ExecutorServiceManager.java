@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -37,12 +38,32 @@ public final class ExecutorServiceManager {
     
     private final ExecutorService executorService;
     
+    private final boolean virtualThread;
+    
     public ExecutorServiceManager(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        ExecutorService virtualThreadExecutorService = virtualThreadEnabled ? createVirtualThreadExecutorService(nameFormat) : null;
+        virtualThread = null != virtualThreadExecutorService;
+        executorService = TtlExecutors.getTtlExecutorService(virtualThread ? virtualThreadExecutorService : getExecutorService(executorSize, nameFormat));
+    }
+    
+    private ExecutorService createVirtualThreadExecutorService(final String nameFormat) {
+        Optional<ThreadFactory> threadFactory = ExecutorThreadFactoryBuilder.buildVirtual(nameFormat);
+        if (!threadFactory.isPresent()) {
+            return null;
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory.get());
+        } catch (final ReflectiveOperationException ignored) {
+            return null;
+        }
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
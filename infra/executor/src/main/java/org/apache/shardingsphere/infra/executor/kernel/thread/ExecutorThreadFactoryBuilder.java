@@ -21,7 +21,10 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Executor thread factory builder.
@@ -40,4 +43,27 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     *
+     * @param nameFormat thread name format
+     * @return virtual thread factory, empty if virtual thread is not supported by current JVM
+     */
+    public static Optional<ThreadFactory> buildVirtual(final String nameFormat) {
+        ThreadFactory virtualThreadFactory;
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method factoryMethod = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            virtualThreadFactory = (ThreadFactory) factoryMethod.invoke(builder);
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
+        AtomicLong count = new AtomicLong();
+        return Optional.of(runnable -> {
+            Thread result = virtualThreadFactory.newThread(runnable);
+            result.setName(String.format(NAME_FORMAT_PREFIX + nameFormat, count.getAndIncrement()));
+            return result;
+        });
+    }
 }
@@ -21,11 +21,14 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupResultListener;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * JDBC executor.
@@ -69,4 +72,48 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and consume results of each execution group as soon as it completes.
+     *
+     * <p>If current thread is interrupted while waiting, the interrupt status is restored and the interruption is handled as SQL exception.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param listener execution group result listener
+     * @param <T> class type of return value
+     * @return execute result in completion order of execution groups
+     * @throws SQLException SQL exception
+     */
+    public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<T> firstCallback,
+                               final JDBCExecutorCallback<T> callback, final ExecutionGroupResultListener<T> listener) throws SQLException {
+        try {
+            return executeAsync(executionGroupContext, firstCallback, callback, listener).get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            SQLExecutorExceptionHandler.handleException(new SQLException("Interrupted while waiting for execution groups.", ex));
+        } catch (final ExecutionException ex) {
+            SQLExecutorExceptionHandler.handleException(ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex);
+        }
+        return Collections.emptyList();
+    }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * <p>The returned future is completed exceptionally with the first exception of any execution group or the listener,
+     * which is not handled by {@link SQLExecutorExceptionHandler}.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param listener execution group result listener
+     * @param <T> class type of return value
+     * @return future of execute result in completion order of execution groups
+     */
+    public <T> CompletableFuture<List<T>> executeAsync(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<T> firstCallback,
+                                                       final JDBCExecutorCallback<T> callback, final ExecutionGroupResultListener<T> listener) {
+        return executorEngine.executeAsync(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isInDistributedTransaction(), listener);
+    }
 }
@@ -17,17 +17,24 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
+import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ExecutionStatisticsRegistry;
+import org.apache.shardingsphere.infra.executor.sql.process.Process;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
+import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
@@ -88,7 +95,9 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(dataSourceName, sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
+            long startNanos = System.nanoTime();
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode(), storageType);
+            recordExecutionStatistics(jdbcExecutionUnit.getExecutionUnit(), processId, System.nanoTime() - startNanos, result);
             sqlExecutionHook.finishSuccess();
             processEngine.completeSQLUnitExecution(jdbcExecutionUnit, processId);
             return result;
@@ -105,6 +114,24 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         }
     }
     
+    private void recordExecutionStatistics(final ExecutionUnit executionUnit, final String processId, final long elapsedNanos, final T result) {
+        if (!ExecutionStatisticsRegistry.getInstance().isEnabled() || Strings.isNullOrEmpty(processId)) {
+            return;
+        }
+        Process process = ProcessRegistry.getInstance().get(processId);
+        if (null == process) {
+            return;
+        }
+        String databaseName = process.getDatabaseName();
+        if (result instanceof JDBCStreamQueryResult) {
+            ExecutionStatisticsRegistry.getInstance().recordExecution(databaseName, executionUnit, elapsedNanos, -1L);
+            ((JDBCStreamQueryResult) result).setExhaustedListener(rowCount -> ExecutionStatisticsRegistry.getInstance().recordRows(databaseName, executionUnit, rowCount));
+        } else {
+            long rows = result instanceof AbstractMemoryQueryResult ? ((AbstractMemoryQueryResult) result).getRowCount() : -1L;
+            ExecutionStatisticsRegistry.getInstance().recordExecution(databaseName, executionUnit, elapsedNanos, rows);
+        }
+    }
+    
     protected abstract T executeSQL(String sql, Statement statement, ConnectionMode connectionMode, DatabaseType storageType) throws SQLException;
     
     protected abstract Optional<T> getSaneResult(SQLStatement sqlStatement, SQLException ex);
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.exception.kernel.data.UnsupportedDataTypeConversionException;
 import org.apache.shardingsphere.infra.exception.kernel.data.UnsupportedStreamCharsetConversionException;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
@@ -36,15 +37,21 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
+import java.util.function.LongConsumer;
 
 /**
  * JDBC query result for stream loading.
  */
-@Getter
 public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
+    @Getter
     private final ResultSet resultSet;
     
+    private long rowCount;
+    
+    @Setter
+    private LongConsumer exhaustedListener;
+    
     public JDBCStreamQueryResult(final ResultSet resultSet) throws SQLException {
         super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
         this.resultSet = resultSet;
@@ -52,7 +59,15 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        if (resultSet.next()) {
+            rowCount++;
+            return true;
+        }
+        if (null != exhaustedListener) {
+            exhaustedListener.accept(rowCount);
+            exhaustedListener = null;
+        }
+        return false;
     }
     
     @Override
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.AdaptiveExecutionUnitGrouper;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ExecutionStatisticsRegistry;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
@@ -34,6 +36,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.TreeMap;
 
 /**
@@ -45,11 +48,26 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
     
     private final int maxConnectionsSizePerQuery;
     
+    private final boolean adaptiveConnectionModeConfigured;
+    
+    private final boolean adaptiveConnectionModeEnabled;
+    
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, ExecutionPrepareDecorator> decorators;
     
     protected AbstractExecutionPrepareEngine(final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules) {
+        this(maxConnectionsSizePerQuery, false, false, rules);
+    }
+    
+    protected AbstractExecutionPrepareEngine(final int maxConnectionsSizePerQuery, final boolean adaptiveConnectionModeEnabled, final Collection<ShardingSphereRule> rules) {
+        this(maxConnectionsSizePerQuery, true, adaptiveConnectionModeEnabled, rules);
+    }
+    
+    private AbstractExecutionPrepareEngine(final int maxConnectionsSizePerQuery, final boolean adaptiveConnectionModeConfigured, final boolean adaptiveConnectionModeEnabled,
+                                           final Collection<ShardingSphereRule> rules) {
         this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
+        this.adaptiveConnectionModeConfigured = adaptiveConnectionModeConfigured;
+        this.adaptiveConnectionModeEnabled = adaptiveConnectionModeEnabled;
         decorators = OrderedSPILoader.getServices(ExecutionPrepareDecorator.class, rules);
     }
     
@@ -62,16 +80,40 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
     @Override
     public final ExecutionGroupContext<T> prepare(final String databaseName, final RouteContext routeContext, final Map<String, Integer> connectionOffsets,
                                                   final Collection<ExecutionUnit> executionUnits, final ExecutionGroupReportContext reportContext) throws SQLException {
+        if (adaptiveConnectionModeEnabled) {
+            ExecutionStatisticsRegistry.getInstance().enable(databaseName);
+        } else if (adaptiveConnectionModeConfigured) {
+            ExecutionStatisticsRegistry.getInstance().disable(databaseName);
+        }
         Collection<ExecutionGroup<T>> result = new LinkedList<>();
         for (Entry<String, List<ExecutionUnit>> entry : aggregateExecutionUnitGroups(executionUnits).entrySet()) {
             String dataSourceName = entry.getKey();
+            int connectionOffset = connectionOffsets.getOrDefault(dataSourceName, 0);
+            Optional<Map<ConnectionMode, List<List<ExecutionUnit>>>> adaptiveExecutionUnitGroups = adaptiveConnectionModeEnabled
+                    ? AdaptiveExecutionUnitGrouper.group(databaseName, dataSourceName, entry.getValue(), maxConnectionsSizePerQuery)
+                    : Optional.empty();
+            if (adaptiveExecutionUnitGroups.isPresent()) {
+                result.addAll(group(databaseName, dataSourceName, connectionOffset, adaptiveExecutionUnitGroups.get()));
+                continue;
+            }
             List<List<ExecutionUnit>> executionUnitGroups = group(entry.getValue());
             ConnectionMode connectionMode = maxConnectionsSizePerQuery < entry.getValue().size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
-            result.addAll(group(databaseName, dataSourceName, connectionOffsets.getOrDefault(dataSourceName, 0), executionUnitGroups, connectionMode));
+            result.addAll(group(databaseName, dataSourceName, connectionOffset, executionUnitGroups, connectionMode));
         }
         return decorate(routeContext, result, reportContext);
     }
     
+    private List<ExecutionGroup<T>> group(final String databaseName, final String dataSourceName, final int connectionOffset,
+                                          final Map<ConnectionMode, List<List<ExecutionUnit>>> executionUnitGroups) throws SQLException {
+        List<ExecutionGroup<T>> result = new LinkedList<>();
+        int offset = connectionOffset;
+        for (Entry<ConnectionMode, List<List<ExecutionUnit>>> entry : executionUnitGroups.entrySet()) {
+            result.addAll(group(databaseName, dataSourceName, offset, entry.getValue(), entry.getKey()));
+            offset += entry.getValue().size();
+        }
+        return result;
+    }
+    
     private List<List<ExecutionUnit>> group(final List<ExecutionUnit> sqlUnits) {
         int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
         return Lists.partition(sqlUnits, desiredPartitionSize);
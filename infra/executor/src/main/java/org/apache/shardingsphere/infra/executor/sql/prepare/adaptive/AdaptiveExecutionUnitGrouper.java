@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.PriorityQueue;
+
+/**
+ * Adaptive execution unit grouper.
+ *
+ * <p>Group execution units of one data source by observed statistics instead of partitioning them evenly.
+ * Units returning large results are isolated on their own connections with memory strictly mode, so that their rows are streamed instead of loaded into memory.
+ * Other units are packed into groups by longest processing time first, so skewed shards get their own connections and tiny shards are coalesced.
+ * The group size is chosen to minimize estimated elapsed time, which includes the observed connection acquisition time of the data source.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AdaptiveExecutionUnitGrouper {
+    
+    private static final double LARGE_RESULT_ROWS = 10000D;
+    
+    /**
+     * Group execution units.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param executionUnits execution units of data source
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @return execution unit groups with their connection mode, empty if there is nothing to adapt or none of execution units is observed
+     */
+    public static Optional<Map<ConnectionMode, List<List<ExecutionUnit>>>> group(final String databaseName, final String dataSourceName, final List<ExecutionUnit> executionUnits,
+                                                                                  final int maxConnectionsSizePerQuery) {
+        if (executionUnits.size() <= 1 || maxConnectionsSizePerQuery <= 1) {
+            return Optional.empty();
+        }
+        List<CostedExecutionUnit> costedExecutionUnits = createCostedExecutionUnits(databaseName, executionUnits);
+        if (costedExecutionUnits.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<ConnectionMode, List<List<ExecutionUnit>>> result = new EnumMap<>(ConnectionMode.class);
+        List<CostedExecutionUnit> largeResultUnits = new LinkedList<>();
+        List<CostedExecutionUnit> otherUnits = new ArrayList<>(costedExecutionUnits.size());
+        for (CostedExecutionUnit each : costedExecutionUnits) {
+            (each.largeResult ? largeResultUnits : otherUnits).add(each);
+        }
+        int connectionBudget = maxConnectionsSizePerQuery;
+        if (!largeResultUnits.isEmpty() && largeResultUnits.size() < maxConnectionsSizePerQuery) {
+            for (CostedExecutionUnit each : largeResultUnits) {
+                result.computeIfAbsent(ConnectionMode.MEMORY_STRICTLY, unused -> new LinkedList<>()).add(Collections.singletonList(each.executionUnit));
+            }
+            connectionBudget -= largeResultUnits.size();
+        } else {
+            otherUnits = costedExecutionUnits;
+        }
+        if (otherUnits.isEmpty()) {
+            return Optional.of(result);
+        }
+        otherUnits.sort(Comparator.comparingDouble((CostedExecutionUnit each) -> each.cost).reversed());
+        double connectionAcquisitionNanos = ExecutionStatisticsRegistry.getInstance().findConnectionAcquisitionStatistics(databaseName, dataSourceName)
+                .filter(ExecutionStatistics::isNanosObserved).map(ExecutionStatistics::getAverageNanos).orElse(0D);
+        int groupSize = getOptimalGroupSize(otherUnits, Math.min(connectionBudget, otherUnits.size()), connectionAcquisitionNanos);
+        List<List<ExecutionUnit>> groups = pack(otherUnits, groupSize);
+        result.computeIfAbsent(groupSize == otherUnits.size() ? ConnectionMode.MEMORY_STRICTLY : ConnectionMode.CONNECTION_STRICTLY, unused -> new LinkedList<>()).addAll(groups);
+        return Optional.of(result);
+    }
+    
+    private static List<CostedExecutionUnit> createCostedExecutionUnits(final String databaseName, final List<ExecutionUnit> executionUnits) {
+        List<ExecutionStatistics> statistics = new ArrayList<>(executionUnits.size());
+        for (ExecutionUnit each : executionUnits) {
+            statistics.add(ExecutionStatisticsRegistry.getInstance().findExecutionStatistics(databaseName, each).orElse(null));
+        }
+        OptionalDouble observedAverageNanos = statistics.stream().filter(each -> null != each && each.isNanosObserved()).mapToDouble(ExecutionStatistics::getAverageNanos).average();
+        if (!observedAverageNanos.isPresent()) {
+            return Collections.emptyList();
+        }
+        List<CostedExecutionUnit> result = new ArrayList<>(executionUnits.size());
+        for (int i = 0; i < executionUnits.size(); i++) {
+            ExecutionStatistics each = statistics.get(i);
+            double cost = null != each && each.isNanosObserved() ? each.getAverageNanos() : observedAverageNanos.getAsDouble();
+            boolean largeResult = null != each && each.isRowsObserved() && each.getAverageRows() >= LARGE_RESULT_ROWS;
+            result.add(new CostedExecutionUnit(executionUnits.get(i), cost, largeResult));
+        }
+        return result;
+    }
+    
+    private static int getOptimalGroupSize(final List<CostedExecutionUnit> sortedUnits, final int maxGroupSize, final double connectionAcquisitionNanos) {
+        int result = maxGroupSize;
+        double minEstimatedNanos = estimateElapsedNanos(sortedUnits, maxGroupSize, connectionAcquisitionNanos);
+        for (int groupSize = 1; groupSize < maxGroupSize; groupSize <<= 1) {
+            double estimatedNanos = estimateElapsedNanos(sortedUnits, groupSize, connectionAcquisitionNanos);
+            if (estimatedNanos < minEstimatedNanos) {
+                minEstimatedNanos = estimatedNanos;
+                result = groupSize;
+            }
+        }
+        return result;
+    }
+    
+    private static double estimateElapsedNanos(final List<CostedExecutionUnit> sortedUnits, final int groupSize, final double connectionAcquisitionNanos) {
+        PriorityQueue<Double> loads = new PriorityQueue<>(groupSize);
+        for (int i = 0; i < groupSize; i++) {
+            loads.add(0D);
+        }
+        double makespan = 0D;
+        for (CostedExecutionUnit each : sortedUnits) {
+            double load = loads.poll() + each.cost;
+            makespan = Math.max(makespan, load);
+            loads.add(load);
+        }
+        return makespan + groupSize * connectionAcquisitionNanos;
+    }
+    
+    private static List<List<ExecutionUnit>> pack(final List<CostedExecutionUnit> sortedUnits, final int groupSize) {
+        List<ExecutionUnitGroup> groups = new ArrayList<>(groupSize);
+        PriorityQueue<ExecutionUnitGroup> loads = new PriorityQueue<>(groupSize, Comparator.comparingDouble((ExecutionUnitGroup each) -> each.load).thenComparingInt(each -> each.index));
+        for (int i = 0; i < groupSize; i++) {
+            ExecutionUnitGroup group = new ExecutionUnitGroup(i);
+            groups.add(group);
+            loads.add(group);
+        }
+        for (CostedExecutionUnit each : sortedUnits) {
+            ExecutionUnitGroup group = loads.poll();
+            group.executionUnits.add(each.executionUnit);
+            group.load += each.cost;
+            loads.add(group);
+        }
+        List<List<ExecutionUnit>> result = new ArrayList<>(groupSize);
+        for (ExecutionUnitGroup each : groups) {
+            result.add(each.executionUnits);
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CostedExecutionUnit {
+        
+        private final ExecutionUnit executionUnit;
+        
+        private final double cost;
+        
+        private final boolean largeResult;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ExecutionUnitGroup {
+        
+        private final int index;
+        
+        private final List<ExecutionUnit> executionUnits = new LinkedList<>();
+        
+        private double load;
+    }
+}
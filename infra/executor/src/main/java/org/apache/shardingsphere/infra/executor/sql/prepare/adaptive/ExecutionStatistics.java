@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import lombok.Getter;
+
+/**
+ * Execution statistics.
+ *
+ * <p>Keep exponentially weighted moving averages of observed cost, samples are recorded concurrently without lock and a lost sample is acceptable.</p>
+ */
+@Getter
+public final class ExecutionStatistics {
+    
+    private static final double SAMPLE_WEIGHT = 0.2D;
+    
+    private static final double UNOBSERVED = -1D;
+    
+    private volatile double averageNanos = UNOBSERVED;
+    
+    private volatile double averageRows = UNOBSERVED;
+    
+    /**
+     * Record sample.
+     *
+     * @param elapsedNanos elapsed nanoseconds
+     * @param rows returned rows, negative if unknown
+     */
+    public void record(final long elapsedNanos, final long rows) {
+        averageNanos = average(averageNanos, elapsedNanos);
+        if (rows >= 0L) {
+            averageRows = average(averageRows, rows);
+        }
+    }
+    
+    /**
+     * Record returned rows only.
+     *
+     * @param rows returned rows
+     */
+    public void recordRows(final long rows) {
+        averageRows = average(averageRows, rows);
+    }
+    
+    private double average(final double current, final long sample) {
+        return UNOBSERVED == current ? sample : current + SAMPLE_WEIGHT * (sample - current);
+    }
+    
+    /**
+     * Judge whether elapsed time is observed.
+     *
+     * @return elapsed time is observed or not
+     */
+    public boolean isNanosObserved() {
+        return UNOBSERVED != averageNanos;
+    }
+    
+    /**
+     * Judge whether returned rows is observed.
+     *
+     * @return returned rows is observed or not
+     */
+    public boolean isRowsObserved() {
+        return UNOBSERVED != averageRows;
+    }
+}
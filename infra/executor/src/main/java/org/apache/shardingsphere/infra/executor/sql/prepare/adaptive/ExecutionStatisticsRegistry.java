@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Execution statistics registry.
+ *
+ * <p>Statistics are kept for every logical database which enables adaptive connection mode.
+ * Execution statistics are kept for every SQL shape of a shard, which is data source name with actual SQL of execution unit,
+ * and the least recently used SQL shapes are evicted once the shape size of a database exceeds the limit.
+ * Connection acquisition statistics are kept for every data source of the database.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutionStatisticsRegistry {
+    
+    private static final ExecutionStatisticsRegistry INSTANCE = new ExecutionStatisticsRegistry();
+    
+    private static final long MAX_SHAPE_SIZE_PER_DATABASE = 4096L;
+    
+    private final Map<String, DatabaseExecutionStatistics> databaseStatistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get execution statistics registry.
+     *
+     * @return execution statistics registry
+     */
+    public static ExecutionStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Enable recording statistics.
+     *
+     * @param databaseName database name
+     */
+    public void enable(final String databaseName) {
+        if (!databaseStatistics.containsKey(databaseName)) {
+            databaseStatistics.computeIfAbsent(databaseName, unused -> new DatabaseExecutionStatistics());
+        }
+    }
+    
+    /**
+     * Disable recording statistics and drop recorded statistics.
+     *
+     * @param databaseName database name
+     */
+    public void disable(final String databaseName) {
+        if (!databaseStatistics.isEmpty()) {
+            databaseStatistics.remove(databaseName);
+        }
+    }
+    
+    /**
+     * Judge whether any database records statistics.
+     *
+     * @return any database records statistics or not
+     */
+    public boolean isEnabled() {
+        return !databaseStatistics.isEmpty();
+    }
+    
+    /**
+     * Record execution.
+     *
+     * @param databaseName database name
+     * @param executionUnit execution unit
+     * @param elapsedNanos elapsed nanoseconds
+     * @param rows returned rows, negative if unknown
+     */
+    public void recordExecution(final String databaseName, final ExecutionUnit executionUnit, final long elapsedNanos, final long rows) {
+        findOrCreateExecutionStatistics(databaseName, executionUnit).ifPresent(optional -> optional.record(elapsedNanos, rows));
+    }
+    
+    /**
+     * Record returned rows.
+     *
+     * @param databaseName database name
+     * @param executionUnit execution unit
+     * @param rows returned rows
+     */
+    public void recordRows(final String databaseName, final ExecutionUnit executionUnit, final long rows) {
+        findOrCreateExecutionStatistics(databaseName, executionUnit).ifPresent(optional -> optional.recordRows(rows));
+    }
+    
+    private Optional<ExecutionStatistics> findOrCreateExecutionStatistics(final String databaseName, final ExecutionUnit executionUnit) {
+        DatabaseExecutionStatistics statistics = null == databaseName ? null : databaseStatistics.get(databaseName);
+        if (null == statistics) {
+            return Optional.empty();
+        }
+        return Optional.of(statistics.executionStatistics.get(new ShapeKey(executionUnit.getDataSourceName(), executionUnit.getSqlUnit().getSql()), unused -> new ExecutionStatistics()));
+    }
+    
+    /**
+     * Record connection acquisition.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param connectionSize acquired connection size
+     * @param elapsedNanos elapsed nanoseconds of acquiring all connections
+     */
+    public void recordConnectionAcquisition(final String databaseName, final String dataSourceName, final int connectionSize, final long elapsedNanos) {
+        DatabaseExecutionStatistics statistics = databaseStatistics.get(databaseName);
+        if (null != statistics && connectionSize > 0) {
+            statistics.connectionAcquisitionStatistics.computeIfAbsent(dataSourceName, unused -> new ExecutionStatistics()).record(elapsedNanos / connectionSize, -1L);
+        }
+    }
+    
+    /**
+     * Find execution statistics.
+     *
+     * @param databaseName database name
+     * @param executionUnit execution unit
+     * @return found execution statistics
+     */
+    public Optional<ExecutionStatistics> findExecutionStatistics(final String databaseName, final ExecutionUnit executionUnit) {
+        DatabaseExecutionStatistics statistics = databaseStatistics.get(databaseName);
+        return null == statistics
+                ? Optional.empty()
+                : Optional.ofNullable(statistics.executionStatistics.getIfPresent(new ShapeKey(executionUnit.getDataSourceName(), executionUnit.getSqlUnit().getSql())));
+    }
+    
+    /**
+     * Find connection acquisition statistics.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return found connection acquisition statistics
+     */
+    public Optional<ExecutionStatistics> findConnectionAcquisitionStatistics(final String databaseName, final String dataSourceName) {
+        DatabaseExecutionStatistics statistics = databaseStatistics.get(databaseName);
+        return null == statistics ? Optional.empty() : Optional.ofNullable(statistics.connectionAcquisitionStatistics.get(dataSourceName));
+    }
+    
+    /**
+     * Clear all statistics and disable recording for all databases.
+     */
+    public void clear() {
+        databaseStatistics.clear();
+    }
+    
+    private static final class DatabaseExecutionStatistics {
+        
+        private final Cache<ShapeKey, ExecutionStatistics> executionStatistics = Caffeine.newBuilder().maximumSize(MAX_SHAPE_SIZE_PER_DATABASE).build();
+        
+        private final Map<String, ExecutionStatistics> connectionAcquisitionStatistics = new ConcurrentHashMap<>();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class ShapeKey {
+        
+        private final String dataSourceName;
+        
+        private final String sql;
+    }
+}
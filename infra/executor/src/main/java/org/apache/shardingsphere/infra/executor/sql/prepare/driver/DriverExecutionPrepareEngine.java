@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.prepare.AbstractExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ExecutionStatisticsRegistry;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -63,7 +64,13 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final DatabaseConnectionManager<C> databaseConnectionManager,
                                         final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules,
                                         final Map<String, StorageUnit> storageUnits) {
-        super(maxConnectionsSizePerQuery, rules);
+        this(type, maxConnectionsSizePerQuery, false, databaseConnectionManager, statementManager, option, rules, storageUnits);
+    }
+    
+    public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final boolean adaptiveConnectionModeEnabled,
+                                        final DatabaseConnectionManager<C> databaseConnectionManager, final ExecutorStatementManager<C, ?, ?> statementManager,
+                                        final StorageResourceOption option, final Collection<ShardingSphereRule> rules, final Map<String, StorageUnit> storageUnits) {
+        super(maxConnectionsSizePerQuery, adaptiveConnectionModeEnabled, rules);
         this.type = type;
         this.databaseConnectionManager = databaseConnectionManager;
         this.statementManager = statementManager;
@@ -91,7 +98,9 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     protected List<ExecutionGroup<T>> group(final String databaseName, final String dataSourceName, final int connectionOffset, final List<List<ExecutionUnit>> executionUnitGroups,
                                             final ConnectionMode connectionMode) throws SQLException {
         List<ExecutionGroup<T>> result = new LinkedList<>();
+        long startNanos = System.nanoTime();
         List<C> connections = databaseConnectionManager.getConnections(databaseName, dataSourceName, connectionOffset, executionUnitGroups.size(), connectionMode);
+        ExecutionStatisticsRegistry.getInstance().recordConnectionAcquisition(databaseName, dataSourceName, executionUnitGroups.size(), System.nanoTime() - startNanos);
         int count = 0;
         for (List<ExecutionUnit> each : executionUnitGroups) {
             result.add(createExecutionGroup(dataSourceName, each, connections.get(count++), connectionOffset, connectionMode));
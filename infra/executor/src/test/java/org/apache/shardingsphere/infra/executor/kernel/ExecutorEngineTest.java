@@ -21,18 +21,25 @@ import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackF
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -88,4 +95,93 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertParallelExecuteWithFailure() {
+        SQLException expected = new SQLException("foo");
+        ExecutorCallback<Object, String> failedCallback = (inputs, isTrunkThread, processId) -> {
+            throw expected;
+        };
+        assertThat(assertThrows(SQLException.class, () -> executorEngine.execute(executionGroupContext, firstCallback, failedCallback, false)), is(expected));
+    }
+    
+    @Test
+    void assertParallelExecuteWhenInterrupted() throws SQLException {
+        Thread.currentThread().interrupt();
+        try {
+            assertThat(executorEngine.execute(executionGroupContext, firstCallback, callback, false).size() >= 2, is(true));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+    
+    @Test
+    void assertExecuteAsyncInCompletionOrder() throws InterruptedException, ExecutionException {
+        CountDownLatch restGroupCompleted = new CountDownLatch(1);
+        ExecutorCallback<Object, String> blockingFirstCallback = (inputs, isTrunkThread, processId) -> {
+            awaitQuietly(restGroupCompleted);
+            return Collections.nCopies(inputs.size(), "first");
+        };
+        ExecutorCallback<Object, String> restCallback = (inputs, isTrunkThread, processId) -> Collections.nCopies(inputs.size(), "rest");
+        List<String> notified = new LinkedList<>();
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, blockingFirstCallback, restCallback, false, groupResults -> {
+            notified.addAll(groupResults);
+            if (groupResults.contains("rest")) {
+                restGroupCompleted.countDown();
+            }
+        }).get();
+        assertThat(actual, is(Arrays.asList("rest", "rest", "first", "first")));
+        assertThat(notified, is(actual));
+    }
+    
+    private void awaitQuietly(final CountDownLatch countDownLatch) throws SQLException {
+        try {
+            assertTrue(countDownLatch.await(10L, TimeUnit.SECONDS));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    @Test
+    void assertSerialExecuteAsync() throws InterruptedException, ExecutionException {
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, callback, true).get();
+        assertTrue(latch.await(10L, TimeUnit.SECONDS));
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    void assertExecuteAsyncWithEmptyExecutionGroups() throws InterruptedException, ExecutionException {
+        assertTrue(executorEngine.executeAsync(createMockedExecutionGroups(0, 0), firstCallback, callback, false).get().isEmpty());
+    }
+    
+    @Test
+    void assertExecuteAsyncWithFailure() {
+        SQLException expected = new SQLException("foo");
+        ExecutorCallback<Object, String> failedCallback = (inputs, isTrunkThread, processId) -> {
+            throw expected;
+        };
+        ExecutionException actual = assertThrows(ExecutionException.class, () -> executorEngine.executeAsync(executionGroupContext, firstCallback, failedCallback, false).get());
+        assertThat(actual.getCause(), is(expected));
+    }
+    
+    @Test
+    void assertExecuteAsyncWithFirstGroupFailure() {
+        SQLException expected = new SQLException("foo");
+        ExecutorCallback<Object, String> failedCallback = (inputs, isTrunkThread, processId) -> {
+            throw expected;
+        };
+        ExecutionException actual = assertThrows(ExecutionException.class, () -> executorEngine.executeAsync(executionGroupContext, failedCallback, callback, true).get());
+        assertThat(actual.getCause(), is(expected));
+    }
+    
+    @Test
+    void assertExecuteAsyncWithListenerFailure() {
+        SQLException expected = new SQLException("foo");
+        ExecutionException actual = assertThrows(ExecutionException.class, () -> executorEngine.executeAsync(executionGroupContext, firstCallback, callback, false, groupResults -> {
+            throw expected;
+        }).get());
+        assertThat(actual.getCause(), is(expected));
+    }
 }
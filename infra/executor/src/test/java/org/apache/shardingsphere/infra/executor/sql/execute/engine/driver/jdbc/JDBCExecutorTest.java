@@ -28,9 +28,12 @@ import org.junit.jupiter.api.Test;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
@@ -75,4 +78,46 @@ class JDBCExecutorTest {
         List<?> actual = jdbcExecutor.execute(new ExecutionGroupContext<>(Collections.emptyList(), reportContext), null);
         assertThat(actual, is(Collections.emptyList()));
     }
+    
+    @Test
+    void assertExecuteWithListener() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.emptyList(), mock(ExecutionGroupReportContext.class));
+        when(executorEngine.executeAsync(any(), any(), any(), anyBoolean(), any())).thenReturn(CompletableFuture.completedFuture(Collections.singletonList("test")));
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(executorEngine, new ConnectionContext(Collections::emptySet));
+        assertThat(jdbcExecutor.execute(context, null, null, groupResults -> {
+        }), is(Collections.singletonList("test")));
+    }
+    
+    @Test
+    void assertExecuteWithListenerWhenFailed() {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.emptyList(), mock(ExecutionGroupReportContext.class));
+        SQLException expected = new SQLException("TestSQLException");
+        CompletableFuture<List<Object>> future = new CompletableFuture<>();
+        future.completeExceptionally(expected);
+        when(executorEngine.executeAsync(any(), any(), any(), anyBoolean(), any())).thenReturn(future);
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(executorEngine, new ConnectionContext(Collections::emptySet));
+        SQLExecutorExceptionHandler.setExceptionThrown(true);
+        assertThat(assertThrows(SQLException.class, () -> jdbcExecutor.execute(context, null, null, groupResults -> {
+        })), is(expected));
+    }
+    
+    @Test
+    void assertExecuteWithListenerWhenInterrupted() {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.emptyList(), mock(ExecutionGroupReportContext.class));
+        when(executorEngine.executeAsync(any(), any(), any(), anyBoolean(), any())).thenReturn(new CompletableFuture<>());
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(executorEngine, new ConnectionContext(Collections::emptySet));
+        SQLExecutorExceptionHandler.setExceptionThrown(true);
+        Thread.currentThread().interrupt();
+        try {
+            SQLException actual = assertThrows(SQLException.class, () -> jdbcExecutor.execute(context, null, null, groupResults -> {
+            }));
+            assertThat(actual.getCause() instanceof InterruptedException, is(true));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
 }
@@ -32,6 +32,9 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -52,6 +55,18 @@ class JDBCStreamQueryResultTest {
         assertFalse(queryResult.next());
     }
     
+    @Test
+    void assertNextWithExhaustedListener() throws SQLException {
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(getResultSet());
+        List<Long> actual = new LinkedList<>();
+        queryResult.setExhaustedListener(actual::add);
+        assertTrue(queryResult.next());
+        assertTrue(actual.isEmpty());
+        assertFalse(queryResult.next());
+        assertFalse(queryResult.next());
+        assertThat(actual, is(Collections.singletonList(1L)));
+    }
+    
     @Test
     void assertGetValueByBoolean() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class AdaptiveExecutionUnitGrouperTest {
+    
+    private final ExecutionUnit unit0 = createExecutionUnit("t_order_0");
+    
+    private final ExecutionUnit unit1 = createExecutionUnit("t_order_1");
+    
+    private final ExecutionUnit unit2 = createExecutionUnit("t_order_2");
+    
+    private final ExecutionUnit unit3 = createExecutionUnit("t_order_3");
+    
+    @BeforeEach
+    void setUp() {
+        ExecutionStatisticsRegistry.getInstance().enable("foo_db");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ExecutionStatisticsRegistry.getInstance().clear();
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String actualTableName) {
+        return new ExecutionUnit("foo_ds", new SQLUnit("SELECT * FROM " + actualTableName, Collections.emptyList(), Collections.singletonList(new RouteMapper("t_order", actualTableName))));
+    }
+    
+    @Test
+    void assertGroupWithoutStatistics() {
+        assertFalse(AdaptiveExecutionUnitGrouper.group("foo_db", "foo_ds", Arrays.asList(unit0, unit1), 2).isPresent());
+    }
+    
+    @Test
+    void assertGroupWithSingleMaxConnection() {
+        recordExecution(unit0, 1L, 1L);
+        recordExecution(unit1, 1L, 1L);
+        assertFalse(AdaptiveExecutionUnitGrouper.group("foo_db", "foo_ds", Arrays.asList(unit0, unit1), 1).isPresent());
+    }
+    
+    @Test
+    void assertGroupWithSkewedShard() {
+        recordExecution(unit0, 10L, 1L);
+        recordExecution(unit1, 100L, 1L);
+        recordExecution(unit2, 10L, 1L);
+        recordExecution(unit3, 10L, 1L);
+        Map<ConnectionMode, List<List<ExecutionUnit>>> actual = AdaptiveExecutionUnitGrouper.group("foo_db", "foo_ds", Arrays.asList(unit0, unit1, unit2, unit3), 2)
+                .orElseThrow(IllegalStateException::new);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(ConnectionMode.CONNECTION_STRICTLY), is(Arrays.asList(Collections.singletonList(unit1), Arrays.asList(unit0, unit2, unit3))));
+    }
+    
+    @Test
+    void assertGroupWithUnobservedShard() {
+        recordExecution(unit0, 10L, 1L);
+        recordExecution(unit1, 10L, 1L);
+        Map<ConnectionMode, List<List<ExecutionUnit>>> actual = AdaptiveExecutionUnitGrouper.group("foo_db", "foo_ds", Arrays.asList(unit0, unit1, unit2), 4).orElseThrow(IllegalStateException::new);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(ConnectionMode.MEMORY_STRICTLY), is(Arrays.asList(Collections.singletonList(unit0), Collections.singletonList(unit1), Collections.singletonList(unit2))));
+    }
+    
+    @Test
+    void assertGroupWithTinyShardsAndSlowConnectionAcquisition() {
+        recordExecution(unit0, 0L, 1L);
+        recordExecution(unit1, 0L, 1L);
+        recordExecution(unit2, 0L, 1L);
+        recordExecution(unit3, 0L, 1L);
+        ExecutionStatisticsRegistry.getInstance().recordConnectionAcquisition("foo_db", "foo_ds", 1, TimeUnit.MILLISECONDS.toNanos(1L));
+        Map<ConnectionMode, List<List<ExecutionUnit>>> actual = AdaptiveExecutionUnitGrouper.group("foo_db", "foo_ds", Arrays.asList(unit0, unit1, unit2, unit3), 4)
+                .orElseThrow(IllegalStateException::new);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(ConnectionMode.CONNECTION_STRICTLY), is(Collections.singletonList(Arrays.asList(unit0, unit1, unit2, unit3))));
+    }
+    
+    @Test
+    void assertGroupWithLargeResultShard() {
+        recordExecution(unit0, 10L, 1L);
+        recordExecution(unit1, 10L, 100000L);
+        recordExecution(unit2, 10L, 1L);
+        Map<ConnectionMode, List<List<ExecutionUnit>>> actual = AdaptiveExecutionUnitGrouper.group("foo_db", "foo_ds", Arrays.asList(unit0, unit1, unit2), 2).orElseThrow(IllegalStateException::new);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(ConnectionMode.MEMORY_STRICTLY), is(Collections.singletonList(Collections.singletonList(unit1))));
+        assertThat(actual.get(ConnectionMode.CONNECTION_STRICTLY), is(Collections.singletonList(Arrays.asList(unit0, unit2))));
+    }
+    
+    private void recordExecution(final ExecutionUnit executionUnit, final long elapsedMillis, final long rows) {
+        ExecutionStatisticsRegistry.getInstance().recordExecution("foo_db", executionUnit, TimeUnit.MILLISECONDS.toNanos(elapsedMillis), rows);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionStatisticsRegistryTest {
+    
+    private final ExecutionUnit executionUnit = new ExecutionUnit("foo_ds", new SQLUnit("SELECT * FROM t_order_0", Collections.emptyList(),
+            Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+    
+    @BeforeEach
+    void setUp() {
+        ExecutionStatisticsRegistry.getInstance().enable("foo_db");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ExecutionStatisticsRegistry.getInstance().clear();
+    }
+    
+    @Test
+    void assertRecordExecution() {
+        ExecutionStatisticsRegistry.getInstance().recordExecution("foo_db", executionUnit, 100L, 10L);
+        ExecutionStatisticsRegistry.getInstance().recordExecution("foo_db", executionUnit, 200L, -1L);
+        ExecutionStatistics actual = ExecutionStatisticsRegistry.getInstance().findExecutionStatistics("foo_db", executionUnit).orElseThrow(IllegalStateException::new);
+        assertThat(actual.getAverageNanos(), is(120D));
+        assertThat(actual.getAverageRows(), is(10D));
+        assertFalse(ExecutionStatisticsRegistry.getInstance().findExecutionStatistics("foo_db", new ExecutionUnit("bar_ds", executionUnit.getSqlUnit())).isPresent());
+    }
+    
+    @Test
+    void assertRecordExecutionWithDifferentSQLShape() {
+        ExecutionStatisticsRegistry.getInstance().recordExecution("foo_db", executionUnit, 100L, 10L);
+        ExecutionUnit otherShapeExecutionUnit = new ExecutionUnit("foo_ds", new SQLUnit("SELECT COUNT(*) FROM t_order_0", Collections.emptyList(),
+                Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        assertFalse(ExecutionStatisticsRegistry.getInstance().findExecutionStatistics("foo_db", otherShapeExecutionUnit).isPresent());
+    }
+    
+    @Test
+    void assertRecordExecutionWithDifferentDatabase() {
+        ExecutionStatisticsRegistry.getInstance().enable("bar_db");
+        ExecutionStatisticsRegistry.getInstance().recordExecution("foo_db", executionUnit, 100L, 10L);
+        ExecutionStatisticsRegistry.getInstance().recordExecution("bar_db", executionUnit, 300L, 30L);
+        assertThat(ExecutionStatisticsRegistry.getInstance().findExecutionStatistics("foo_db", executionUnit).orElseThrow(IllegalStateException::new).getAverageNanos(), is(100D));
+        assertThat(ExecutionStatisticsRegistry.getInstance().findExecutionStatistics("bar_db", executionUnit).orElseThrow(IllegalStateException::new).getAverageNanos(), is(300D));
+    }
+    
+    @Test
+    void assertRecordExecutionWithNewSQLShapeAfterExceedingMaxShapeSize() {
+        for (int i = 0; i < 5000; i++) {
+            ExecutionStatisticsRegistry.getInstance().recordExecution("foo_db", createExecutionUnit("SELECT * FROM t_order_0 WHERE order_id = " + i), 100L, 10L);
+        }
+        ExecutionUnit newShapeExecutionUnit = createExecutionUnit("SELECT * FROM t_order_0 WHERE user_id = 1");
+        ExecutionStatisticsRegistry.getInstance().recordExecution("foo_db", newShapeExecutionUnit, 200L, 20L);
+        assertThat(ExecutionStatisticsRegistry.getInstance().findExecutionStatistics("foo_db", newShapeExecutionUnit).orElseThrow(IllegalStateException::new).getAverageNanos(), is(200D));
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String sql) {
+        return new ExecutionUnit("foo_ds", new SQLUnit(sql, Collections.emptyList(), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+    }
+    
+    @Test
+    void assertRecordExecutionWithNotEnabledDatabase() {
+        ExecutionStatisticsRegistry.getInstance().recordExecution("bar_db", executionUnit, 100L, 10L);
+        assertFalse(ExecutionStatisticsRegistry.getInstance().findExecutionStatistics("bar_db", executionUnit).isPresent());
+    }
+    
+    @Test
+    void assertRecordRows() {
+        ExecutionStatisticsRegistry.getInstance().recordExecution("foo_db", executionUnit, 100L, -1L);
+        ExecutionStatisticsRegistry.getInstance().recordRows("foo_db", executionUnit, 10L);
+        ExecutionStatistics actual = ExecutionStatisticsRegistry.getInstance().findExecutionStatistics("foo_db", executionUnit).orElseThrow(IllegalStateException::new);
+        assertThat(actual.getAverageNanos(), is(100D));
+        assertThat(actual.getAverageRows(), is(10D));
+    }
+    
+    @Test
+    void assertDisable() {
+        ExecutionStatisticsRegistry.getInstance().recordExecution("foo_db", executionUnit, 100L, 10L);
+        ExecutionStatisticsRegistry.getInstance().disable("foo_db");
+        assertFalse(ExecutionStatisticsRegistry.getInstance().isEnabled());
+        assertFalse(ExecutionStatisticsRegistry.getInstance().findExecutionStatistics("foo_db", executionUnit).isPresent());
+        ExecutionStatisticsRegistry.getInstance().recordExecution("foo_db", executionUnit, 100L, 10L);
+        assertFalse(ExecutionStatisticsRegistry.getInstance().findExecutionStatistics("foo_db", executionUnit).isPresent());
+    }
+    
+    @Test
+    void assertRecordConnectionAcquisition() {
+        ExecutionStatisticsRegistry.getInstance().recordConnectionAcquisition("foo_db", "foo_ds", 4, 400L);
+        ExecutionStatistics actual = ExecutionStatisticsRegistry.getInstance().findConnectionAcquisitionStatistics("foo_db", "foo_ds").orElseThrow(IllegalStateException::new);
+        assertThat(actual.getAverageNanos(), is(100D));
+        assertTrue(actual.isNanosObserved());
+        assertFalse(actual.isRowsObserved());
+        assertFalse(ExecutionStatisticsRegistry.getInstance().findConnectionAcquisitionStatistics("bar_db", "foo_ds").isPresent());
+    }
+}
@@ -37,9 +37,16 @@ public final class ShardingSphereSQLParserEngine implements SQLParserEngine {
     
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
+    private final boolean fingerprintCacheEnabled;
+    
     public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, false);
+    }
+    
+    public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean fingerprintCacheEnabled) {
         sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
+        this.fingerprintCacheEnabled = fingerprintCacheEnabled;
     }
     
     /*
@@ -50,7 +57,7 @@ public final class ShardingSphereSQLParserEngine implements SQLParserEngine {
     @Override
     public SQLStatement parse(final String sql, final boolean useCache) {
         try {
-            return sqlStatementParserEngine.parse(sql, useCache);
+            return useCache || !fingerprintCacheEnabled ? sqlStatementParserEngine.parse(sql, useCache) : sqlStatementParserEngine.parseWithFingerprintCache(sql);
         } catch (final SQLParsingException | ParseCancellationException originalEx) {
             try {
                 String trimSQL = SQLUtils.trimComment(sql);
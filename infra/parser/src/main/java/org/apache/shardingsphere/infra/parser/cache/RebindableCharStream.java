@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CodePointBuffer;
+import org.antlr.v4.runtime.CodePointCharStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.nio.CharBuffer;
+
+/**
+ * Rebindable char stream.
+ * <p>Tokens of parse tree read their text from the char stream, so the parse tree can be bound to another SQL by rebinding the char stream.</p>
+ */
+final class RebindableCharStream implements CharStream {
+    
+    private CharStream delegate;
+    
+    RebindableCharStream(final String sql) {
+        rebind(sql);
+    }
+    
+    /**
+     * Rebind SQL.
+     *
+     * @param sql SQL to be bound
+     */
+    void rebind(final String sql) {
+        delegate = CodePointCharStream.fromBuffer(CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray())));
+    }
+    
+    @Override
+    public String getText(final Interval interval) {
+        return delegate.getText(interval);
+    }
+    
+    @Override
+    public void consume() {
+        delegate.consume();
+    }
+    
+    @Override
+    public int LA(final int i) {
+        return delegate.LA(i);
+    }
+    
+    @Override
+    public int mark() {
+        return delegate.mark();
+    }
+    
+    @Override
+    public void release(final int marker) {
+        delegate.release(marker);
+    }
+    
+    @Override
+    public int index() {
+        return delegate.index();
+    }
+    
+    @Override
+    public void seek(final int index) {
+        delegate.seek(index);
+    }
+    
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+    
+    @Override
+    public String getSourceName() {
+        return delegate.getSourceName();
+    }
+    
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
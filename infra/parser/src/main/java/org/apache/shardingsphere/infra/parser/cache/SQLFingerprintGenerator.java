@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL fingerprint generator.
+ * <p>SQL fingerprint is the SQL text with numeric, string and hexadecimal literals replaced by {@code ?}, literals are recognized by a lexer-level scan without parsing.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFingerprintGenerator {
+    
+    private static final char PLACEHOLDER = '?';
+    
+    /**
+     * Generate SQL fingerprint.
+     *
+     * @param sql SQL
+     * @return SQL fingerprint
+     */
+    public static SQLFingerprint generate(final String sql) {
+        int length = sql.length();
+        StringBuilder value = new StringBuilder(length);
+        List<Interval> literalIntervals = new ArrayList<>();
+        int index = 0;
+        while (index < length) {
+            char each = sql.charAt(index);
+            if ('\'' == each) {
+                int end = skipStringLiteral(sql, index + 1);
+                literalIntervals.add(Interval.of(index, end - 1));
+                value.append(PLACEHOLDER);
+                index = end;
+            } else if ('"' == each || '`' == each) {
+                int end = skipQuotedIdentifier(sql, index + 1, each);
+                value.append(sql, index, end);
+                index = end;
+            } else if (Character.isDigit(each) && !isIdentifierPart(sql, index - 1)) {
+                int end = skipNumericLiteral(sql, index);
+                literalIntervals.add(Interval.of(index, end - 1));
+                value.append(PLACEHOLDER);
+                index = end;
+            } else {
+                value.append(each);
+                index++;
+            }
+        }
+        return new SQLFingerprint(value.toString(), literalIntervals);
+    }
+    
+    private static int skipStringLiteral(final String sql, final int startIndex) {
+        int index = startIndex;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if ('\\' == each) {
+                index += 2;
+                continue;
+            }
+            if ('\'' == each) {
+                if (index + 1 < sql.length() && '\'' == sql.charAt(index + 1)) {
+                    index += 2;
+                    continue;
+                }
+                return index + 1;
+            }
+            index++;
+        }
+        return sql.length();
+    }
+    
+    private static int skipQuotedIdentifier(final String sql, final int startIndex, final char quote) {
+        int end = sql.indexOf(quote, startIndex);
+        return -1 == end ? sql.length() : end + 1;
+    }
+    
+    private static int skipNumericLiteral(final String sql, final int startIndex) {
+        int index = startIndex;
+        if ('0' == sql.charAt(index) && index + 1 < sql.length() && ('x' == sql.charAt(index + 1) || 'X' == sql.charAt(index + 1))) {
+            index += 2;
+            while (index < sql.length() && Character.digit(sql.charAt(index), 16) >= 0) {
+                index++;
+            }
+            return index;
+        }
+        while (index < sql.length() && (Character.isDigit(sql.charAt(index)) || '.' == sql.charAt(index))) {
+            index++;
+        }
+        if (index < sql.length() && ('e' == sql.charAt(index) || 'E' == sql.charAt(index))) {
+            int exponentIndex = index + 1;
+            if (exponentIndex < sql.length() && ('+' == sql.charAt(exponentIndex) || '-' == sql.charAt(exponentIndex))) {
+                exponentIndex++;
+            }
+            if (exponentIndex < sql.length() && Character.isDigit(sql.charAt(exponentIndex))) {
+                index = exponentIndex;
+                while (index < sql.length() && Character.isDigit(sql.charAt(index))) {
+                    index++;
+                }
+            }
+        }
+        return index;
+    }
+    
+    private static boolean isIdentifierPart(final String sql, final int index) {
+        if (index < 0) {
+            return false;
+        }
+        char each = sql.charAt(index);
+        return Character.isLetterOrDigit(each) || '_' == each || '$' == each;
+    }
+}
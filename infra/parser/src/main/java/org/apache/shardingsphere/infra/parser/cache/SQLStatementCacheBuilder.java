@@ -42,6 +42,6 @@ public final class SQLStatementCacheBuilder {
     public static LoadingCache<String, SQLStatement> build(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption,
                                                            final CacheOption parseTreeCacheOption) {
         return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
-                .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption));
+                .recordStats().build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption));
     }
 }
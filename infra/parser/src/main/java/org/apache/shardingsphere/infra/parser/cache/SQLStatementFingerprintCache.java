@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * SQL statement fingerprint cache.
+ * <p>It caches SQL statement templates of non-parameterized SQL by SQL fingerprint, SQL which only differs in literals is bound into the cached template instead of parsing again,
+ * so that high cardinality literals (such as primary key lookup) share one cache entry.</p>
+ */
+public final class SQLStatementFingerprintCache {
+    
+    private static final long EXPIRE_AFTER_ACCESS_MINUTES = 10L;
+    
+    private final Cache<String, SQLStatementTemplate> sqlStatementTemplateCache;
+    
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+    
+    public SQLStatementFingerprintCache(final CacheOption sqlStatementCacheOption) {
+        sqlStatementTemplateCache = Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES).build();
+    }
+    
+    /**
+     * Get SQL statement.
+     *
+     * @param sql SQL
+     * @param templateParser parser to parse SQL to template when no template of SQL fingerprint can be bound
+     * @return SQL statement
+     */
+    public SQLStatement get(final String sql, final BiFunction<String, SQLFingerprint, SQLStatementTemplate> templateParser) {
+        SQLFingerprint fingerprint = SQLFingerprintGenerator.generate(sql);
+        SQLStatementTemplate template = sqlStatementTemplateCache.getIfPresent(fingerprint.getValue());
+        Optional<SQLStatement> result = null == template ? Optional.empty() : template.bind(sql, fingerprint);
+        if (result.isPresent()) {
+            statsCounter.recordHits(1);
+            return result.get();
+        }
+        statsCounter.recordMisses(1);
+        SQLStatementTemplate parsedTemplate = templateParser.apply(sql, fingerprint);
+        if (null == template || !template.isBindable() && parsedTemplate.isBindable()) {
+            sqlStatementTemplateCache.put(fingerprint.getValue(), parsedTemplate);
+        }
+        return parsedTemplate.getSqlStatement();
+    }
+    
+    /**
+     * Get cache statistics.
+     *
+     * @return cache statistics
+     */
+    public CacheStats stats() {
+        return statsCounter.snapshot();
+    }
+}
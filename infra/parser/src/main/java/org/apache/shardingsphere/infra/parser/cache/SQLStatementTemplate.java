@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import lombok.Getter;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL statement template.
+ * <p>SQL statement template keeps the parse tree of a SQL whose literals are not parameterized.
+ * SQL with the same fingerprint is bound into the parse tree by rebinding the char stream and shifting the token indexes,
+ * then the SQL statement is visited from the bound parse tree without parsing again.</p>
+ */
+public final class SQLStatementTemplate {
+    
+    private final String sql;
+    
+    private final List<Interval> literalIntervals;
+    
+    private final RebindableCharStream charStream;
+    
+    private final ParseASTNode parseASTNode;
+    
+    private final SQLStatementVisitorEngine visitorEngine;
+    
+    private final List<CommonToken> tokens;
+    
+    private final int[] originalStartIndexes;
+    
+    private final int[] originalStopIndexes;
+    
+    @Getter
+    private final boolean bindable;
+    
+    @Getter
+    private final SQLStatement sqlStatement;
+    
+    public SQLStatementTemplate(final String sql, final SQLFingerprint fingerprint, final SQLParserEngine parserEngine, final SQLStatementVisitorEngine visitorEngine) {
+        this.sql = sql;
+        literalIntervals = fingerprint.getLiteralIntervals();
+        charStream = new RebindableCharStream(sql);
+        parseASTNode = parserEngine.parse(charStream);
+        this.visitorEngine = visitorEngine;
+        tokens = new ArrayList<>(parseASTNode.getTokens().size());
+        for (Token each : parseASTNode.getTokens()) {
+            if (each instanceof CommonToken) {
+                tokens.add((CommonToken) each);
+            }
+        }
+        originalStartIndexes = new int[tokens.size()];
+        originalStopIndexes = new int[tokens.size()];
+        for (int i = 0; i < tokens.size(); i++) {
+            originalStartIndexes[i] = tokens.get(i).getStartIndex();
+            originalStopIndexes[i] = tokens.get(i).getStopIndex();
+        }
+        bindable = tokens.size() == parseASTNode.getTokens().size() && isLiteralsTokenized();
+        sqlStatement = visitorEngine.visit(parseASTNode);
+    }
+    
+    private boolean isLiteralsTokenized() {
+        int tokenIndex = 0;
+        for (Interval each : literalIntervals) {
+            while (tokenIndex < tokens.size() && originalStartIndexes[tokenIndex] < each.a) {
+                tokenIndex++;
+            }
+            if (tokenIndex == tokens.size() || originalStartIndexes[tokenIndex] != each.a || originalStopIndexes[tokenIndex] != each.b
+                    || !sql.substring(each.a, each.b + 1).equals(tokens.get(tokenIndex).getText())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Bind SQL which has the same fingerprint with template.
+     *
+     * @param sql SQL to be bound
+     * @param fingerprint fingerprint of SQL to be bound
+     * @return bound SQL statement, empty if SQL can not be bound into template
+     */
+    public synchronized Optional<SQLStatement> bind(final String sql, final SQLFingerprint fingerprint) {
+        if (this.sql.equals(sql)) {
+            return Optional.of(sqlStatement);
+        }
+        if (!bindable || !isSameLiteralTypes(sql, fingerprint.getLiteralIntervals())) {
+            return Optional.empty();
+        }
+        charStream.rebind(sql);
+        shiftTokens(fingerprint.getLiteralIntervals());
+        return Optional.of(visitorEngine.visit(parseASTNode));
+    }
+    
+    private boolean isSameLiteralTypes(final String sql, final List<Interval> boundLiteralIntervals) {
+        if (literalIntervals.size() != boundLiteralIntervals.size()) {
+            return false;
+        }
+        for (int i = 0; i < literalIntervals.size(); i++) {
+            if (getLiteralType(this.sql, literalIntervals.get(i)) != getLiteralType(sql, boundLiteralIntervals.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private char getLiteralType(final String sql, final Interval literalInterval) {
+        String literal = sql.substring(literalInterval.a, literalInterval.b + 1);
+        if ('\'' == literal.charAt(0)) {
+            return 'S';
+        }
+        if (literal.startsWith("0x") || literal.startsWith("0X")) {
+            return 'X';
+        }
+        return literal.contains(".") || literal.contains("e") || literal.contains("E") ? 'D' : 'I';
+    }
+    
+    private void shiftTokens(final List<Interval> boundLiteralIntervals) {
+        int literalIndex = 0;
+        int startOffset = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            while (literalIndex < literalIntervals.size() && literalIntervals.get(literalIndex).b < originalStartIndexes[i]) {
+                startOffset += boundLiteralIntervals.get(literalIndex).length() - literalIntervals.get(literalIndex).length();
+                literalIndex++;
+            }
+            int stopOffset = startOffset;
+            int stopLiteralIndex = literalIndex;
+            while (stopLiteralIndex < literalIntervals.size() && literalIntervals.get(stopLiteralIndex).b <= originalStopIndexes[i]) {
+                stopOffset += boundLiteralIntervals.get(stopLiteralIndex).length() - literalIntervals.get(stopLiteralIndex).length();
+                stopLiteralIndex++;
+            }
+            tokens.get(i).setStartIndex(originalStartIndexes[i] + startOffset);
+            tokens.get(i).setStopIndex(originalStopIndexes[i] + stopOffset);
+        }
+    }
+}
@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.infra.parser.sql;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementFingerprintCache;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
@@ -29,10 +31,15 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatemen
  */
 public final class SQLStatementParserEngine {
     
+    @Getter
+    private final DatabaseType databaseType;
+    
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
+    private final SQLStatementFingerprintCache sqlStatementFingerprintCache;
+    
     @Getter
     private final CacheOption sqlStatementCacheOption;
     
@@ -40,8 +47,10 @@ public final class SQLStatementParserEngine {
     private final CacheOption parseTreeCacheOption;
     
     public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
+        this.databaseType = databaseType;
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
         sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
+        sqlStatementFingerprintCache = new SQLStatementFingerprintCache(sqlStatementCacheOption);
         this.sqlStatementCacheOption = sqlStatementCacheOption;
         this.parseTreeCacheOption = parseTreeCacheOption;
     }
@@ -56,4 +65,23 @@ public final class SQLStatementParserEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
     }
+    
+    /**
+     * Parse to SQL statement with fingerprint cache.
+     *
+     * @param sql SQL to be parsed, which literals are not parameterized
+     * @return SQL statement
+     */
+    public SQLStatement parseWithFingerprintCache(final String sql) {
+        return sqlStatementFingerprintCache.get(sql, sqlStatementParserExecutor::parseToTemplate);
+    }
+    
+    /**
+     * Get statistics of SQL statement caches.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getCacheStats() {
+        return sqlStatementCache.stats().plus(sqlStatementFingerprintCache.stats());
+    }
 }
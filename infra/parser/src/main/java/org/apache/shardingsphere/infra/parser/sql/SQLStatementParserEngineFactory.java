@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -51,4 +52,13 @@ public final class SQLStatementParserEngineFactory {
         }
         return result;
     }
+    
+    /**
+     * Get all SQL statement parser engines.
+     *
+     * @return all SQL statement parser engines
+     */
+    public static Collection<SQLStatementParserEngine> getAllSQLStatementParserEngines() {
+        return ENGINES.values();
+    }
 }
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.infra.parser.sql;
 
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.cache.SQLFingerprint;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementTemplate;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
@@ -46,4 +48,15 @@ public final class SQLStatementParserExecutor {
     public SQLStatement parse(final String sql) {
         return visitorEngine.visit(parserEngine.parse(sql, false));
     }
+    
+    /**
+     * Parse to SQL statement template.
+     *
+     * @param sql SQL to be parsed, which literals are not parameterized
+     * @param fingerprint fingerprint of SQL
+     * @return SQL statement template
+     */
+    public SQLStatementTemplate parseToTemplate(final String sql, final SQLFingerprint fingerprint) {
+        return new SQLStatementTemplate(sql, fingerprint, parserEngine, visitorEngine);
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import org.antlr.v4.runtime.misc.Interval;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLFingerprintGeneratorTest {
+    
+    @Test
+    void assertGenerateWithNumericLiterals() {
+        assertThat(SQLFingerprintGenerator.generate("SELECT * FROM t_order_1 WHERE order_id = 10 AND price > 1.5e-3 AND flag = 0x1F").getValue(),
+                is("SELECT * FROM t_order_1 WHERE order_id = ? AND price > ? AND flag = ?"));
+    }
+    
+    @Test
+    void assertGenerateWithStringLiterals() {
+        assertThat(SQLFingerprintGenerator.generate("SELECT * FROM t_user WHERE name = 'it''s' AND remark = 'a\\'b' AND status = 'OK'").getValue(),
+                is("SELECT * FROM t_user WHERE name = ? AND remark = ? AND status = ?"));
+    }
+    
+    @Test
+    void assertGenerateWithQuotedIdentifiers() {
+        assertThat(SQLFingerprintGenerator.generate("SELECT `col1` FROM \"t_1\" WHERE id IN (1, 2)").getValue(), is("SELECT `col1` FROM \"t_1\" WHERE id IN (?, ?)"));
+    }
+    
+    @Test
+    void assertGenerateWithSameFingerprint() {
+        assertThat(SQLFingerprintGenerator.generate("UPDATE t_order SET status = 'PAID' WHERE order_id = 1").getValue(),
+                is(SQLFingerprintGenerator.generate("UPDATE t_order SET status = 'INIT' WHERE order_id = 200").getValue()));
+    }
+    
+    @Test
+    void assertGenerateWithLiteralIntervals() {
+        List<Interval> actual = SQLFingerprintGenerator.generate("SELECT * FROM t_order WHERE order_id = 10 AND status = 'OK'").getLiteralIntervals();
+        assertThat(actual, is(Arrays.asList(Interval.of(39, 40), Interval.of(55, 58))));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserExecutor;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLStatementFingerprintCacheTest {
+    
+    private final SQLStatementParserExecutor parserExecutor = new SQLStatementParserExecutor(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new CacheOption(128, 1024L));
+    
+    private final AtomicInteger parseCount = new AtomicInteger();
+    
+    private final BiFunction<String, SQLFingerprint, SQLStatementTemplate> templateParser = (sql, fingerprint) -> {
+        parseCount.incrementAndGet();
+        return parserExecutor.parseToTemplate(sql, fingerprint);
+    };
+    
+    @Test
+    void assertGetWithRepeatedSQL() {
+        SQLStatementFingerprintCache cache = new SQLStatementFingerprintCache(new CacheOption(128, 1024L));
+        SQLStatement expected = cache.get("SELECT * FROM t_order WHERE status = 'PAID'", templateParser);
+        assertThat(cache.get("SELECT * FROM t_order WHERE status = 'PAID'", templateParser), sameInstance(expected));
+        assertThat(parseCount.get(), is(1));
+        assertThat(cache.stats().hitCount(), is(1L));
+        assertThat(cache.stats().missCount(), is(1L));
+    }
+    
+    @Test
+    void assertGetWithDifferentLiterals() {
+        SQLStatementFingerprintCache cache = new SQLStatementFingerprintCache(new CacheOption(128, 1024L));
+        SQLStatement first = cache.get("SELECT * FROM t_order WHERE order_id = 1 AND status = 'PAID' /* comment */", templateParser);
+        SQLStatement second = cache.get("SELECT * FROM t_order WHERE order_id = 10000 AND status = 'INIT' /* comment */", templateParser);
+        assertThat(parseCount.get(), is(1));
+        assertThat(cache.stats().hitCount(), is(1L));
+        assertThat(second, not(sameInstance(first)));
+        assertLiteral(getCondition(first, true), 1, 39, 39);
+        assertLiteral(getCondition(first, false), "PAID", 54, 59);
+        assertLiteral(getCondition(second, true), 10000, 39, 43);
+        assertLiteral(getCondition(second, false), "INIT", 58, 63);
+        assertThat(((AbstractSQLStatement) second).getCommentSegments().iterator().next().getStartIndex(), is(65));
+    }
+    
+    @Test
+    void assertGetWithDifferentLiteralTypes() {
+        SQLStatementFingerprintCache cache = new SQLStatementFingerprintCache(new CacheOption(128, 1024L));
+        cache.get("SELECT * FROM t_order WHERE order_id = 1", templateParser);
+        SQLStatement actual = cache.get("SELECT * FROM t_order WHERE order_id = '1'", templateParser);
+        assertThat(parseCount.get(), is(2));
+        assertThat(cache.stats().missCount(), is(2L));
+        assertThat(((LiteralExpressionSegment) ((BinaryOperationExpression) ((SelectStatement) actual).getWhere().get().getExpr()).getRight()).getLiterals(), is("1"));
+    }
+    
+    @Test
+    void assertGetWithNotBindableTemplate() {
+        SQLStatementFingerprintCache cache = new SQLStatementFingerprintCache(new CacheOption(128, 1024L));
+        cache.get("SELECT * FROM t_order WHERE status = 'PAID' -- 1", templateParser);
+        cache.get("SELECT * FROM t_order WHERE status = 'INIT' -- 2", templateParser);
+        assertThat(parseCount.get(), is(2));
+    }
+    
+    private BinaryOperationExpression getCondition(final SQLStatement sqlStatement, final boolean left) {
+        BinaryOperationExpression expression = (BinaryOperationExpression) ((SelectStatement) sqlStatement).getWhere().get().getExpr();
+        return (BinaryOperationExpression) (left ? expression.getLeft() : expression.getRight());
+    }
+    
+    private void assertLiteral(final BinaryOperationExpression condition, final Object expectedLiteral, final int expectedStartIndex, final int expectedStopIndex) {
+        LiteralExpressionSegment actual = (LiteralExpressionSegment) condition.getRight();
+        assertThat(actual.getLiterals(), is(expectedLiteral));
+        assertThat(actual.getStartIndex(), is(expectedStartIndex));
+        assertThat(actual.getStopIndex(), is(expectedStopIndex));
+        assertThat(condition.getStopIndex(), is(expectedStopIndex));
+    }
+}
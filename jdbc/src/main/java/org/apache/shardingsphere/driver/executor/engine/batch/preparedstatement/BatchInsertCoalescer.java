@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Batch insert coalescer.
+ *
+ * <p>Batched single-row insert statements of same data node are coalesced into multi-row insert statements,
+ * rows of one coalesced statement are limited by estimated packet size and max parameters size of one statement.</p>
+ */
+@RequiredArgsConstructor
+public final class BatchInsertCoalescer {
+    
+    private static final String VALUES_KEYWORD = "VALUES";
+    
+    private static final int MAX_PARAMETERS_SIZE = Short.MAX_VALUE;
+    
+    private static final int DEFAULT_PARAMETER_BYTES = 16;
+    
+    private final int maxPacketSize;
+    
+    /**
+     * Coalesce batch execution unit.
+     *
+     * @param batchExecutionUnit batch execution unit
+     * @return coalesced batch execution units, empty if SQL is not single-row insert statement with all parameters in values
+     */
+    public Optional<Collection<CoalescedBatchExecutionUnit>> coalesce(final BatchExecutionUnit batchExecutionUnit) {
+        ExecutionUnit executionUnit = batchExecutionUnit.getExecutionUnit();
+        List<Object> params = new ArrayList<>(executionUnit.getSqlUnit().getParameters());
+        int rowCount = batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().size();
+        if (params.isEmpty() || 0 == rowCount || 0 != params.size() % rowCount) {
+            return Optional.empty();
+        }
+        int rowParametersSize = params.size() / rowCount;
+        String sql = executionUnit.getSqlUnit().getSql();
+        Optional<int[]> valuesRange = findValuesRange(sql, rowParametersSize);
+        if (!valuesRange.isPresent()) {
+            return Optional.empty();
+        }
+        String prefix = sql.substring(0, valuesRange.get()[0]);
+        String values = sql.substring(valuesRange.get()[0], valuesRange.get()[1]);
+        int rowsPerStatement = getRowsPerStatement(prefix, values, params, rowCount, rowParametersSize);
+        List<Integer> addBatchIndexes = getAddBatchIndexes(batchExecutionUnit, rowCount);
+        Collection<CoalescedBatchExecutionUnit> result = new LinkedList<>();
+        int fullRowCount = rowCount / rowsPerStatement * rowsPerStatement;
+        if (fullRowCount > 0) {
+            result.add(createCoalescedBatchExecutionUnit(executionUnit, prefix, values, params, addBatchIndexes, 0, fullRowCount, rowsPerStatement, rowParametersSize));
+        }
+        if (fullRowCount < rowCount) {
+            result.add(createCoalescedBatchExecutionUnit(executionUnit, prefix, values, params, addBatchIndexes, fullRowCount, rowCount, rowCount - fullRowCount, rowParametersSize));
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<int[]> findValuesRange(final String sql, final int rowParametersSize) {
+        int depth = 0;
+        int valuesKeywordEnd = -1;
+        int valuesStart = -1;
+        int placeholderCount = 0;
+        int index = 0;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if ('\'' == each || '"' == each || '`' == each) {
+                index = skipQuoted(sql, index);
+                if (index < 0) {
+                    return Optional.empty();
+                }
+            } else if ('#' == each || sql.startsWith("--", index) || sql.startsWith("/*", index)) {
+                return Optional.empty();
+            } else if ('?' == each) {
+                placeholderCount++;
+            } else if ('(' == each && 0 == depth && valuesKeywordEnd >= 0 && valuesStart < 0) {
+                if (placeholderCount > 0 || !sql.substring(valuesKeywordEnd, index).trim().isEmpty()) {
+                    return Optional.empty();
+                }
+                valuesStart = index;
+                depth++;
+            } else if ('(' == each) {
+                depth++;
+            } else if (')' == each) {
+                depth--;
+                if (0 == depth && valuesStart >= 0) {
+                    return isOnlyTrailingBlank(sql, index + 1) && placeholderCount == rowParametersSize ? Optional.of(new int[]{valuesStart, index + 1}) : Optional.empty();
+                }
+            } else if (0 == depth && valuesKeywordEnd < 0 && isValuesKeyword(sql, index)) {
+                valuesKeywordEnd = index + VALUES_KEYWORD.length();
+                index = valuesKeywordEnd - 1;
+            }
+            index++;
+        }
+        return Optional.empty();
+    }
+    
+    private int skipQuoted(final String sql, final int quoteIndex) {
+        char quote = sql.charAt(quoteIndex);
+        int index = quoteIndex + 1;
+        while (index < sql.length()) {
+            if (isEscaped(sql, index, quote)) {
+                index += 2;
+            } else if (quote == sql.charAt(index)) {
+                return index;
+            } else {
+                index++;
+            }
+        }
+        return -1;
+    }
+    
+    private boolean isEscaped(final String sql, final int index, final char quote) {
+        char each = sql.charAt(index);
+        if ('\\' == each) {
+            return '`' != quote;
+        }
+        return quote == each && index + 1 < sql.length() && quote == sql.charAt(index + 1);
+    }
+    
+    private boolean isValuesKeyword(final String sql, final int index) {
+        if (!sql.regionMatches(true, index, VALUES_KEYWORD, 0, VALUES_KEYWORD.length())) {
+            return false;
+        }
+        int end = index + VALUES_KEYWORD.length();
+        return (0 == index || !isIdentifierPart(sql.charAt(index - 1))) && (end == sql.length() || !isIdentifierPart(sql.charAt(end)));
+    }
+    
+    private boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private boolean isOnlyTrailingBlank(final String sql, final int fromIndex) {
+        for (int i = fromIndex; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if (!Character.isWhitespace(each) && ';' != each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private int getRowsPerStatement(final String prefix, final String values, final List<Object> params, final int rowCount, final int rowParametersSize) {
+        long maxRowBytes = 0L;
+        for (int row = 0; row < rowCount; row++) {
+            long rowBytes = values.length() + 2L;
+            for (int i = row * rowParametersSize; i < (row + 1) * rowParametersSize; i++) {
+                rowBytes += estimateParameterBytes(params.get(i));
+            }
+            maxRowBytes = Math.max(maxRowBytes, rowBytes);
+        }
+        long result = Math.max(1L, (maxPacketSize - prefix.length()) / maxRowBytes);
+        result = Math.min(result, Math.max(1, MAX_PARAMETERS_SIZE / rowParametersSize));
+        return (int) Math.min(result, rowCount);
+    }
+    
+    private long estimateParameterBytes(final Object param) {
+        if (param instanceof CharSequence) {
+            return ((CharSequence) param).length() * 3L + 2L;
+        }
+        if (param instanceof byte[]) {
+            return ((byte[]) param).length * 2L + 3L;
+        }
+        return DEFAULT_PARAMETER_BYTES;
+    }
+    
+    private List<Integer> getAddBatchIndexes(final BatchExecutionUnit batchExecutionUnit, final int rowCount) {
+        Integer[] result = new Integer[rowCount];
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            result[entry.getValue()] = entry.getKey();
+        }
+        return Arrays.asList(result);
+    }
+    
+    private CoalescedBatchExecutionUnit createCoalescedBatchExecutionUnit(final ExecutionUnit executionUnit, final String prefix, final String values, final List<Object> allParams,
+                                                                          final List<Integer> addBatchIndexes, final int startRow, final int endRow, final int rowsPerStatement,
+                                                                          final int rowParametersSize) {
+        StringBuilder sql = new StringBuilder(prefix.length() + (values.length() + 2) * rowsPerStatement).append(prefix).append(values);
+        for (int i = 1; i < rowsPerStatement; i++) {
+            sql.append(", ").append(values);
+        }
+        List<Object> params = allParams.subList(startRow * rowParametersSize, endRow * rowParametersSize);
+        List<List<Object>> parameterSets = new ArrayList<>((endRow - startRow) / rowsPerStatement);
+        for (int row = 0; row < endRow - startRow; row += rowsPerStatement) {
+            parameterSets.add(params.subList(row * rowParametersSize, (row + rowsPerStatement) * rowParametersSize));
+        }
+        return new CoalescedBatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), new SQLUnit(sql.toString(), params, executionUnit.getSqlUnit().getTableRouteMappers())),
+                parameterSets, rowsPerStatement, addBatchIndexes.subList(startRow, endRow));
+    }
+}
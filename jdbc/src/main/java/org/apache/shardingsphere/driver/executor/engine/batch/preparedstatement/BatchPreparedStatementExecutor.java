@@ -34,11 +34,13 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -59,6 +61,8 @@ public final class BatchPreparedStatementExecutor {
     @Getter
     private final Collection<BatchExecutionUnit> batchExecutionUnits;
     
+    private final Collection<CoalescedBatchExecutionUnit> coalescedBatchExecutionUnits;
+    
     private int batchCount;
     
     public BatchPreparedStatementExecutor(final ShardingSphereDatabase database, final JDBCExecutor jdbcExecutor, final String processId) {
@@ -66,6 +70,7 @@ public final class BatchPreparedStatementExecutor {
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>(), new ExecutionGroupReportContext(processId, database.getName()));
         batchExecutionUnits = new LinkedList<>();
+        coalescedBatchExecutionUnits = new LinkedList<>();
     }
     
     /**
@@ -123,6 +128,41 @@ public final class BatchPreparedStatementExecutor {
         batchExecutionUnits.addAll(newExecutionUnits);
     }
     
+    /**
+     * Coalesce batched single-row insert statements of same data node into multi-row insert statements.
+     *
+     * @param maxPacketSize max estimated bytes of one coalesced insert statement
+     * @return coalesced or not, batch execution units are kept as they are if any of them can not be coalesced
+     */
+    public boolean coalesce(final int maxPacketSize) {
+        BatchInsertCoalescer coalescer = new BatchInsertCoalescer(maxPacketSize);
+        Collection<CoalescedBatchExecutionUnit> result = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits) {
+            Optional<Collection<CoalescedBatchExecutionUnit>> coalesced = coalescer.coalesce(each);
+            if (!coalesced.isPresent()) {
+                return false;
+            }
+            result.addAll(coalesced.get());
+        }
+        coalescedBatchExecutionUnits.addAll(result);
+        return !result.isEmpty();
+    }
+    
+    /**
+     * Get execution units to prepare.
+     *
+     * @return execution units
+     */
+    public List<ExecutionUnit> getExecutionUnits() {
+        List<ExecutionUnit> result = new ArrayList<>(coalescedBatchExecutionUnits.isEmpty() ? batchExecutionUnits.size() : coalescedBatchExecutionUnits.size());
+        if (coalescedBatchExecutionUnits.isEmpty()) {
+            batchExecutionUnits.forEach(each -> result.add(each.getExecutionUnit()));
+        } else {
+            coalescedBatchExecutionUnits.forEach(each -> result.add(each.getExecutionUnit()));
+        }
+        return result;
+    }
+    
     /**
      * Execute batch.
      *
@@ -149,6 +189,9 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
+        if (!coalescedBatchExecutionUnits.isEmpty()) {
+            return mergeCoalescedResults(results, isNeedAccumulate(sqlStatementContext));
+        }
         return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
     }
     
@@ -183,6 +226,90 @@ public final class BatchPreparedStatementExecutor {
         }
     }
     
+    private int[] mergeCoalescedResults(final List<int[]> executeResults, final boolean isNeedAccumulate) {
+        int[] result = new int[batchCount];
+        boolean[] merged = new boolean[batchCount];
+        int count = 0;
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit eachUnit : each.getInputs()) {
+                Optional<CoalescedBatchExecutionUnit> coalescedBatchExecutionUnit = findCoalescedBatchExecutionUnit(eachUnit);
+                if (coalescedBatchExecutionUnit.isPresent()) {
+                    mergeCoalescedResult(executeResults.get(count), coalescedBatchExecutionUnit.get(), isNeedAccumulate, result, merged);
+                }
+                count++;
+            }
+        }
+        return result;
+    }
+    
+    private void mergeCoalescedResult(final int[] executeResult, final CoalescedBatchExecutionUnit coalescedBatchExecutionUnit, final boolean isNeedAccumulate,
+                                      final int[] addBatchCounts, final boolean[] merged) {
+        int rowsPerParameterSet = coalescedBatchExecutionUnit.getRowsPerParameterSet();
+        List<Integer> addBatchIndexes = coalescedBatchExecutionUnit.getAddBatchIndexes();
+        for (int row = 0; row < addBatchIndexes.size(); row++) {
+            int parameterSetIndex = row / rowsPerParameterSet;
+            int value = null == executeResult || parameterSetIndex >= executeResult.length ? 0 : getCoalescedRowUpdateCount(executeResult[parameterSetIndex], rowsPerParameterSet);
+            int addBatchIndex = addBatchIndexes.get(row);
+            if (!merged[addBatchIndex]) {
+                addBatchCounts[addBatchIndex] = value;
+                merged[addBatchIndex] = true;
+            } else if (isNeedAccumulate) {
+                addBatchCounts[addBatchIndex] = addBatchCounts[addBatchIndex] < 0 || value < 0 ? Statement.SUCCESS_NO_INFO : addBatchCounts[addBatchIndex] + value;
+            }
+        }
+    }
+    
+    private int getCoalescedRowUpdateCount(final int updateCount, final int rows) {
+        if (Statement.EXECUTE_FAILED == updateCount) {
+            return Statement.EXECUTE_FAILED;
+        }
+        return updateCount == rows ? 1 : Statement.SUCCESS_NO_INFO;
+    }
+    
+    private Optional<CoalescedBatchExecutionUnit> findCoalescedBatchExecutionUnit(final JDBCExecutionUnit executionUnit) {
+        for (CoalescedBatchExecutionUnit each : coalescedBatchExecutionUnits) {
+            if (isSameDataSourceAndSQL(each.getExecutionUnit(), executionUnit)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Get generated keys of coalesced insert statements in order of add batch.
+     *
+     * @return generated keys
+     * @throws SQLException SQL exception
+     */
+    public List<Comparable<?>> getCoalescedGeneratedKeys() throws SQLException {
+        Comparable<?>[] generatedKeys = new Comparable<?>[batchCount];
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit eachUnit : each.getInputs()) {
+                Optional<CoalescedBatchExecutionUnit> coalescedBatchExecutionUnit = findCoalescedBatchExecutionUnit(eachUnit);
+                if (coalescedBatchExecutionUnit.isPresent()) {
+                    fillGeneratedKeys(eachUnit.getStorageResource().getGeneratedKeys(), coalescedBatchExecutionUnit.get().getAddBatchIndexes(), generatedKeys);
+                }
+            }
+        }
+        List<Comparable<?>> result = new ArrayList<>(batchCount);
+        for (Comparable<?> each : generatedKeys) {
+            if (null != each) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private void fillGeneratedKeys(final ResultSet resultSet, final List<Integer> addBatchIndexes, final Comparable<?>[] generatedKeys) throws SQLException {
+        Iterator<Integer> addBatchIndexIterator = addBatchIndexes.iterator();
+        while (addBatchIndexIterator.hasNext() && resultSet.next()) {
+            int addBatchIndex = addBatchIndexIterator.next();
+            if (null == generatedKeys[addBatchIndex]) {
+                generatedKeys[addBatchIndex] = (Comparable<?>) resultSet.getObject(1);
+            }
+        }
+    }
+    
     private Map<Integer, Integer> getJDBCAndActualAddBatchCallTimesMap(final JDBCExecutionUnit executionUnit) {
         for (BatchExecutionUnit each : batchExecutionUnits) {
             if (isSameDataSourceAndSQL(each, executionUnit)) {
@@ -193,8 +320,12 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
+        return isSameDataSourceAndSQL(batchExecutionUnit.getExecutionUnit(), jdbcExecutionUnit);
+    }
+    
+    private boolean isSameDataSourceAndSQL(final ExecutionUnit executionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
+        return executionUnit.getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
+                && executionUnit.getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
     }
     
     /**
@@ -239,6 +370,10 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
+        if (!coalescedBatchExecutionUnits.isEmpty()) {
+            return findCoalescedBatchExecutionUnit(executionUnit).map(CoalescedBatchExecutionUnit::getParameterSets)
+                    .orElseThrow(() -> new IllegalStateException("Can not get value from parameter sets."));
+        }
         for (BatchExecutionUnit each : batchExecutionUnits) {
             if (isSameDataSourceAndSQL(each, executionUnit)) {
                 return each.getParameterSets();
@@ -254,5 +389,6 @@ public final class BatchPreparedStatementExecutor {
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
         batchExecutionUnits.clear();
+        coalescedBatchExecutionUnits.clear();
     }
 }
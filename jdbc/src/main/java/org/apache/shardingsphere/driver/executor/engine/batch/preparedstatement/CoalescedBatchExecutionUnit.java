@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+
+import java.util.List;
+
+/**
+ * Coalesced batch execution unit, which executes batched single-row insert statements of same data node as multi-row insert statements.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class CoalescedBatchExecutionUnit {
+    
+    private final ExecutionUnit executionUnit;
+    
+    private final List<List<Object>> parameterSets;
+    
+    private final int rowsPerParameterSet;
+    
+    private final List<Integer> addBatchIndexes;
+}
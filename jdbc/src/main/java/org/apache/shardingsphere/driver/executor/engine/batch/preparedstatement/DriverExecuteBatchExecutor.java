@@ -23,12 +23,12 @@ import org.apache.shardingsphere.driver.executor.callback.replay.PreparedStateme
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.statement.StatementManager;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
-import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
@@ -43,7 +43,6 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -125,24 +124,32 @@ public final class DriverExecuteBatchExecutor {
                                  final SQLStatementContext sqlStatementContext, final Collection<Comparable<?>> generatedValues, final StatementOption statementOption,
                                  final ExecutionContext executionContext, final StatementAddCallback addCallback, final PreparedStatementParametersReplayCallback replayCallback,
                                  final GeneratedKeyCallback generatedKeyCallback) throws SQLException {
+        boolean coalesced = isBatchInsertCoalesceEnabled(sqlStatementContext) && batchExecutor.coalesce(getBatchInsertCoalesceMaxPacketSize());
         initBatchPreparedStatementExecutor(database, batchExecutor, executionContext, replayCallback);
         int[] result = batchExecutor.executeBatch(sqlStatementContext);
         if (statementOption.isReturnGeneratedKeys() && generatedValues.isEmpty()) {
-            addCallback.add(batchExecutor.getStatements(), Collections.emptyList());
+            if (coalesced) {
+                generatedValues.addAll(batchExecutor.getCoalescedGeneratedKeys());
+            } else {
+                addCallback.add(batchExecutor.getStatements(), Collections.emptyList());
+            }
             generatedKeyCallback.generateKeys();
         }
         return result;
     }
     
+    private boolean isBatchInsertCoalesceEnabled(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof InsertStatementContext && null == ((InsertStatementContext) sqlStatementContext).getInsertSelectContext() && getBatchInsertCoalesceMaxPacketSize() > 0;
+    }
+    
+    private int getBatchInsertCoalesceMaxPacketSize() {
+        return metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_PACKET_SIZE);
+    }
+    
     private void initBatchPreparedStatementExecutor(final ShardingSphereDatabase database, final BatchPreparedStatementExecutor batchExecutor,
                                                     final ExecutionContext executionContext, final PreparedStatementParametersReplayCallback replayCallback) throws SQLException {
-        List<ExecutionUnit> executionUnits = new ArrayList<>(batchExecutor.getBatchExecutionUnits().size());
-        for (BatchExecutionUnit each : batchExecutor.getBatchExecutionUnits()) {
-            ExecutionUnit executionUnit = each.getExecutionUnit();
-            executionUnits.add(executionUnit);
-        }
         batchExecutor.init(prepareEngine
-                .prepare(database.getName(), executionContext.getRouteContext(), executionUnits, new ExecutionGroupReportContext(connection.getProcessId(), database.getName())));
+                .prepare(database.getName(), executionContext.getRouteContext(), batchExecutor.getExecutionUnits(), new ExecutionGroupReportContext(connection.getProcessId(), database.getName())));
         setBatchParameters(replayCallback);
     }
     
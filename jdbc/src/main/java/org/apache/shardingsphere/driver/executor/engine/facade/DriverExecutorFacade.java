@@ -28,6 +28,7 @@ import org.apache.shardingsphere.driver.executor.engine.transaction.DriverTransa
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.statement.StatementManager;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
@@ -145,9 +146,11 @@ public final class DriverExecutorFacade implements AutoCloseable {
     }
     
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine(final ShardingSphereDatabase database, final String jdbcDriverType) {
-        int maxConnectionsSizePerQuery = connection.getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new DriverExecutionPrepareEngine<>(jdbcDriverType, maxConnectionsSizePerQuery, connection.getDatabaseConnectionManager(), statementManager, statementOption,
-                database.getRuleMetaData().getRules(), database.getResourceMetaData().getStorageUnits());
+        ConfigurationProperties props = connection.getContextManager().getMetaDataContexts().getMetaData().getProps();
+        int maxConnectionsSizePerQuery = props.<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        boolean adaptiveConnectionModeEnabled = props.<Boolean>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED);
+        return new DriverExecutionPrepareEngine<>(jdbcDriverType, maxConnectionsSizePerQuery, adaptiveConnectionModeEnabled, connection.getDatabaseConnectionManager(), statementManager,
+                statementOption, database.getRuleMetaData().getRules(), database.getResourceMetaData().getStorageUnits());
     }
     
     /**
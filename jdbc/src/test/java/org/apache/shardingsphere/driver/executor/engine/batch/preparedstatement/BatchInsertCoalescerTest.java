@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchInsertCoalescerTest {
+    
+    @Test
+    void assertCoalesceIntoOneStatement() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)", 3, 0, 2, 4);
+        Optional<Collection<CoalescedBatchExecutionUnit>> actual = new BatchInsertCoalescer(1024 * 1024).coalesce(batchExecutionUnit);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(1));
+        CoalescedBatchExecutionUnit coalescedBatchExecutionUnit = actual.get().iterator().next();
+        assertThat(coalescedBatchExecutionUnit.getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(coalescedBatchExecutionUnit.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?), (?, ?)"));
+        assertThat(coalescedBatchExecutionUnit.getRowsPerParameterSet(), is(3));
+        assertThat(coalescedBatchExecutionUnit.getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList(0, "s0", 1, "s1", 2, "s2"))));
+        assertThat(coalescedBatchExecutionUnit.getAddBatchIndexes(), is(Arrays.asList(0, 2, 4)));
+    }
+    
+    @Test
+    void assertCoalesceWithPacketSizeLimit() {
+        String sql = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)";
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit(sql, 5, 0, 1, 2, 3, 4);
+        int maxPacketSize = sql.length() + 2 * ("(?, ?)".length() + 2 + 16 + 2 * 3 + 2);
+        Optional<Collection<CoalescedBatchExecutionUnit>> actual = new BatchInsertCoalescer(maxPacketSize).coalesce(batchExecutionUnit);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(2));
+        Iterator<CoalescedBatchExecutionUnit> iterator = actual.get().iterator();
+        CoalescedBatchExecutionUnit full = iterator.next();
+        assertThat(full.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertThat(full.getRowsPerParameterSet(), is(2));
+        assertThat(full.getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(0, "s0", 1, "s1"), Arrays.<Object>asList(2, "s2", 3, "s3"))));
+        assertThat(full.getAddBatchIndexes(), is(Arrays.asList(0, 1, 2, 3)));
+        CoalescedBatchExecutionUnit remainder = iterator.next();
+        assertThat(remainder.getExecutionUnit().getSqlUnit().getSql(), is(sql));
+        assertThat(remainder.getRowsPerParameterSet(), is(1));
+        assertThat(remainder.getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList(4, "s4"))));
+        assertThat(remainder.getAddBatchIndexes(), is(Collections.singletonList(4)));
+    }
+    
+    @Test
+    void assertCoalesceWithQuotedLiteralAndTrailingSemicolon() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("insert into `t_values` (order_id, status) values (?, ?, 'a)?''b');", 2, 0, 1);
+        Optional<Collection<CoalescedBatchExecutionUnit>> actual = new BatchInsertCoalescer(1024 * 1024).coalesce(batchExecutionUnit);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().iterator().next().getExecutionUnit().getSqlUnit().getSql(), is("insert into `t_values` (order_id, status) values (?, ?, 'a)?''b'), (?, ?, 'a)?''b')"));
+    }
+    
+    @Test
+    void assertNotCoalesceWithOnDuplicateKeyUpdate() {
+        assertFalse(new BatchInsertCoalescer(1024 * 1024).coalesce(
+                createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?) ON DUPLICATE KEY UPDATE status = VALUES(status)", 2, 0, 1)).isPresent());
+    }
+    
+    @Test
+    void assertNotCoalesceWithParametersOutOfValues() {
+        assertFalse(new BatchInsertCoalescer(1024 * 1024).coalesce(createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, status) SELECT ?, ? FROM dual", 2, 0, 1)).isPresent());
+    }
+    
+    @Test
+    void assertNotCoalesceWithMultipleRowsValues() {
+        assertFalse(new BatchInsertCoalescer(1024 * 1024).coalesce(createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'a'), (?, 'b')", 2, 0, 1)).isPresent());
+    }
+    
+    @Test
+    void assertNotCoalesceWithComment() {
+        assertFalse(new BatchInsertCoalescer(1024 * 1024).coalesce(createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, status) VALUES (?, ? /* ? */)", 2, 0, 1)).isPresent());
+    }
+    
+    @Test
+    void assertNotCoalesceWithoutParameters() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit("INSERT INTO t_order_0 (order_id) VALUES (1)", new ArrayList<>())));
+        batchExecutionUnit.mapAddBatchCount(0);
+        assertFalse(new BatchInsertCoalescer(1024 * 1024).coalesce(batchExecutionUnit).isPresent());
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final String sql, final int rowCount, final int... addBatchIndexes) {
+        List<Object> params = new ArrayList<>(rowCount * 2);
+        for (int i = 0; i < rowCount; i++) {
+            params.add(i);
+            params.add("s" + i);
+        }
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(sql, params)));
+        for (int each : addBatchIndexes) {
+            result.mapAddBatchCount(each);
+        }
+        return result;
+    }
+}
@@ -48,7 +48,10 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -59,7 +62,9 @@ import java.util.concurrent.ThreadLocalRandom;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -157,6 +162,85 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertExecuteCoalescedBatch() throws SQLException {
+        setCoalescedBatchExecutionUnits();
+        assertTrue(executor.coalesce(1024 * 1024));
+        assertThat(executor.getExecutionUnits().size(), is(2));
+        PreparedStatement preparedStatement0 = getPreparedStatement();
+        PreparedStatement preparedStatement1 = getPreparedStatement();
+        when(preparedStatement0.executeBatch()).thenReturn(new int[]{2});
+        when(preparedStatement1.executeBatch()).thenReturn(new int[]{Statement.SUCCESS_NO_INFO});
+        setCoalescedExecutionGroups(preparedStatement0, preparedStatement1);
+        assertThat(executor.getParameterSet(preparedStatement0), is(Collections.singletonList(Arrays.<Object>asList(0, 2))));
+        assertThat(executor.getParameterSet(preparedStatement1), is(Collections.singletonList(Arrays.<Object>asList(1, 3))));
+        assertThat(executor.executeBatch(sqlStatementContext), is(new int[]{1, Statement.SUCCESS_NO_INFO, 1, Statement.SUCCESS_NO_INFO}));
+    }
+    
+    @Test
+    void assertGetCoalescedGeneratedKeys() throws SQLException {
+        setCoalescedBatchExecutionUnits();
+        assertTrue(executor.coalesce(1024 * 1024));
+        PreparedStatement preparedStatement0 = getPreparedStatement();
+        PreparedStatement preparedStatement1 = getPreparedStatement();
+        mockGeneratedKeys(preparedStatement0, 10L, 11L);
+        mockGeneratedKeys(preparedStatement1, 20L, 21L);
+        setCoalescedExecutionGroups(preparedStatement0, preparedStatement1);
+        assertThat(executor.getCoalescedGeneratedKeys(), is(Arrays.<Comparable<?>>asList(10L, 20L, 11L, 21L)));
+    }
+    
+    @Test
+    void assertNotCoalesceWithUnsupportedSQL() {
+        setFields(new LinkedList<>(), Collections.singleton(createInsertBatchExecutionUnit("ds_0", SQL, 0, 1)));
+        assertFalse(executor.coalesce(1024 * 1024));
+        assertThat(executor.getExecutionUnits().iterator().next().getSqlUnit().getSql(), is(SQL));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setCoalescedBatchExecutionUnits() {
+        setFields(new LinkedList<>(), Arrays.asList(createInsertBatchExecutionUnit("ds_0", "INSERT INTO t_order_0 (order_id) VALUES (?)", 0, 2),
+                createInsertBatchExecutionUnit("ds_1", "INSERT INTO t_order_1 (order_id) VALUES (?)", 1, 3)));
+        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchCount"), executor, 4);
+    }
+    
+    private BatchExecutionUnit createInsertBatchExecutionUnit(final String dataSourceName, final String sql, final int... addBatchIndexes) {
+        List<Object> params = new ArrayList<>(addBatchIndexes.length);
+        for (int each : addBatchIndexes) {
+            params.add(each);
+        }
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit(dataSourceName, new SQLUnit(sql, params)));
+        for (int each : addBatchIndexes) {
+            result.mapAddBatchCount(each);
+        }
+        return result;
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setCoalescedExecutionGroups(final PreparedStatement preparedStatement0, final PreparedStatement preparedStatement1) {
+        List<JDBCExecutionUnit> executionUnits = Arrays.asList(
+                new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit("INSERT INTO t_order_0 (order_id) VALUES (?), (?)", Collections.emptyList())),
+                        ConnectionMode.MEMORY_STRICTLY, preparedStatement0),
+                new JDBCExecutionUnit(new ExecutionUnit("ds_1", new SQLUnit("INSERT INTO t_order_1 (order_id) VALUES (?), (?)", Collections.emptyList())),
+                        ConnectionMode.MEMORY_STRICTLY, preparedStatement1));
+        String processId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
+        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor,
+                new ExecutionGroupContext<>(new LinkedList<>(Collections.singleton(new ExecutionGroup<>(executionUnits))), new ExecutionGroupReportContext(processId, "logic_db")));
+    }
+    
+    private void mockGeneratedKeys(final PreparedStatement preparedStatement, final long... generatedKeys) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.getGeneratedKeys()).thenReturn(resultSet);
+        Boolean[] nextResults = new Boolean[generatedKeys.length];
+        Arrays.fill(nextResults, true);
+        nextResults[generatedKeys.length - 1] = false;
+        when(resultSet.next()).thenReturn(true, nextResults);
+        Object[] objects = new Object[generatedKeys.length - 1];
+        for (int i = 1; i < generatedKeys.length; i++) {
+            objects[i - 1] = generatedKeys[i];
+        }
+        when(resultSet.getObject(1)).thenReturn(generatedKeys[0], objects);
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
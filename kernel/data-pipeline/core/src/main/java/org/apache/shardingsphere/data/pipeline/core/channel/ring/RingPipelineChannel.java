@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ring;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ring pipeline channel.
+ * <p>Records are kept in a pre-allocated ring buffer, which is designed for multiple push threads and one fetch thread.
+ * The push side claims a slot by CAS on the claimed sequence, and publishes the slots in order of the claimed sequence.
+ * The fetch side claims all published slots once and releases them by one sequence update.
+ * If the push side is interrupted after claiming a slot, the slot is published as tombstone, so that the following slots are not blocked forever.</p>
+ */
+public final class RingPipelineChannel implements PipelineChannel {
+    
+    private static final List<Record> TOMBSTONE = Collections.unmodifiableList(new ArrayList<>(0));
+    
+    private final Object[] buffer;
+    
+    private final int mask;
+    
+    private final AtomicLong claimedSequence = new AtomicLong();
+    
+    private final AtomicLong publishedSequence = new AtomicLong();
+    
+    private final AtomicLong consumedSequence = new AtomicLong();
+    
+    private final RingPipelineChannelWaitStrategy waitStrategy;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    public RingPipelineChannel(final int bufferSize, final RingPipelineChannelWaitStrategy waitStrategy, final PipelineChannelAckCallback ackCallback) {
+        int capacity = bufferSize <= 1 ? 1 : Integer.highestOneBit(bufferSize - 1) << 1;
+        buffer = new Object[capacity];
+        mask = capacity - 1;
+        this.waitStrategy = waitStrategy;
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void push(final List<Record> records) {
+        long sequence = claim();
+        buffer[(int) sequence & mask] = records;
+        boolean published = false;
+        try {
+            int attempts = 0;
+            while (publishedSequence.get() != sequence) {
+                waitStrategy.await(attempts++);
+            }
+            publishedSequence.lazySet(sequence + 1L);
+            published = true;
+        } finally {
+            if (!published) {
+                publishTombstone(sequence);
+            }
+        }
+    }
+    
+    private void publishTombstone(final long sequence) {
+        buffer[(int) sequence & mask] = TOMBSTONE;
+        int attempts = 0;
+        while (publishedSequence.get() != sequence) {
+            waitStrategy.idle(attempts++);
+        }
+        publishedSequence.lazySet(sequence + 1L);
+    }
+    
+    private long claim() {
+        int attempts = 0;
+        while (true) {
+            long result = claimedSequence.get();
+            if (result - consumedSequence.get() >= buffer.length) {
+                waitStrategy.await(attempts++);
+            } else if (claimedSequence.compareAndSet(result, result + 1L)) {
+                return result;
+            }
+        }
+    }
+    
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        int attempts = 0;
+        while (true) {
+            attempts = drainTo(result, batchSize) ? 0 : attempts + 1;
+            if (result.size() >= batchSize || System.nanoTime() - deadlineNanos >= 0L) {
+                return result;
+            }
+            waitStrategy.await(attempts);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private boolean drainTo(final List<Record> result, final int batchSize) {
+        long sequence = consumedSequence.get();
+        long available = publishedSequence.get();
+        if (sequence == available) {
+            return false;
+        }
+        while (sequence < available && result.size() < batchSize) {
+            int index = (int) sequence & mask;
+            result.addAll((List<Record>) buffer[index]);
+            buffer[index] = null;
+            sequence++;
+        }
+        consumedSequence.lazySet(sequence);
+        return true;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Record> peek() {
+        long sequence = skipTombstones();
+        return sequence == publishedSequence.get() ? Collections.emptyList() : (List<Record>) buffer[(int) sequence & mask];
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Record> poll() {
+        long sequence = skipTombstones();
+        if (sequence == publishedSequence.get()) {
+            return Collections.emptyList();
+        }
+        int index = (int) sequence & mask;
+        List<Record> result = (List<Record>) buffer[index];
+        buffer[index] = null;
+        consumedSequence.lazySet(sequence + 1L);
+        return result;
+    }
+    
+    private long skipTombstones() {
+        long result = consumedSequence.get();
+        long available = publishedSequence.get();
+        if (result == available || TOMBSTONE != buffer[(int) result & mask]) {
+            return result;
+        }
+        while (result < available && TOMBSTONE == buffer[(int) result & mask]) {
+            buffer[(int) result & mask] = null;
+            result++;
+        }
+        consumedSequence.lazySet(result);
+        return result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+}
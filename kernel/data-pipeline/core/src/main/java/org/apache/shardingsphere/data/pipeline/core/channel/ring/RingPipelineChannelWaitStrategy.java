@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ring;
+
+import lombok.SneakyThrows;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Wait strategy of ring pipeline channel.
+ */
+public enum RingPipelineChannelWaitStrategy {
+    
+    /**
+     * Busy spin, lowest latency and burns a whole core while waiting.
+     */
+    SPIN {
+        
+        @Override
+        protected void idle(final int attempts) {
+        }
+    },
+    
+    /**
+     * Yield current thread to other threads while waiting.
+     */
+    YIELD {
+        
+        @Override
+        protected void idle(final int attempts) {
+            Thread.yield();
+        }
+    },
+    
+    /**
+     * Yield current thread for the first attempts, then park current thread for a short period while waiting.
+     */
+    PARK {
+        
+        @Override
+        protected void idle(final int attempts) {
+            if (attempts < YIELD_ATTEMPTS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+    };
+    
+    private static final int YIELD_ATTEMPTS = 100;
+    
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    
+    /**
+     * Wait once.
+     *
+     * @param attempts attempts waited continuously before
+     * @throws InterruptedException thrown when current thread is interrupted
+     */
+    @SneakyThrows(InterruptedException.class)
+    public void await(final int attempts) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+        }
+        idle(attempts);
+    }
+    
+    protected abstract void idle(int attempts);
+}
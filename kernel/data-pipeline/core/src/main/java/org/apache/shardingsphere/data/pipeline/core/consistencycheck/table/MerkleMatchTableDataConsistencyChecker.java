@@ -0,0 +1,337 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RangeDigestSingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.RangeDigestSingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCancelingException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.kernel.category.PipelineSQLException;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.spi.annotation.SPIDescription;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Merkle match table data consistency checker.
+ *
+ * <p>Unique key space is split into ranges whose digests are calculated in parallel on both sides and compared as merkle trees,
+ * only mismatched ranges are split and compared again, until they are small enough to be reported.</p>
+ */
+@SPIDescription("Match digests of unique key ranges in parallel, and localize mismatched ranges.")
+public final class MerkleMatchTableDataConsistencyChecker implements TableDataConsistencyChecker {
+    
+    private static final String PARALLELISM_KEY = "parallelism";
+    
+    private static final String RANGE_COUNT_KEY = "range-count";
+    
+    private static final String MIN_RANGE_SIZE_KEY = "min-range-size";
+    
+    private static final int DEFAULT_RANGE_COUNT = 64;
+    
+    private static final int DEFAULT_MIN_RANGE_SIZE = 1000;
+    
+    private int parallelism;
+    
+    private int rangeCount;
+    
+    private int minRangeSize;
+    
+    @Override
+    public void init(final Properties props) {
+        parallelism = getPositiveIntProperty(props, PARALLELISM_KEY, Runtime.getRuntime().availableProcessors());
+        rangeCount = getPositiveIntProperty(props, RANGE_COUNT_KEY, DEFAULT_RANGE_COUNT);
+        if (rangeCount < 2) {
+            throw new PipelineInvalidParameterException("Invalid '" + RANGE_COUNT_KEY + "': " + rangeCount);
+        }
+        minRangeSize = getPositiveIntProperty(props, MIN_RANGE_SIZE_KEY, DEFAULT_MIN_RANGE_SIZE);
+    }
+    
+    private int getPositiveIntProperty(final Properties props, final String key, final int defaultValue) {
+        String text = props.getProperty(key);
+        if (Strings.isNullOrEmpty(text)) {
+            return defaultValue;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(text);
+        } catch (final NumberFormatException ignore) {
+            throw new PipelineInvalidParameterException("'" + key + "' is not a valid number: `" + text + "`");
+        }
+        if (result <= 0) {
+            throw new PipelineInvalidParameterException("Invalid '" + key + "': " + result);
+        }
+        return result;
+    }
+    
+    @Override
+    public TableInventoryChecker buildTableInventoryChecker(final TableInventoryCheckParameter param) {
+        return new MerkleMatchTableInventoryChecker(param, parallelism, rangeCount, minRangeSize);
+    }
+    
+    @Override
+    public Collection<DatabaseType> getSupportedDatabaseTypes() {
+        return ShardingSphereServiceLoader.getServiceInstances(DatabaseType.class);
+    }
+    
+    @Override
+    public void close() {
+    }
+    
+    @Override
+    public String getType() {
+        return "MERKLE_MATCH";
+    }
+    
+    @RequiredArgsConstructor
+    @Slf4j
+    private static final class MerkleMatchTableInventoryChecker implements TableInventoryChecker {
+        
+        private final TableInventoryCheckParameter param;
+        
+        private final int parallelism;
+        
+        private final int rangeCount;
+        
+        private final int minRangeSize;
+        
+        private final AtomicBoolean canceling = new AtomicBoolean(false);
+        
+        private final Set<SingleTableInventoryCalculator> runningCalculators = ConcurrentHashMap.newKeySet();
+        
+        @Override
+        public TableDataConsistencyCheckResult checkSingleTableInventoryData() {
+            ExecutorService executor = new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    ExecutorThreadFactoryBuilder.build(param.getJobId() + "-merkle-check-%d"));
+            try {
+                List<KeyRange> mismatchedRanges = findMismatchedRanges(executor);
+                if (mismatchedRanges.isEmpty()) {
+                    return new TableDataConsistencyCheckResult(true);
+                }
+                log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKey={}, mismatchedRanges={}",
+                        param.getJobId(), param.getSourceTable(), param.getTargetTable(), param.getUniqueKeys().get(0).getName(), mismatchedRanges);
+                return new TableDataConsistencyCheckResult(false);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        
+        private List<KeyRange> findMismatchedRanges(final ExecutorService executor) {
+            List<KeyRange> result = new LinkedList<>();
+            KeyRange wholeRange = getWholeRange();
+            List<KeyRange> ranges = isSplittable(wholeRange) ? wholeRange.split(rangeCount) : Collections.singletonList(wholeRange);
+            boolean firstLevel = true;
+            while (!ranges.isEmpty()) {
+                ShardingSpherePreconditions.checkState(!canceling.get(), () -> new PipelineJobCancelingException("Merkle match canceled, qualified table: %s", param.getSourceTable()));
+                List<Future<RangeDigestSingleTableInventoryCalculatedResult>> sourceFutures = new ArrayList<>(ranges.size());
+                List<Future<RangeDigestSingleTableInventoryCalculatedResult>> targetFutures = new ArrayList<>(ranges.size());
+                for (KeyRange each : ranges) {
+                    sourceFutures.add(executor.submit(() -> calculate(param.getSourceDataSource(), param.getSourceTable(), each)));
+                    targetFutures.add(executor.submit(() -> calculate(param.getTargetDataSource(), param.getTargetTable(), each)));
+                }
+                long[] sourceDigests = new long[ranges.size()];
+                long[] targetDigests = new long[ranges.size()];
+                int sourceRecordsCount = 0;
+                for (int i = 0; i < ranges.size(); i++) {
+                    RangeDigestSingleTableInventoryCalculatedResult sourceResult = waitFuture(sourceFutures.get(i));
+                    RangeDigestSingleTableInventoryCalculatedResult targetResult = waitFuture(targetFutures.get(i));
+                    sourceDigests[i] = toLeafDigest(sourceResult);
+                    targetDigests[i] = toLeafDigest(targetResult);
+                    sourceRecordsCount += sourceResult.getRecordsCount();
+                }
+                if (firstLevel) {
+                    param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress(sourceRecordsCount));
+                    firstLevel = false;
+                }
+                List<KeyRange> nextRanges = new LinkedList<>();
+                for (int each : new MerkleTree(sourceDigests).findMismatchedLeaves(new MerkleTree(targetDigests))) {
+                    KeyRange mismatchedRange = ranges.get(each);
+                    if (isSplittable(mismatchedRange)) {
+                        nextRanges.addAll(mismatchedRange.split(rangeCount));
+                    } else {
+                        result.add(mismatchedRange);
+                    }
+                }
+                ranges = new ArrayList<>(nextRanges);
+            }
+            return result;
+        }
+        
+        private KeyRange getWholeRange() {
+            PipelineColumnMetaData uniqueKey = param.getUniqueKeys().get(0);
+            if (!PipelineJdbcUtils.isIntegerColumn(uniqueKey.getDataType())) {
+                return new KeyRange(null, null);
+            }
+            Object[] sourceMinMax = getMinMaxValues(param.getSourceDataSource(), param.getSourceTable(), uniqueKey.getName());
+            Object[] targetMinMax = getMinMaxValues(param.getTargetDataSource(), param.getTargetTable(), uniqueKey.getName());
+            if (!isLongRange(sourceMinMax) || !isLongRange(targetMinMax)) {
+                return new KeyRange(null, null);
+            }
+            if (null == sourceMinMax[0] && null == targetMinMax[0]) {
+                return new KeyRange(null, null);
+            }
+            Long lower = null == sourceMinMax[0] ? (Long) targetMinMax[0] : null == targetMinMax[0] ? (Long) sourceMinMax[0] : Math.min((Long) sourceMinMax[0], (Long) targetMinMax[0]);
+            Long upper = null == sourceMinMax[1] ? (Long) targetMinMax[1] : null == targetMinMax[1] ? (Long) sourceMinMax[1] : Math.max((Long) sourceMinMax[1], (Long) targetMinMax[1]);
+            return new KeyRange(lower, upper);
+        }
+        
+        private Object[] getMinMaxValues(final PipelineDataSource dataSource, final QualifiedTable table, final String uniqueKey) {
+            String sql = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType()).buildUniqueKeyMinMaxValuesSQL(table.getSchemaName(), table.getTableName(), uniqueKey);
+            try (
+                    Connection connection = dataSource.getConnection();
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(sql)) {
+                resultSet.next();
+                return new Object[]{toLong(resultSet.getObject(1)), toLong(resultSet.getObject(2))};
+            } catch (final SQLException ex) {
+                throw new PipelineTableDataConsistencyCheckLoadingFailedException(table, ex);
+            }
+        }
+        
+        private Object toLong(final Object value) {
+            if (value instanceof BigInteger && ((BigInteger) value).bitLength() > 63) {
+                return value;
+            }
+            return value instanceof Number ? (Object) ((Number) value).longValue() : value;
+        }
+        
+        private boolean isLongRange(final Object[] minMax) {
+            return (null == minMax[0] || minMax[0] instanceof Long) && (null == minMax[1] || minMax[1] instanceof Long);
+        }
+        
+        private boolean isSplittable(final KeyRange range) {
+            return null != range.getLower() && BigInteger.valueOf(range.getUpper()).subtract(BigInteger.valueOf(range.getLower())).compareTo(BigInteger.valueOf(minRangeSize)) >= 0;
+        }
+        
+        private RangeDigestSingleTableInventoryCalculatedResult calculate(final PipelineDataSource dataSource, final QualifiedTable table, final KeyRange range) {
+            if (null != param.getReadRateLimitAlgorithm()) {
+                param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
+            }
+            SingleTableInventoryCalculateParameter calculateParam = new SingleTableInventoryCalculateParameter(dataSource, table, param.getColumnNames(), param.getUniqueKeys(), null);
+            calculateParam.setQueryRange(new QueryRange(range.getLower(), true, range.getUpper()));
+            SingleTableInventoryCalculator calculator = new RangeDigestSingleTableInventoryCalculator();
+            runningCalculators.add(calculator);
+            try {
+                if (canceling.get()) {
+                    calculator.cancel();
+                }
+                return (RangeDigestSingleTableInventoryCalculatedResult) calculator.calculate(calculateParam).iterator().next();
+            } finally {
+                runningCalculators.remove(calculator);
+            }
+        }
+        
+        private long toLeafDigest(final RangeDigestSingleTableInventoryCalculatedResult result) {
+            return result.getDigest() * 31L + result.getRecordsCount();
+        }
+        
+        private <T> T waitFuture(final Future<T> future) {
+            try {
+                return future.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLWrapperException(new SQLException(ex));
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof PipelineSQLException) {
+                    throw (PipelineSQLException) ex.getCause();
+                }
+                if (ex.getCause() instanceof PipelineJobCancelingException) {
+                    throw (PipelineJobCancelingException) ex.getCause();
+                }
+                throw new SQLWrapperException(new SQLException(ex));
+            }
+        }
+        
+        @Override
+        public void cancel() {
+            canceling.set(true);
+            runningCalculators.forEach(SingleTableInventoryCalculator::cancel);
+        }
+        
+        @Override
+        public boolean isCanceling() {
+            return canceling.get();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class KeyRange {
+        
+        private final Long lower;
+        
+        private final Long upper;
+        
+        List<KeyRange> split(final int count) {
+            BigInteger lowerValue = BigInteger.valueOf(lower);
+            BigInteger size = BigInteger.valueOf(upper).subtract(lowerValue).add(BigInteger.ONE);
+            BigInteger[] stepAndRemainder = size.divideAndRemainder(BigInteger.valueOf(count));
+            BigInteger step = 0 == stepAndRemainder[1].signum() ? stepAndRemainder[0] : stepAndRemainder[0].add(BigInteger.ONE);
+            List<KeyRange> result = new ArrayList<>(count);
+            BigInteger upperValue = BigInteger.valueOf(upper);
+            for (BigInteger each = lowerValue; each.compareTo(upperValue) <= 0; each = each.add(step)) {
+                result.add(new KeyRange(each.longValue(), each.add(step).subtract(BigInteger.ONE).min(upperValue).longValue()));
+            }
+            return result;
+        }
+        
+        @Override
+        public String toString() {
+            return null == lower ? "[*]" : "[" + lower + ", " + upper + "]";
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Merkle tree.
+ *
+ * <p>Leaves are digests of adjacent key ranges, inner nodes are digests of their children. Comparing two trees descends only into mismatched subtrees.</p>
+ */
+public final class MerkleTree {
+    
+    private final List<long[]> levels = new ArrayList<>();
+    
+    public MerkleTree(final long[] leafDigests) {
+        Preconditions.checkArgument(leafDigests.length > 0, "Leaf digests should not be empty.");
+        long[] level = leafDigests.clone();
+        levels.add(level);
+        while (level.length > 1) {
+            long[] parentLevel = new long[(level.length + 1) / 2];
+            for (int i = 0; i < parentLevel.length; i++) {
+                int leftIndex = i * 2;
+                parentLevel[i] = leftIndex + 1 < level.length ? combine(level[leftIndex], level[leftIndex + 1]) : level[leftIndex];
+            }
+            levels.add(parentLevel);
+            level = parentLevel;
+        }
+    }
+    
+    private long combine(final long left, final long right) {
+        long result = left * 0x9e3779b97f4a7c15L + right;
+        result ^= result >>> 31;
+        result *= 0xbf58476d1ce4e5b9L;
+        result ^= result >>> 29;
+        return result;
+    }
+    
+    /**
+     * Get leaves count.
+     *
+     * @return leaves count
+     */
+    public int getLeavesCount() {
+        return levels.get(0).length;
+    }
+    
+    /**
+     * Get root digest.
+     *
+     * @return root digest
+     */
+    public long getRootDigest() {
+        return levels.get(levels.size() - 1)[0];
+    }
+    
+    /**
+     * Find indexes of mismatched leaves.
+     *
+     * @param other other merkle tree with the same leaves count
+     * @return mismatched leaf indexes in ascending order
+     */
+    public List<Integer> findMismatchedLeaves(final MerkleTree other) {
+        Preconditions.checkArgument(getLeavesCount() == other.getLeavesCount(), "Leaves count not match, %s and %s.", getLeavesCount(), other.getLeavesCount());
+        if (getRootDigest() == other.getRootDigest()) {
+            return Collections.emptyList();
+        }
+        List<Integer> result = new ArrayList<>();
+        findMismatchedLeaves(other, levels.size() - 1, 0, result);
+        return result;
+    }
+    
+    private void findMismatchedLeaves(final MerkleTree other, final int levelIndex, final int nodeIndex, final List<Integer> result) {
+        if (levels.get(levelIndex)[nodeIndex] == other.levels.get(levelIndex)[nodeIndex]) {
+            return;
+        }
+        if (0 == levelIndex) {
+            result.add(nodeIndex);
+            return;
+        }
+        int childLevelLength = levels.get(levelIndex - 1).length;
+        for (int childIndex = nodeIndex * 2; childIndex < Math.min(nodeIndex * 2 + 2, childLevelLength); childIndex++) {
+            findMismatchedLeaves(other, levelIndex - 1, childIndex, result);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.DataConsistencyCheckUtils;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RangeDigestSingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCancelingException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.column.InventoryColumnValueReaderEngine;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
+import org.apache.shardingsphere.data.pipeline.core.query.JDBCStreamQueryBuilder;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.kernel.category.PipelineSQLException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Range digest single table inventory calculator.
+ *
+ * <p>Streams records of the unique key range and folds them into an order independent digest, values are normalized the same way as
+ * {@link DataConsistencyCheckUtils#isMatched}, so equal records always produce equal digests.</p>
+ */
+@HighFrequencyInvocation
+public final class RangeDigestSingleTableInventoryCalculator extends AbstractSingleTableInventoryCalculator {
+    
+    private static final int FETCH_SIZE = 1000;
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    @Override
+    public Iterable<SingleTableInventoryCalculatedResult> calculate(final SingleTableInventoryCalculateParameter param) {
+        QueryRange queryRange = param.getQueryRange();
+        String sql = new PipelineDataConsistencyCalculateSQLBuilder(param.getDatabaseType())
+                .buildQueryRangeSQL(param.getTable(), param.getColumnNames(), param.getFirstUniqueKey().getName(), queryRange);
+        try (
+                Connection connection = param.getDataSource().getConnection();
+                PreparedStatement preparedStatement = JDBCStreamQueryBuilder.build(param.getDatabaseType(), connection, sql, FETCH_SIZE)) {
+            setCurrentStatement(preparedStatement);
+            int parameterIndex = 1;
+            if (null != queryRange.getLower()) {
+                preparedStatement.setObject(parameterIndex++, queryRange.getLower());
+            }
+            if (null != queryRange.getUpper()) {
+                preparedStatement.setObject(parameterIndex, queryRange.getUpper());
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return Collections.singletonList(calculate(param, resultSet));
+            }
+        } catch (final PipelineSQLException | PipelineJobCancelingException ex) {
+            throw ex;
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getTable(), ex);
+        }
+    }
+    
+    private RangeDigestSingleTableInventoryCalculatedResult calculate(final SingleTableInventoryCalculateParameter param, final ResultSet resultSet) throws SQLException {
+        InventoryColumnValueReaderEngine columnValueReaderEngine = new InventoryColumnValueReaderEngine(param.getDatabaseType());
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        int columnCount = resultSetMetaData.getColumnCount();
+        int recordsCount = 0;
+        long digest = 0L;
+        while (resultSet.next()) {
+            ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineJobCancelingException("Calculate range digest canceled, qualified table: %s", param.getTable()));
+            long recordHash = FNV_OFFSET_BASIS;
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                recordHash = (recordHash ^ hashColumnValue(columnValueReaderEngine.read(resultSet, resultSetMetaData, columnIndex))) * FNV_PRIME;
+            }
+            digest += mix(recordHash);
+            recordsCount++;
+        }
+        return new RangeDigestSingleTableInventoryCalculatedResult(recordsCount, digest);
+    }
+    
+    private long hashColumnValue(final Object value) throws SQLException {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof Number) {
+            return hashNumber((Number) value);
+        }
+        if (value instanceof CharSequence) {
+            return hashBytes(value.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        if (value instanceof byte[]) {
+            return hashBytes((byte[]) value);
+        }
+        if (value instanceof SQLXML) {
+            return hashBytes(((SQLXML) value).getString().getBytes(StandardCharsets.UTF_8));
+        }
+        if (value instanceof Timestamp) {
+            return mix(((Timestamp) value).getTime() / 1000L);
+        }
+        if (value instanceof Array) {
+            return Arrays.deepHashCode(new Object[]{((Array) value).getArray()});
+        }
+        if (value.getClass().isArray()) {
+            return Arrays.deepHashCode(new Object[]{value});
+        }
+        return value.hashCode();
+    }
+    
+    private long hashNumber(final Number value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return mix(value.longValue());
+        }
+        BigDecimal decimal = DataConsistencyCheckUtils.convertToBigDecimal(value).stripTrailingZeros();
+        if (decimal.scale() <= 0 && decimal.precision() - decimal.scale() <= 18) {
+            return mix(decimal.longValue());
+        }
+        return hashBytes(decimal.toPlainString().getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    private long hashBytes(final byte[] bytes) {
+        long result = FNV_OFFSET_BASIS;
+        for (byte each : bytes) {
+            result = (result ^ (each & 0xff)) * FNV_PRIME;
+        }
+        return mix(result);
+    }
+    
+    private static long mix(final long value) {
+        long result = value;
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        result *= 0xc4ceb9fe1a85ec53L;
+        result ^= result >>> 33;
+        return result;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Dialect pipeline bulk loader.
+ */
+@SingletonSPI
+public interface DialectPipelineBulkLoader extends DatabaseTypedSPI {
+    
+    /**
+     * Encode binary value into bulk load text.
+     *
+     * @param value binary value
+     * @return encoded value
+     */
+    default byte[] encodeBinary(final byte[] value) {
+        return value;
+    }
+    
+    /**
+     * Encode boolean value into bulk load text.
+     *
+     * @param value boolean value
+     * @return encoded value, empty if boolean value can not be bulk loaded
+     */
+    default Optional<String> encodeBoolean(final boolean value) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Load rows into table.
+     *
+     * @param connection connection of storage unit
+     * @param qualifiedTableName qualified table name
+     * @param columnNames escaped column names joined by comma
+     * @param rows rows encoded by pipeline bulk load text encoder
+     * @return loaded rows count, rows conflicted and skipped by database are not counted
+     * @throws SQLException SQL exception
+     */
+    long load(Connection connection, String qualifiedTableName, String columnNames, InputStream rows) throws SQLException;
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.DataSourceMapperRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Pipeline bulk load router.
+ * <p>Data records are routed to actual tables of storage units when target is ShardingSphere logic database,
+ * otherwise they are loaded into target data source directly.
+ * Bulk load skips SQL rewrite, so tables of rules which rewrite SQL (such as encrypt and mask) or map data sources (such as shadow and readwrite-splitting) are not routed.</p>
+ */
+@RequiredArgsConstructor
+public final class PipelineBulkLoadRouter {
+    
+    private static final String DIRECT_DATA_SOURCE_NAME = "";
+    
+    private final DataSource dataSource;
+    
+    /**
+     * Route data records.
+     *
+     * @param dataRecords data records of same logic table
+     * @param qualifiedTableName qualified name of logic table
+     * @param columnNames escaped column names joined by comma
+     * @return data records grouped by bulk load target, empty if the logic table can not be bulk loaded
+     * @throws SQLException SQL exception
+     */
+    public Optional<Map<PipelineBulkLoadTarget, List<DataRecord>>> route(final List<DataRecord> dataRecords, final String qualifiedTableName, final String columnNames) throws SQLException {
+        String tableName = dataRecords.get(0).getTableName();
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isWrapperFor(ShardingSphereConnection.class)
+                    ? route(connection.unwrap(ShardingSphereConnection.class), dataRecords, tableName, buildInsertSQL(dataRecords, qualifiedTableName, columnNames))
+                    : Optional.of(Collections.singletonMap(new PipelineBulkLoadTarget(DIRECT_DATA_SOURCE_NAME, dataSource, tableName), dataRecords));
+        }
+    }
+    
+    private Optional<Map<PipelineBulkLoadTarget, List<DataRecord>>> route(final ShardingSphereConnection connection, final List<DataRecord> dataRecords,
+                                                                           final String tableName, final String insertSQL) {
+        ShardingSphereMetaData metaData = connection.getContextManager().getMetaDataContexts().getMetaData();
+        ShardingSphereDatabase database = metaData.getDatabase(connection.getCurrentDatabaseName());
+        if (!isRoutable(database, tableName)) {
+            return Optional.empty();
+        }
+        SQLStatement sqlStatement = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(database.getProtocolType()).parse(insertSQL, false);
+        List<Object> params = dataRecords.stream().flatMap(each -> each.getColumns().stream()).map(Column::getValue).collect(Collectors.toList());
+        HintValueContext hintValueContext = new HintValueContext();
+        QueryContext queryContext = new QueryContext(new SQLBindEngine(metaData, database.getName(), hintValueContext).bind(sqlStatement, params),
+                insertSQL, params, hintValueContext, connection.getDatabaseConnectionManager().getConnectionContext(), metaData);
+        RouteContext routeContext = new SQLRouteEngine(database.getRuleMetaData().getRules(), metaData.getProps()).route(queryContext, metaData.getGlobalRuleMetaData(), database);
+        Map<String, StorageUnit> storageUnits = database.getResourceMetaData().getStorageUnits();
+        if (database.getRuleMetaData().findSingleRule(ShardingRule.class).map(optional -> optional.isShardingTable(tableName)).orElse(false)) {
+            return routeShardingTable(dataRecords, routeContext.getOriginalDataNodes(), storageUnits);
+        }
+        Map<PipelineBulkLoadTarget, List<DataRecord>> result = new LinkedHashMap<>();
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            String dataSourceName = each.getDataSourceMapper().getActualName();
+            for (String actualTableName : getActualTableNames(each, tableName)) {
+                result.put(new PipelineBulkLoadTarget(dataSourceName, storageUnits.get(dataSourceName).getDataSource(), actualTableName), dataRecords);
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private String buildInsertSQL(final List<DataRecord> dataRecords, final String qualifiedTableName, final String columnNames) {
+        String valuesLiteral = dataRecords.get(0).getColumns().stream().map(each -> "?").collect(Collectors.joining(",", "(", ")"));
+        return String.format("INSERT INTO %s(%s) VALUES %s", qualifiedTableName, columnNames, String.join(",", Collections.nCopies(dataRecords.size(), valuesLiteral)));
+    }
+    
+    private boolean isRoutable(final ShardingSphereDatabase database, final String tableName) {
+        for (ShardingSphereRule each : database.getRuleMetaData().getRules()) {
+            if (each.getAttributes().findAttribute(DataSourceMapperRuleAttribute.class).isPresent()) {
+                return false;
+            }
+            Optional<TableMapperRuleAttribute> tableMapperRuleAttribute = each.getAttributes().findAttribute(TableMapperRuleAttribute.class);
+            if (tableMapperRuleAttribute.isPresent() && !each.getAttributes().findAttribute(DataNodeRuleAttribute.class).isPresent()
+                    && tableMapperRuleAttribute.get().getLogicTableNames().stream().anyMatch(tableName::equalsIgnoreCase)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Optional<Map<PipelineBulkLoadTarget, List<DataRecord>>> routeShardingTable(final List<DataRecord> dataRecords, final Collection<Collection<DataNode>> originalDataNodes,
+                                                                                        final Map<String, StorageUnit> storageUnits) {
+        if (originalDataNodes.size() != dataRecords.size()) {
+            return Optional.empty();
+        }
+        Map<PipelineBulkLoadTarget, List<DataRecord>> result = new LinkedHashMap<>();
+        Iterator<DataRecord> dataRecordIterator = dataRecords.iterator();
+        for (Collection<DataNode> each : originalDataNodes) {
+            DataRecord dataRecord = dataRecordIterator.next();
+            for (DataNode dataNode : each) {
+                result.computeIfAbsent(new PipelineBulkLoadTarget(dataNode.getDataSourceName(), storageUnits.get(dataNode.getDataSourceName()).getDataSource(), dataNode.getTableName()),
+                        key -> new ArrayList<>()).add(dataRecord);
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private Iterable<String> getActualTableNames(final RouteUnit routeUnit, final String tableName) {
+        Iterable<String> result = routeUnit.getActualTableNames(tableName);
+        return result.iterator().hasNext() ? result : Collections.singleton(tableName);
+    }
+}
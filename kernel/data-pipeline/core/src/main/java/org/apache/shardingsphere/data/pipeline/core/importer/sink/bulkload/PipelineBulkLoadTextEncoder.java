@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Pipeline bulk load text encoder.
+ * <p>Rows are encoded in the text format shared by PostgreSQL COPY and MySQL LOAD DATA with default options:
+ * columns are separated by tab, rows are separated by new line, null is written as \N,
+ * and backslash, tab, new line and carriage return in values are escaped by backslash.
+ * Boolean values are encoded by dialect, records with boolean values are not encodable if dialect can not bulk load them, such as into MySQL BIT column.</p>
+ */
+@RequiredArgsConstructor
+public final class PipelineBulkLoadTextEncoder {
+    
+    private static final byte[] NULL_VALUE = {'\\', 'N'};
+    
+    private final DialectPipelineBulkLoader bulkLoader;
+    
+    /**
+     * Judge whether data records can be encoded.
+     *
+     * @param dataRecords data records
+     * @return can be encoded or not
+     */
+    public boolean isEncodable(final Collection<DataRecord> dataRecords) {
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                Object value = each.getColumn(i).getValue();
+                if (value instanceof Boolean && !bulkLoader.encodeBoolean((Boolean) value).isPresent()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Encode data records.
+     *
+     * @param dataRecords data records
+     * @return encoded rows
+     */
+    public byte[] encode(final Collection<DataRecord> dataRecords) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(dataRecords.size() * 128);
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                if (i > 0) {
+                    result.write('\t');
+                }
+                writeValue(result, each.getColumn(i).getValue());
+            }
+            result.write('\n');
+        }
+        return result.toByteArray();
+    }
+    
+    private void writeValue(final ByteArrayOutputStream out, final Object value) {
+        if (null == value) {
+            out.write(NULL_VALUE, 0, NULL_VALUE.length);
+            return;
+        }
+        byte[] bytes = value instanceof byte[] ? bulkLoader.encodeBinary((byte[]) value) : toText(value).getBytes(StandardCharsets.UTF_8);
+        for (byte each : bytes) {
+            writeEscaped(out, each);
+        }
+    }
+    
+    private String toText(final Object value) {
+        if (value instanceof Boolean) {
+            return bulkLoader.encodeBoolean((Boolean) value).orElseThrow(() -> new UnsupportedOperationException("Boolean value can not be bulk loaded"));
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        return value.toString();
+    }
+    
+    private void writeEscaped(final ByteArrayOutputStream out, final byte value) {
+        switch (value) {
+            case '\\':
+                out.write('\\');
+                out.write('\\');
+                break;
+            case '\t':
+                out.write('\\');
+                out.write('t');
+                break;
+            case '\n':
+                out.write('\\');
+                out.write('n');
+                break;
+            case '\r':
+                out.write('\\');
+                out.write('r');
+                break;
+            default:
+                out.write(value);
+                break;
+        }
+    }
+}
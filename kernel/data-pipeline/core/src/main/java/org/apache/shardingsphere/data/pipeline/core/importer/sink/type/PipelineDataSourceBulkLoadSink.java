@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink.type;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.DialectPipelineBulkLoader;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.PipelineBulkLoadRouter;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.PipelineBulkLoadTarget;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.PipelineBulkLoadTextEncoder;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.PrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.segment.PipelineSQLSegmentBuilder;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.exception.core.external.ShardingSphereExternalException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Pipeline data source bulk load sink.
+ * <p>Inventory records are loaded by dialect bulk load, such as PostgreSQL COPY and MySQL LOAD DATA.
+ * Incremental records, records of tables which can not be routed for bulk load, and records of targets conflicted with existing rows or failed to bulk load,
+ * are written by pipeline data source sink.</p>
+ */
+@HighFrequencyInvocation
+@Slf4j
+public final class PipelineDataSourceBulkLoadSink implements PipelineSink {
+    
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION_SQL_STATE_CLASS = "23";
+    
+    private final ImporterConfiguration importerConfig;
+    
+    private final DialectPipelineBulkLoader bulkLoader;
+    
+    private final PipelineBulkLoadRouter router;
+    
+    private final PipelineSink delegate;
+    
+    private final PipelineSQLSegmentBuilder sqlSegmentBuilder;
+    
+    private final PipelineBulkLoadTextEncoder encoder;
+    
+    private final AtomicBoolean bulkLoadEnabled;
+    
+    private final Set<String> unroutableTableNames;
+    
+    public PipelineDataSourceBulkLoadSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final DialectPipelineBulkLoader bulkLoader) {
+        this(importerConfig, bulkLoader,
+                new PipelineBulkLoadRouter(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig())), new PipelineDataSourceSink(importerConfig, dataSourceManager));
+    }
+    
+    public PipelineDataSourceBulkLoadSink(final ImporterConfiguration importerConfig, final DialectPipelineBulkLoader bulkLoader, final PipelineBulkLoadRouter router, final PipelineSink delegate) {
+        this.importerConfig = importerConfig;
+        this.bulkLoader = bulkLoader;
+        this.router = router;
+        this.delegate = delegate;
+        sqlSegmentBuilder = new PipelineSQLSegmentBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
+        encoder = new PipelineBulkLoadTextEncoder(bulkLoader);
+        bulkLoadEnabled = new AtomicBoolean(true);
+        unroutableTableNames = ConcurrentHashMap.newKeySet();
+    }
+    
+    @Override
+    public PipelineJobUpdateProgress write(final String ackId, final Collection<Record> records) {
+        List<DataRecord> dataRecords = records.stream().filter(DataRecord.class::isInstance).map(DataRecord.class::cast).collect(Collectors.toList());
+        if (dataRecords.isEmpty() || !bulkLoadEnabled.get() || !isInventoryRecords(dataRecords) || unroutableTableNames.contains(dataRecords.get(0).getTableName())) {
+            return delegate.write(ackId, records);
+        }
+        Optional<List<DataRecord>> fallbackRecords = bulkLoad(dataRecords);
+        if (!fallbackRecords.isPresent()) {
+            return delegate.write(ackId, records);
+        }
+        if (!fallbackRecords.get().isEmpty()) {
+            delegate.write(ackId, new ArrayList<>(fallbackRecords.get()));
+        }
+        return new PipelineJobUpdateProgress(dataRecords.size());
+    }
+    
+    private boolean isInventoryRecords(final List<DataRecord> dataRecords) {
+        String tableName = dataRecords.get(0).getTableName();
+        for (DataRecord each : dataRecords) {
+            if (PipelineSQLOperationType.INSERT != each.getType() || !isInventoryPosition(each.getPosition()) || !tableName.equals(each.getTableName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isInventoryPosition(final IngestPosition position) {
+        return position instanceof IngestPlaceholderPosition || position instanceof PrimaryKeyIngestPosition;
+    }
+    
+    private Optional<List<DataRecord>> bulkLoad(final List<DataRecord> dataRecords) {
+        DataRecord dataRecord = dataRecords.get(0);
+        if (!encoder.isEncodable(dataRecords)) {
+            log.info("Bulk load is not supported for boolean values of dialect, fall back to batch insert, table: {}", dataRecord.getTableName());
+            unroutableTableNames.add(dataRecord.getTableName());
+            return Optional.empty();
+        }
+        String schemaName = importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null);
+        String columnNames = dataRecord.getColumns().stream().map(each -> sqlSegmentBuilder.getEscapedIdentifier(each.getName())).collect(Collectors.joining(","));
+        Optional<Map<PipelineBulkLoadTarget, List<DataRecord>>> routedRecords;
+        try {
+            routedRecords = router.route(dataRecords, sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnNames);
+        } catch (final SQLException | ShardingSphereExternalException ex) {
+            log.warn("Bulk load route failed, fall back to batch insert for all tables, table: {}", dataRecord.getTableName(), ex);
+            bulkLoadEnabled.set(false);
+            return Optional.empty();
+        }
+        if (!routedRecords.isPresent()) {
+            log.info("Bulk load is not supported for table covered by rewriting or data source mapping rules, fall back to batch insert, table: {}", dataRecord.getTableName());
+            unroutableTableNames.add(dataRecord.getTableName());
+            return Optional.empty();
+        }
+        Optional.ofNullable(importerConfig.getRateLimitAlgorithm()).ifPresent(optional -> optional.intercept(PipelineSQLOperationType.INSERT, 1));
+        Set<DataRecord> failedRecords = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Entry<PipelineBulkLoadTarget, List<DataRecord>> entry : routedRecords.get().entrySet()) {
+            if (!bulkLoadEnabled.get() || !bulkLoad(entry.getKey(), sqlSegmentBuilder.getQualifiedTableName(schemaName, entry.getKey().getTableName()), columnNames, entry.getValue())) {
+                failedRecords.addAll(entry.getValue());
+            }
+        }
+        return Optional.of(dataRecords.stream().filter(failedRecords::contains).collect(Collectors.toList()));
+    }
+    
+    private boolean bulkLoad(final PipelineBulkLoadTarget target, final String qualifiedTableName, final String columnNames, final List<DataRecord> dataRecords) {
+        try {
+            if (doBulkLoad(target, qualifiedTableName, columnNames, dataRecords)) {
+                return true;
+            }
+            log.info("Bulk load conflicted with existing rows, fall back to batch insert, data source: {}, table: {}", target.getDataSourceName(), target.getTableName());
+        } catch (final SQLException ex) {
+            if (isConflicted(ex)) {
+                log.info("Bulk load conflicted with existing rows, fall back to batch insert, data source: {}, table: {}", target.getDataSourceName(), target.getTableName());
+            } else {
+                log.warn("Bulk load failed, fall back to batch insert for all tables, data source: {}, table: {}", target.getDataSourceName(), target.getTableName(), ex);
+                bulkLoadEnabled.set(false);
+            }
+        }
+        return false;
+    }
+    
+    private boolean doBulkLoad(final PipelineBulkLoadTarget target, final String qualifiedTableName, final String columnNames, final List<DataRecord> dataRecords) throws SQLException {
+        try (Connection connection = target.getDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                if (dataRecords.size() == bulkLoader.load(connection, qualifiedTableName, columnNames, new ByteArrayInputStream(encoder.encode(dataRecords)))) {
+                    connection.commit();
+                    return true;
+                }
+                connection.rollback();
+                return false;
+            } catch (final SQLException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        }
+    }
+    
+    private boolean isConflicted(final SQLException ex) {
+        Throwable each = ex;
+        while (null != each) {
+            if (each instanceof SQLException && null != ((SQLException) each).getSQLState() && ((SQLException) each).getSQLState().startsWith(INTEGRITY_CONSTRAINT_VIOLATION_SQL_STATE_CLASS)) {
+                return true;
+            }
+            each = each.getCause();
+        }
+        return false;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
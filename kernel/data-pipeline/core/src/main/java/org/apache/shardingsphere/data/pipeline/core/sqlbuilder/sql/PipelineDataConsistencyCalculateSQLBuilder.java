@@ -81,6 +81,30 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
         }
     }
     
+    /**
+     * Build query range SQL.
+     *
+     * @param qualifiedTable qualified table
+     * @param columnNames column names
+     * @param firstUniqueKey first unique key
+     * @param queryRange query range
+     * @return built SQL
+     */
+    public String buildQueryRangeSQL(final QualifiedTable qualifiedTable, final Collection<String> columnNames, final String firstUniqueKey, final QueryRange queryRange) {
+        String qualifiedTableName = sqlSegmentBuilder.getQualifiedTableName(qualifiedTable);
+        String queryColumns = columnNames.stream().map(sqlSegmentBuilder::getEscapedIdentifier).collect(Collectors.joining(","));
+        if (null != queryRange.getLower() && null != queryRange.getUpper()) {
+            return String.format("SELECT %s FROM %s WHERE %s AND %s", queryColumns, qualifiedTableName,
+                    buildLowerQueryRangeCondition(queryRange.isLowerInclusive(), firstUniqueKey), buildUpperQueryRangeCondition(firstUniqueKey));
+        } else if (null != queryRange.getLower()) {
+            return String.format("SELECT %s FROM %s WHERE %s", queryColumns, qualifiedTableName, buildLowerQueryRangeCondition(queryRange.isLowerInclusive(), firstUniqueKey));
+        } else if (null != queryRange.getUpper()) {
+            return String.format("SELECT %s FROM %s WHERE %s", queryColumns, qualifiedTableName, buildUpperQueryRangeCondition(firstUniqueKey));
+        } else {
+            return String.format("SELECT %s FROM %s", queryColumns, qualifiedTableName);
+        }
+    }
+    
     private String buildLowerQueryRangeCondition(final boolean inclusive, final String firstUniqueKey) {
         String delimiter = inclusive ? ">=?" : ">?";
         return sqlSegmentBuilder.getEscapedIdentifier(firstUniqueKey) + delimiter;
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ring;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelCreator;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RingPipelineChannelCreatorTest {
+    
+    @Test
+    void assertNewInstance() throws ReflectiveOperationException {
+        PipelineChannelCreator creator = TypedSPILoader.getService(PipelineChannelCreator.class, "RING",
+                PropertiesBuilder.build(new Property("buffer-size", "10000"), new Property("wait-strategy", "yield")));
+        assertThat(Plugins.getMemberAccessor().get(RingPipelineChannelCreator.class.getDeclaredField("waitStrategy"), creator), is(RingPipelineChannelWaitStrategy.YIELD));
+        PipelineChannel channel = creator.newInstance(1000, new InventoryTaskAckCallback(new AtomicReference<>()));
+        assertThat(((Object[]) Plugins.getMemberAccessor().get(RingPipelineChannel.class.getDeclaredField("buffer"), channel)).length, is(16));
+    }
+    
+    @Test
+    void assertNewInstanceWithDefaultProperties() throws ReflectiveOperationException {
+        PipelineChannelCreator creator = TypedSPILoader.getService(PipelineChannelCreator.class, "RING");
+        assertThat(Plugins.getMemberAccessor().get(RingPipelineChannelCreator.class.getDeclaredField("bufferSize"), creator), is(2000));
+        assertThat(Plugins.getMemberAccessor().get(RingPipelineChannelCreator.class.getDeclaredField("waitStrategy"), creator), is(RingPipelineChannelWaitStrategy.PARK));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ring;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingPipelineChannelTest {
+    
+    @Test
+    void assertFetchWithZeroTimeout() {
+        RingPipelineChannel channel = new RingPipelineChannel(100, RingPipelineChannelWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.fetch(10, 0L), is(records));
+    }
+    
+    @Test
+    void assertFetchBatchOfMultiplePushes() {
+        RingPipelineChannel channel = new RingPipelineChannel(4, RingPipelineChannelWaitStrategy.SPIN, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> expected = new ArrayList<>(3);
+        for (int i = 0; i < 3; i++) {
+            List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+            channel.push(records);
+            expected.addAll(records);
+        }
+        assertThat(channel.fetch(3, 0L), is(expected));
+        assertThat(channel.poll(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPushAndFetchWithWrappedBuffer() throws InterruptedException {
+        RingPipelineChannel channel = new RingPipelineChannel(2, RingPipelineChannelWaitStrategy.YIELD, new InventoryTaskAckCallback(new AtomicReference<>()));
+        int count = 1000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                channel.push(Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition())));
+            }
+        });
+        producer.start();
+        int actual = 0;
+        long deadlineMillis = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10L);
+        while (actual < count && System.currentTimeMillis() < deadlineMillis) {
+            actual += channel.fetch(100, 100L).size();
+        }
+        producer.join();
+        assertThat(actual, is(count));
+    }
+    
+    @Test
+    void assertPushWithMultipleProducers() throws InterruptedException {
+        RingPipelineChannel channel = new RingPipelineChannel(4, RingPipelineChannelWaitStrategy.YIELD, new InventoryTaskAckCallback(new AtomicReference<>()));
+        int countPerProducer = 500;
+        List<Thread> producers = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            Thread producer = new Thread(() -> {
+                for (int j = 0; j < countPerProducer; j++) {
+                    channel.push(Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition())));
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        int actual = 0;
+        long deadlineMillis = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10L);
+        while (actual < countPerProducer * producers.size() && System.currentTimeMillis() < deadlineMillis) {
+            for (Record each : channel.fetch(100, 100L)) {
+                assertNotNull(each);
+                actual++;
+            }
+        }
+        for (Thread each : producers) {
+            each.join();
+        }
+        assertThat(actual, is(countPerProducer * producers.size()));
+    }
+    
+    @Test
+    void assertPushWhenInterruptedBeforePublished() throws ReflectiveOperationException, InterruptedException {
+        RingPipelineChannel channel = new RingPipelineChannel(4, RingPipelineChannelWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        getSequence(channel, "claimedSequence").set(1L);
+        AtomicReference<Throwable> pushException = new AtomicReference<>();
+        Thread producer = new Thread(() -> {
+            try {
+                channel.push(Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition())));
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                pushException.set(ex);
+            }
+        });
+        producer.start();
+        producer.interrupt();
+        while (2L != getSequence(channel, "claimedSequence").get()) {
+            Thread.yield();
+        }
+        List<Record> precedingRecords = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        ((Object[]) Plugins.getMemberAccessor().get(RingPipelineChannel.class.getDeclaredField("buffer"), channel))[0] = precedingRecords;
+        getSequence(channel, "publishedSequence").set(1L);
+        producer.join(TimeUnit.SECONDS.toMillis(10L));
+        assertThat(producer.isAlive(), is(false));
+        assertThat(pushException.get() instanceof InterruptedException, is(true));
+        assertThat(channel.poll(), is(precedingRecords));
+        assertThat(channel.poll(), is(Collections.emptyList()));
+        List<Record> followingRecords = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(followingRecords);
+        assertThat(channel.fetch(10, 0L), is(followingRecords));
+    }
+    
+    private AtomicLong getSequence(final RingPipelineChannel channel, final String fieldName) throws ReflectiveOperationException {
+        return (AtomicLong) Plugins.getMemberAccessor().get(RingPipelineChannel.class.getDeclaredField(fieldName), channel);
+    }
+    
+    @Test
+    void assertPeekWithRecords() {
+        RingPipelineChannel channel = new RingPipelineChannel(100, RingPipelineChannelWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.peek(), is(records));
+    }
+    
+    @Test
+    void assertPeekWithoutRecords() {
+        assertThat(new RingPipelineChannel(100, RingPipelineChannelWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>())).peek(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPollWithRecords() {
+        RingPipelineChannel channel = new RingPipelineChannel(100, RingPipelineChannelWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.poll(), is(records));
+        assertThat(channel.poll(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertAck() {
+        InventoryTaskAckCallback callback = mock(InventoryTaskAckCallback.class);
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        new RingPipelineChannel(100, RingPipelineChannelWaitStrategy.PARK, callback).ack(records);
+        verify(callback).onAck(records);
+    }
+}
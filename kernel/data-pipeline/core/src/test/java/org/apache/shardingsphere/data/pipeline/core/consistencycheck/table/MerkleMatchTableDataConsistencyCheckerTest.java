@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MerkleMatchTableDataConsistencyCheckerTest {
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Test
+    void assertInitSuccess() {
+        MerkleMatchTableDataConsistencyChecker checker = new MerkleMatchTableDataConsistencyChecker();
+        checker.init(buildAlgorithmProperties("parallelism", "4", "range-count", "16", "min-range-size", "100"));
+        assertThat(Plugins.getMemberAccessor().get(MerkleMatchTableDataConsistencyChecker.class.getDeclaredField("parallelism"), checker), is(4));
+        assertThat(Plugins.getMemberAccessor().get(MerkleMatchTableDataConsistencyChecker.class.getDeclaredField("rangeCount"), checker), is(16));
+        assertThat(Plugins.getMemberAccessor().get(MerkleMatchTableDataConsistencyChecker.class.getDeclaredField("minRangeSize"), checker), is(100));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Test
+    void assertInitWithDefaultProperties() {
+        MerkleMatchTableDataConsistencyChecker checker = new MerkleMatchTableDataConsistencyChecker();
+        checker.init(new Properties());
+        assertThat(Plugins.getMemberAccessor().get(MerkleMatchTableDataConsistencyChecker.class.getDeclaredField("rangeCount"), checker), is(64));
+        assertThat(Plugins.getMemberAccessor().get(MerkleMatchTableDataConsistencyChecker.class.getDeclaredField("minRangeSize"), checker), is(1000));
+    }
+    
+    @Test
+    void assertInitFailure() {
+        for (String each : Arrays.asList("parallelism", "range-count", "min-range-size")) {
+            assertThrows(PipelineInvalidParameterException.class, () -> new MerkleMatchTableDataConsistencyChecker().init(buildAlgorithmProperties(each, "xyz")));
+            assertThrows(PipelineInvalidParameterException.class, () -> new MerkleMatchTableDataConsistencyChecker().init(buildAlgorithmProperties(each, "0")));
+        }
+        assertThrows(PipelineInvalidParameterException.class, () -> new MerkleMatchTableDataConsistencyChecker().init(buildAlgorithmProperties("range-count", "1")));
+    }
+    
+    private Properties buildAlgorithmProperties(final String... keyValues) {
+        Properties result = new Properties();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            result.put(keyValues[i], keyValues[i + 1]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MerkleTreeTest {
+    
+    @Test
+    void assertFindMismatchedLeavesWithSameDigests() {
+        MerkleTree actual = new MerkleTree(new long[]{1L, 2L, 3L, 4L, 5L});
+        assertThat(actual.findMismatchedLeaves(new MerkleTree(new long[]{1L, 2L, 3L, 4L, 5L})), is(Collections.emptyList()));
+        assertThat(actual.getLeavesCount(), is(5));
+    }
+    
+    @Test
+    void assertFindMismatchedLeavesWithDifferentDigests() {
+        MerkleTree actual = new MerkleTree(new long[]{1L, 2L, 3L, 4L, 5L});
+        MerkleTree other = new MerkleTree(new long[]{1L, 0L, 3L, 4L, 0L});
+        assertThat(actual.getRootDigest(), not(other.getRootDigest()));
+        assertThat(actual.findMismatchedLeaves(other), is(Arrays.asList(1, 4)));
+    }
+    
+    @Test
+    void assertFindMismatchedLeavesWithSingleLeaf() {
+        assertThat(new MerkleTree(new long[]{1L}).findMismatchedLeaves(new MerkleTree(new long[]{2L})), is(Collections.singletonList(0)));
+    }
+    
+    @Test
+    void assertFindMismatchedLeavesWithDifferentLeavesCount() {
+        assertThrows(IllegalArgumentException.class, () -> new MerkleTree(new long[]{1L}).findMismatchedLeaves(new MerkleTree(new long[]{1L, 2L})));
+    }
+}
@@ -32,6 +32,7 @@ class TableDataConsistencyCheckerFactoryTest {
         assertInstanceOf(DataMatchTableDataConsistencyChecker.class, TableDataConsistencyCheckerFactory.newInstance(null, new Properties()));
         assertInstanceOf(DataMatchTableDataConsistencyChecker.class, TableDataConsistencyCheckerFactory.newInstance("DATA_MATCH", new Properties()));
         assertInstanceOf(CRC32MatchTableDataConsistencyChecker.class, TableDataConsistencyCheckerFactory.newInstance("CRC32_MATCH", new Properties()));
+        assertInstanceOf(MerkleMatchTableDataConsistencyChecker.class, TableDataConsistencyCheckerFactory.newInstance("MERKLE_MATCH", new Properties()));
     }
     
     @Test
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RangeDigestSingleTableInventoryCalculatorTest {
+    
+    private static final String SQL = "SELECT id,name FROM foo_tbl WHERE id>=? AND id<=?";
+    
+    private SingleTableInventoryCalculateParameter parameter;
+    
+    @Mock
+    private PipelineDataSource pipelineDataSource;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection connection;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+        List<PipelineColumnMetaData> uniqueKeys = Collections.singletonList(new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true));
+        parameter = new SingleTableInventoryCalculateParameter(pipelineDataSource, new QualifiedTable(null, "foo_tbl"), Arrays.asList("id", "name"), uniqueKeys, null);
+        parameter.setQueryRange(new QueryRange(1L, true, 10L));
+        when(pipelineDataSource.getDatabaseType()).thenReturn(databaseType);
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+    }
+    
+    @Test
+    void assertCalculateWithDifferentRecordsOrder() throws SQLException {
+        PreparedStatement preparedStatement = mockPreparedStatement(new Object[]{1, "foo"}, new Object[]{2, "bar"});
+        SingleTableInventoryCalculatedResult expected = new RangeDigestSingleTableInventoryCalculator().calculate(parameter).iterator().next();
+        verify(preparedStatement).setObject(1, 1L);
+        verify(preparedStatement).setObject(2, 10L);
+        mockPreparedStatement(new Object[]{2L, "bar"}, new Object[]{new BigDecimal("1.00"), "foo"});
+        SingleTableInventoryCalculatedResult actual = new RangeDigestSingleTableInventoryCalculator().calculate(parameter).iterator().next();
+        assertThat(actual.getRecordsCount(), is(2));
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertCalculateWithDifferentRecords() throws SQLException {
+        mockPreparedStatement(new Object[]{1, "foo"}, new Object[]{2, "bar"});
+        SingleTableInventoryCalculatedResult expected = new RangeDigestSingleTableInventoryCalculator().calculate(parameter).iterator().next();
+        mockPreparedStatement(new Object[]{1, "foo"}, new Object[]{2, "baz"});
+        assertThat(new RangeDigestSingleTableInventoryCalculator().calculate(parameter).iterator().next(), not(expected));
+    }
+    
+    @Test
+    void assertCalculateFailed() throws SQLException {
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenThrow(new SQLException(""));
+        assertThrows(PipelineTableDataConsistencyCheckLoadingFailedException.class, () -> new RangeDigestSingleTableInventoryCalculator().calculate(parameter));
+    }
+    
+    private PreparedStatement mockPreparedStatement(final Object[]... records) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnType(anyInt())).thenReturn(Types.OTHER);
+        Boolean[] nextResults = new Boolean[records.length];
+        Arrays.fill(nextResults, true);
+        nextResults[nextResults.length - 1] = false;
+        when(resultSet.next()).thenReturn(true, nextResults);
+        when(resultSet.getObject(1)).thenReturn(records[0][0], Arrays.stream(records).skip(1L).map(each -> each[0]).toArray());
+        when(resultSet.getObject(2)).thenReturn(records[0][1], Arrays.stream(records).skip(1L).map(each -> each[1]).toArray());
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        when(connection.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)).thenReturn(result);
+        return result;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload;
+
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.DataSourceMapperRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PipelineBulkLoadRouterTest {
+    
+    @Test
+    void assertRouteWithDirectDataSource() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+        List<DataRecord> dataRecords = Collections.singletonList(createDataRecord());
+        Optional<Map<PipelineBulkLoadTarget, List<DataRecord>>> actual = new PipelineBulkLoadRouter(dataSource).route(dataRecords, "foo_tbl", "id");
+        assertThat(actual, is(Optional.of(Collections.singletonMap(new PipelineBulkLoadTarget("", dataSource, "foo_tbl"), dataRecords))));
+    }
+    
+    @Test
+    void assertRouteWithTableOfRewritingRule() throws SQLException {
+        TableMapperRuleAttribute tableMapperRuleAttribute = mock(TableMapperRuleAttribute.class);
+        when(tableMapperRuleAttribute.getLogicTableNames()).thenReturn(Collections.singleton("FOO_TBL"));
+        assertThat(new PipelineBulkLoadRouter(mockDataSource(mockRule(tableMapperRuleAttribute))).route(Collections.singletonList(createDataRecord()), "foo_tbl", "id"), is(Optional.empty()));
+    }
+    
+    @Test
+    void assertRouteWithDataSourceMapperRule() throws SQLException {
+        ShardingSphereRule rule = mockRule(mock(DataSourceMapperRuleAttribute.class));
+        assertThat(new PipelineBulkLoadRouter(mockDataSource(rule)).route(Collections.singletonList(createDataRecord()), "foo_tbl", "id"), is(Optional.empty()));
+    }
+    
+    private ShardingSphereRule mockRule(final TableMapperRuleAttribute attribute) {
+        ShardingSphereRule result = mock(ShardingSphereRule.class);
+        when(result.getAttributes()).thenReturn(new RuleAttributes(attribute));
+        return result;
+    }
+    
+    private ShardingSphereRule mockRule(final DataSourceMapperRuleAttribute attribute) {
+        ShardingSphereRule result = mock(ShardingSphereRule.class);
+        when(result.getAttributes()).thenReturn(new RuleAttributes(attribute));
+        return result;
+    }
+    
+    private DataSource mockDataSource(final ShardingSphereRule rule) throws SQLException {
+        ShardingSphereConnection shardingSphereConnection = mock(ShardingSphereConnection.class, RETURNS_DEEP_STUBS);
+        when(shardingSphereConnection.getCurrentDatabaseName()).thenReturn("foo_db");
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getRuleMetaData().getRules()).thenReturn(Collections.singleton(rule));
+        when(shardingSphereConnection.getContextManager().getMetaDataContexts().getMetaData().getDatabase("foo_db")).thenReturn(database);
+        Connection connection = mock(Connection.class);
+        when(connection.isWrapperFor(ShardingSphereConnection.class)).thenReturn(true);
+        when(connection.unwrap(ShardingSphereConnection.class)).thenReturn(shardingSphereConnection);
+        DataSource result = mock(DataSource.class);
+        when(result.getConnection()).thenReturn(connection);
+        return result;
+    }
+    
+    private DataRecord createDataRecord() {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 1);
+        result.addColumn(new NormalColumn("id", 1, false, true));
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload;
+
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PipelineBulkLoadTextEncoderTest {
+    
+    @Test
+    void assertEncode() {
+        DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 5);
+        dataRecord.addColumn(new NormalColumn("id", 1, false, true));
+        dataRecord.addColumn(new NormalColumn("name", "a\tb\nc\\d\re", false, false));
+        dataRecord.addColumn(new NormalColumn("flag", true, false, false));
+        dataRecord.addColumn(new NormalColumn("amount", new BigDecimal("1E+3"), false, false));
+        dataRecord.addColumn(new NormalColumn("remark", null, false, false));
+        DialectPipelineBulkLoader bulkLoader = mock(DialectPipelineBulkLoader.class);
+        when(bulkLoader.encodeBoolean(true)).thenReturn(Optional.of("t"));
+        byte[] actual = new PipelineBulkLoadTextEncoder(bulkLoader).encode(Arrays.asList(dataRecord, dataRecord));
+        String expectedRow = "1\ta\\tb\\nc\\\\d\\re\tt\t1000\t\\N\n";
+        assertThat(new String(actual, StandardCharsets.UTF_8), is(expectedRow + expectedRow));
+    }
+    
+    @Test
+    void assertEncodeBinary() {
+        DialectPipelineBulkLoader bulkLoader = mock(DialectPipelineBulkLoader.class);
+        when(bulkLoader.encodeBinary(any())).thenReturn(new byte[]{'\\', 'x', '0', 'a'});
+        DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 1);
+        dataRecord.addColumn(new NormalColumn("data", new byte[]{10}, false, false));
+        byte[] actual = new PipelineBulkLoadTextEncoder(bulkLoader).encode(Collections.singleton(dataRecord));
+        assertThat(new String(actual, StandardCharsets.UTF_8), is("\\\\x0a\n"));
+    }
+    
+    @Test
+    void assertIsEncodable() {
+        DialectPipelineBulkLoader bulkLoader = mock(DialectPipelineBulkLoader.class);
+        when(bulkLoader.encodeBoolean(true)).thenReturn(Optional.of("t"));
+        DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 1);
+        dataRecord.addColumn(new NormalColumn("flag", true, false, false));
+        assertTrue(new PipelineBulkLoadTextEncoder(bulkLoader).isEncodable(Collections.singleton(dataRecord)));
+    }
+    
+    @Test
+    void assertIsNotEncodableWithBooleanValue() {
+        DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 2);
+        dataRecord.addColumn(new NormalColumn("id", 1, false, true));
+        dataRecord.addColumn(new NormalColumn("flag", false, false, false));
+        assertFalse(new PipelineBulkLoadTextEncoder(mock(DialectPipelineBulkLoader.class)).isEncodable(Collections.singleton(dataRecord)));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink.type;
+
+import org.apache.shardingsphere.data.pipeline.api.PipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.DialectPipelineBulkLoader;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.PipelineBulkLoadRouter;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.PipelineBulkLoadTarget;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.TableAndSchemaNameMapper;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PipelineDataSourceBulkLoadSinkTest {
+    
+    @Mock
+    private DialectPipelineBulkLoader bulkLoader;
+    
+    @Mock
+    private PipelineBulkLoadRouter router;
+    
+    @Mock
+    private PipelineSink delegate;
+    
+    @Mock
+    private Connection connection;
+    
+    private PipelineDataSourceBulkLoadSink sink;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        PipelineDataSourceConfiguration dataSourceConfig = mock(PipelineDataSourceConfiguration.class);
+        when(dataSourceConfig.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        ImporterConfiguration importerConfig = new ImporterConfiguration(dataSourceConfig, Collections.emptyMap(), mock(TableAndSchemaNameMapper.class), 2, null, 0, 1);
+        sink = new PipelineDataSourceBulkLoadSink(importerConfig, bulkLoader, router, delegate);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(router.route(anyList(), anyString(), anyString())).thenAnswer(invocation -> Optional.of(Collections.singletonMap(new PipelineBulkLoadTarget("ds_0", dataSource, "foo_tbl_0"), invocation.getArgument(0))));
+        when(delegate.write(anyString(), any())).thenReturn(new PipelineJobUpdateProgress(2));
+    }
+    
+    @Test
+    void assertWriteInventoryRecordsByBulkLoad() throws SQLException {
+        when(bulkLoader.load(eq(connection), eq("foo_tbl_0"), eq("id,name"), any())).thenReturn(2L);
+        PipelineJobUpdateProgress actual = sink.write("", createRecords(new IngestPlaceholderPosition()));
+        assertThat(actual.getProcessedRecordsCount(), is(2));
+        verify(connection).setAutoCommit(false);
+        verify(connection).commit();
+        verify(delegate, never()).write(anyString(), any());
+    }
+    
+    @Test
+    void assertWriteIncrementalRecords() throws SQLException {
+        Collection<Record> records = createRecords(mock(IngestPosition.class));
+        sink.write("", records);
+        verify(delegate).write("", records);
+        verify(router, never()).route(anyList(), anyString(), anyString());
+    }
+    
+    @Test
+    void assertWriteWithSkippedConflictedRows() throws SQLException {
+        when(bulkLoader.load(eq(connection), eq("foo_tbl_0"), eq("id,name"), any())).thenReturn(1L);
+        Collection<Record> records = createRecords(new IngestPlaceholderPosition());
+        sink.write("", records);
+        verify(connection).rollback();
+        verify(delegate).write("", new ArrayList<>(records));
+        sink.write("", records);
+        verify(router, times(2)).route(anyList(), anyString(), anyString());
+    }
+    
+    @Test
+    void assertWriteWithConstraintViolation() throws SQLException {
+        when(bulkLoader.load(eq(connection), eq("foo_tbl_0"), eq("id,name"), any())).thenThrow(new SQLException("duplicate key", "23505"));
+        Collection<Record> records = createRecords(new IngestPlaceholderPosition());
+        sink.write("", records);
+        verify(connection).rollback();
+        verify(delegate).write("", new ArrayList<>(records));
+        sink.write("", records);
+        verify(router, times(2)).route(anyList(), anyString(), anyString());
+    }
+    
+    @Test
+    void assertWriteWithBulkLoadUnavailable() throws SQLException {
+        when(bulkLoader.load(eq(connection), eq("foo_tbl_0"), eq("id,name"), any())).thenThrow(new SQLException("Loading local data is disabled", "42000"));
+        Collection<Record> records = createRecords(new IngestPlaceholderPosition());
+        sink.write("", records);
+        sink.write("", records);
+        verify(router).route(anyList(), anyString(), anyString());
+        verify(delegate, times(2)).write("", records);
+    }
+    
+    @Test
+    void assertWriteWithOneTargetConflicted() throws SQLException {
+        Connection conflictedConnection = mock(Connection.class);
+        DataSource conflictedDataSource = mock(DataSource.class);
+        when(conflictedDataSource.getConnection()).thenReturn(conflictedConnection);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        List<Record> records = new ArrayList<>(createRecords(new IngestPlaceholderPosition()));
+        Map<PipelineBulkLoadTarget, List<DataRecord>> routedRecords = new LinkedHashMap<>(2, 1F);
+        routedRecords.put(new PipelineBulkLoadTarget("ds_0", dataSource, "foo_tbl_0"), Collections.singletonList((DataRecord) records.get(0)));
+        routedRecords.put(new PipelineBulkLoadTarget("ds_1", conflictedDataSource, "foo_tbl_1"), Collections.singletonList((DataRecord) records.get(1)));
+        when(router.route(anyList(), anyString(), anyString())).thenReturn(Optional.of(routedRecords));
+        when(bulkLoader.load(eq(connection), eq("foo_tbl_0"), eq("id,name"), any())).thenReturn(1L);
+        when(bulkLoader.load(eq(conflictedConnection), eq("foo_tbl_1"), eq("id,name"), any())).thenThrow(new SQLException("duplicate key", "23505"));
+        PipelineJobUpdateProgress actual = sink.write("", records);
+        assertThat(actual.getProcessedRecordsCount(), is(2));
+        verify(connection).commit();
+        verify(conflictedConnection).rollback();
+        verify(delegate).write("", Collections.singletonList(records.get(1)));
+    }
+    
+    @Test
+    void assertWriteWithUnroutableTable() throws SQLException {
+        when(router.route(anyList(), anyString(), anyString())).thenReturn(Optional.empty());
+        Collection<Record> records = createRecords(new IngestPlaceholderPosition());
+        sink.write("", records);
+        sink.write("", records);
+        verify(router).route(anyList(), anyString(), anyString());
+        verify(delegate, times(2)).write("", records);
+        verify(bulkLoader, never()).load(any(), anyString(), anyString(), any());
+    }
+    
+    @Test
+    void assertWriteWithBooleanValuesNotEncodable() throws SQLException {
+        DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 2);
+        dataRecord.addColumn(new NormalColumn("id", 1, false, true));
+        dataRecord.addColumn(new NormalColumn("flag", true, false, false));
+        Collection<Record> records = Collections.singletonList(dataRecord);
+        sink.write("", records);
+        sink.write("", records);
+        verify(router, never()).route(anyList(), anyString(), anyString());
+        verify(delegate, times(2)).write("", records);
+        verify(bulkLoader, never()).load(any(), anyString(), anyString(), any());
+    }
+    
+    private Collection<Record> createRecords(final IngestPosition position) {
+        return Arrays.asList(createDataRecord(position, 1), createDataRecord(position, 2));
+    }
+    
+    private DataRecord createDataRecord(final IngestPosition position, final int id) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", position, 2);
+        result.addColumn(new NormalColumn("id", id, false, true));
+        result.addColumn(new NormalColumn("name", "foo_" + id, false, false));
+        return result;
+    }
+}
@@ -61,6 +61,18 @@ class PipelineDataConsistencyCalculateSQLBuilderTest {
         assertThat(actual, is("SELECT order_id,user_id,status FROM t_order ORDER BY order_id ASC, status ASC, user_id ASC"));
     }
     
+    @Test
+    void assertBuildQueryRangeSQL() {
+        String actual = sqlBuilder.buildQueryRangeSQL(new QualifiedTable(null, "t_order"), COLUMN_NAMES, "order_id", new QueryRange(1, true, 5));
+        assertThat(actual, is("SELECT order_id,user_id,status FROM t_order WHERE order_id>=? AND order_id<=?"));
+        actual = sqlBuilder.buildQueryRangeSQL(new QualifiedTable(null, "t_order"), COLUMN_NAMES, "order_id", new QueryRange(1, false, null));
+        assertThat(actual, is("SELECT order_id,user_id,status FROM t_order WHERE order_id>?"));
+        actual = sqlBuilder.buildQueryRangeSQL(new QualifiedTable(null, "t_order"), COLUMN_NAMES, "order_id", new QueryRange(null, false, 5));
+        assertThat(actual, is("SELECT order_id,user_id,status FROM t_order WHERE order_id<=?"));
+        actual = sqlBuilder.buildQueryRangeSQL(new QualifiedTable(null, "t_order"), COLUMN_NAMES, "order_id", new QueryRange(null, false, null));
+        assertThat(actual, is("SELECT order_id,user_id,status FROM t_order"));
+    }
+    
     @Test
     void assertBuildPointQuerySQLWithoutQueryCondition() {
         String actual = sqlBuilder.buildPointQuerySQL(new QualifiedTable(null, "t_order"), COLUMN_NAMES, UNIQUE_KEYS, null);
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.importer;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.DialectPipelineBulkLoader;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+
+/**
+ * Pipeline bulk loader for MySQL.
+ * <p>Rows are loaded by LOAD DATA LOCAL INFILE from in-memory stream, which requires allowLoadLocalInfile of connection and local_infile of server.
+ * Rows conflicted with existing rows are skipped by MySQL, so they are not counted as loaded.</p>
+ */
+public final class MySQLPipelineBulkLoader implements DialectPipelineBulkLoader {
+    
+    @Override
+    public long load(final Connection connection, final String qualifiedTableName, final String columnNames, final InputStream rows) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(rows);
+            return statement.executeLargeUpdate(String.format("LOAD DATA LOCAL INFILE 'pipeline' IGNORE INTO TABLE %s CHARACTER SET utf8mb4 (%s)", qualifiedTableName, columnNames));
+        } catch (final NoClassDefFoundError ex) {
+            throw new SQLFeatureNotSupportedException("LOAD DATA LOCAL INFILE from stream requires MySQL Connector/J", ex);
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
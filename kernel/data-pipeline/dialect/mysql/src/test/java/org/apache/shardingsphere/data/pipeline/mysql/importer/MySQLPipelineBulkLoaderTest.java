@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.importer;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.DialectPipelineBulkLoader;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MySQLPipelineBulkLoaderTest {
+    
+    private final DialectPipelineBulkLoader bulkLoader = DatabaseTypedSPILoader.getService(DialectPipelineBulkLoader.class, TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+    
+    @Test
+    void assertEncodeBinary() {
+        byte[] value = {1, 2};
+        assertThat(bulkLoader.encodeBinary(value), is(value));
+    }
+    
+    @Test
+    void assertEncodeBoolean() {
+        assertThat(bulkLoader.encodeBoolean(true), is(Optional.empty()));
+        assertThat(bulkLoader.encodeBoolean(false), is(Optional.empty()));
+    }
+    
+    @Test
+    void assertLoad() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        JdbcStatement jdbcStatement = mock(JdbcStatement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.unwrap(JdbcStatement.class)).thenReturn(jdbcStatement);
+        when(statement.executeLargeUpdate("LOAD DATA LOCAL INFILE 'pipeline' IGNORE INTO TABLE `foo_tbl` CHARACTER SET utf8mb4 (`id`)")).thenReturn(2L);
+        InputStream rows = new ByteArrayInputStream(new byte[0]);
+        assertThat(bulkLoader.load(connection, "`foo_tbl`", "`id`", rows), is(2L));
+        verify(jdbcStatement).setLocalInfileInputStream(rows);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.DialectPipelineBulkLoader;
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Pipeline bulk loader for PostgreSQL.
+ */
+public final class PostgreSQLPipelineBulkLoader implements DialectPipelineBulkLoader {
+    
+    @Override
+    public byte[] encodeBinary(final byte[] value) {
+        return ("\\x" + Hex.encodeHexString(value)).getBytes(StandardCharsets.US_ASCII);
+    }
+    
+    @Override
+    public Optional<String> encodeBoolean(final boolean value) {
+        return Optional.of(value ? "t" : "f");
+    }
+    
+    @Override
+    public long load(final Connection connection, final String qualifiedTableName, final String columnNames, final InputStream rows) throws SQLException {
+        try {
+            return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(String.format("COPY %s(%s) FROM STDIN", qualifiedTableName, columnNames), rows);
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.DialectPipelineBulkLoader;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLPipelineBulkLoaderTest {
+    
+    private final DialectPipelineBulkLoader bulkLoader = DatabaseTypedSPILoader.getService(DialectPipelineBulkLoader.class, TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"));
+    
+    @Test
+    void assertEncodeBinary() {
+        assertThat(new String(bulkLoader.encodeBinary(new byte[]{1, (byte) 0xab}), StandardCharsets.US_ASCII), is("\\x01ab"));
+    }
+    
+    @Test
+    void assertEncodeBoolean() {
+        assertThat(bulkLoader.encodeBoolean(true), is(Optional.of("t")));
+        assertThat(bulkLoader.encodeBoolean(false), is(Optional.of("f")));
+    }
+    
+    @Test
+    void assertLoad() throws SQLException, IOException {
+        Connection connection = mock(Connection.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        CopyManager copyManager = mock(CopyManager.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        InputStream rows = new ByteArrayInputStream(new byte[0]);
+        when(copyManager.copyIn("COPY \"foo_tbl\"(\"id\") FROM STDIN", rows)).thenReturn(2L);
+        assertThat(bulkLoader.load(connection, "\"foo_tbl\"", "\"id\"", rows), is(2L));
+    }
+}
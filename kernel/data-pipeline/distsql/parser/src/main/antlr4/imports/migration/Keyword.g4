@@ -123,6 +123,10 @@ STREAM_CHANNEL
     : S T R E A M UL_ C H A N N E L
     ;
 
+BULK_LOAD
+    : B U L K UL_ L O A D
+    ;
+
 IF
     : I F
     ;
@@ -36,7 +36,7 @@ readDefinition
     ;
 
 writeDefinition
-    : WRITE LP_ workerThread? (COMMA_? batchSize)? (COMMA_? rateLimiter)? RP_
+    : WRITE LP_ workerThread? (COMMA_? batchSize)? (COMMA_? rateLimiter)? (COMMA_? bulkLoad)? RP_
     ;
 
 workerThread
@@ -55,6 +55,10 @@ rateLimiter
     : RATE_LIMITER LP_ algorithmDefinition RP_
     ;
 
+bulkLoad
+    : BULK_LOAD EQ_ (TRUE | FALSE)
+    ;
+
 streamChannel
     : STREAM_CHANNEL LP_ algorithmDefinition RP_
     ;
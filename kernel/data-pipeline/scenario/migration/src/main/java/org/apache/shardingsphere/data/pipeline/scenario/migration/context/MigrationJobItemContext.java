@@ -31,12 +31,16 @@ import org.apache.shardingsphere.data.pipeline.core.job.progress.TransmissionJob
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.DialectPipelineBulkLoader;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.type.PipelineDataSourceBulkLoadSink;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.type.PipelineDataSourceSink;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.persist.PipelineJobProgressPersistService;
 import org.apache.shardingsphere.data.pipeline.core.task.PipelineTask;
 import org.apache.shardingsphere.data.pipeline.scenario.migration.config.MigrationJobConfiguration;
 import org.apache.shardingsphere.data.pipeline.scenario.migration.config.MigrationTaskConfiguration;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 
 import java.util.Collection;
 import java.util.LinkedList;
@@ -127,7 +131,13 @@ public final class MigrationJobItemContext implements TransmissionJobItemContext
     
     @Override
     public PipelineSink getSink() {
-        return new PipelineDataSourceSink(taskConfig.getImporterConfig(), dataSourceManager);
+        ImporterConfiguration importerConfig = taskConfig.getImporterConfig();
+        if (!Boolean.TRUE.equals(jobProcessContext.getProcessConfiguration().getWrite().getBulkLoad())) {
+            return new PipelineDataSourceSink(importerConfig, dataSourceManager);
+        }
+        return DatabaseTypedSPILoader.findService(DialectPipelineBulkLoader.class, importerConfig.getDataSourceConfig().getDatabaseType())
+                .<PipelineSink>map(optional -> new PipelineDataSourceBulkLoadSink(importerConfig, dataSourceManager, optional))
+                .orElseGet(() -> new PipelineDataSourceSink(importerConfig, dataSourceManager));
     }
     
     /**
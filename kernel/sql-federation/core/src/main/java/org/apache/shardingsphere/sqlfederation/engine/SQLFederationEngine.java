@@ -31,6 +31,7 @@ import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
@@ -63,6 +64,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.exception.SQLFederation
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationValidatorUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatisticUtils;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationDecider;
 
@@ -99,6 +101,8 @@ public final class SQLFederationEngine implements AutoCloseable {
     
     private final SQLFederationProcessor processor;
     
+    private final ShardingSphereStatistics statistics;
+    
     private QueryContext queryContext;
     
     private SchemaPlus schemaPlus;
@@ -112,6 +116,7 @@ public final class SQLFederationEngine implements AutoCloseable {
         this.currentSchemaName = currentSchemaName;
         sqlFederationRule = metaData.getGlobalRuleMetaData().getSingleRule(SQLFederationRule.class);
         processor = SQLFederationProcessorFactory.getInstance().newInstance(metaData, statistics, jdbcExecutor);
+        this.statistics = statistics;
     }
     
     /**
@@ -189,7 +194,10 @@ public final class SQLFederationEngine implements AutoCloseable {
             SelectStatementContext selectStatementContext = (SelectStatementContext) queryContext.getSqlStatementContext();
             String databaseName = selectStatementContext.getTablesContext().getDatabaseNames().stream().findFirst().orElse(currentDatabaseName);
             String schemaName = selectStatementContext.getTablesContext().getSchemaName().orElse(currentSchemaName);
-            SqlToRelConverter converter = creeateSQLToRelConverter(databaseName, schemaName, selectStatementContext.getDatabaseType(), processor.getConvention());
+            SQLFederationStatisticUtils.refresh(sqlFederationRule.getOptimizerContext().getMetaData(databaseName).getSchema(schemaName), databaseName,
+                    selectStatementContext.getTablesContext().getTableNames(), federationContext.getMetaData(), statistics);
+            boolean spillable = federationContext.getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_QUERY_MEMORY_MAX_BYTES) > 0L;
+            SqlToRelConverter converter = creeateSQLToRelConverter(databaseName, schemaName, selectStatementContext.getDatabaseType(), processor.getConvention(), spillable);
             SQLFederationExecutionPlan executionPlan = compileQuery(converter, databaseName, schemaName,
                     federationContext.getMetaData(), selectStatementContext, queryContext.getSql(), processor.getConvention());
             schemaPlus = getSqlFederationSchema(converter, schemaName, queryContext.getSql());
@@ -205,13 +213,14 @@ public final class SQLFederationEngine implements AutoCloseable {
         }
     }
     
-    private SqlToRelConverter creeateSQLToRelConverter(final String databaseName, final String schemaName, final DatabaseType databaseType, final Convention convention) {
+    private SqlToRelConverter creeateSQLToRelConverter(final String databaseName, final String schemaName, final DatabaseType databaseType, final Convention convention,
+                                                       final boolean spillable) {
         OptimizerContext optimizerContext = sqlFederationRule.getOptimizerContext();
         CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(optimizerContext.getParserContext(databaseName).getDialectProps());
         Schema schema = optimizerContext.getMetaData(databaseName).getSchema(schemaName);
         CalciteCatalogReader catalogReader = SQLFederationValidatorUtils.createCatalogReader(schemaName, schema, DEFAULT_DATA_TYPE_FACTORY, connectionConfig, databaseType);
         SqlValidator validator = SQLFederationValidatorUtils.createSqlValidator(catalogReader, DEFAULT_DATA_TYPE_FACTORY, databaseType, connectionConfig);
-        RelOptCluster relOptCluster = SQLFederationValidatorUtils.createRelOptCluster(DEFAULT_DATA_TYPE_FACTORY, convention);
+        RelOptCluster relOptCluster = SQLFederationValidatorUtils.createRelOptCluster(DEFAULT_DATA_TYPE_FACTORY, convention, spillable);
         return SQLFederationValidatorUtils.createSqlToRelConverter(catalogReader, validator, relOptCluster, optimizerContext.getSqlParserRule(), databaseType, true);
     }
     
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sqlfederation.engine.processor.impl;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.calcite.adapter.enumerable.EnumerableConvention;
 import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
 import org.apache.calcite.adapter.enumerable.EnumerableRel;
@@ -30,6 +31,7 @@ import org.apache.calcite.schema.Table;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
@@ -47,6 +49,7 @@ import org.apache.shardingsphere.sqlfederation.executor.enumerable.EnumerableSca
 import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.memory.SQLFederationMemoryContext;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
 
 import java.sql.Connection;
@@ -61,6 +64,7 @@ import java.util.Map;
  * Standard sql federation processor.
  */
 @RequiredArgsConstructor
+@Slf4j
 public final class StandardSQLFederationProcessor implements SQLFederationProcessor {
     
     private final ShardingSphereMetaData metaData;
@@ -69,6 +73,8 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
     
     private final JDBCExecutor jdbcExecutor;
     
+    private SQLFederationMemoryContext memoryContext;
+    
     @Override
     public void registerExecutor(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final JDBCExecutorCallback<? extends ExecuteResult> callback,
                                  final String databaseName, final String schemaName, final SQLFederationContext federationContext, final OptimizerContext optimizerContext,
@@ -101,6 +107,18 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
                 ((SQLFederationTable) table).clearScanExecutor();
             }
         }
+        closeMemoryContext(queryContext.getSql());
+    }
+    
+    private void closeMemoryContext(final String sql) {
+        if (null == memoryContext) {
+            return;
+        }
+        if (memoryContext.getSpillCount() > 0L) {
+            log.info("SQL federation operators spilled to disk for SQL `{}`:{}{}", sql, System.lineSeparator(), memoryContext.getSpillStatistics());
+        }
+        memoryContext.close();
+        memoryContext = null;
     }
     
     @SuppressWarnings("unchecked")
@@ -108,8 +126,12 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
     public ResultSet executePlan(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final JDBCExecutorCallback<? extends ExecuteResult> callback,
                                  final SQLFederationExecutionPlan executionPlan, final SqlToRelConverter converter, final SQLFederationContext federationContext,
                                  final SchemaPlus schemaPlus) {
-        Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) executionPlan.getPhysicalPlan(), Prefer.ARRAY);
         Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
+        closeMemoryContext(federationContext.getQueryContext().getSql());
+        memoryContext = new SQLFederationMemoryContext(metaData.getProps().<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_QUERY_MEMORY_MAX_BYTES),
+                metaData.getProps().<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_MEMORY_MAX_BYTES));
+        params.put(SQLFederationMemoryContext.DATA_CONTEXT_KEY, memoryContext);
+        Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) executionPlan.getPhysicalPlan(), Prefer.ARRAY);
         Enumerator<Object> enumerator = executablePlan.bind(new SQLFederationBindContext(converter, params)).enumerator();
         return new SQLFederationResultSet(enumerator, schemaPlus, (SelectStatementContext) federationContext.getQueryContext().getSqlStatementContext(), executionPlan.getResultColumnType());
     }
@@ -23,7 +23,9 @@ import org.apache.calcite.linq4j.AbstractEnumerable;
 import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.metadata.database.system.SystemDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -33,6 +35,7 @@ import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionI
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -59,6 +62,7 @@ import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationCon
 import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationExecutorContext;
 import org.apache.shardingsphere.sqlfederation.executor.enumerator.JDBCRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.enumerator.MemoryRowEnumerator;
+import org.apache.shardingsphere.sqlfederation.executor.enumerator.PrefetchRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.utils.StatisticsAssembleUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.EmptyRowEnumerator;
@@ -75,6 +79,11 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -83,6 +92,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public final class EnumerableScanExecutor implements ScanExecutor {
     
+    private static final int PREFETCH_BATCH_SIZE = 256;
+    
+    private static final int PREFETCH_MAX_WORKER_COUNT = Math.max(8, Runtime.getRuntime().availableProcessors() * 4);
+    
+    private static final ExecutorService PREFETCH_EXECUTOR = createPrefetchExecutor();
+    
+    private static final Semaphore PREFETCH_WORKER_PERMITS = new Semaphore(PREFETCH_MAX_WORKER_COUNT);
+    
     private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
     
     private final JDBCExecutor jdbcExecutor;
@@ -101,6 +118,13 @@ public final class EnumerableScanExecutor implements ScanExecutor {
     
     private final ProcessEngine processEngine = new ProcessEngine();
     
+    private static ExecutorService createPrefetchExecutor() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(PREFETCH_MAX_WORKER_COUNT, PREFETCH_MAX_WORKER_COUNT, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                ExecutorThreadFactoryBuilder.build("SQLFederation-Scan-Prefetch-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
     @Override
     public Enumerable<Object> execute(final ShardingSphereTable table, final ScanExecutorContext scanContext) {
         String databaseName = executorContext.getCurrentDatabaseName();
@@ -115,30 +139,37 @@ public final class EnumerableScanExecutor implements ScanExecutor {
             federationContext.getPreviewExecutionUnits().addAll(executionContext.getExecutionUnits());
             return createEmptyEnumerable();
         }
-        return createJDBCEnumerable(queryContext, federationContext.getMetaData().getDatabase(databaseName), executionContext);
+        return new JDBCScanEnumerable(queryContext, federationContext.getMetaData().getDatabase(databaseName), executionContext);
     }
     
-    private AbstractEnumerable<Object> createJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
-        return new AbstractEnumerable<Object>() {
-            
-            @SneakyThrows
-            @Override
-            public Enumerator<Object> enumerator() {
-                computeConnectionOffsets(context);
-                // TODO pass grantee from proxy and jdbc adapter
-                ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(
-                        database.getName(), context.getRouteContext(), executorContext.getConnectionOffsets(),
-                        context.getExecutionUnits(), new ExecutionGroupReportContext(federationContext.getProcessId(), database.getName()));
-                setParameters(executionGroupContext.getInputGroups());
-                ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(federationContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
-                processEngine.executeSQL(executionGroupContext, federationContext.getQueryContext());
-                List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
-                MergeEngine mergeEngine = new MergeEngine(federationContext.getMetaData(), database, executorContext.getProps(), federationContext.getQueryContext().getConnectionContext());
-                MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
-                Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-                return new JDBCRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+    private boolean isConcatenatedResult(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        return !selectStatementContext.isNeedAggregateRewrite() && !selectStatementContext.isContainsCombine() && selectStatementContext.getGroupByContext().getItems().isEmpty()
+                && !selectStatementContext.getProjectionsContext().isDistinctRow() && selectStatementContext.getOrderByContext().getItems().isEmpty()
+                && !selectStatementContext.getPaginationContext().isHasPagination();
+    }
+    
+    private Enumerator<Object> createPrefetchRowEnumerator(final MergeEngine mergeEngine, final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
+                                                           final Collection<Statement> statements, final int prefetchRows) throws SQLException {
+        Collection<Enumerator<Object>> shardEnumerators = new LinkedList<>();
+        boolean isCreated = false;
+        try {
+            for (QueryResult each : queryResults) {
+                MergedResult mergedResult = mergeEngine.merge(Collections.singletonList(each), sqlStatementContext);
+                shardEnumerators.add(new JDBCRowEnumerator(mergedResult, each.getMetaData(), Collections.emptyList()));
             }
-        };
+            isCreated = true;
+        } finally {
+            if (!isCreated) {
+                PREFETCH_WORKER_PERMITS.release(queryResults.size());
+            }
+        }
+        int batchSize = Math.min(PREFETCH_BATCH_SIZE, prefetchRows);
+        return new PrefetchRowEnumerator(shardEnumerators, statements, batchSize, queryResults.size() * Math.max(1, prefetchRows / batchSize), PREFETCH_EXECUTOR,
+                () -> PREFETCH_WORKER_PERMITS.release(queryResults.size()));
     }
     
     private void computeConnectionOffsets(final ExecutionContext context) {
@@ -202,19 +233,19 @@ public final class EnumerableScanExecutor implements ScanExecutor {
     private QueryContext createQueryContext(final ShardingSphereMetaData metaData, final ScanExecutorContext sqlString, final DatabaseType databaseType, final boolean useCache) {
         String sql = sqlString.getSql().replace(System.lineSeparator(), " ");
         SQLStatement sqlStatement = optimizerContext.getSqlParserRule().getSQLParserEngine(databaseType).parse(sql, useCache);
-        List<Object> params = getParameters(sqlString.getParamIndexes());
+        List<Object> params = getParameters(sqlString.getParamIndexes(), sqlString.getBindParameters());
         HintValueContext hintValueContext = new HintValueContext();
         SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, executorContext.getCurrentDatabaseName(), hintValueContext).bind(sqlStatement, params);
         return new QueryContext(sqlStatementContext, sql, params, hintValueContext, federationContext.getQueryContext().getConnectionContext(), metaData, useCache);
     }
     
-    private List<Object> getParameters(final int[] paramIndexes) {
+    private List<Object> getParameters(final int[] paramIndexes, final List<Object> bindParameters) {
         if (null == paramIndexes) {
             return Collections.emptyList();
         }
         List<Object> result = new ArrayList<>(paramIndexes.length);
         for (int each : paramIndexes) {
-            result.add(federationContext.getQueryContext().getParameters().get(each));
+            result.add(each < 0 ? bindParameters.get(-1 - each) : federationContext.getQueryContext().getParameters().get(each));
         }
         return result;
     }
@@ -228,4 +259,36 @@ public final class EnumerableScanExecutor implements ScanExecutor {
             }
         };
     }
+    
+    @RequiredArgsConstructor
+    private final class JDBCScanEnumerable extends AbstractEnumerable<Object> {
+        
+        private final QueryContext queryContext;
+        
+        private final ShardingSphereDatabase database;
+        
+        private final ExecutionContext context;
+        
+        @SneakyThrows
+        @Override
+        public Enumerator<Object> enumerator() {
+            computeConnectionOffsets(context);
+            // TODO pass grantee from proxy and jdbc adapter
+            ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(
+                    database.getName(), context.getRouteContext(), executorContext.getConnectionOffsets(),
+                    context.getExecutionUnits(), new ExecutionGroupReportContext(federationContext.getProcessId(), database.getName()));
+            setParameters(executionGroupContext.getInputGroups());
+            ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(federationContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
+            processEngine.executeSQL(executionGroupContext, federationContext.getQueryContext());
+            List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
+            MergeEngine mergeEngine = new MergeEngine(federationContext.getMetaData(), database, executorContext.getProps(), federationContext.getQueryContext().getConnectionContext());
+            Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
+            int prefetchRows = executorContext.getProps().<Integer>getValue(ConfigurationPropertyKey.SQL_FEDERATION_SCAN_PREFETCH_ROWS);
+            if (prefetchRows > 0 && queryResults.size() > 1 && isConcatenatedResult(queryContext.getSqlStatementContext()) && PREFETCH_WORKER_PERMITS.tryAcquire(queryResults.size())) {
+                return createPrefetchRowEnumerator(mergeEngine, queryResults, queryContext.getSqlStatementContext(), statements, prefetchRows);
+            }
+            MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
+            return new JDBCRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+        }
+    }
 }
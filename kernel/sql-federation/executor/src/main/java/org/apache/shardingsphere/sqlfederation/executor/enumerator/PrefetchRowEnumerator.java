@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerator;
+
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prefetch row enumerator.
+ *
+ * <p>Rows of each shard are drained by its own worker into a bounded queue as batches, workers are blocked when the queue is full until the query thread consumes batches.
+ * Closing cancels statements of unfinished workers before waiting for them, because workers may be blocked in network read.</p>
+ */
+public final class PrefetchRowEnumerator implements Enumerator<Object> {
+    
+    private static final List<Object> END_OF_SHARD = Collections.emptyList();
+    
+    private static final long OFFER_TIMEOUT_MILLISECONDS = 100L;
+    
+    private final Collection<Statement> statements;
+    
+    private final BlockingQueue<List<Object>> batches;
+    
+    private final Runnable closeCallback;
+    
+    private final Collection<Future<?>> workers = new LinkedList<>();
+    
+    private volatile boolean closed;
+    
+    private volatile Exception failure;
+    
+    private int remainingShardCount;
+    
+    private Iterator<Object> currentBatch = Collections.emptyIterator();
+    
+    private Object currentRow;
+    
+    public PrefetchRowEnumerator(final Collection<Enumerator<Object>> shardEnumerators, final Collection<Statement> statements, final int batchSize, final int queueCapacity,
+                                 final ExecutorService executorService, final Runnable closeCallback) {
+        this.statements = statements;
+        this.closeCallback = closeCallback;
+        batches = new ArrayBlockingQueue<>(queueCapacity);
+        remainingShardCount = shardEnumerators.size();
+        for (Enumerator<Object> each : shardEnumerators) {
+            workers.add(executorService.submit(() -> drain(each, batchSize)));
+        }
+    }
+    
+    private void drain(final Enumerator<Object> shardEnumerator, final int batchSize) {
+        try {
+            List<Object> batch = new ArrayList<>(batchSize);
+            while (!closed && shardEnumerator.moveNext()) {
+                batch.add(shardEnumerator.current());
+                if (batch.size() == batchSize) {
+                    offer(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                offer(batch);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            failure = ex;
+        } finally {
+            offerQuietly(END_OF_SHARD);
+        }
+    }
+    
+    private void offer(final List<Object> batch) throws InterruptedException {
+        while (!closed) {
+            if (batches.offer(batch, OFFER_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        }
+    }
+    
+    private void offerQuietly(final List<Object> batch) {
+        try {
+            offer(batch);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Override
+    public Object current() {
+        return currentRow;
+    }
+    
+    @SneakyThrows
+    @Override
+    public boolean moveNext() {
+        while (!currentBatch.hasNext()) {
+            if (0 == remainingShardCount) {
+                currentRow = null;
+                return false;
+            }
+            List<Object> batch = take();
+            if (END_OF_SHARD == batch) {
+                remainingShardCount--;
+                Exception shardFailure = failure;
+                if (null != shardFailure) {
+                    close();
+                    throw shardFailure;
+                }
+            } else {
+                currentBatch = batch.iterator();
+            }
+        }
+        currentRow = currentBatch.next();
+        return true;
+    }
+    
+    private List<Object> take() {
+        try {
+            return batches.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLExecutionInterruptedException();
+        }
+    }
+    
+    @Override
+    public void reset() {
+    }
+    
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        batches.clear();
+        if (workers.stream().anyMatch(each -> !each.isDone())) {
+            cancelStatements();
+        }
+        try {
+            awaitWorkers();
+            for (Statement each : statements) {
+                each.close();
+            }
+            currentRow = null;
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        } finally {
+            closeCallback.run();
+        }
+    }
+    
+    private void cancelStatements() {
+        for (Statement each : statements) {
+            try {
+                each.cancel();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
+    private void awaitWorkers() {
+        for (Future<?> each : workers) {
+            try {
+                each.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final ExecutionException ignored) {
+            }
+        }
+    }
+}
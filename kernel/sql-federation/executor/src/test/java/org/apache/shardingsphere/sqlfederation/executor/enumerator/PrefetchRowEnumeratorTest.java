@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PrefetchRowEnumeratorTest {
+    
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    void assertMoveNextWithMultipleShards() throws SQLException {
+        Statement statement = mock(Statement.class);
+        Runnable closeCallback = mock(Runnable.class);
+        Set<Object> actual = new HashSet<>();
+        try (
+                PrefetchRowEnumerator enumerator = new PrefetchRowEnumerator(Arrays.asList(createShardEnumerator(0, 1000), createShardEnumerator(1000, 2000),
+                        createShardEnumerator(2000, 2000)), Collections.singleton(statement), 16, 2, executorService, closeCallback)) {
+            while (enumerator.moveNext()) {
+                actual.add(enumerator.current());
+            }
+            assertFalse(enumerator.moveNext());
+        }
+        assertThat(actual, is(IntStream.range(0, 2000).boxed().collect(Collectors.toSet())));
+        verify(statement, never()).cancel();
+        verify(statement).close();
+        verify(closeCallback).run();
+    }
+    
+    @Test
+    void assertMoveNextWithShardFailure() {
+        Enumerator<Object> failedShardEnumerator = Linq4j.transform(createShardEnumerator(0, 1), each -> {
+            throw new IllegalStateException("foo");
+        });
+        Runnable closeCallback = mock(Runnable.class);
+        PrefetchRowEnumerator enumerator = new PrefetchRowEnumerator(Arrays.asList(createShardEnumerator(0, 10), failedShardEnumerator),
+                Collections.emptyList(), 4, 2, executorService, closeCallback);
+        assertThrows(IllegalStateException.class, () -> {
+            while (enumerator.moveNext()) {
+                enumerator.current();
+            }
+        });
+        enumerator.close();
+        verify(closeCallback).run();
+    }
+    
+    @Test
+    void assertCloseBeforeAllRowsConsumed() throws SQLException {
+        Statement statement = mock(Statement.class);
+        PrefetchRowEnumerator enumerator = new PrefetchRowEnumerator(Arrays.asList(createShardEnumerator(0, 100000), createShardEnumerator(100000, 200000)),
+                Collections.singleton(statement), 8, 2, executorService, mock(Runnable.class));
+        assertTrue(enumerator.moveNext());
+        enumerator.close();
+        verify(statement).close();
+    }
+    
+    @Test
+    void assertCloseCancelsStatementsOfBlockedShard() throws SQLException {
+        CountDownLatch cancelled = new CountDownLatch(1);
+        Statement statement = mock(Statement.class);
+        doAnswer(invocation -> {
+            cancelled.countDown();
+            return null;
+        }).when(statement).cancel();
+        Enumerator<Object> blockedShardEnumerator = Linq4j.iterableEnumerator(() -> new BlockedIterator(cancelled));
+        PrefetchRowEnumerator enumerator = new PrefetchRowEnumerator(Arrays.asList(createShardEnumerator(0, 10), blockedShardEnumerator),
+                Collections.singleton(statement), 4, 2, executorService, mock(Runnable.class));
+        assertTrue(enumerator.moveNext());
+        enumerator.close();
+        verify(statement).cancel();
+        verify(statement).close();
+    }
+    
+    private Enumerator<Object> createShardEnumerator(final int startInclusive, final int endExclusive) {
+        List<Object> rows = new LinkedList<>(IntStream.range(startInclusive, endExclusive).boxed().collect(Collectors.toList()));
+        return Linq4j.enumerator(rows);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BlockedIterator implements Iterator<Object> {
+        
+        private final CountDownLatch cancelled;
+        
+        @SneakyThrows(InterruptedException.class)
+        @Override
+        public boolean hasNext() {
+            cancelled.await();
+            throw new IllegalStateException("Statement cancelled.");
+        }
+        
+        @Override
+        public Object next() {
+            throw new NoSuchElementException();
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
 import org.apache.calcite.schema.Schema;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.attribute.table.UniqueKeyRuleAttribute;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
 
 import java.util.Collection;
@@ -60,8 +61,9 @@ public final class OptimizerMetaDataFactory {
      */
     public static OptimizerMetaData create(final ShardingSphereDatabase database) {
         Map<String, Schema> schemas = new CaseInsensitiveMap<>();
+        Collection<UniqueKeyRuleAttribute> uniqueKeyRuleAttributes = database.getRuleMetaData().getAttributes(UniqueKeyRuleAttribute.class);
         for (ShardingSphereSchema each : database.getAllSchemas()) {
-            schemas.put(each.getName(), new SQLFederationSchema(each.getName(), each, database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY));
+            schemas.put(each.getName(), new SQLFederationSchema(each.getName(), each, database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY, uniqueKeyRuleAttributes));
         }
         return new OptimizerMetaData(schemas);
     }
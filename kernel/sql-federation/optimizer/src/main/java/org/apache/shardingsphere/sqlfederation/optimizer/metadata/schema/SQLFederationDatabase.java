@@ -25,7 +25,9 @@ import org.apache.calcite.schema.impl.AbstractSchema;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.attribute.table.UniqueKeyRuleAttribute;
 
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -45,8 +47,9 @@ public final class SQLFederationDatabase extends AbstractSchema {
     
     private Map<String, Schema> createSubSchemaMap(final ShardingSphereDatabase database, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
         Map<String, Schema> result = new CaseInsensitiveMap<>(database.getAllSchemas().size(), 1F);
+        Collection<UniqueKeyRuleAttribute> uniqueKeyRuleAttributes = database.getRuleMetaData().getAttributes(UniqueKeyRuleAttribute.class);
         for (ShardingSphereSchema each : database.getAllSchemas()) {
-            result.put(each.getName(), new SQLFederationSchema(each.getName(), each, protocolType, javaTypeFactory));
+            result.put(each.getName(), new SQLFederationSchema(each.getName(), each, protocolType, javaTypeFactory, uniqueKeyRuleAttributes));
         }
         return result;
     }
@@ -29,9 +29,11 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.rule.attribute.table.UniqueKeyRuleAttribute;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationDataTypeUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 
@@ -46,18 +48,23 @@ public final class SQLFederationSchema extends AbstractSchema {
     private final Map<String, Table> tableMap;
     
     public SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
+        this(schemaName, schema, protocolType, javaTypeFactory, Collections.emptyList());
+    }
+    
+    public SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory,
+                               final Collection<UniqueKeyRuleAttribute> uniqueKeyRuleAttributes) {
         name = schemaName;
-        tableMap = createTableMap(schema, protocolType, javaTypeFactory);
+        tableMap = createTableMap(schema, protocolType, javaTypeFactory, uniqueKeyRuleAttributes);
     }
     
-    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
+    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory,
+                                              final Collection<UniqueKeyRuleAttribute> uniqueKeyRuleAttributes) {
         Map<String, Table> result = new CaseInsensitiveMap<>(schema.getAllTables().size(), 1F);
         for (ShardingSphereTable each : schema.getAllTables()) {
             if (schema.containsView(each.getName())) {
                 result.put(each.getName(), getViewTable(schema, each, protocolType, javaTypeFactory));
             } else {
-                // TODO implement table statistic logic after using custom operators
-                result.put(each.getName(), new SQLFederationTable(each, new SQLFederationStatistic(), protocolType));
+                result.put(each.getName(), new SQLFederationTable(each, new SQLFederationStatistic(each, uniqueKeyRuleAttributes), protocolType));
             }
         }
         return result;
@@ -35,6 +35,7 @@ import org.apache.calcite.rel.core.TableModify;
 import org.apache.calcite.rel.core.TableModify.Operation;
 import org.apache.calcite.rel.logical.LogicalTableModify;
 import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexNode;
@@ -106,10 +107,23 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
      * @return enumerable result
      */
     public Enumerable<Object> execute(final DataContext root, final String sql, final int[] paramIndexes) {
+        return execute(root, sql, paramIndexes, Collections.emptyList());
+    }
+    
+    /**
+     * Execute with bind parameters.
+     *
+     * @param root data context
+     * @param sql sql
+     * @param paramIndexes param indexes, negative index refers to bind parameter
+     * @param bindParameters bind parameters
+     * @return enumerable result
+     */
+    public Enumerable<Object> execute(final DataContext root, final String sql, final int[] paramIndexes, final List<Object> bindParameters) {
         if (null == SCAN_EXECUTOR_HOLDER.get()) {
             return createEmptyEnumerable();
         }
-        return SCAN_EXECUTOR_HOLDER.get().execute(table, new ScanExecutorContext(root, sql, paramIndexes));
+        return SCAN_EXECUTOR_HOLDER.get().execute(table, new ScanExecutorContext(root, sql, paramIndexes, bindParameters));
     }
     
     private AbstractEnumerable<Object> createEmptyEnumerable() {
@@ -132,6 +146,17 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         return statistic;
     }
     
+    @Override
+    public <C> C unwrap(final Class<C> aClass) {
+        if (null != statistic && BuiltInMetadata.Selectivity.Handler.class == aClass) {
+            return aClass.cast((BuiltInMetadata.Selectivity.Handler) statistic::getSelectivity);
+        }
+        if (null != statistic && BuiltInMetadata.DistinctRowCount.Handler.class == aClass) {
+            return aClass.cast((BuiltInMetadata.DistinctRowCount.Handler) statistic::getDistinctRowCount);
+        }
+        return super.unwrap(aClass);
+    }
+    
     @Override
     public Collection<Object[]> getModifiableCollection() {
         throw new UnsupportedOperationException();
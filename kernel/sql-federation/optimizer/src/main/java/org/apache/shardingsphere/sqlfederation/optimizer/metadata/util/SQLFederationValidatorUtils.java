@@ -136,7 +136,19 @@ public final class SQLFederationValidatorUtils {
      * @return rel opt cluster
      */
     public static RelOptCluster createRelOptCluster(final RelDataTypeFactory relDataTypeFactory, final Convention convention) {
-        RelOptPlanner volcanoPlanner = SQLFederationPlannerBuilder.buildVolcanoPlanner(convention);
+        return createRelOptCluster(relDataTypeFactory, convention, false);
+    }
+    
+    /**
+     * Create rel opt cluster.
+     *
+     * @param relDataTypeFactory rel data type factory
+     * @param convention convention
+     * @param spillable whether to use spillable sort, join and aggregate operators
+     * @return rel opt cluster
+     */
+    public static RelOptCluster createRelOptCluster(final RelDataTypeFactory relDataTypeFactory, final Convention convention, final boolean spillable) {
+        RelOptPlanner volcanoPlanner = SQLFederationPlannerBuilder.buildVolcanoPlanner(convention, spillable);
         return RelOptCluster.create(volcanoPlanner, new RexBuilder(relDataTypeFactory));
     }
 }
@@ -24,6 +24,7 @@ import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.logical.LogicalFilter;
 import org.apache.calcite.rel.logical.LogicalProject;
 import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.LogicalScanPushDownRelBuilder;
 
 import java.util.Collections;
@@ -80,6 +81,11 @@ public final class LogicalScan extends TableScan {
         return pushDownRelBuilder.peek();
     }
     
+    @Override
+    public double estimateRowCount(final RelMetadataQuery mq) {
+        return mq.getRowCount(pushDownRelBuilder.peek());
+    }
+    
     @Override
     public boolean deepEquals(final Object other) {
         if (pushDownRelBuilder.peek() instanceof LogicalTableScan) {
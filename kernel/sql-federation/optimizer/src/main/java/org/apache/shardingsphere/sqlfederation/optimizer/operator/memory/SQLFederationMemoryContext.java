@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.memory;
+
+import lombok.Getter;
+import org.apache.calcite.DataContext;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * SQL federation memory context of one query.
+ *
+ * <p>Spillable operators reserve estimated bytes of rows kept in memory from both the budget of query and the {@link SQLFederationMemoryPool}, and spill rows to local disk when reserving fails.</p>
+ */
+public final class SQLFederationMemoryContext implements AutoCloseable {
+    
+    public static final String DATA_CONTEXT_KEY = "sqlFederationMemoryContext";
+    
+    public static final String SPILL_FILE_PREFIX = "shardingsphere-federation-";
+    
+    private static final SQLFederationMemoryContext UNLIMITED = new SQLFederationMemoryContext(0L, 0L);
+    
+    private final long maxBytes;
+    
+    private final long globalMaxBytes;
+    
+    private final Map<String, SpillStatistics> spillStatistics = new TreeMap<>();
+    
+    @Getter
+    private long reservedBytes;
+    
+    @Getter
+    private long spillCount;
+    
+    @Getter
+    private long spilledBytes;
+    
+    public SQLFederationMemoryContext(final long maxBytes, final long globalMaxBytes) {
+        this.maxBytes = maxBytes;
+        this.globalMaxBytes = globalMaxBytes;
+    }
+    
+    /**
+     * Get memory context of data context.
+     *
+     * @param root data context
+     * @return memory context, unlimited memory context if absent
+     */
+    public static SQLFederationMemoryContext get(final DataContext root) {
+        Object result = null == root ? null : root.get(DATA_CONTEXT_KEY);
+        return result instanceof SQLFederationMemoryContext ? (SQLFederationMemoryContext) result : UNLIMITED;
+    }
+    
+    /**
+     * Estimate bytes of row.
+     *
+     * @param row row
+     * @return estimated bytes
+     */
+    public static long estimateRowBytes(final Object[] row) {
+        long result = 16L + 8L * row.length;
+        for (Object each : row) {
+            result += estimateValueBytes(each);
+        }
+        return result;
+    }
+    
+    private static long estimateValueBytes(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return 64L;
+        }
+        return 24L;
+    }
+    
+    /**
+     * Try to reserve memory.
+     *
+     * @param bytes bytes to be reserved
+     * @return reserved or not
+     */
+    public synchronized boolean tryReserve(final long bytes) {
+        if (this == UNLIMITED) {
+            return true;
+        }
+        if (maxBytes > 0L && reservedBytes + bytes > maxBytes || !SQLFederationMemoryPool.getInstance().tryReserve(bytes, globalMaxBytes)) {
+            return false;
+        }
+        reservedBytes += bytes;
+        return true;
+    }
+    
+    /**
+     * Reserve memory regardless of budget, which is used to guarantee the progress of operator.
+     *
+     * @param bytes bytes to be reserved
+     */
+    public synchronized void forceReserve(final long bytes) {
+        if (this == UNLIMITED) {
+            return;
+        }
+        SQLFederationMemoryPool.getInstance().forceReserve(bytes);
+        reservedBytes += bytes;
+    }
+    
+    /**
+     * Release memory.
+     *
+     * @param bytes bytes to be released
+     */
+    public synchronized void release(final long bytes) {
+        if (this == UNLIMITED) {
+            return;
+        }
+        long releasedBytes = Math.min(bytes, reservedBytes);
+        SQLFederationMemoryPool.getInstance().release(releasedBytes);
+        reservedBytes -= releasedBytes;
+    }
+    
+    /**
+     * Record spill.
+     *
+     * @param operatorName operator name
+     * @param bytes spilled bytes
+     */
+    public synchronized void recordSpill(final String operatorName, final long bytes) {
+        if (this == UNLIMITED) {
+            return;
+        }
+        SpillStatistics statistics = spillStatistics.computeIfAbsent(operatorName, unused -> new SpillStatistics());
+        statistics.spillCount++;
+        statistics.spilledBytes += bytes;
+        spillCount++;
+        spilledBytes += bytes;
+    }
+    
+    /**
+     * Get spill statistics of operators.
+     *
+     * @return spill statistics, for example {@code EnumerableSpillableSort#12: spillCount=2, spilledBytes=1048576}
+     */
+    public synchronized String getSpillStatistics() {
+        StringBuilder result = new StringBuilder();
+        for (Entry<String, SpillStatistics> entry : spillStatistics.entrySet()) {
+            if (0 != result.length()) {
+                result.append(System.lineSeparator());
+            }
+            result.append(entry.getKey()).append(": spillCount=").append(entry.getValue().spillCount).append(", spilledBytes=").append(entry.getValue().spilledBytes);
+        }
+        return result.toString();
+    }
+    
+    @Override
+    public synchronized void close() {
+        release(reservedBytes);
+    }
+    
+    private static final class SpillStatistics {
+        
+        private long spillCount;
+        
+        private long spilledBytes;
+    }
+}
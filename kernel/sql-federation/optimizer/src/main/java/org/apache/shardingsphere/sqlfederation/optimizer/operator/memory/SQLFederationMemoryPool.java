@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL federation memory pool, which is shared by all running SQL federation queries.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationMemoryPool {
+    
+    private static final SQLFederationMemoryPool INSTANCE = new SQLFederationMemoryPool();
+    
+    private final AtomicLong reservedBytes = new AtomicLong();
+    
+    /**
+     * Get instance.
+     *
+     * @return got instance
+     */
+    public static SQLFederationMemoryPool getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Try to reserve memory.
+     *
+     * @param bytes bytes to be reserved
+     * @param maxBytes max bytes of pool, less than or equal to 0 means no limitation
+     * @return reserved or not
+     */
+    public boolean tryReserve(final long bytes, final long maxBytes) {
+        if (maxBytes <= 0L) {
+            reservedBytes.addAndGet(bytes);
+            return true;
+        }
+        long current;
+        do {
+            current = reservedBytes.get();
+            if (current + bytes > maxBytes) {
+                return false;
+            }
+        } while (!reservedBytes.compareAndSet(current, current + bytes));
+        return true;
+    }
+    
+    /**
+     * Reserve memory regardless of max bytes.
+     *
+     * @param bytes bytes to be reserved
+     */
+    public void forceReserve(final long bytes) {
+        reservedBytes.addAndGet(bytes);
+    }
+    
+    /**
+     * Release memory.
+     *
+     * @param bytes bytes to be released
+     */
+    public void release(final long bytes) {
+        reservedBytes.addAndGet(-bytes);
+    }
+    
+    /**
+     * Get reserved bytes.
+     *
+     * @return reserved bytes
+     */
+    public long getReservedBytes() {
+        return reservedBytes.get();
+    }
+}
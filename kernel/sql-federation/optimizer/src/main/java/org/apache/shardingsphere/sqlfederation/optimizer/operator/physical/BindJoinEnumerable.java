@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.memory.SQLFederationMemoryContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.JoinKeyUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Bind join enumerable.
+ *
+ * <p>Executes the build side first, then probes the probe table with distinct build join keys bound in batches, so that only matched probe rows are fetched.
+ * Probe SQLs are prepared for descending batch sizes, each batch uses the smallest batch size which can hold the remaining join keys.
+ * Build rows are kept in memory reserved from memory context, probe rows and joined rows are streamed.</p>
+ */
+@RequiredArgsConstructor
+public final class BindJoinEnumerable extends AbstractEnumerable<Object[]> {
+    
+    private final Enumerable<Object[]> build;
+    
+    private final SQLFederationTable probeTable;
+    
+    private final DataContext root;
+    
+    private final String[] probeSQLs;
+    
+    private final int[] probeParamIndexes;
+    
+    private final int[] buildKeys;
+    
+    private final int[] probeKeys;
+    
+    private final int probeFieldCount;
+    
+    private final String joinType;
+    
+    private final boolean probeOnLeft;
+    
+    private final int[] batchSizes;
+    
+    @Override
+    public Enumerator<Object[]> enumerator() {
+        return new BindJoinEnumerator();
+    }
+    
+    private final class BindJoinEnumerator implements Enumerator<Object[]> {
+        
+        private final SQLFederationMemoryContext memoryContext = SQLFederationMemoryContext.get(root);
+        
+        private final JoinRelType type = JoinRelType.valueOf(joinType);
+        
+        private final Queue<Object[]> pendingRows = new LinkedList<>();
+        
+        private List<Object[]> buildRows;
+        
+        private long buildRowsBytes;
+        
+        private Map<List<Object>, List<Integer>> buildRowIndexes;
+        
+        private List<List<Object>> keys;
+        
+        private boolean[] matched;
+        
+        private int keyIndex;
+        
+        private Enumerator<Object> probeRows;
+        
+        private int unmatchedBuildRowIndex;
+        
+        private Object[] current;
+        
+        @Override
+        public Object[] current() {
+            return current;
+        }
+        
+        @Override
+        public boolean moveNext() {
+            if (null == buildRows) {
+                loadBuildRows();
+            }
+            while (pendingRows.isEmpty()) {
+                if (!fillPendingRows()) {
+                    current = null;
+                    return false;
+                }
+            }
+            current = pendingRows.poll();
+            return true;
+        }
+        
+        private void loadBuildRows() {
+            buildRows = new ArrayList<>();
+            buildRowIndexes = new LinkedHashMap<>();
+            try (Enumerator<Object[]> rows = build.enumerator()) {
+                while (rows.moveNext()) {
+                    Object[] row = rows.current();
+                    long rowBytes = SQLFederationMemoryContext.estimateRowBytes(row);
+                    if (!memoryContext.tryReserve(rowBytes)) {
+                        memoryContext.forceReserve(rowBytes);
+                    }
+                    buildRowsBytes += rowBytes;
+                    List<Object> key = JoinKeyUtils.createKey(row, buildKeys);
+                    if (null != key) {
+                        buildRowIndexes.computeIfAbsent(key, unused -> new LinkedList<>()).add(buildRows.size());
+                    }
+                    buildRows.add(row);
+                }
+            }
+            keys = new ArrayList<>(buildRowIndexes.keySet());
+            matched = new boolean[buildRows.size()];
+        }
+        
+        private boolean fillPendingRows() {
+            if (null != probeRows) {
+                if (probeRows.moveNext()) {
+                    probe(toRow(probeRows.current()));
+                    return true;
+                }
+                probeRows.close();
+                probeRows = null;
+            }
+            if (keyIndex < keys.size()) {
+                int batchIndex = getBatchIndex(keys.size() - keyIndex);
+                int batchSize = batchSizes[batchIndex];
+                probeRows = probeTable.execute(root, probeSQLs[batchIndex], getProbeParamIndexes(batchSize), createBindParameters(keyIndex, batchSize)).enumerator();
+                keyIndex += batchSize;
+                return true;
+            }
+            while (unmatchedBuildRowIndex < buildRows.size()) {
+                int index = unmatchedBuildRowIndex++;
+                if (JoinRelType.SEMI == type && matched[index]) {
+                    pendingRows.add(buildRows.get(index));
+                    return true;
+                }
+                if (JoinRelType.LEFT == type && !matched[index]) {
+                    pendingRows.add(combine(buildRows.get(index), new Object[probeFieldCount]));
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        private int getBatchIndex(final int remainingKeyCount) {
+            int result = 0;
+            while (result + 1 < batchSizes.length && batchSizes[result + 1] >= remainingKeyCount) {
+                result++;
+            }
+            return result;
+        }
+        
+        private int[] getProbeParamIndexes(final int batchSize) {
+            int bindParameterCount = batchSize * buildKeys.length;
+            return Arrays.stream(probeParamIndexes).filter(each -> each >= 0 || -1 - each < bindParameterCount).toArray();
+        }
+        
+        private List<Object> createBindParameters(final int start, final int batchSize) {
+            List<Object> result = new ArrayList<>(batchSize * buildKeys.length);
+            for (int i = 0; i < batchSize; i++) {
+                result.addAll(keys.get(Math.min(start + i, keys.size() - 1)));
+            }
+            return result;
+        }
+        
+        private void probe(final Object[] probeRow) {
+            for (int each : buildRowIndexes.getOrDefault(JoinKeyUtils.createKey(probeRow, probeKeys), Collections.emptyList())) {
+                matched[each] = true;
+                if (JoinRelType.SEMI != type) {
+                    pendingRows.add(combine(buildRows.get(each), probeRow));
+                }
+            }
+        }
+        
+        private Object[] toRow(final Object row) {
+            return 1 == probeFieldCount ? new Object[]{row} : (Object[]) row;
+        }
+        
+        private Object[] combine(final Object[] buildRow, final Object[] probeRow) {
+            Object[] left = probeOnLeft ? probeRow : buildRow;
+            Object[] right = probeOnLeft ? buildRow : probeRow;
+            Object[] result = Arrays.copyOf(left, left.length + right.length);
+            System.arraycopy(right, 0, result, left.length, right.length);
+            return result;
+        }
+        
+        @Override
+        public void reset() {
+            close();
+            buildRows = null;
+            buildRowIndexes = null;
+            keys = null;
+            matched = null;
+            keyIndex = 0;
+            unmatchedBuildRowIndex = 0;
+            current = null;
+        }
+        
+        @Override
+        public void close() {
+            pendingRows.clear();
+            if (null != probeRows) {
+                probeRows.close();
+                probeRows = null;
+            }
+            memoryContext.release(buildRowsBytes);
+            buildRowsBytes = 0L;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import lombok.Getter;
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.util.SqlString;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Enumerable bind join.
+ *
+ * <p>The input is the build side of join, the probe side is a scan of probe table whose SQL binds join keys collected from build side.
+ * Probe SQLs are built for each batch size in descending order, so that the last batch does not pad bind parameters to the largest batch size.</p>
+ */
+@Getter
+public final class EnumerableBindJoin extends SingleRel implements EnumerableRel {
+    
+    private final RelOptTable probeTable;
+    
+    private final List<SqlString> probeSqlStrings;
+    
+    private final int probeFieldCount;
+    
+    private final JoinRelType joinType;
+    
+    private final ImmutableIntList buildKeys;
+    
+    private final ImmutableIntList probeKeys;
+    
+    private final boolean probeOnLeft;
+    
+    private final ImmutableIntList batchSizes;
+    
+    private final double probeRowCount;
+    
+    private final double probeKeyDistinctCount;
+    
+    private final RelDataType joinRowType;
+    
+    public EnumerableBindJoin(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode build, final RelOptTable probeTable, final List<SqlString> probeSqlStrings,
+                              final int probeFieldCount, final JoinRelType joinType, final ImmutableIntList buildKeys, final ImmutableIntList probeKeys, final boolean probeOnLeft,
+                              final ImmutableIntList batchSizes, final double probeRowCount, final double probeKeyDistinctCount, final RelDataType joinRowType) {
+        super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), build);
+        this.probeTable = probeTable;
+        this.probeSqlStrings = probeSqlStrings;
+        this.probeFieldCount = probeFieldCount;
+        this.joinType = joinType;
+        this.buildKeys = buildKeys;
+        this.probeKeys = probeKeys;
+        this.probeOnLeft = probeOnLeft;
+        this.batchSizes = batchSizes;
+        this.probeRowCount = probeRowCount;
+        this.probeKeyDistinctCount = probeKeyDistinctCount;
+        this.joinRowType = joinRowType;
+    }
+    
+    @Override
+    public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
+        return new EnumerableBindJoin(getCluster(), traitSet, sole(inputs), probeTable, probeSqlStrings, probeFieldCount, joinType, buildKeys, probeKeys, probeOnLeft,
+                batchSizes, probeRowCount, probeKeyDistinctCount, joinRowType);
+    }
+    
+    @Override
+    protected RelDataType deriveRowType() {
+        return joinRowType;
+    }
+    
+    @Override
+    public double estimateRowCount(final RelMetadataQuery mq) {
+        double buildRowCount = mq.getRowCount(getInput());
+        switch (joinType) {
+            case SEMI:
+                return buildRowCount;
+            case LEFT:
+                return Math.max(buildRowCount, getFetchedProbeRowCount(buildRowCount));
+            default:
+                return getFetchedProbeRowCount(buildRowCount);
+        }
+    }
+    
+    @Override
+    public RelOptCost computeSelfCost(final RelOptPlanner planner, final RelMetadataQuery mq) {
+        double buildRowCount = mq.getRowCount(getInput());
+        double rowCount = buildRowCount + getFetchedProbeRowCount(buildRowCount) + Math.ceil(buildRowCount / batchSizes.get(0));
+        return planner.getCostFactory().makeCost(rowCount, rowCount, 0D);
+    }
+    
+    private double getFetchedProbeRowCount(final double buildRowCount) {
+        return probeRowCount * Math.min(1D, buildRowCount / Math.max(1D, probeKeyDistinctCount));
+    }
+    
+    @Override
+    public RelWriter explainTerms(final RelWriter relWriter) {
+        SqlString probeSqlString = probeSqlStrings.get(0);
+        return super.explainTerms(relWriter).item("table", probeTable.getQualifiedName()).item("joinType", joinType.lowerName).item("buildKeys", buildKeys)
+                .item("probeKeys", probeKeys).item("probeOnLeft", probeOnLeft).item("batchSizes", batchSizes)
+                .item("sql", probeSqlString.getSql().replaceAll(System.lineSeparator(), " ")).item("dynamicParameters", probeSqlString.getDynamicParameters());
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        BlockBuilder builder = new BlockBuilder();
+        Result buildResult = implementor.visitChild(this, 0, (EnumerableRel) getInput(), pref);
+        Expression buildExpression = buildResult.physType.convertTo(builder.append("build", buildResult.block), JavaRowFormat.ARRAY);
+        PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY, false);
+        SqlString probeSqlString = probeSqlStrings.get(0);
+        int[] paramIndexes = null == probeSqlString.getDynamicParameters() ? new int[]{} : probeSqlString.getDynamicParameters().stream().mapToInt(Integer::intValue).toArray();
+        String[] probeSQLs = probeSqlStrings.stream().map(each -> each.getSql().replace("u&'\\", "'\\u")).toArray(String[]::new);
+        builder.add(Expressions.new_(BindJoinEnumerable.class, buildExpression, Objects.requireNonNull(probeTable.getExpression(SQLFederationTable.class)), implementor.getRootExpression(),
+                Expressions.constant(probeSQLs), Expressions.constant(paramIndexes), Expressions.constant(buildKeys.toIntArray()),
+                Expressions.constant(probeKeys.toIntArray()), Expressions.constant(probeFieldCount), Expressions.constant(joinType.name()), Expressions.constant(probeOnLeft),
+                Expressions.constant(batchSizes.toIntArray())));
+        return implementor.result(physType, builder.toBlock());
+    }
+}
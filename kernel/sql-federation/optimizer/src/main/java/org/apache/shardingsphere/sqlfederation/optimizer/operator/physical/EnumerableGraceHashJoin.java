@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import lombok.Getter;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableIntList;
+
+import java.util.Collections;
+
+/**
+ * Enumerable grace hash join.
+ *
+ * <p>The right input is the build side of hash table, which is governed by SQL federation memory context, rows of both inputs are partitioned to local disk when memory budget is exceeded.</p>
+ */
+@Getter
+public final class EnumerableGraceHashJoin extends Join implements EnumerableRel {
+    
+    private final ImmutableIntList leftKeys;
+    
+    private final ImmutableIntList rightKeys;
+    
+    public EnumerableGraceHashJoin(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode left, final RelNode right, final RexNode condition,
+                                   final ImmutableIntList leftKeys, final ImmutableIntList rightKeys, final JoinRelType joinType) {
+        super(cluster, traitSet, Collections.emptyList(), left, right, condition, Collections.emptySet(), joinType);
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+    }
+    
+    @Override
+    public Join copy(final RelTraitSet traitSet, final RexNode conditionExpr, final RelNode left, final RelNode right, final JoinRelType joinType, final boolean semiJoinDone) {
+        return new EnumerableGraceHashJoin(getCluster(), traitSet, left, right, conditionExpr, leftKeys, rightKeys, joinType);
+    }
+    
+    @Override
+    public RelOptCost computeSelfCost(final RelOptPlanner planner, final RelMetadataQuery mq) {
+        double rowCount = mq.getRowCount(this) + mq.getRowCount(getLeft()) + mq.getRowCount(getRight());
+        return planner.getCostFactory().makeCost(rowCount, 0D, 0D);
+    }
+    
+    @Override
+    public RelWriter explainTerms(final RelWriter relWriter) {
+        return super.explainTerms(relWriter).item("leftKeys", leftKeys).item("rightKeys", rightKeys);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        BlockBuilder builder = new BlockBuilder();
+        Result leftResult = implementor.visitChild(this, 0, (EnumerableRel) getLeft(), pref);
+        Expression leftExpression = leftResult.physType.convertTo(builder.append("left", leftResult.block), JavaRowFormat.ARRAY);
+        Result rightResult = implementor.visitChild(this, 1, (EnumerableRel) getRight(), pref);
+        Expression rightExpression = rightResult.physType.convertTo(builder.append("right", rightResult.block), JavaRowFormat.ARRAY);
+        builder.add(Expressions.new_(GraceHashJoinEnumerable.class, leftExpression, rightExpression, Expressions.constant(leftKeys.toIntArray()), Expressions.constant(rightKeys.toIntArray()),
+                Expressions.constant(getLeft().getRowType().getFieldCount()), Expressions.constant(getRight().getRowType().getFieldCount()), Expressions.constant(joinType.name()),
+                implementor.getRootExpression(), Expressions.constant(getRelTypeName() + "#" + getId())));
+        return implementor.result(PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY, false), builder.toBlock());
+    }
+}
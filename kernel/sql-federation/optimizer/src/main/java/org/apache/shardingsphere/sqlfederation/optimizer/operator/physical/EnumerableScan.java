@@ -31,6 +31,7 @@ import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rel.rel2sql.RelToSqlConverter;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.sql.SqlDialect;
@@ -49,25 +50,36 @@ import java.util.Objects;
 @Getter
 public final class EnumerableScan extends TableScan implements EnumerableRel {
     
+    private final RelNode pushDownRelNode;
+    
     private final SqlString sqlString;
     
     private final RelDataType pushDownRowType;
     
     public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final String databaseType) {
-        super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
-        sqlString = createSQLString(pushDownRelNode, databaseType);
-        pushDownRowType = pushDownRelNode.getRowType();
+        this(cluster, traitSet, table, pushDownRelNode, createSQLString(pushDownRelNode, databaseType));
     }
     
-    public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final SqlString sqlString, final RelDataType pushDownRowType) {
+    public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final SqlString sqlString) {
         super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
+        this.pushDownRelNode = pushDownRelNode;
         this.sqlString = sqlString;
-        this.pushDownRowType = pushDownRowType;
+        pushDownRowType = pushDownRelNode.getRowType();
+    }
+    
+    private static SqlString createSQLString(final RelNode scanContext, final String databaseType) {
+        SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
+        return new RelToSqlConverter(sqlDialect).visitRoot(scanContext).asStatement().toSqlString(sqlDialect);
     }
     
     @Override
     public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
-        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType);
+        return new EnumerableScan(getCluster(), traitSet, table, pushDownRelNode, sqlString);
+    }
+    
+    @Override
+    public double estimateRowCount(final RelMetadataQuery mq) {
+        return mq.getRowCount(pushDownRelNode);
     }
     
     @Override
@@ -88,11 +100,6 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
                 Expressions.constant(sqlString.getSql().replace("u&'\\", "'\\u")), Expressions.constant(paramIndexes))));
     }
     
-    private SqlString createSQLString(final RelNode scanContext, final String databaseType) {
-        SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
-        return new RelToSqlConverter(sqlDialect).visitRoot(scanContext).asStatement().toSqlString(sqlDialect);
-    }
-    
     private int[] getParamIndexes(final Collection<Integer> dynamicParameters) {
         int[] result = new int[dynamicParameters.size()];
         int index = 0;
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rex.RexNode;
+
+/**
+ * Enumerable spillable sort.
+ *
+ * <p>Rows are sorted in memory governed by SQL federation memory context, and spilled to local disk as sorted runs when memory budget is exceeded.</p>
+ */
+public final class EnumerableSpillableSort extends Sort implements EnumerableRel {
+    
+    public EnumerableSpillableSort(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode input, final RelCollation collation) {
+        super(cluster, traitSet, input, collation);
+    }
+    
+    @Override
+    public Sort copy(final RelTraitSet traitSet, final RelNode newInput, final RelCollation newCollation, final RexNode offset, final RexNode fetch) {
+        return new EnumerableSpillableSort(getCluster(), traitSet, newInput, newCollation);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        BlockBuilder builder = new BlockBuilder();
+        Result inputResult = implementor.visitChild(this, 0, (EnumerableRel) getInput(), pref);
+        Expression inputExpression = inputResult.physType.convertTo(builder.append("input", inputResult.block), JavaRowFormat.ARRAY);
+        Expression comparator = PhysTypeImpl.of(implementor.getTypeFactory(), getInput().getRowType(), JavaRowFormat.ARRAY, false).generateComparator(getCollation());
+        builder.add(Expressions.new_(SpillableSortEnumerable.class, inputExpression, comparator, implementor.getRootExpression(),
+                Expressions.constant(getRelTypeName() + "#" + getId())));
+        return implementor.result(PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY, false), builder.toBlock());
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.shardingsphere.infra.spill.SpillFile;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.memory.SQLFederationMemoryContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.JoinKeyUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Grace hash join enumerable.
+ *
+ * <p>Builds hash table with right rows in memory while memory can be reserved from memory context, otherwise partitions rows of both sides to local disk by join key hash,
+ * then joins partitions one by one.</p>
+ */
+@RequiredArgsConstructor
+public final class GraceHashJoinEnumerable extends AbstractEnumerable<Object[]> {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private final Enumerable<Object[]> left;
+    
+    private final Enumerable<Object[]> right;
+    
+    private final int[] leftKeys;
+    
+    private final int[] rightKeys;
+    
+    private final int leftFieldCount;
+    
+    private final int rightFieldCount;
+    
+    private final String joinType;
+    
+    private final DataContext root;
+    
+    private final String operatorName;
+    
+    @Override
+    public Enumerator<Object[]> enumerator() {
+        return new GraceHashJoinEnumerator();
+    }
+    
+    private final class GraceHashJoinEnumerator implements Enumerator<Object[]> {
+        
+        private final SQLFederationMemoryContext memoryContext = SQLFederationMemoryContext.get(root);
+        
+        private final JoinRelType type = JoinRelType.valueOf(joinType);
+        
+        private final Queue<Object[]> pendingRows = new LinkedList<>();
+        
+        private Map<List<Object>, List<Object[]>> hashTable;
+        
+        private long hashTableBytes;
+        
+        private Enumerator<Object[]> leftRows;
+        
+        private SpillFile[] leftPartitions;
+        
+        private SpillFile[] rightPartitions;
+        
+        private int partitionIndex = -1;
+        
+        private Object[] current;
+        
+        @Override
+        public Object[] current() {
+            return current;
+        }
+        
+        @Override
+        public boolean moveNext() {
+            while (pendingRows.isEmpty()) {
+                Object[] leftRow = nextLeftRow();
+                if (null == leftRow) {
+                    current = null;
+                    return false;
+                }
+                probe(leftRow);
+            }
+            current = pendingRows.poll();
+            return true;
+        }
+        
+        private Object[] nextLeftRow() {
+            if (null == hashTable) {
+                build();
+            }
+            if (null == rightPartitions) {
+                return leftRows.moveNext() ? leftRows.current() : null;
+            }
+            if (null == leftPartitions) {
+                partitionLeftRows();
+            }
+            while (partitionIndex < PARTITION_COUNT) {
+                Object[] result = partitionIndex < 0 ? null : leftPartitions[partitionIndex].read();
+                if (null != result) {
+                    return result;
+                }
+                loadNextPartition();
+            }
+            return null;
+        }
+        
+        private void build() {
+            hashTable = new HashMap<>();
+            try (Enumerator<Object[]> rightRows = right.enumerator()) {
+                while (rightRows.moveNext()) {
+                    Object[] row = rightRows.current();
+                    List<Object> key = JoinKeyUtils.createKey(row, rightKeys);
+                    if (null == key) {
+                        continue;
+                    }
+                    if (null != rightPartitions) {
+                        rightPartitions[getPartitionIndex(key)].write(row);
+                        continue;
+                    }
+                    long rowBytes = SQLFederationMemoryContext.estimateRowBytes(row);
+                    if (memoryContext.tryReserve(rowBytes)) {
+                        hashTable.computeIfAbsent(key, unused -> new LinkedList<>()).add(row);
+                        hashTableBytes += rowBytes;
+                    } else {
+                        partitionRightRows();
+                        rightPartitions[getPartitionIndex(key)].write(row);
+                    }
+                }
+            }
+            if (null != rightPartitions) {
+                long spilledBytes = 0L;
+                for (SpillFile each : rightPartitions) {
+                    spilledBytes += each.finish();
+                }
+                memoryContext.recordSpill(operatorName, spilledBytes);
+            }
+            leftRows = left.enumerator();
+        }
+        
+        private void partitionRightRows() {
+            rightPartitions = createPartitions(rightFieldCount);
+            for (Map.Entry<List<Object>, List<Object[]>> entry : hashTable.entrySet()) {
+                SpillFile partition = rightPartitions[getPartitionIndex(entry.getKey())];
+                entry.getValue().forEach(partition::write);
+            }
+            releaseHashTable();
+        }
+        
+        private void partitionLeftRows() {
+            leftPartitions = createPartitions(leftFieldCount);
+            long spilledBytes = 0L;
+            try {
+                while (leftRows.moveNext()) {
+                    Object[] row = leftRows.current();
+                    List<Object> key = JoinKeyUtils.createKey(row, leftKeys);
+                    leftPartitions[null == key ? 0 : getPartitionIndex(key)].write(row);
+                }
+            } finally {
+                leftRows.close();
+            }
+            for (SpillFile each : leftPartitions) {
+                spilledBytes += each.finish();
+            }
+            memoryContext.recordSpill(operatorName, spilledBytes);
+        }
+        
+        private SpillFile[] createPartitions(final int columnCount) {
+            SpillFile[] result = new SpillFile[PARTITION_COUNT];
+            for (int i = 0; i < PARTITION_COUNT; i++) {
+                result[i] = new SpillFile(SQLFederationMemoryContext.SPILL_FILE_PREFIX, columnCount);
+            }
+            return result;
+        }
+        
+        private int getPartitionIndex(final List<Object> key) {
+            return (key.hashCode() & Integer.MAX_VALUE) % PARTITION_COUNT;
+        }
+        
+        private void loadNextPartition() {
+            releaseHashTable();
+            if (partitionIndex >= 0) {
+                leftPartitions[partitionIndex].close();
+                rightPartitions[partitionIndex].close();
+            }
+            partitionIndex++;
+            if (partitionIndex >= PARTITION_COUNT) {
+                return;
+            }
+            Object[] row;
+            while (null != (row = rightPartitions[partitionIndex].read())) {
+                long rowBytes = SQLFederationMemoryContext.estimateRowBytes(row);
+                if (!memoryContext.tryReserve(rowBytes)) {
+                    memoryContext.forceReserve(rowBytes);
+                }
+                hashTable.computeIfAbsent(JoinKeyUtils.createKey(row, rightKeys), unused -> new LinkedList<>()).add(row);
+                hashTableBytes += rowBytes;
+            }
+        }
+        
+        private void probe(final Object[] leftRow) {
+            List<Object> key = JoinKeyUtils.createKey(leftRow, leftKeys);
+            List<Object[]> rightRows = null == key ? Collections.emptyList() : hashTable.getOrDefault(key, Collections.emptyList());
+            switch (type) {
+                case SEMI:
+                    if (!rightRows.isEmpty()) {
+                        pendingRows.add(leftRow);
+                    }
+                    break;
+                case ANTI:
+                    if (rightRows.isEmpty()) {
+                        pendingRows.add(leftRow);
+                    }
+                    break;
+                case LEFT:
+                    combine(leftRow, rightRows.isEmpty() ? Collections.singletonList(new Object[rightFieldCount]) : rightRows);
+                    break;
+                default:
+                    combine(leftRow, rightRows);
+            }
+        }
+        
+        private void combine(final Object[] leftRow, final List<Object[]> rightRows) {
+            for (Object[] each : rightRows) {
+                pendingRows.add(combine(leftRow, each));
+            }
+        }
+        
+        private Object[] combine(final Object[] leftRow, final Object[] rightRow) {
+            Object[] result = Arrays.copyOf(leftRow, leftFieldCount + rightFieldCount);
+            System.arraycopy(rightRow, 0, result, leftFieldCount, rightFieldCount);
+            return result;
+        }
+        
+        private void releaseHashTable() {
+            hashTable.clear();
+            memoryContext.release(hashTableBytes);
+            hashTableBytes = 0L;
+        }
+        
+        @Override
+        public void reset() {
+            close();
+            hashTable = null;
+            leftRows = null;
+            leftPartitions = null;
+            rightPartitions = null;
+            partitionIndex = -1;
+            current = null;
+        }
+        
+        @Override
+        public void close() {
+            pendingRows.clear();
+            if (null != hashTable) {
+                releaseHashTable();
+            }
+            if (null != leftRows) {
+                leftRows.close();
+            }
+            closePartitions(leftPartitions);
+            closePartitions(rightPartitions);
+        }
+        
+        private void closePartitions(final SpillFile[] partitions) {
+            if (null != partitions) {
+                for (SpillFile each : partitions) {
+                    each.close();
+                }
+            }
+        }
+    }
+}
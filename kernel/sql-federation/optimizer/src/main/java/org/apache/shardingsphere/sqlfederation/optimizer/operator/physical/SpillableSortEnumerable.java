@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.spill.SpillFile;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.memory.SQLFederationMemoryContext;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Spillable sort enumerable.
+ *
+ * <p>Sorts rows in memory while memory can be reserved from memory context, otherwise sorts buffered rows as a run and spills it to local disk, then merges all runs.</p>
+ */
+@RequiredArgsConstructor
+public final class SpillableSortEnumerable extends AbstractEnumerable<Object[]> {
+    
+    private final Enumerable<Object[]> input;
+    
+    private final Comparator<Object[]> comparator;
+    
+    private final DataContext root;
+    
+    private final String operatorName;
+    
+    @Override
+    public Enumerator<Object[]> enumerator() {
+        return new SpillableSortEnumerator();
+    }
+    
+    private final class SpillableSortEnumerator implements Enumerator<Object[]> {
+        
+        private final SQLFederationMemoryContext memoryContext = SQLFederationMemoryContext.get(root);
+        
+        private final List<SpillFile> spillFiles = new LinkedList<>();
+        
+        private List<Object[]> buffer = new ArrayList<>();
+        
+        private long bufferBytes;
+        
+        private PriorityQueue<RunCursor> cursors;
+        
+        private Object[] current;
+        
+        @Override
+        public Object[] current() {
+            return current;
+        }
+        
+        @Override
+        public boolean moveNext() {
+            if (null == cursors) {
+                sort();
+            }
+            RunCursor cursor = cursors.poll();
+            if (null == cursor) {
+                current = null;
+                return false;
+            }
+            current = cursor.current;
+            if (cursor.moveNext()) {
+                cursors.add(cursor);
+            }
+            return true;
+        }
+        
+        private void sort() {
+            try (Enumerator<Object[]> rows = input.enumerator()) {
+                while (rows.moveNext()) {
+                    add(rows.current());
+                }
+            }
+            cursors = new PriorityQueue<>(spillFiles.size() + 1, (o1, o2) -> comparator.compare(o1.current, o2.current));
+            buffer.sort(comparator);
+            addCursor(new RunCursor(buffer.iterator(), null));
+            for (SpillFile each : spillFiles) {
+                addCursor(new RunCursor(null, each));
+            }
+        }
+        
+        private void add(final Object[] row) {
+            long rowBytes = SQLFederationMemoryContext.estimateRowBytes(row);
+            if (!memoryContext.tryReserve(rowBytes)) {
+                if (!buffer.isEmpty()) {
+                    spill(row.length);
+                }
+                if (!memoryContext.tryReserve(rowBytes)) {
+                    memoryContext.forceReserve(rowBytes);
+                }
+            }
+            buffer.add(row);
+            bufferBytes += rowBytes;
+        }
+        
+        private void spill(final int columnCount) {
+            buffer.sort(comparator);
+            SpillFile spillFile = new SpillFile(SQLFederationMemoryContext.SPILL_FILE_PREFIX, columnCount);
+            spillFiles.add(spillFile);
+            for (Object[] each : buffer) {
+                spillFile.write(each);
+            }
+            memoryContext.recordSpill(operatorName, spillFile.finish());
+            buffer = new ArrayList<>();
+            memoryContext.release(bufferBytes);
+            bufferBytes = 0L;
+        }
+        
+        private void addCursor(final RunCursor cursor) {
+            if (cursor.moveNext()) {
+                cursors.add(cursor);
+            }
+        }
+        
+        @Override
+        public void reset() {
+            close();
+            cursors = null;
+            current = null;
+        }
+        
+        @Override
+        public void close() {
+            spillFiles.forEach(SpillFile::close);
+            spillFiles.clear();
+            buffer = new ArrayList<>();
+            memoryContext.release(bufferBytes);
+            bufferBytes = 0L;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class RunCursor {
+        
+        private final Iterator<Object[]> iterator;
+        
+        private final SpillFile spillFile;
+        
+        private Object[] current;
+        
+        private boolean moveNext() {
+            if (null != iterator) {
+                current = iterator.hasNext() ? iterator.next() : null;
+            } else {
+                current = spillFile.read();
+            }
+            return null != current;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.rel2sql.RelToSqlConverter;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlDialect;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.SqlSelect;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.parser.SqlParserPos;
+import org.apache.calcite.sql.util.SqlString;
+import org.apache.shardingsphere.sqlfederation.optimizer.sql.SQLDialectFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bind join probe SQL builder.
+ *
+ * <p>Bind parameters use negative dynamic parameter indexes, index {@code -1 - n} refers to the n-th bind value of a batch.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BindJoinProbeSQLBuilder {
+    
+    /**
+     * Build probe SQL which filters join keys with bind parameters.
+     *
+     * @param pushDownRelNode push down rel node of probe scan
+     * @param probeKeys probe join key indexes
+     * @param batchSize count of join keys bound in one execution
+     * @param databaseType database type
+     * @return probe SQL string, empty if push down rel node can not be rewritten
+     */
+    public static Optional<SqlString> build(final RelNode pushDownRelNode, final List<Integer> probeKeys, final int batchSize, final String databaseType) {
+        SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
+        SqlNode sqlNode = new RelToSqlConverter(sqlDialect).visitRoot(pushDownRelNode).asStatement();
+        if (!(sqlNode instanceof SqlSelect) || null != ((SqlSelect) sqlNode).getGroup() || null != ((SqlSelect) sqlNode).getFetch()) {
+            return Optional.empty();
+        }
+        SqlSelect select = (SqlSelect) sqlNode;
+        List<SqlNode> keyExpressions = new ArrayList<>(probeKeys.size());
+        for (int each : probeKeys) {
+            Optional<SqlNode> keyExpression = findKeyExpression(select, pushDownRelNode.getRowType().getFieldNames(), each);
+            if (!keyExpression.isPresent()) {
+                return Optional.empty();
+            }
+            keyExpressions.add(keyExpression.get());
+        }
+        SqlNode condition = createBindCondition(keyExpressions, batchSize);
+        select.setWhere(null == select.getWhere() ? condition : SqlStdOperatorTable.AND.createCall(SqlParserPos.ZERO, select.getWhere(), condition));
+        return Optional.of(select.toSqlString(sqlDialect));
+    }
+    
+    private static Optional<SqlNode> findKeyExpression(final SqlSelect select, final List<String> fieldNames, final int keyIndex) {
+        SqlNodeList selectList = select.getSelectList();
+        if (null == selectList || selectList.isEmpty() || isStar(selectList.get(0))) {
+            return Optional.of(new SqlIdentifier(fieldNames.get(keyIndex), SqlParserPos.ZERO));
+        }
+        if (keyIndex >= selectList.size()) {
+            return Optional.empty();
+        }
+        SqlNode result = selectList.get(keyIndex);
+        return Optional.of(SqlKind.AS == result.getKind() ? ((SqlCall) result).operand(0) : result);
+    }
+    
+    private static boolean isStar(final SqlNode sqlNode) {
+        return sqlNode instanceof SqlIdentifier && ((SqlIdentifier) sqlNode).isStar();
+    }
+    
+    private static SqlNode createBindCondition(final List<SqlNode> keyExpressions, final int batchSize) {
+        if (1 == keyExpressions.size()) {
+            SqlNodeList values = new SqlNodeList(SqlParserPos.ZERO);
+            for (int i = 0; i < batchSize; i++) {
+                values.add(createBindParameter(i));
+            }
+            return SqlStdOperatorTable.IN.createCall(SqlParserPos.ZERO, keyExpressions.get(0), values);
+        }
+        SqlNode result = null;
+        int bindIndex = 0;
+        for (int i = 0; i < batchSize; i++) {
+            SqlNode each = null;
+            for (SqlNode keyExpression : keyExpressions) {
+                SqlNode equals = SqlStdOperatorTable.EQUALS.createCall(SqlParserPos.ZERO, keyExpression, createBindParameter(bindIndex++));
+                each = null == each ? equals : SqlStdOperatorTable.AND.createCall(SqlParserPos.ZERO, each, equals);
+            }
+            result = null == result ? each : SqlStdOperatorTable.OR.createCall(SqlParserPos.ZERO, result, each);
+        }
+        return result;
+    }
+    
+    private static SqlDynamicParam createBindParameter(final int bindIndex) {
+        return new SqlDynamicParam(-1 - bindIndex, SqlParserPos.ZERO);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Join key utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JoinKeyUtils {
+    
+    /**
+     * Create join key of row.
+     *
+     * @param row row
+     * @param keyIndexes key indexes
+     * @return join key, null if any key value is null
+     */
+    public static List<Object> createKey(final Object[] row, final int[] keyIndexes) {
+        List<Object> result = new ArrayList<>(keyIndexes.length);
+        for (int each : keyIndexes) {
+            Object value = row[each];
+            if (null == value) {
+                return null;
+            }
+            result.add(normalize(value));
+        }
+        return result;
+    }
+    
+    private static Object normalize(final Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof BigInteger && ((BigInteger) value).bitLength() < Long.SIZE) {
+            return ((BigInteger) value).longValue();
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = ((BigDecimal) value).stripTrailingZeros();
+            return decimal.scale() <= 0 && decimal.precision() - decimal.scale() < 19 ? (Object) decimal.longValue() : decimal;
+        }
+        return value;
+    }
+}
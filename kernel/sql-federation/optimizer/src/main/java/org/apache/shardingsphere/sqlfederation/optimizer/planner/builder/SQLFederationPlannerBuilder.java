@@ -33,8 +33,12 @@ import org.apache.calcite.rel.RelCollationTraitDef;
 import org.apache.calcite.rel.rules.AggregateExpandDistinctAggregatesRule;
 import org.apache.calcite.rel.rules.CoreRules;
 import org.apache.calcite.rel.rules.ProjectRemoveRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableBindJoinConverterRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableModifyConverterRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableScanConverterRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableSpillableAggregateConverterRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableSpillableJoinConverterRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableSpillableSortConverterRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushFilterIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushProjectIntoScanRule;
 
@@ -56,28 +60,39 @@ public final class SQLFederationPlannerBuilder {
      * @return volcano planner instance
      */
     public static RelOptPlanner buildVolcanoPlanner(final Convention convention) {
+        return buildVolcanoPlanner(convention, false);
+    }
+    
+    /**
+     * Build new instance of volcano planner.
+     *
+     * @param convention convention
+     * @param spillable whether to use spillable sort, join and aggregate operators
+     * @return volcano planner instance
+     */
+    public static RelOptPlanner buildVolcanoPlanner(final Convention convention, final boolean spillable) {
         RelOptPlanner result = new VolcanoPlanner();
-        setUpRules(result, convention);
+        setUpRules(result, convention, spillable);
         return result;
     }
     
-    private static void setUpRules(final RelOptPlanner planner, final Convention convention) {
+    private static void setUpRules(final RelOptPlanner planner, final Convention convention, final boolean spillable) {
         planner.addRelTraitDef(ConventionTraitDef.INSTANCE);
         planner.addRelTraitDef(RelCollationTraitDef.INSTANCE);
         if (EnumerableConvention.INSTANCE == convention) {
-            setUpEnumerableConventionRules(planner);
+            setUpEnumerableConventionRules(planner, spillable);
         }
     }
     
-    private static void setUpEnumerableConventionRules(final RelOptPlanner planner) {
-        planner.addRule(EnumerableRules.ENUMERABLE_JOIN_RULE);
+    private static void setUpEnumerableConventionRules(final RelOptPlanner planner, final boolean spillable) {
+        planner.addRule(spillable ? EnumerableSpillableJoinConverterRule.DEFAULT_CONFIG.toRule() : EnumerableRules.ENUMERABLE_JOIN_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_MERGE_JOIN_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_CORRELATE_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_PROJECT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_FILTER_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_CALC_RULE);
-        planner.addRule(EnumerableRules.ENUMERABLE_AGGREGATE_RULE);
-        planner.addRule(EnumerableRules.ENUMERABLE_SORT_RULE);
+        planner.addRule(spillable ? EnumerableSpillableAggregateConverterRule.DEFAULT_CONFIG.toRule() : EnumerableRules.ENUMERABLE_AGGREGATE_RULE);
+        planner.addRule(spillable ? EnumerableSpillableSortConverterRule.DEFAULT_CONFIG.toRule() : EnumerableRules.ENUMERABLE_SORT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_LIMIT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_COLLECT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_UNCOLLECT_RULE);
@@ -92,6 +107,8 @@ public final class SQLFederationPlannerBuilder {
         planner.addRule(EnumerableRules.ENUMERABLE_TABLE_FUNCTION_SCAN_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_MATCH_RULE);
         planner.addRule(EnumerableScanConverterRule.DEFAULT_CONFIG.toRule());
+        planner.addRule(EnumerableBindJoinConverterRule.Config.PROBE_RIGHT.toRule());
+        planner.addRule(EnumerableBindJoinConverterRule.Config.PROBE_LEFT.toRule());
         planner.addRule(EnumerableModifyConverterRule.DEFAULT_CONFIG.toRule());
     }
     
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter;
+
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.util.SqlString;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableBindJoin;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.BindJoinProbeSQLBuilder;
+import org.immutables.value.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Enumerable bind join converter rule.
+ *
+ * <p>Converts equi join whose probe side is a logical scan with collected row count into bind join, when the build side is estimated to be smaller.</p>
+ */
+@Value.Enclosing
+public final class EnumerableBindJoinConverterRule extends RelRule<EnumerableBindJoinConverterRule.Config> {
+    
+    private static final int MAX_BIND_PARAMETER_COUNT = 1000;
+    
+    private static final int BATCH_SIZE_SHRINK_FACTOR = 4;
+    
+    private static final double MAX_BUILD_ROW_COUNT = 10000D;
+    
+    private static final Collection<JoinRelType> PROBE_RIGHT_JOIN_TYPES = Arrays.asList(JoinRelType.INNER, JoinRelType.LEFT, JoinRelType.SEMI);
+    
+    private EnumerableBindJoinConverterRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalJoin join = call.rel(0);
+        LogicalScan probeScan = call.rel(config.probeOnLeft() ? 1 : 2);
+        boolean supportedJoinType = config.probeOnLeft() ? JoinRelType.INNER == join.getJoinType() : PROBE_RIGHT_JOIN_TYPES.contains(join.getJoinType());
+        if (!supportedJoinType) {
+            return false;
+        }
+        SQLFederationTable probeTable = probeScan.getTable().unwrap(SQLFederationTable.class);
+        return null != probeTable && null != probeTable.getStatistic().getRowCount();
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalJoin join = call.rel(0);
+        LogicalScan probeScan = call.rel(config.probeOnLeft() ? 1 : 2);
+        List<Integer> leftKeys = new ArrayList<>();
+        List<Integer> rightKeys = new ArrayList<>();
+        List<Boolean> filterNulls = new ArrayList<>();
+        RexNode remaining = RelOptUtil.splitJoinCondition(join.getLeft(), join.getRight(), join.getCondition(), leftKeys, rightKeys, filterNulls);
+        if (!remaining.isAlwaysTrue() || leftKeys.isEmpty() || filterNulls.contains(false)) {
+            return;
+        }
+        RelNode build = config.probeOnLeft() ? join.getRight() : join.getLeft();
+        RelMetadataQuery mq = call.getMetadataQuery();
+        double buildRowCount = mq.getRowCount(build);
+        double probeRowCount = mq.getRowCount(probeScan.peek());
+        if (buildRowCount > MAX_BUILD_ROW_COUNT || buildRowCount >= probeRowCount) {
+            return;
+        }
+        ImmutableIntList buildKeys = ImmutableIntList.copyOf(config.probeOnLeft() ? rightKeys : leftKeys);
+        ImmutableIntList probeKeys = ImmutableIntList.copyOf(config.probeOnLeft() ? leftKeys : rightKeys);
+        ImmutableIntList batchSizes = createBatchSizes(Math.max(1, MAX_BIND_PARAMETER_COUNT / probeKeys.size()));
+        List<SqlString> probeSqlStrings = new ArrayList<>(batchSizes.size());
+        for (int each : batchSizes) {
+            Optional<SqlString> probeSqlString = BindJoinProbeSQLBuilder.build(probeScan.peek(), probeKeys, each, probeScan.getDatabaseType());
+            if (!probeSqlString.isPresent()) {
+                return;
+            }
+            probeSqlStrings.add(probeSqlString.get());
+        }
+        Double probeKeyDistinctCount = mq.getDistinctRowCount(probeScan.peek(), ImmutableBitSet.of(probeKeys), null);
+        call.transformTo(new EnumerableBindJoin(join.getCluster(), join.getTraitSet(), convert(build, build.getTraitSet().replace(EnumerableConvention.INSTANCE)), probeScan.getTable(),
+                probeSqlStrings, probeScan.getRowType().getFieldCount(), join.getJoinType(), buildKeys, probeKeys, config.probeOnLeft(), batchSizes, probeRowCount,
+                null == probeKeyDistinctCount ? probeRowCount : probeKeyDistinctCount, join.getRowType()));
+    }
+    
+    private ImmutableIntList createBatchSizes(final int maxBatchSize) {
+        List<Integer> result = new ArrayList<>();
+        for (int each = maxBatchSize; each > 0; each /= BATCH_SIZE_SHRINK_FACTOR) {
+            result.add(each);
+        }
+        return ImmutableIntList.copyOf(result);
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config PROBE_RIGHT = ImmutableEnumerableBindJoinConverterRule.Config.builder().description(EnumerableBindJoinConverterRule.class.getSimpleName() + "(PROBE_RIGHT)")
+                .operandSupplier(b0 -> b0.operand(LogicalJoin.class).inputs(b1 -> b1.operand(RelNode.class).anyInputs(), b2 -> b2.operand(LogicalScan.class).noInputs())).build();
+        
+        Config PROBE_LEFT = ImmutableEnumerableBindJoinConverterRule.Config.builder().description(EnumerableBindJoinConverterRule.class.getSimpleName() + "(PROBE_LEFT)").probeOnLeft(true)
+                .operandSupplier(b0 -> b0.operand(LogicalJoin.class).inputs(b1 -> b1.operand(LogicalScan.class).noInputs(), b2 -> b2.operand(RelNode.class).anyInputs())).build();
+        
+        /**
+         * Whether probe scan is left input of join.
+         *
+         * @return probe scan is left input of join or not
+         */
+        @Value.Default
+        default boolean probeOnLeft() {
+            return false;
+        }
+        
+        @Override
+        default EnumerableBindJoinConverterRule toRule() {
+            return new EnumerableBindJoinConverterRule(this);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter;
+
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableRules;
+import org.apache.calcite.adapter.enumerable.EnumerableSortedAggregate;
+import org.apache.calcite.plan.Convention;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.convert.ConverterRule;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableSpillableSort;
+
+/**
+ * Enumerable spillable aggregate converter rule.
+ *
+ * <p>Converts simple group by aggregate into sorted aggregate over spillable sort on group keys, other aggregates are converted by enumerable aggregate rule of calcite.</p>
+ */
+public final class EnumerableSpillableAggregateConverterRule extends ConverterRule {
+    
+    public static final Config DEFAULT_CONFIG = Config.INSTANCE.withConversion(LogicalAggregate.class, Convention.NONE, EnumerableConvention.INSTANCE,
+            EnumerableSpillableAggregateConverterRule.class.getSimpleName()).withRuleFactory(EnumerableSpillableAggregateConverterRule::new);
+    
+    private EnumerableSpillableAggregateConverterRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public RelNode convert(final RelNode rel) {
+        Aggregate aggregate = (Aggregate) rel;
+        if (!Aggregate.isSimple(aggregate) || aggregate.getGroupSet().isEmpty() || aggregate.getAggCallList().stream().anyMatch(AggregateCall::isDistinct)) {
+            return ((ConverterRule) EnumerableRules.ENUMERABLE_AGGREGATE_RULE).convert(rel);
+        }
+        RelTraitSet traitSet = aggregate.getCluster().traitSetOf(EnumerableConvention.INSTANCE);
+        RelCollation collation = RelCollations.of(ImmutableIntList.copyOf(aggregate.getGroupSet().asList()));
+        RelNode sortedInput = new EnumerableSpillableSort(aggregate.getCluster(), traitSet.replace(collation), convert(aggregate.getInput(), traitSet), collation);
+        return new EnumerableSortedAggregate(aggregate.getCluster(), traitSet.replace(RelCollations.of(ImmutableIntList.identity(aggregate.getGroupSet().cardinality()))),
+                sortedInput, aggregate.getGroupSet(), aggregate.getGroupSets(), aggregate.getAggCallList());
+    }
+}
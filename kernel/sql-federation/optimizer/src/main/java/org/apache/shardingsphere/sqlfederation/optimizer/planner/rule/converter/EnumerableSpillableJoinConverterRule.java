@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter;
+
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableRules;
+import org.apache.calcite.plan.Convention;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.convert.ConverterRule;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableGraceHashJoin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Enumerable spillable join converter rule.
+ *
+ * <p>Converts equi join into grace hash join, other joins are converted by enumerable join rule of calcite.</p>
+ */
+public final class EnumerableSpillableJoinConverterRule extends ConverterRule {
+    
+    public static final Config DEFAULT_CONFIG = Config.INSTANCE.withConversion(LogicalJoin.class, Convention.NONE, EnumerableConvention.INSTANCE,
+            EnumerableSpillableJoinConverterRule.class.getSimpleName()).withRuleFactory(EnumerableSpillableJoinConverterRule::new);
+    
+    private static final Collection<JoinRelType> SUPPORTED_JOIN_TYPES = Arrays.asList(JoinRelType.INNER, JoinRelType.LEFT, JoinRelType.SEMI, JoinRelType.ANTI);
+    
+    private EnumerableSpillableJoinConverterRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public RelNode convert(final RelNode rel) {
+        LogicalJoin join = (LogicalJoin) rel;
+        List<Integer> leftKeys = new ArrayList<>();
+        List<Integer> rightKeys = new ArrayList<>();
+        List<Boolean> filterNulls = new ArrayList<>();
+        RexNode remaining = RelOptUtil.splitJoinCondition(join.getLeft(), join.getRight(), join.getCondition(), leftKeys, rightKeys, filterNulls);
+        if (!SUPPORTED_JOIN_TYPES.contains(join.getJoinType()) || !join.getVariablesSet().isEmpty() || !remaining.isAlwaysTrue() || leftKeys.isEmpty() || filterNulls.contains(false)) {
+            return ((ConverterRule) EnumerableRules.ENUMERABLE_JOIN_RULE).convert(rel);
+        }
+        RelNode left = convert(join.getLeft(), join.getLeft().getTraitSet().replace(EnumerableConvention.INSTANCE));
+        RelNode right = convert(join.getRight(), join.getRight().getTraitSet().replace(EnumerableConvention.INSTANCE));
+        return new EnumerableGraceHashJoin(join.getCluster(), join.getTraitSet().replace(EnumerableConvention.INSTANCE), left, right, join.getCondition(),
+                ImmutableIntList.copyOf(leftKeys), ImmutableIntList.copyOf(rightKeys), join.getJoinType());
+    }
+}
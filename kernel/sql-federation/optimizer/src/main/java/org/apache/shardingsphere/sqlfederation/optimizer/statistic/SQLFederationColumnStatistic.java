@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL federation column statistic.
+ *
+ * <p>Histogram bounds are ascending values which split column values into buckets holding nearly equal number of rows.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SQLFederationColumnStatistic {
+    
+    private final Double distinctCount;
+    
+    private final Double minValue;
+    
+    private final Double maxValue;
+    
+    private final List<Double> histogramBounds;
+    
+    /**
+     * Find fraction of rows whose column value is less than specified value.
+     *
+     * @param value value
+     * @return fraction of rows, empty when neither histogram nor value range is collected
+     */
+    public Optional<Double> findFractionLessThan(final double value) {
+        if (histogramBounds.size() > 1) {
+            return Optional.of(getHistogramFractionLessThan(value));
+        }
+        if (null == minValue || null == maxValue || maxValue <= minValue) {
+            return Optional.empty();
+        }
+        return Optional.of(Math.min(1D, Math.max(0D, (value - minValue) / (maxValue - minValue))));
+    }
+    
+    private double getHistogramFractionLessThan(final double value) {
+        int bucketSize = histogramBounds.size() - 1;
+        if (value <= histogramBounds.get(0)) {
+            return 0D;
+        }
+        if (value >= histogramBounds.get(bucketSize)) {
+            return 1D;
+        }
+        int bucketIndex = 0;
+        while (value >= histogramBounds.get(bucketIndex + 1)) {
+            bucketIndex++;
+        }
+        double lowerBound = histogramBounds.get(bucketIndex);
+        double bucketWidth = histogramBounds.get(bucketIndex + 1) - lowerBound;
+        double fractionInBucket = bucketWidth > 0D ? (value - lowerBound) / bucketWidth : 0D;
+        return (bucketIndex + fractionInBucket) / bucketSize;
+    }
+}
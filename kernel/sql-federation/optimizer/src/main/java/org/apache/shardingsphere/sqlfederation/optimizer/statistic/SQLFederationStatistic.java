@@ -17,20 +17,140 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
 
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelReferentialConstraint;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.table.UniqueKeyRuleAttribute;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableScan;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * SQL federation statistic.
+ *
+ * <p>Row count is aggregated from collected statistics of all data nodes and is unknown before collected,
+ * unique keys come from primary key and unique indexes which are still unique across all data nodes.
+ * Distinct count, value range and histogram of columns are aggregated from collected column statistics of all data nodes,
+ * they are used to estimate selectivity and distinct row count of table scan.</p>
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    private final List<String> columnNames;
+    
+    private final List<ImmutableBitSet> keys;
+    
+    @Setter
+    private volatile Double rowCount;
+    
+    @Getter
+    @Setter
+    private volatile Map<String, SQLFederationColumnStatistic> columnStatistics = Collections.emptyMap();
+    
+    public SQLFederationStatistic() {
+        columnNames = Collections.emptyList();
+        keys = Collections.emptyList();
+    }
+    
+    public SQLFederationStatistic(final ShardingSphereTable table, final Collection<UniqueKeyRuleAttribute> uniqueKeyRuleAttributes) {
+        columnNames = createColumnNames(table);
+        keys = createKeys(table, uniqueKeyRuleAttributes);
+    }
+    
+    private List<String> createColumnNames(final ShardingSphereTable table) {
+        List<String> result = new ArrayList<>(table.getAllColumns().size());
+        for (ShardingSphereColumn each : table.getAllColumns()) {
+            result.add(each.getName());
+        }
+        return result;
+    }
+    
+    private List<ImmutableBitSet> createKeys(final ShardingSphereTable table, final Collection<UniqueKeyRuleAttribute> uniqueKeyRuleAttributes) {
+        Map<String, Integer> columnIndexes = new CaseInsensitiveMap<>(columnNames.size(), 1F);
+        for (String each : columnNames) {
+            columnIndexes.put(each, columnIndexes.size());
+        }
+        List<ImmutableBitSet> result = new LinkedList<>();
+        findKey(table.getName(), table.getPrimaryKeyColumns(), columnIndexes, uniqueKeyRuleAttributes).ifPresent(result::add);
+        for (ShardingSphereIndex each : table.getAllIndexes()) {
+            if (each.isUnique()) {
+                findKey(table.getName(), each.getColumns(), columnIndexes, uniqueKeyRuleAttributes).ifPresent(result::add);
+            }
+        }
+        return new ArrayList<>(result);
+    }
+    
+    private Optional<ImmutableBitSet> findKey(final String tableName, final Collection<String> columnNames, final Map<String, Integer> columnIndexes,
+                                              final Collection<UniqueKeyRuleAttribute> uniqueKeyRuleAttributes) {
+        if (null == columnNames || columnNames.isEmpty() || !isUniqueAcrossDataNodes(tableName, columnNames, uniqueKeyRuleAttributes)) {
+            return Optional.empty();
+        }
+        ImmutableBitSet.Builder result = ImmutableBitSet.builder();
+        for (String each : columnNames) {
+            Integer columnIndex = columnIndexes.get(each);
+            if (null == columnIndex) {
+                return Optional.empty();
+            }
+            result.set(columnIndex);
+        }
+        return Optional.of(result.build());
+    }
+    
+    private boolean isUniqueAcrossDataNodes(final String tableName, final Collection<String> columnNames, final Collection<UniqueKeyRuleAttribute> uniqueKeyRuleAttributes) {
+        for (UniqueKeyRuleAttribute each : uniqueKeyRuleAttributes) {
+            if (!each.isUniqueAcrossDataNodes(tableName, columnNames)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        for (ImmutableBitSet each : keys) {
+            if (columns.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        return keys;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -45,4 +165,131 @@ public final class SQLFederationStatistic implements Statistic {
     public RelDistribution getDistribution() {
         return RelDistributionTraitDef.INSTANCE.getDefault();
     }
+    
+    /**
+     * Get selectivity of predicate on table scan.
+     *
+     * @param rel table scan
+     * @param mq metadata query
+     * @param predicate predicate
+     * @return selectivity
+     */
+    public Double getSelectivity(final RelNode rel, final RelMetadataQuery mq, final RexNode predicate) {
+        Optional<RelNode> pushDownRelNode = findPushDownRelNode(rel);
+        if (pushDownRelNode.isPresent()) {
+            return mq.getSelectivity(pushDownRelNode.get(), predicate);
+        }
+        return getSelectivity(rel, predicate);
+    }
+    
+    private double getSelectivity(final RelNode rel, final RexNode predicate) {
+        if (null == predicate || predicate.isAlwaysTrue()) {
+            return 1D;
+        }
+        if (!isTableRowType(rel)) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+        double result = 1D;
+        for (RexNode each : RelOptUtil.conjunctions(predicate)) {
+            result *= findComparisonSelectivity(each).orElseGet(() -> RelMdUtil.guessSelectivity(each));
+        }
+        return result;
+    }
+    
+    private Optional<Double> findComparisonSelectivity(final RexNode conjunction) {
+        if (!(conjunction instanceof RexCall) || 2 != ((RexCall) conjunction).getOperands().size()) {
+            return Optional.empty();
+        }
+        RexNode left = ((RexCall) conjunction).getOperands().get(0);
+        RexNode right = ((RexCall) conjunction).getOperands().get(1);
+        if (left instanceof RexInputRef && right instanceof RexLiteral) {
+            return findComparisonSelectivity(conjunction.getKind(), (RexInputRef) left, (RexLiteral) right);
+        }
+        if (right instanceof RexInputRef && left instanceof RexLiteral) {
+            return findComparisonSelectivity(conjunction.getKind().reverse(), (RexInputRef) right, (RexLiteral) left);
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<Double> findComparisonSelectivity(final SqlKind kind, final RexInputRef inputRef, final RexLiteral literal) {
+        SQLFederationColumnStatistic columnStatistic = columnStatistics.get(columnNames.get(inputRef.getIndex()));
+        if (null == columnStatistic) {
+            return Optional.empty();
+        }
+        switch (kind) {
+            case EQUALS:
+                return findEqualsSelectivity(columnStatistic);
+            case NOT_EQUALS:
+                return findEqualsSelectivity(columnStatistic).map(optional -> 1D - optional);
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                return findFractionLessThan(columnStatistic, literal);
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return findFractionLessThan(columnStatistic, literal).map(optional -> 1D - optional);
+            default:
+                return Optional.empty();
+        }
+    }
+    
+    private Optional<Double> findEqualsSelectivity(final SQLFederationColumnStatistic columnStatistic) {
+        Double distinctCount = columnStatistic.getDistinctCount();
+        if (null == distinctCount || distinctCount <= 0D) {
+            return Optional.empty();
+        }
+        return Optional.of(1D / (null == rowCount ? distinctCount : Math.max(1D, Math.min(distinctCount, rowCount))));
+    }
+    
+    private Optional<Double> findFractionLessThan(final SQLFederationColumnStatistic columnStatistic, final RexLiteral literal) {
+        return literal.getValue() instanceof BigDecimal ? columnStatistic.findFractionLessThan(((BigDecimal) literal.getValue()).doubleValue()) : Optional.empty();
+    }
+    
+    /**
+     * Get distinct row count of group key on table scan.
+     *
+     * @param rel table scan
+     * @param mq metadata query
+     * @param groupKey group key
+     * @param predicate predicate
+     * @return distinct row count, null when it can not be estimated
+     */
+    public Double getDistinctRowCount(final RelNode rel, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        Optional<RelNode> pushDownRelNode = findPushDownRelNode(rel);
+        if (pushDownRelNode.isPresent()) {
+            return mq.getDistinctRowCount(pushDownRelNode.get(), groupKey, predicate);
+        }
+        if (groupKey.isEmpty()) {
+            return 1D;
+        }
+        double selectedRowCount = mq.getRowCount(rel) * getSelectivity(rel, predicate);
+        if (isKey(groupKey)) {
+            return selectedRowCount;
+        }
+        if (!isTableRowType(rel)) {
+            return null;
+        }
+        double result = 1D;
+        for (int each : groupKey) {
+            SQLFederationColumnStatistic columnStatistic = columnStatistics.get(columnNames.get(each));
+            if (null == columnStatistic || null == columnStatistic.getDistinctCount()) {
+                return null;
+            }
+            result *= columnStatistic.getDistinctCount();
+        }
+        return RelMdUtil.numDistinctVals(Math.min(result, mq.getRowCount(rel)), selectedRowCount);
+    }
+    
+    private Optional<RelNode> findPushDownRelNode(final RelNode rel) {
+        if (rel instanceof LogicalScan) {
+            return Optional.of(((LogicalScan) rel).peek());
+        }
+        if (rel instanceof EnumerableScan) {
+            return Optional.of(((EnumerableScan) rel).getPushDownRelNode());
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isTableRowType(final RelNode rel) {
+        return rel instanceof TableScan && rel.getRowType().getFieldCount() == columnNames.size();
+    }
 }
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.schema.Schema;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.schema.Table;
+import org.apache.calcite.schema.lookup.Lookup;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.DatabaseStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.RowStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.SchemaStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.TableStatistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+/**
+ * SQL federation statistic utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationStatisticUtils {
+    
+    private static final String SHARDINGSPHERE = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final String SHARDING_COLUMN_STATISTICS = "sharding_column_statistics";
+    
+    private static final String LOGIC_DATABASE_NAME = "logic_database_name";
+    
+    private static final String LOGIC_TABLE_NAME = "logic_table_name";
+    
+    private static final String ROW_COUNT = "row_count";
+    
+    private static final String COLUMN_NAME = "column_name";
+    
+    private static final String DISTINCT_COUNT = "distinct_count";
+    
+    private static final String MIN_VALUE = "min_value";
+    
+    private static final String MAX_VALUE = "max_value";
+    
+    private static final String HISTOGRAM_BOUNDS = "histogram_bounds";
+    
+    private static final AtomicReference<CachedStatistics<Double>> CACHED_ROW_COUNTS = new AtomicReference<>();
+    
+    private static final AtomicReference<CachedStatistics<Map<String, SQLFederationColumnStatistic>>> CACHED_COLUMN_STATISTICS = new AtomicReference<>();
+    
+    /**
+     * Refresh row count and column statistics of SQL federation tables with collected sharding table and column statistics.
+     *
+     * @param schema SQL federation schema
+     * @param databaseName database name
+     * @param tableNames table names
+     * @param metaData meta data
+     * @param statistics ShardingSphere statistics
+     */
+    public static void refresh(final Schema schema, final String databaseName, final Collection<String> tableNames, final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics) {
+        if (null == schema || null == statistics || tableNames.isEmpty()) {
+            return;
+        }
+        Map<String, Double> rowCounts = loadStatistics(databaseName, metaData, statistics, SHARDING_TABLE_STATISTICS, CACHED_ROW_COUNTS, SQLFederationStatisticUtils::sumRowCounts);
+        Map<String, Map<String, SQLFederationColumnStatistic>> columnStatistics = loadStatistics(
+                databaseName, metaData, statistics, SHARDING_COLUMN_STATISTICS, CACHED_COLUMN_STATISTICS, SQLFederationStatisticUtils::mergeColumnStatistics);
+        if (rowCounts.isEmpty() && columnStatistics.isEmpty()) {
+            return;
+        }
+        for (String each : tableNames) {
+            Table table = Lookup.get(schema.tables(), each, false);
+            Statistic statistic = null == table ? null : table.getStatistic();
+            if (!(statistic instanceof SQLFederationStatistic)) {
+                continue;
+            }
+            if (rowCounts.containsKey(each)) {
+                ((SQLFederationStatistic) statistic).setRowCount(rowCounts.get(each));
+            }
+            if (columnStatistics.containsKey(each)) {
+                ((SQLFederationStatistic) statistic).setColumnStatistics(columnStatistics.get(each));
+            }
+        }
+    }
+    
+    private static <T> Map<String, T> loadStatistics(final String databaseName, final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics, final String statisticsTableName,
+                                                     final AtomicReference<CachedStatistics<T>> cache, final BiFunction<List<String>, TableStatistics, Map<String, Map<String, T>>> aggregator) {
+        Optional<String> statisticsDatabaseName = findStatisticsDatabaseName(databaseName, statisticsTableName, metaData, statistics);
+        if (!statisticsDatabaseName.isPresent()) {
+            return Collections.emptyMap();
+        }
+        TableStatistics tableStatistics = statistics.getDatabaseStatistics(statisticsDatabaseName.get()).getSchemaStatistics(SHARDINGSPHERE).getTableStatistics(statisticsTableName);
+        CachedStatistics<T> cachedStatistics = cache.get();
+        if (null == cachedStatistics || cachedStatistics.getTableStatistics() != tableStatistics || cachedStatistics.getVersion() != tableStatistics.getVersion()) {
+            long version = tableStatistics.getVersion();
+            List<String> columnNames = getColumnNames(metaData.getDatabase(statisticsDatabaseName.get()).getSchema(SHARDINGSPHERE).getTable(statisticsTableName));
+            cachedStatistics = new CachedStatistics<>(tableStatistics, version, aggregator.apply(columnNames, tableStatistics));
+            cache.set(cachedStatistics);
+        }
+        return cachedStatistics.getValues().getOrDefault(databaseName, Collections.emptyMap());
+    }
+    
+    private static Map<String, Map<String, Double>> sumRowCounts(final List<String> columnNames, final TableStatistics tableStatistics) {
+        Map<String, Map<String, Double>> result = new CaseInsensitiveMap<>();
+        int logicDatabaseNameIndex = columnNames.indexOf(LOGIC_DATABASE_NAME);
+        int logicTableNameIndex = columnNames.indexOf(LOGIC_TABLE_NAME);
+        int rowCountIndex = columnNames.indexOf(ROW_COUNT);
+        if (logicDatabaseNameIndex < 0 || logicTableNameIndex < 0 || rowCountIndex < 0) {
+            return result;
+        }
+        int maxColumnIndex = Math.max(rowCountIndex, Math.max(logicDatabaseNameIndex, logicTableNameIndex));
+        for (RowStatistics each : tableStatistics.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() <= maxColumnIndex || !(row.get(rowCountIndex) instanceof Number)) {
+                continue;
+            }
+            result.computeIfAbsent(String.valueOf(row.get(logicDatabaseNameIndex)), key -> new CaseInsensitiveMap<>())
+                    .merge(String.valueOf(row.get(logicTableNameIndex)), ((Number) row.get(rowCountIndex)).doubleValue(), Double::sum);
+        }
+        result.values().forEach(each -> each.values().removeIf(value -> value <= 0D));
+        return result;
+    }
+    
+    private static Map<String, Map<String, Map<String, SQLFederationColumnStatistic>>> mergeColumnStatistics(final List<String> columnNames, final TableStatistics tableStatistics) {
+        Map<String, Map<String, Map<String, SQLFederationColumnStatistic>>> result = new CaseInsensitiveMap<>();
+        if (!columnNames.containsAll(Arrays.asList(LOGIC_DATABASE_NAME, LOGIC_TABLE_NAME, COLUMN_NAME, DISTINCT_COUNT, MIN_VALUE, MAX_VALUE, HISTOGRAM_BOUNDS))) {
+            return result;
+        }
+        for (RowStatistics each : tableStatistics.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() < columnNames.size()) {
+                continue;
+            }
+            SQLFederationColumnStatistic columnStatistic = new SQLFederationColumnStatistic(toDouble(getValue(row, columnNames, DISTINCT_COUNT)),
+                    toDouble(getValue(row, columnNames, MIN_VALUE)), toDouble(getValue(row, columnNames, MAX_VALUE)), toHistogramBounds(getValue(row, columnNames, HISTOGRAM_BOUNDS)));
+            result.computeIfAbsent(String.valueOf(getValue(row, columnNames, LOGIC_DATABASE_NAME)), key -> new CaseInsensitiveMap<>())
+                    .computeIfAbsent(String.valueOf(getValue(row, columnNames, LOGIC_TABLE_NAME)), key -> new CaseInsensitiveMap<>())
+                    .merge(String.valueOf(getValue(row, columnNames, COLUMN_NAME)), columnStatistic, SQLFederationStatisticUtils::mergeColumnStatistic);
+        }
+        return result;
+    }
+    
+    private static Object getValue(final List<Object> row, final List<String> columnNames, final String columnName) {
+        return row.get(columnNames.indexOf(columnName));
+    }
+    
+    private static Double toDouble(final Object value) {
+        if (null == value) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        try {
+            return Double.parseDouble(value.toString().trim());
+        } catch (final NumberFormatException ignored) {
+            return null;
+        }
+    }
+    
+    private static List<Double> toHistogramBounds(final Object value) {
+        if (null == value || value.toString().trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Double> result = new ArrayList<>();
+        for (String each : value.toString().split(",")) {
+            Double bound = toDouble(each);
+            if (null == bound) {
+                return Collections.emptyList();
+            }
+            result.add(bound);
+        }
+        Collections.sort(result);
+        return result;
+    }
+    
+    private static SQLFederationColumnStatistic mergeColumnStatistic(final SQLFederationColumnStatistic columnStatistic1, final SQLFederationColumnStatistic columnStatistic2) {
+        List<Double> histogramBounds = new ArrayList<>(columnStatistic1.getHistogramBounds().size() + columnStatistic2.getHistogramBounds().size());
+        histogramBounds.addAll(columnStatistic1.getHistogramBounds());
+        histogramBounds.addAll(columnStatistic2.getHistogramBounds());
+        Collections.sort(histogramBounds);
+        return new SQLFederationColumnStatistic(merge(columnStatistic1.getDistinctCount(), columnStatistic2.getDistinctCount(), Double::sum),
+                merge(columnStatistic1.getMinValue(), columnStatistic2.getMinValue(), Math::min), merge(columnStatistic1.getMaxValue(), columnStatistic2.getMaxValue(), Math::max), histogramBounds);
+    }
+    
+    private static Double merge(final Double value1, final Double value2, final BinaryOperator<Double> operator) {
+        if (null == value1) {
+            return value2;
+        }
+        return null == value2 ? value1 : operator.apply(value1, value2);
+    }
+    
+    private static Optional<String> findStatisticsDatabaseName(final String databaseName, final String statisticsTableName,
+                                                               final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics) {
+        for (String each : Arrays.asList(databaseName, SHARDINGSPHERE)) {
+            if (containsStatisticsTable(each, statisticsTableName, metaData, statistics)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private static boolean containsStatisticsTable(final String databaseName, final String statisticsTableName, final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics) {
+        if (!metaData.containsDatabase(databaseName) || !statistics.containsDatabaseStatistics(databaseName)) {
+            return false;
+        }
+        ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+        DatabaseStatistics databaseStatistics = statistics.getDatabaseStatistics(databaseName);
+        if (!database.containsSchema(SHARDINGSPHERE) || !databaseStatistics.containsSchemaStatistics(SHARDINGSPHERE)) {
+            return false;
+        }
+        ShardingSphereSchema schema = database.getSchema(SHARDINGSPHERE);
+        SchemaStatistics schemaStatistics = databaseStatistics.getSchemaStatistics(SHARDINGSPHERE);
+        return schema.containsTable(statisticsTableName) && schemaStatistics.containsTableStatistics(statisticsTableName);
+    }
+    
+    private static List<String> getColumnNames(final ShardingSphereTable table) {
+        List<String> result = new ArrayList<>(table.getAllColumns().size());
+        for (ShardingSphereColumn each : table.getAllColumns()) {
+            result.add(each.getName().toLowerCase());
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CachedStatistics<T> {
+        
+        private final TableStatistics tableStatistics;
+        
+        private final long version;
+        
+        private final Map<String, Map<String, T>> values;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.memory;
+
+import org.apache.calcite.DataContext;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationMemoryContextTest {
+    
+    @Test
+    void assertTryReserveWithQueryBudget() {
+        long originalReservedBytes = SQLFederationMemoryPool.getInstance().getReservedBytes();
+        try (SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(100L, 0L)) {
+            assertTrue(memoryContext.tryReserve(60L));
+            assertFalse(memoryContext.tryReserve(60L));
+            memoryContext.release(30L);
+            assertTrue(memoryContext.tryReserve(60L));
+            assertThat(memoryContext.getReservedBytes(), is(90L));
+            assertThat(SQLFederationMemoryPool.getInstance().getReservedBytes(), is(originalReservedBytes + 90L));
+        }
+        assertThat(SQLFederationMemoryPool.getInstance().getReservedBytes(), is(originalReservedBytes));
+    }
+    
+    @Test
+    void assertTryReserveWithGlobalBudget() {
+        long originalReservedBytes = SQLFederationMemoryPool.getInstance().getReservedBytes();
+        try (
+                SQLFederationMemoryContext memoryContext1 = new SQLFederationMemoryContext(100L, originalReservedBytes + 100L);
+                SQLFederationMemoryContext memoryContext2 = new SQLFederationMemoryContext(100L, originalReservedBytes + 100L)) {
+            assertTrue(memoryContext1.tryReserve(80L));
+            assertFalse(memoryContext2.tryReserve(80L));
+            memoryContext2.forceReserve(80L);
+            assertThat(memoryContext2.getReservedBytes(), is(80L));
+        }
+        assertThat(SQLFederationMemoryPool.getInstance().getReservedBytes(), is(originalReservedBytes));
+    }
+    
+    @Test
+    void assertRecordSpill() {
+        try (SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(100L, 0L)) {
+            memoryContext.recordSpill("EnumerableSpillableSort#1", 10L);
+            memoryContext.recordSpill("EnumerableSpillableSort#1", 20L);
+            memoryContext.recordSpill("EnumerableGraceHashJoin#2", 30L);
+            assertThat(memoryContext.getSpillCount(), is(3L));
+            assertThat(memoryContext.getSpilledBytes(), is(60L));
+            assertThat(memoryContext.getSpillStatistics(), containsString("EnumerableSpillableSort#1: spillCount=2, spilledBytes=30"));
+            assertThat(memoryContext.getSpillStatistics(), containsString("EnumerableGraceHashJoin#2: spillCount=1, spilledBytes=30"));
+        }
+    }
+    
+    @Test
+    void assertGetWithoutMemoryContext() {
+        SQLFederationMemoryContext actual = SQLFederationMemoryContext.get(mock(DataContext.class));
+        assertTrue(actual.tryReserve(Long.MAX_VALUE));
+        actual.recordSpill("EnumerableSpillableSort#1", 10L);
+        assertThat(actual.getSpillCount(), is(0L));
+    }
+    
+    @Test
+    void assertGetWithMemoryContext() {
+        DataContext root = mock(DataContext.class);
+        SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(100L, 0L);
+        when(root.get(SQLFederationMemoryContext.DATA_CONTEXT_KEY)).thenReturn(memoryContext);
+        assertThat(SQLFederationMemoryContext.get(root), is(memoryContext));
+    }
+    
+    @Test
+    void assertEstimateRowBytes() {
+        assertThat(SQLFederationMemoryContext.estimateRowBytes(new Object[]{1, "foo", null}), is(16L + 24L + 24L + 46L));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.memory.SQLFederationMemoryContext;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BindJoinEnumerableTest {
+    
+    private static final String PROBE_SQL = "SELECT order_id, user_id FROM t_order WHERE user_id IN (?, ?)";
+    
+    private static final String SINGLE_KEY_PROBE_SQL = "SELECT order_id, user_id FROM t_order WHERE user_id IN (?)";
+    
+    private static final String[] PROBE_SQLS = {PROBE_SQL, SINGLE_KEY_PROBE_SQL};
+    
+    private static final int[] PROBE_PARAM_INDEXES = {-1, -2};
+    
+    private static final int[] BATCH_SIZES = {2, 1};
+    
+    @Test
+    void assertInnerJoin() {
+        SQLFederationTable probeTable = mockProbeTable();
+        List<List<Object>> actual = toList(new BindJoinEnumerable(createBuildRows(), probeTable, mock(DataContext.class), PROBE_SQLS, PROBE_PARAM_INDEXES,
+                new int[]{0}, new int[]{1}, 2, "INNER", false, BATCH_SIZES));
+        assertThat(actual, is(Arrays.asList(Arrays.asList(1, "foo", 10L, 1), Arrays.asList(3, "baz", 30L, new BigDecimal("3.0")))));
+        verify(probeTable).execute(any(), eq(PROBE_SQL), eq(PROBE_PARAM_INDEXES), eq(Arrays.asList(1L, 2L)));
+        verify(probeTable).execute(any(), eq(SINGLE_KEY_PROBE_SQL), eq(new int[]{-1}), eq(Collections.singletonList(3L)));
+    }
+    
+    @Test
+    void assertLeftJoin() {
+        List<List<Object>> actual = toList(new BindJoinEnumerable(createBuildRows(), mockProbeTable(), mock(DataContext.class), PROBE_SQLS, PROBE_PARAM_INDEXES,
+                new int[]{0}, new int[]{1}, 2, "LEFT", false, BATCH_SIZES));
+        assertThat(actual, is(Arrays.asList(Arrays.asList(1, "foo", 10L, 1), Arrays.asList(3, "baz", 30L, new BigDecimal("3.0")),
+                Arrays.asList(2, "bar", null, null), Arrays.asList(null, "qux", null, null))));
+    }
+    
+    @Test
+    void assertSemiJoin() {
+        List<List<Object>> actual = toList(new BindJoinEnumerable(createBuildRows(), mockProbeTable(), mock(DataContext.class), PROBE_SQLS, PROBE_PARAM_INDEXES,
+                new int[]{0}, new int[]{1}, 2, "SEMI", false, BATCH_SIZES));
+        assertThat(actual, is(Arrays.asList(Arrays.asList(1, "foo"), Arrays.asList(3, "baz"))));
+    }
+    
+    @Test
+    void assertInnerJoinWithProbeOnLeft() {
+        List<List<Object>> actual = toList(new BindJoinEnumerable(createBuildRows(), mockProbeTable(), mock(DataContext.class), PROBE_SQLS, PROBE_PARAM_INDEXES,
+                new int[]{0}, new int[]{1}, 2, "INNER", true, BATCH_SIZES));
+        assertThat(actual, is(Arrays.asList(Arrays.asList(10L, 1, 1, "foo"), Arrays.asList(30L, new BigDecimal("3.0"), 3, "baz"))));
+    }
+    
+    @Test
+    void assertJoinWithEmptyBuildSide() {
+        SQLFederationTable probeTable = mockProbeTable();
+        List<List<Object>> actual = toList(new BindJoinEnumerable(Linq4j.emptyEnumerable(), probeTable, mock(DataContext.class), PROBE_SQLS, PROBE_PARAM_INDEXES,
+                new int[]{0}, new int[]{1}, 2, "INNER", false, BATCH_SIZES));
+        assertThat(actual, is(Collections.emptyList()));
+        verify(probeTable, times(0)).execute(any(), any(), any(), anyList());
+    }
+    
+    @Test
+    void assertReserveMemoryOfBuildRows() {
+        try (SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(100L, 0L)) {
+            DataContext root = mock(DataContext.class);
+            when(root.get(SQLFederationMemoryContext.DATA_CONTEXT_KEY)).thenReturn(memoryContext);
+            Enumerator<Object[]> enumerator = new BindJoinEnumerable(createBuildRows(), mockProbeTable(), root, PROBE_SQLS, PROBE_PARAM_INDEXES,
+                    new int[]{0}, new int[]{1}, 2, "INNER", false, BATCH_SIZES).enumerator();
+            assertTrue(enumerator.moveNext());
+            assertTrue(memoryContext.getReservedBytes() > 100L);
+            enumerator.close();
+            assertThat(memoryContext.getReservedBytes(), is(0L));
+        }
+    }
+    
+    private Enumerable<Object[]> createBuildRows() {
+        return Linq4j.asEnumerable(Arrays.asList(new Object[]{1, "foo"}, new Object[]{2, "bar"}, new Object[]{3, "baz"}, new Object[]{null, "qux"}));
+    }
+    
+    private SQLFederationTable mockProbeTable() {
+        SQLFederationTable result = mock(SQLFederationTable.class);
+        when(result.execute(any(), eq(PROBE_SQL), eq(PROBE_PARAM_INDEXES), eq(Arrays.asList(1L, 2L)))).thenReturn(Linq4j.asEnumerable(Collections.singletonList(new Object[]{10L, 1})));
+        when(result.execute(any(), eq(SINGLE_KEY_PROBE_SQL), eq(new int[]{-1}), eq(Collections.singletonList(3L))))
+                .thenReturn(Linq4j.asEnumerable(Collections.singletonList(new Object[]{30L, new BigDecimal("3.0")})));
+        return result;
+    }
+    
+    private List<List<Object>> toList(final BindJoinEnumerable enumerable) {
+        return enumerable.toList().stream().map(Arrays::asList).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.memory.SQLFederationMemoryContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GraceHashJoinEnumerableTest {
+    
+    @Test
+    void assertInnerJoinInMemory() {
+        try (SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(0L, 0L)) {
+            List<List<Object>> actual = toList(createGraceHashJoinEnumerable("INNER", memoryContext));
+            assertThat(actual, is(Arrays.asList(Arrays.asList(1, "foo", 1L, 10L), Arrays.asList(1, "foo", 1L, 11L), Arrays.asList(3, "baz", 3L, 30L))));
+            assertThat(memoryContext.getSpillCount(), is(0L));
+        }
+    }
+    
+    @Test
+    void assertInnerJoinWithSpill() {
+        try (SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(100L, 0L)) {
+            List<List<Object>> actual = toList(createGraceHashJoinEnumerable("INNER", memoryContext));
+            assertThat(actual.size(), is(3));
+            assertThat(new HashSet<>(actual), is(asSet(Arrays.asList(1, "foo", 1L, 10L), Arrays.asList(1, "foo", 1L, 11L), Arrays.asList(3, "baz", 3L, 30L))));
+            assertThat(memoryContext.getSpillCount(), is(2L));
+            assertThat(memoryContext.getReservedBytes(), is(0L));
+        }
+    }
+    
+    @Test
+    void assertLeftJoinWithSpill() {
+        try (SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(100L, 0L)) {
+            List<List<Object>> actual = toList(createGraceHashJoinEnumerable("LEFT", memoryContext));
+            assertThat(actual.size(), is(5));
+            assertThat(new HashSet<>(actual), is(asSet(Arrays.asList(1, "foo", 1L, 10L), Arrays.asList(1, "foo", 1L, 11L), Arrays.asList(3, "baz", 3L, 30L),
+                    Arrays.asList(2, "bar", null, null), Arrays.asList(null, "qux", null, null))));
+        }
+    }
+    
+    @Test
+    void assertSemiJoinWithSpill() {
+        try (SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(100L, 0L)) {
+            List<List<Object>> actual = toList(createGraceHashJoinEnumerable("SEMI", memoryContext));
+            assertThat(actual.size(), is(2));
+            assertThat(new HashSet<>(actual), is(asSet(Arrays.asList(1, "foo"), Arrays.asList(3, "baz"))));
+        }
+    }
+    
+    @Test
+    void assertAntiJoinInMemory() {
+        try (SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(0L, 0L)) {
+            List<List<Object>> actual = toList(createGraceHashJoinEnumerable("ANTI", memoryContext));
+            assertThat(actual, is(Arrays.asList(Arrays.asList(2, "bar"), Arrays.asList(null, "qux"))));
+        }
+    }
+    
+    private GraceHashJoinEnumerable createGraceHashJoinEnumerable(final String joinType, final SQLFederationMemoryContext memoryContext) {
+        Enumerable<Object[]> left = Linq4j.asEnumerable(Arrays.asList(new Object[]{1, "foo"}, new Object[]{2, "bar"}, new Object[]{3, "baz"}, new Object[]{null, "qux"}));
+        Enumerable<Object[]> right = Linq4j.asEnumerable(Arrays.asList(new Object[]{1L, 10L}, new Object[]{1L, 11L}, new Object[]{3L, 30L}, new Object[]{4L, 40L}, new Object[]{null, 50L}));
+        DataContext root = mock(DataContext.class);
+        when(root.get(SQLFederationMemoryContext.DATA_CONTEXT_KEY)).thenReturn(memoryContext);
+        return new GraceHashJoinEnumerable(left, right, new int[]{0}, new int[]{0}, 2, 2, joinType, root, "EnumerableGraceHashJoin#1");
+    }
+    
+    private List<List<Object>> toList(final Enumerable<Object[]> enumerable) {
+        return enumerable.select(each -> Arrays.asList(each)).toList();
+    }
+    
+    @SafeVarargs
+    private final Collection<List<Object>> asSet(final List<Object>... rows) {
+        return Arrays.stream(rows).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.memory.SQLFederationMemoryContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpillableSortEnumerableTest {
+    
+    private static final Comparator<Object[]> COMPARATOR = Comparator.comparing((Object[] row) -> (Integer) row[0]).thenComparing(row -> (String) row[1]);
+    
+    @Test
+    void assertSortInMemory() {
+        try (SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(0L, 0L)) {
+            List<Integer> actual = toList(new SpillableSortEnumerable(createRows(100), COMPARATOR, mockDataContext(memoryContext), "EnumerableSpillableSort#1"));
+            assertThat(actual, is(IntStream.range(0, 100).boxed().collect(Collectors.toList())));
+            assertThat(memoryContext.getSpillCount(), is(0L));
+        }
+    }
+    
+    @Test
+    void assertSortWithSpill() {
+        try (SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(1000L, 0L)) {
+            List<Integer> actual = toList(new SpillableSortEnumerable(createRows(100), COMPARATOR, mockDataContext(memoryContext), "EnumerableSpillableSort#1"));
+            assertThat(actual, is(IntStream.range(0, 100).boxed().collect(Collectors.toList())));
+            assertThat(memoryContext.getSpillCount() > 0L, is(true));
+            assertThat(memoryContext.getReservedBytes(), is(0L));
+        }
+    }
+    
+    @Test
+    void assertSortEmptyRows() {
+        List<Integer> actual = toList(new SpillableSortEnumerable(Linq4j.asEnumerable(Collections.emptyList()), COMPARATOR, mock(DataContext.class), "EnumerableSpillableSort#1"));
+        assertThat(actual, is(Collections.emptyList()));
+    }
+    
+    private Enumerable<Object[]> createRows(final int count) {
+        List<Object[]> result = IntStream.range(0, count).mapToObj(each -> new Object[]{each, "foo_" + each}).collect(Collectors.toList());
+        Collections.shuffle(result);
+        return Linq4j.asEnumerable(result);
+    }
+    
+    private DataContext mockDataContext(final SQLFederationMemoryContext memoryContext) {
+        DataContext result = mock(DataContext.class);
+        when(result.get(SQLFederationMemoryContext.DATA_CONTEXT_KEY)).thenReturn(memoryContext);
+        return result;
+    }
+    
+    private List<Integer> toList(final Enumerable<Object[]> enumerable) {
+        return enumerable.select(each -> (Integer) each[0]).toList();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter;
+
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRel.Prefer;
+import org.apache.calcite.config.CalciteConnectionConfig;
+import org.apache.calcite.config.CalciteConnectionConfigImpl;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.prepare.CalciteCatalogReader;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.validate.SqlValidator;
+import org.apache.calcite.sql2rel.SqlToRelConverter;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationValidatorUtils;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.builder.SQLFederationPlannerBuilder;
+import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class EnumerableSpillableAggregateConverterRuleTest {
+    
+    private static final String SCHEMA_NAME = "foo_schema";
+    
+    private final SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
+    
+    private SQLFederationSchema sqlFederationSchema;
+    
+    @BeforeEach
+    void setUp() {
+        ShardingSphereTable userTable = new ShardingSphereTable("t_user", Arrays.asList(
+                createColumn("user_id", Types.INTEGER, true), createColumn("status", Types.VARCHAR, false)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable orderTable = new ShardingSphereTable("t_order", Arrays.asList(
+                createColumn("order_id", Types.BIGINT, true), createColumn("user_id", Types.INTEGER, false), createColumn("remark", Types.VARCHAR, false)),
+                Collections.emptyList(), Collections.emptyList());
+        sqlFederationSchema = new SQLFederationSchema(SCHEMA_NAME, new ShardingSphereSchema("foo_db", Arrays.asList(userTable, orderTable), Collections.emptyList()),
+                TypedSPILoader.getService(DatabaseType.class, "H2"), new JavaTypeFactoryImpl());
+    }
+    
+    private ShardingSphereColumn createColumn(final String name, final int dataType, final boolean primaryKey) {
+        return new ShardingSphereColumn(name, dataType, primaryKey, false, false, true, false, false);
+    }
+    
+    @Test
+    void assertConvertToSortedAggregateWithSpillableSort() {
+        RelNode actual = compile("SELECT user_id, COUNT(order_id) FROM t_order GROUP BY user_id ORDER BY user_id DESC");
+        assertThat(actual.explain(), containsString("EnumerableSortedAggregate"));
+        assertThat(actual.explain(), containsString("EnumerableSpillableSort"));
+        assertThat(EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) actual, Prefer.ARRAY), notNullValue());
+    }
+    
+    @Test
+    void assertConvertAggregateWithoutGroupByWithEnumerableAggregateRule() {
+        String actual = compile("SELECT COUNT(order_id) FROM t_order").explain();
+        assertThat(actual, not(containsString("EnumerableSortedAggregate")));
+        assertThat(actual, containsString("EnumerableAggregate"));
+    }
+    
+    private RelNode compile(final String sql) {
+        SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, "MySQL")).parse(sql, false);
+        return new SQLStatementCompiler(createSqlToRelConverter(), EnumerableConvention.INSTANCE).compile(sqlStatement, "MySQL").getPhysicalPlan();
+    }
+    
+    private SqlToRelConverter createSqlToRelConverter() {
+        CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(new Properties());
+        RelDataTypeFactory relDataTypeFactory = new JavaTypeFactoryImpl();
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "H2");
+        CalciteCatalogReader catalogReader = SQLFederationValidatorUtils.createCatalogReader(SCHEMA_NAME, sqlFederationSchema, relDataTypeFactory, connectionConfig, databaseType);
+        SqlValidator validator = SQLFederationValidatorUtils.createSqlValidator(catalogReader, relDataTypeFactory, databaseType, connectionConfig);
+        RelOptCluster cluster = RelOptCluster.create(SQLFederationPlannerBuilder.buildVolcanoPlanner(EnumerableConvention.INSTANCE, true), new RexBuilder(relDataTypeFactory));
+        return SQLFederationValidatorUtils.createSqlToRelConverter(catalogReader, validator, cluster, mock(SQLParserRule.class), databaseType, false);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.table.UniqueKeyRuleAttribute;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationStatisticTest {
+    
+    private final RelDataTypeFactory typeFactory = new JavaTypeFactoryImpl();
+    
+    private final RexBuilder rexBuilder = new RexBuilder(typeFactory);
+    
+    @Test
+    void assertGetKeys() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(), Collections.emptyList());
+        assertThat(actual.getKeys(), is(Arrays.asList(ImmutableBitSet.of(0), ImmutableBitSet.of(1, 2))));
+        assertThat(actual.isKey(ImmutableBitSet.of(0, 2)), is(true));
+        assertThat(actual.isKey(ImmutableBitSet.of(1, 2)), is(true));
+        assertThat(actual.isKey(ImmutableBitSet.of(1)), is(false));
+    }
+    
+    @Test
+    void assertGetKeysWithoutShardingColumns() {
+        UniqueKeyRuleAttribute uniqueKeyRuleAttribute = mock(UniqueKeyRuleAttribute.class);
+        when(uniqueKeyRuleAttribute.isUniqueAcrossDataNodes("t_order", Arrays.asList("USER_ID", "order_no"))).thenReturn(true);
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(), Collections.singleton(uniqueKeyRuleAttribute));
+        assertThat(actual.getKeys(), is(Collections.singletonList(ImmutableBitSet.of(1, 2))));
+        assertThat(actual.isKey(ImmutableBitSet.of(0)), is(false));
+    }
+    
+    @Test
+    void assertGetKeysWithoutTable() {
+        SQLFederationStatistic actual = new SQLFederationStatistic();
+        assertThat(actual.getKeys().isEmpty(), is(true));
+        assertThat(actual.isKey(ImmutableBitSet.of(0)), is(false));
+    }
+    
+    @Test
+    void assertGetRowCount() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(), Collections.emptyList());
+        assertThat(actual.getRowCount(), nullValue());
+        actual.setRowCount(100D);
+        assertThat(actual.getRowCount(), is(100D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithColumnStatistics() {
+        SQLFederationStatistic actual = createStatisticWithColumnStatistics();
+        TableScan tableScan = mockTableScan();
+        RelMetadataQuery mq = mock(RelMetadataQuery.class);
+        assertThat(actual.getSelectivity(tableScan, mq, null), is(1D));
+        assertThat(actual.getSelectivity(tableScan, mq, createComparison(SqlStdOperatorTable.EQUALS, 0, 10)), closeTo(0.001D, 0.0001D));
+        assertThat(actual.getSelectivity(tableScan, mq, createComparison(SqlStdOperatorTable.LESS_THAN, 0, 25)), closeTo(0.25D, 0.0001D));
+        assertThat(actual.getSelectivity(tableScan, mq, createComparison(SqlStdOperatorTable.GREATER_THAN_OR_EQUAL, 0, 75)), closeTo(0.25D, 0.0001D));
+        RexNode literalFirst = rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, rexBuilder.makeExactLiteral(BigDecimal.valueOf(30)), createInputRef(0));
+        assertThat(actual.getSelectivity(tableScan, mq, literalFirst), closeTo(0.3D, 0.0001D));
+        RexNode conjunction = rexBuilder.makeCall(SqlStdOperatorTable.AND,
+                createComparison(SqlStdOperatorTable.LESS_THAN, 0, 25), createComparison(SqlStdOperatorTable.EQUALS, 1, 1));
+        assertThat(actual.getSelectivity(tableScan, mq, conjunction), closeTo(0.005D, 0.0001D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithoutColumnStatistics() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(), Collections.emptyList());
+        assertThat(actual.getSelectivity(mockTableScan(), mock(RelMetadataQuery.class), createComparison(SqlStdOperatorTable.EQUALS, 0, 10)), is(0.15D));
+    }
+    
+    @Test
+    void assertGetDistinctRowCount() {
+        SQLFederationStatistic actual = createStatisticWithColumnStatistics();
+        TableScan tableScan = mockTableScan();
+        RelMetadataQuery mq = mock(RelMetadataQuery.class);
+        when(mq.getRowCount(tableScan)).thenReturn(1000D);
+        assertThat(actual.getDistinctRowCount(tableScan, mq, ImmutableBitSet.of(), null), is(1D));
+        assertThat(actual.getDistinctRowCount(tableScan, mq, ImmutableBitSet.of(0), null), is(1000D));
+        assertThat(actual.getDistinctRowCount(tableScan, mq, ImmutableBitSet.of(1), null), closeTo(50D, 0.01D));
+        assertThat(actual.getDistinctRowCount(tableScan, mq, ImmutableBitSet.of(1), createComparison(SqlStdOperatorTable.LESS_THAN, 0, 1)), closeTo(9.15D, 0.01D));
+        assertThat(actual.getDistinctRowCount(tableScan, mq, ImmutableBitSet.of(2), null), nullValue());
+    }
+    
+    private SQLFederationStatistic createStatisticWithColumnStatistics() {
+        SQLFederationStatistic result = new SQLFederationStatistic(createTable(), Collections.emptyList());
+        result.setRowCount(1000D);
+        Map<String, SQLFederationColumnStatistic> columnStatistics = new HashMap<>(2, 1F);
+        columnStatistics.put("order_id", new SQLFederationColumnStatistic(1000D, 0D, 100D, Arrays.asList(0D, 50D, 100D)));
+        columnStatistics.put("user_id", new SQLFederationColumnStatistic(50D, null, null, Collections.emptyList()));
+        result.setColumnStatistics(columnStatistics);
+        return result;
+    }
+    
+    private TableScan mockTableScan() {
+        TableScan result = mock(TableScan.class);
+        RelDataType intType = typeFactory.createSqlType(SqlTypeName.INTEGER);
+        RelDataType rowType = typeFactory.builder().add("order_id", intType).add("user_id", intType).add("order_no", typeFactory.createSqlType(SqlTypeName.VARCHAR)).build();
+        when(result.getRowType()).thenReturn(rowType);
+        return result;
+    }
+    
+    private RexNode createComparison(final SqlOperator operator, final int columnIndex, final int value) {
+        return rexBuilder.makeCall(operator, createInputRef(columnIndex), rexBuilder.makeExactLiteral(BigDecimal.valueOf(value)));
+    }
+    
+    private RexNode createInputRef(final int columnIndex) {
+        return rexBuilder.makeInputRef(typeFactory.createSqlType(SqlTypeName.INTEGER), columnIndex);
+    }
+    
+    private ShardingSphereTable createTable() {
+        ShardingSphereColumn orderIdColumn = new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false, false);
+        ShardingSphereColumn userIdColumn = new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false);
+        ShardingSphereColumn orderNoColumn = new ShardingSphereColumn("order_no", Types.VARCHAR, false, false, false, true, false, false);
+        ShardingSphereIndex uniqueIndex = new ShardingSphereIndex("uk_user_order_no", Arrays.asList("USER_ID", "order_no"), true);
+        ShardingSphereIndex index = new ShardingSphereIndex("idx_user_id", Collections.singletonList("user_id"), false);
+        return new ShardingSphereTable("t_order", Arrays.asList(orderIdColumn, userIdColumn, orderNoColumn), Arrays.asList(uniqueIndex, index), Collections.emptyList());
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.calcite.schema.Schema;
+import org.apache.calcite.schema.Table;
+import org.apache.calcite.schema.lookup.Lookup;
+import org.apache.calcite.util.NameMap;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.DatabaseStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.RowStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.SchemaStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.TableStatistics;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationStatisticUtilsTest {
+    
+    @Test
+    void assertRefreshRowCount() {
+        SQLFederationStatistic orderStatistic = new SQLFederationStatistic();
+        SQLFederationStatistic userStatistic = new SQLFederationStatistic();
+        Map<String, SQLFederationStatistic> tableStatistics = new HashMap<>(2, 1F);
+        tableStatistics.put("t_order", orderStatistic);
+        tableStatistics.put("t_user", userStatistic);
+        Schema schema = createSchema(tableStatistics);
+        SQLFederationStatisticUtils.refresh(schema, "foo_db", Arrays.asList("t_order", "t_user"), createMetaData(), createStatistics(createTableStatistics()));
+        assertThat(orderStatistic.getRowCount(), is(300D));
+        assertThat(userStatistic.getRowCount(), nullValue());
+    }
+    
+    @Test
+    void assertRefreshRowCountAfterStatisticsChanged() {
+        SQLFederationStatistic orderStatistic = new SQLFederationStatistic();
+        Schema schema = createSchema(Collections.singletonMap("t_order", orderStatistic));
+        ShardingSphereMetaData metaData = createMetaData();
+        TableStatistics tableStatistics = createTableStatistics();
+        ShardingSphereStatistics statistics = createStatistics(tableStatistics);
+        SQLFederationStatisticUtils.refresh(schema, "foo_db", Collections.singleton("t_order"), metaData, statistics);
+        assertThat(orderStatistic.getRowCount(), is(300D));
+        tableStatistics.getRows().add(new RowStatistics(Arrays.asList(5, "foo_db", "t_order", "ds_2", "t_order_2", new BigDecimal(100), BigDecimal.ZERO)));
+        SQLFederationStatisticUtils.refresh(schema, "foo_db", Collections.singleton("t_order"), metaData, statistics);
+        assertThat(orderStatistic.getRowCount(), is(300D));
+        tableStatistics.markRowsChanged();
+        SQLFederationStatisticUtils.refresh(schema, "foo_db", Collections.singleton("t_order"), metaData, statistics);
+        assertThat(orderStatistic.getRowCount(), is(400D));
+    }
+    
+    @Test
+    void assertRefreshColumnStatistics() {
+        SQLFederationStatistic orderStatistic = new SQLFederationStatistic();
+        Schema schema = createSchema(Collections.singletonMap("t_order", orderStatistic));
+        ShardingSphereStatistics statistics = createStatistics(createTableStatistics());
+        TableStatistics columnStatistics = new TableStatistics("sharding_column_statistics");
+        columnStatistics.getRows().add(new RowStatistics(Arrays.asList(1, "foo_db", "t_order", "order_id", "ds_0", "t_order_0", new BigDecimal(100), "1", "100", "1,50,100")));
+        columnStatistics.getRows().add(new RowStatistics(Arrays.asList(2, "foo_db", "t_order", "order_id", "ds_1", "t_order_1", new BigDecimal(200), "101", "300", "101,200,300")));
+        columnStatistics.getRows().add(new RowStatistics(Arrays.asList(3, "foo_db", "t_order", "status", "ds_0", "t_order_0", new BigDecimal(2), null, null, null)));
+        statistics.getDatabaseStatistics("shardingsphere").getSchemaStatistics("shardingsphere").putTableStatistics("sharding_column_statistics", columnStatistics);
+        SQLFederationStatisticUtils.refresh(schema, "foo_db", Collections.singleton("t_order"), createMetaData(), statistics);
+        assertThat(orderStatistic.getRowCount(), is(300D));
+        SQLFederationColumnStatistic actualOrderIdStatistic = orderStatistic.getColumnStatistics().get("ORDER_ID");
+        assertThat(actualOrderIdStatistic.getDistinctCount(), is(300D));
+        assertThat(actualOrderIdStatistic.getMinValue(), is(1D));
+        assertThat(actualOrderIdStatistic.getMaxValue(), is(300D));
+        assertThat(actualOrderIdStatistic.getHistogramBounds(), is(Arrays.asList(1D, 50D, 100D, 101D, 200D, 300D)));
+        SQLFederationColumnStatistic actualStatusStatistic = orderStatistic.getColumnStatistics().get("status");
+        assertThat(actualStatusStatistic.getDistinctCount(), is(2D));
+        assertThat(actualStatusStatistic.getMinValue(), nullValue());
+        assertThat(actualStatusStatistic.getHistogramBounds(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertRefreshRowCountWithoutStatistics() {
+        SQLFederationStatistic orderStatistic = new SQLFederationStatistic();
+        Schema schema = createSchema(Collections.singletonMap("t_order", orderStatistic));
+        SQLFederationStatisticUtils.refresh(schema, "foo_db", Collections.singleton("t_order"), createMetaData(), new ShardingSphereStatistics());
+        assertThat(orderStatistic.getRowCount(), nullValue());
+    }
+    
+    private Schema createSchema(final Map<String, SQLFederationStatistic> tableStatistics) {
+        NameMap<Table> tables = new NameMap<>();
+        tableStatistics.forEach((key, value) -> tables.put(key, new SQLFederationTable(mock(ShardingSphereTable.class), value, null)));
+        Schema result = mock(Schema.class);
+        when(result.tables()).thenReturn(Lookup.of(tables));
+        return result;
+    }
+    
+    private ShardingSphereMetaData createMetaData() {
+        ShardingSphereTable table = new ShardingSphereTable("sharding_table_statistics", Arrays.asList(
+                createColumn("id", Types.INTEGER), createColumn("logic_database_name", Types.VARCHAR), createColumn("logic_table_name", Types.VARCHAR),
+                createColumn("actual_database_name", Types.VARCHAR), createColumn("actual_table_name", Types.VARCHAR), createColumn("row_count", Types.BIGINT),
+                createColumn("size", Types.BIGINT)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable columnStatisticsTable = new ShardingSphereTable("sharding_column_statistics", Arrays.asList(
+                createColumn("id", Types.INTEGER), createColumn("logic_database_name", Types.VARCHAR), createColumn("logic_table_name", Types.VARCHAR),
+                createColumn("column_name", Types.VARCHAR), createColumn("actual_database_name", Types.VARCHAR), createColumn("actual_table_name", Types.VARCHAR),
+                createColumn("distinct_count", Types.DECIMAL), createColumn("min_value", Types.VARCHAR), createColumn("max_value", Types.VARCHAR),
+                createColumn("histogram_bounds", Types.VARCHAR)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema schema = new ShardingSphereSchema("shardingsphere", Arrays.asList(table, columnStatisticsTable), Collections.emptyList());
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.getName()).thenReturn("shardingsphere");
+        when(database.containsSchema("shardingsphere")).thenReturn(true);
+        when(database.getSchema("shardingsphere")).thenReturn(schema);
+        ShardingSphereMetaData result = mock(ShardingSphereMetaData.class);
+        when(result.containsDatabase("shardingsphere")).thenReturn(true);
+        when(result.getDatabase("shardingsphere")).thenReturn(database);
+        return result;
+    }
+    
+    private ShardingSphereColumn createColumn(final String name, final int dataType) {
+        return new ShardingSphereColumn(name, dataType, false, false, false, true, false, false);
+    }
+    
+    private TableStatistics createTableStatistics() {
+        TableStatistics result = new TableStatistics("sharding_table_statistics");
+        result.getRows().add(new RowStatistics(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal(100), BigDecimal.ZERO)));
+        result.getRows().add(new RowStatistics(Arrays.asList(2, "foo_db", "t_order", "ds_1", "t_order_1", new BigDecimal(200), BigDecimal.ZERO)));
+        result.getRows().add(new RowStatistics(Arrays.asList(3, "bar_db", "t_user", "ds_0", "t_user_0", new BigDecimal(50), BigDecimal.ZERO)));
+        result.getRows().add(new RowStatistics(Arrays.asList(4, "foo_db", "t_user", "ds_0", "t_user_0", BigDecimal.ZERO, BigDecimal.ZERO)));
+        return result;
+    }
+    
+    private ShardingSphereStatistics createStatistics(final TableStatistics tableStatistics) {
+        SchemaStatistics schemaStatistics = new SchemaStatistics();
+        schemaStatistics.putTableStatistics("sharding_table_statistics", tableStatistics);
+        DatabaseStatistics databaseStatistics = new DatabaseStatistics();
+        databaseStatistics.putSchemaStatistics("shardingsphere", schemaStatistics);
+        ShardingSphereStatistics result = new ShardingSphereStatistics();
+        result.putDatabaseStatistics("shardingsphere", databaseStatistics);
+        return result;
+    }
+}
@@ -139,6 +139,7 @@ public final class StatisticsManager {
         TableStatistics tableStatistics = metaDataContexts.getStatistics().getDatabaseStatistics(databaseName).getSchemaStatistics(schemaName).getTableStatistics(tableName);
         List<ShardingSphereColumn> columns = new ArrayList<>(metaDataContexts.getMetaData().getDatabase(databaseName).getSchema(schemaName).getTable(tableName).getAllColumns());
         tableStatistics.getRows().add(new YamlRowStatisticsSwapper(columns).swapToObject(yamlRowData));
+        tableStatistics.markRowsChanged();
     }
     
     /**
@@ -154,7 +155,9 @@ public final class StatisticsManager {
                 || !metaDataContexts.getStatistics().getDatabaseStatistics(databaseName).getSchemaStatistics(schemaName).containsTableStatistics(tableName)) {
             return;
         }
-        metaDataContexts.getStatistics().getDatabaseStatistics(databaseName).getSchemaStatistics(schemaName).getTableStatistics(tableName).getRows()
-                .removeIf(each -> uniqueKey.equals(each.getUniqueKey()));
+        TableStatistics tableStatistics = metaDataContexts.getStatistics().getDatabaseStatistics(databaseName).getSchemaStatistics(schemaName).getTableStatistics(tableName);
+        if (tableStatistics.getRows().removeIf(each -> uniqueKey.equals(each.getUniqueKey()))) {
+            tableStatistics.markRowsChanged();
+        }
     }
 }
@@ -35,10 +35,17 @@ public final class ReadOrWriteSegment implements DistSQLSegment {
     
     private final AlgorithmSegment rateLimiter;
     
+    private final Boolean bulkLoad;
+    
+    public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final Integer shardingSize, final AlgorithmSegment rateLimiter) {
+        this(workerThread, batchSize, shardingSize, rateLimiter, null);
+    }
+    
     public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final AlgorithmSegment rateLimiter) {
-        this.workerThread = workerThread;
-        this.batchSize = batchSize;
-        shardingSize = 10000000;
-        this.rateLimiter = rateLimiter;
+        this(workerThread, batchSize, rateLimiter, null);
+    }
+    
+    public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final AlgorithmSegment rateLimiter, final Boolean bulkLoad) {
+        this(workerThread, batchSize, 10000000, rateLimiter, bulkLoad);
     }
 }
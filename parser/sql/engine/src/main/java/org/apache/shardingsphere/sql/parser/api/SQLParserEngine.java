@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sql.parser.api;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.antlr.v4.runtime.CharStream;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
@@ -52,4 +53,14 @@ public final class SQLParserEngine {
     public ParseASTNode parse(final String sql, final boolean useCache) {
         return useCache ? parseTreeCache.get(sql) : sqlParserExecutor.parse(sql);
     }
+    
+    /**
+     * Parse SQL from char stream without cache.
+     *
+     * @param charStream char stream of SQL to be parsed
+     * @return parse AST node
+     */
+    public ParseASTNode parse(final CharStream charStream) {
+        return sqlParserExecutor.parse(charStream);
+    }
 }
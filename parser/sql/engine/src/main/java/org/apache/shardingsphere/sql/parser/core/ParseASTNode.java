@@ -25,6 +25,7 @@ import org.apache.shardingsphere.sql.parser.api.ASTNode;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Parse AST node.
@@ -45,6 +46,15 @@ public final class ParseASTNode implements ASTNode {
         return parseTree.getChild(0);
     }
     
+    /**
+     * Get tokens.
+     *
+     * @return tokens, including hidden tokens
+     */
+    public List<Token> getTokens() {
+        return tokenStream.getTokens();
+    }
+    
     /**
      * Get hidden tokens.
      *
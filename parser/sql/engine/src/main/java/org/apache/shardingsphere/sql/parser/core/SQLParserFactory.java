@@ -49,7 +49,19 @@ public final class SQLParserFactory {
      * @return created instance
      */
     public static SQLParser newInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
-        return createSQLParser(createTokenStream(sql, lexerClass), parserClass);
+        return newInstance(getSQLCharStream(sql), lexerClass, parserClass);
+    }
+    
+    /**
+     * Create new instance of SQL parser.
+     *
+     * @param charStream char stream of SQL
+     * @param lexerClass lexer class
+     * @param parserClass parser class
+     * @return created instance
+     */
+    public static SQLParser newInstance(final CharStream charStream, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
+        return createSQLParser(createTokenStream(charStream, lexerClass), parserClass);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
@@ -61,8 +73,8 @@ public final class SQLParserFactory {
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
-        Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
+    private static TokenStream createTokenStream(final CharStream charStream, final Class<? extends SQLLexer> lexerClass) {
+        Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(charStream);
         lexer.removeErrorListener(ConsoleErrorListener.INSTANCE);
         return new CommonTokenStream(lexer);
     }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sql.parser.core;
 
+import org.antlr.v4.runtime.CharStreams;
 import org.apache.shardingsphere.sql.parser.fixture.LexerFixture;
 import org.apache.shardingsphere.sql.parser.fixture.ParserFixture;
 import org.junit.jupiter.api.Test;
@@ -33,4 +34,9 @@ class SQLParserFactoryTest {
     void assertNewInstance() {
         assertThat(SQLParserFactory.newInstance(SQL, mock(LexerFixture.class).getClass(), mock(ParserFixture.class).getClass()), instanceOf(ParserFixture.class));
     }
+    
+    @Test
+    void assertNewInstanceWithCharStream() {
+        assertThat(SQLParserFactory.newInstance(CharStreams.fromString(SQL), mock(LexerFixture.class).getClass(), mock(ParserFixture.class).getClass()), instanceOf(ParserFixture.class));
+    }
 }
@@ -35,6 +35,7 @@ import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionExcept
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.util.TransactionUtils;
+import org.apache.shardingsphere.proxy.backend.util.VirtualThreadPinningUtils;
 import org.apache.shardingsphere.transaction.spi.TransactionHook;
 
 import java.sql.Connection;
@@ -260,13 +261,19 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
      */
     public void closeExecutionResources() throws BackendConnectionException {
         synchronized (this) {
-            Collection<Exception> result = new LinkedList<>(closeHandlers(false));
-            if (!connectionSession.getTransactionStatus().isInConnectionHeldTransaction(TransactionUtils.getTransactionType(connectionSession.getConnectionContext().getTransactionContext()))) {
-                result.addAll(closeHandlers(true));
-                result.addAll(closeConnections(false));
-            } else if (closed.get()) {
-                result.addAll(closeHandlers(true));
-                result.addAll(closeConnections(true));
+            long pinningStartNanos = VirtualThreadPinningUtils.start();
+            Collection<Exception> result;
+            try {
+                result = new LinkedList<>(closeHandlers(false));
+                if (!connectionSession.getTransactionStatus().isInConnectionHeldTransaction(TransactionUtils.getTransactionType(connectionSession.getConnectionContext().getTransactionContext()))) {
+                    result.addAll(closeHandlers(true));
+                    result.addAll(closeConnections(false));
+                } else if (closed.get()) {
+                    result.addAll(closeHandlers(true));
+                    result.addAll(closeConnections(true));
+                }
+            } finally {
+                VirtualThreadPinningUtils.finish("ProxyDatabaseConnectionManager#closeExecutionResources", pinningStartNanos);
             }
             if (result.isEmpty()) {
                 return;
@@ -280,9 +287,14 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
      */
     public void closeAllResources() {
         synchronized (this) {
-            closed.set(true);
-            closeHandlers(true);
-            closeConnections(true);
+            long pinningStartNanos = VirtualThreadPinningUtils.start();
+            try {
+                closed.set(true);
+                closeHandlers(true);
+                closeConnections(true);
+            } finally {
+                VirtualThreadPinningUtils.finish("ProxyDatabaseConnectionManager#closeAllResources", pinningStartNanos);
+            }
         }
     }
     
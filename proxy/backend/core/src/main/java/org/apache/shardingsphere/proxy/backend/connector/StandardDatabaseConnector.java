@@ -90,6 +90,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -237,16 +238,28 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
         Collection<AdvancedProxySQLExecutor> advancedExecutors = ShardingSphereServiceLoader.getServiceInstances(AdvancedProxySQLExecutor.class);
+        AtomicReference<List<QueryHeader>> preparedQueryHeaders = new AtomicReference<>();
         List<ExecuteResult> executeResults = advancedExecutors.isEmpty()
-                ? proxySQLExecutor.execute(executionContext)
+                ? proxySQLExecutor.execute(executionContext, groupResults -> prepareQueryHeaders(groupResults, preparedQueryHeaders))
                 : advancedExecutors.iterator().next().execute(executionContext, contextManager, database, this);
         pushDownMetaDataRefreshEngine.refresh(queryContext.getSqlStatementContext(), executionContext.getRouteContext().getRouteUnits());
         Object executeResultSample = executeResults.iterator().next();
         return executeResultSample instanceof QueryResult
-                ? processExecuteQuery(queryContext.getSqlStatementContext(), executeResults.stream().map(QueryResult.class::cast).collect(Collectors.toList()), (QueryResult) executeResultSample)
+                ? processExecuteQuery(queryContext.getSqlStatementContext(), executeResults.stream().map(QueryResult.class::cast).collect(Collectors.toList()),
+                        (QueryResult) executeResultSample, preparedQueryHeaders.get())
                 : processExecuteUpdate(executeResults.stream().map(UpdateResult.class::cast).collect(Collectors.toList()));
     }
     
+    private void prepareQueryHeaders(final Collection<ExecuteResult> groupResults, final AtomicReference<List<QueryHeader>> preparedQueryHeaders) throws SQLException {
+        if (null != preparedQueryHeaders.get() || groupResults.isEmpty()) {
+            return;
+        }
+        ExecuteResult groupResultSample = groupResults.iterator().next();
+        if (groupResultSample instanceof QueryResult) {
+            preparedQueryHeaders.set(createQueryHeaders(queryContext.getSqlStatementContext(), (QueryResult) groupResultSample));
+        }
+    }
+    
     private ResultSet doExecuteFederation() {
         boolean isReturnGeneratedKeys = queryContext.getSqlStatementContext().getSqlStatement() instanceof MySQLInsertStatement;
         DatabaseType protocolType = database.getProtocolType();
@@ -260,8 +273,9 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine(final boolean isReturnGeneratedKeys, final MetaDataContexts metaData) {
         int maxConnectionsSizePerQuery = metaData.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        boolean adaptiveConnectionModeEnabled = metaData.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED);
         JDBCBackendStatement statementManager = (JDBCBackendStatement) databaseConnectionManager.getConnectionSession().getStatementManager();
-        return new DriverExecutionPrepareEngine<>(driverType, maxConnectionsSizePerQuery, databaseConnectionManager, statementManager,
+        return new DriverExecutionPrepareEngine<>(driverType, maxConnectionsSizePerQuery, adaptiveConnectionModeEnabled, databaseConnectionManager, statementManager,
                 new StatementOption(isReturnGeneratedKeys), database.getRuleMetaData().getRules(), database.getResourceMetaData().getStorageUnits());
     }
     
@@ -276,8 +290,9 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         return new QueryResponseHeader(queryHeaders);
     }
     
-    private QueryResponseHeader processExecuteQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
-        queryHeaders = createQueryHeaders(sqlStatementContext, queryResultSample);
+    private QueryResponseHeader processExecuteQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults, final QueryResult queryResultSample,
+                                                    final List<QueryHeader> preparedQueryHeaders) throws SQLException {
+        queryHeaders = null == preparedQueryHeaders ? createQueryHeaders(sqlStatementContext, queryResultSample) : preparedQueryHeaders;
         mergedResult = mergeQuery(sqlStatementContext, queryResults);
         return new QueryResponseHeader(queryHeaders);
     }
@@ -354,6 +369,7 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -365,6 +381,17 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
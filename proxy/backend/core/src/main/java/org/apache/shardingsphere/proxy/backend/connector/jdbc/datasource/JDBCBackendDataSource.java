@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.exception.kernel.connection.OverallConnec
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.BackendDataSource;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.util.VirtualThreadPinningUtils;
 import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
 import org.apache.shardingsphere.transaction.spi.ShardingSphereDistributedTransactionManager;
@@ -74,7 +75,12 @@ public final class JDBCBackendDataSource implements BackendDataSource {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
         }
         synchronized (dataSource) {
-            return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+            long pinningStartNanos = VirtualThreadPinningUtils.start();
+            try {
+                return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+            } finally {
+                VirtualThreadPinningUtils.finish("JDBCBackendDataSource#getConnections", pinningStartNanos);
+            }
         }
     }
     
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Virtual thread pinning utility class.
+ *
+ * <p>Blocking inside synchronized section pins virtual thread to its carrier thread, and the carrier thread can not run other virtual threads meanwhile.
+ * The synchronized sections of JDBC backend are timed with this class, and the sections pinning carrier thread too long are logged.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class VirtualThreadPinningUtils {
+    
+    private static final long NOT_PINNED = Long.MIN_VALUE;
+    
+    private static final long PINNED_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(20L);
+    
+    private static final Method IS_VIRTUAL_METHOD = findIsVirtualMethod();
+    
+    private static Method findIsVirtualMethod() {
+        try {
+            return Thread.class.getMethod("isVirtual");
+        } catch (final NoSuchMethodException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Judge whether current thread is virtual thread.
+     *
+     * @return is virtual thread or not
+     */
+    public static boolean isVirtualThread() {
+        if (null == IS_VIRTUAL_METHOD) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL_METHOD.invoke(Thread.currentThread());
+        } catch (final ReflectiveOperationException ignored) {
+            return false;
+        }
+    }
+    
+    /**
+     * Start timing synchronized section.
+     *
+     * @return start nano time, or a mark of not pinned if current thread is not virtual thread
+     */
+    public static long start() {
+        return isVirtualThread() ? System.nanoTime() : NOT_PINNED;
+    }
+    
+    /**
+     * Finish timing synchronized section, log it if carrier thread is pinned too long.
+     *
+     * @param section synchronized section name
+     * @param startNanos start nano time returned by {@link #start()}
+     */
+    public static void finish(final String section, final long startNanos) {
+        if (NOT_PINNED == startNanos) {
+            return;
+        }
+        long pinnedNanos = System.nanoTime() - startNanos;
+        if (pinnedNanos >= PINNED_THRESHOLD_NANOS) {
+            log.warn("Virtual thread `{}` pinned its carrier thread for {} ms in synchronized section `{}`, start JVM with `-Djdk.tracePinnedThreads=short` to trace the blocking frames.",
+                    Thread.currentThread().getName(), TimeUnit.NANOSECONDS.toMillis(pinnedNanos), section);
+        }
+    }
+}
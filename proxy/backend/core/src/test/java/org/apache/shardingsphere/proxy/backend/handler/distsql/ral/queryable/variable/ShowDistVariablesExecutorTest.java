@@ -57,10 +57,10 @@ class ShowDistVariablesExecutorTest {
         executor.setConnectionContext(new DistSQLConnectionContext(mock(QueryContext.class), 1,
                 mock(DatabaseType.class), mock(DatabaseConnectionManager.class), mock(ExecutorStatementManager.class)));
         Collection<LocalDataQueryResultRow> actual = executor.getRows(mock(ShowDistVariablesStatement.class), contextManager);
-        assertThat(actual.size(), is(22));
+        assertThat(actual.size(), is(38));
         LocalDataQueryResultRow row = actual.iterator().next();
-        assertThat(row.getCell(1), is("agent_plugins_enabled"));
-        assertThat(row.getCell(2), is("true"));
+        assertThat(row.getCell(1), is("adaptive_connection_mode_enabled"));
+        assertThat(row.getCell(2), is("false"));
     }
     
     @Test
@@ -74,8 +74,12 @@ class ShowDistVariablesExecutorTest {
         executor.setConnectionContext(new DistSQLConnectionContext(mock(QueryContext.class), 1,
                 mock(DatabaseType.class), mock(DatabaseConnectionManager.class), mock(ExecutorStatementManager.class)));
         Collection<LocalDataQueryResultRow> actual = executor.getRows(new ShowDistVariablesStatement("sql_%"), contextManager);
-        assertThat(actual.size(), is(2));
+        assertThat(actual.size(), is(6));
         Iterator<LocalDataQueryResultRow> iterator = actual.iterator();
+        assertThat(iterator.next().getCell(1), is("sql_federation_memory_max_bytes"));
+        assertThat(iterator.next().getCell(1), is("sql_federation_query_memory_max_bytes"));
+        assertThat(iterator.next().getCell(1), is("sql_federation_scan_prefetch_rows"));
+        assertThat(iterator.next().getCell(1), is("sql_fingerprint_cache_enabled"));
         assertThat(iterator.next().getCell(1), is("sql_show"));
         assertThat(iterator.next().getCell(1), is("sql_simple"));
     }
@@ -141,10 +141,10 @@ public final class ShardingSphereProxy {
         Integer backLog = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG);
         bootstrap.group(bossGroup, workerGroup)
                 .channel(Epoll.isAvailable() ? EpollServerSocketChannel.class : NioServerSocketChannel.class)
-                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024 * 1024, 16 * 1024 * 1024))
                 .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .option(ChannelOption.SO_REUSEADDR, true)
                 .option(ChannelOption.SO_BACKLOG, backLog)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, createWriteBufferWaterMark())
                 .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .childOption(ChannelOption.TCP_NODELAY, true)
                 .handler(new LoggingHandler(LogLevel.INFO))
@@ -155,10 +155,17 @@ public final class ShardingSphereProxy {
         bootstrap.group(bossGroup, workerGroup)
                 .channel(EpollServerDomainSocketChannel.class)
                 .localAddress(localDomainSocketAddress)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, createWriteBufferWaterMark())
                 .handler(new LoggingHandler(LogLevel.INFO))
                 .childHandler(new ServerHandlerInitializer(FrontDatabaseProtocolTypeFactory.getDatabaseType()));
     }
     
+    private WriteBufferWaterMark createWriteBufferWaterMark() {
+        int highWaterMark = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK);
+        return new WriteBufferWaterMark(highWaterMark / 2, highWaterMark);
+    }
+    
     /**
      * Close ShardingSphere-Proxy.
      */
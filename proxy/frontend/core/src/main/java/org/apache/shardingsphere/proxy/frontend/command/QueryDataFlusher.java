@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Query data flusher.
+ *
+ * <p>Query data packets are flushed when estimated bytes reach proxy-frontend-flush-bytes-threshold, or rows count reaches proxy-frontend-flush-threshold
+ * if bytes threshold is not configured, or proxy-frontend-flush-interval-milliseconds elapsed since last flush.</p>
+ */
+public final class QueryDataFlusher {
+    
+    private static final int DEFAULT_VALUE_BYTES = 8;
+    
+    private final ChannelHandlerContext context;
+    
+    private final int rowsThreshold;
+    
+    private final int bytesThreshold;
+    
+    private final long intervalNanos;
+    
+    private int unflushedRows;
+    
+    private long unflushedBytes;
+    
+    private long lastFlushNanos;
+    
+    public QueryDataFlusher(final ChannelHandlerContext context, final ConfigurationProperties props) {
+        this(context, props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD),
+                props.<Long>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS));
+    }
+    
+    public QueryDataFlusher(final ChannelHandlerContext context, final int rowsThreshold, final int bytesThreshold, final long intervalMilliseconds) {
+        this.context = context;
+        this.rowsThreshold = rowsThreshold;
+        this.bytesThreshold = bytesThreshold;
+        intervalNanos = intervalMilliseconds > 0L ? TimeUnit.MILLISECONDS.toNanos(intervalMilliseconds) : 0L;
+        lastFlushNanos = intervalNanos > 0L ? System.nanoTime() : 0L;
+    }
+    
+    /**
+     * Write query data packet and flush if any flush threshold is reached.
+     *
+     * @param packet query data packet
+     * @param estimatedBytes estimated bytes of packet
+     */
+    public void write(final DatabasePacket packet, final long estimatedBytes) {
+        context.write(packet);
+        unflushedRows++;
+        unflushedBytes += estimatedBytes;
+        if (isFlushNeeded()) {
+            flush();
+        }
+    }
+    
+    private boolean isFlushNeeded() {
+        if (bytesThreshold > 0 ? unflushedBytes >= bytesThreshold : rowsThreshold == unflushedRows) {
+            return true;
+        }
+        return intervalNanos > 0L && System.nanoTime() - lastFlushNanos >= intervalNanos;
+    }
+    
+    private void flush() {
+        context.flush();
+        unflushedRows = 0;
+        unflushedBytes = 0L;
+        if (intervalNanos > 0L) {
+            lastFlushNanos = System.nanoTime();
+        }
+    }
+    
+    /**
+     * Estimate bytes of values.
+     *
+     * @param values values
+     * @return estimated bytes
+     */
+    public static long estimateBytes(final Collection<?> values) {
+        long result = 0L;
+        for (Object each : values) {
+            result += estimateBytes(each instanceof BinaryCell ? ((BinaryCell) each).getData() : each);
+        }
+        return result;
+    }
+    
+    /**
+     * Estimate bytes of cell values.
+     *
+     * @param cells cells
+     * @param cellValueExtractor cell value extractor
+     * @param <T> type of cell
+     * @return estimated bytes
+     */
+    public static <T> long estimateBytes(final List<T> cells, final Function<T, Object> cellValueExtractor) {
+        long result = 0L;
+        for (T each : cells) {
+            result += estimateBytes(cellValueExtractor.apply(each));
+        }
+        return result;
+    }
+    
+    private static long estimateBytes(final Object value) {
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() + 1L;
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length + 1L;
+        }
+        return DEFAULT_VALUE_BYTES;
+    }
+}
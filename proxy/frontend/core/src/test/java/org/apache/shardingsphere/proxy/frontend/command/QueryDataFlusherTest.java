@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QueryDataFlusherTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Test
+    void assertFlushByRowsThreshold() {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, new ConfigurationProperties(new Properties()));
+        DatabasePacket packet = mock(DatabasePacket.class);
+        for (int i = 0; i < 256; i++) {
+            flusher.write(packet, 1024L);
+        }
+        verify(context, times(256)).write(packet);
+        verify(context, times(2)).flush();
+    }
+    
+    @Test
+    void assertFlushByBytesThreshold() {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, 128, 100, 0L);
+        DatabasePacket packet = mock(DatabasePacket.class);
+        flusher.write(packet, 60L);
+        verify(context, never()).flush();
+        flusher.write(packet, 60L);
+        verify(context).flush();
+        flusher.write(packet, 60L);
+        verify(context).flush();
+    }
+    
+    @Test
+    void assertFlushByInterval() throws InterruptedException {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, 128, 0, 1L);
+        DatabasePacket packet = mock(DatabasePacket.class);
+        Thread.sleep(5L);
+        flusher.write(packet, 1L);
+        verify(context).flush();
+    }
+    
+    @Test
+    void assertEstimateBytes() {
+        assertThat(QueryDataFlusher.estimateBytes(Collections.emptyList()), is(0L));
+        assertThat(QueryDataFlusher.estimateBytes(Arrays.asList("foo", new byte[4], 1, null)), is(4L + 5L + 8L + 8L));
+        assertThat(QueryDataFlusher.estimateBytes(Collections.singleton(new BinaryCell(null, "foo_bar"))), is(8L));
+    }
+    
+    @Test
+    void assertEstimateBytesWithCellValueExtractor() {
+        assertThat(QueryDataFlusher.estimateBytes(Arrays.asList(new BinaryCell(null, "foo"), new BinaryCell(null, null)), BinaryCell::getData), is(4L + 8L));
+    }
+}
@@ -21,17 +21,19 @@ import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLStreamingBinaryResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLStreamingTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.packet.command.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.command.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
-import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.command.QueryDataFlusher;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
@@ -70,18 +72,30 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         if (ResponseType.QUERY != queryCommandExecutor.getResponseType() || !context.channel().isActive()) {
             return;
         }
-        int count = 0;
-        int flushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        QueryDataFlusher flusher = new QueryDataFlusher(context, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
         while (queryCommandExecutor.next()) {
-            count++;
             databaseConnectionManager.getConnectionResourceLock().doAwait(context);
             DatabasePacket dataValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
-            }
+            flusher.write(dataValue, estimateBytes(dataValue));
         }
         context.write(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(databaseConnectionManager.getConnectionSession(), true)));
     }
+    
+    private long estimateBytes(final DatabasePacket packet) {
+        if (packet instanceof MySQLStreamingTextResultSetRowPacket) {
+            return estimateBytes((MySQLStreamingTextResultSetRowPacket<?>) packet);
+        }
+        if (packet instanceof MySQLStreamingBinaryResultSetRowPacket) {
+            return estimateBytes((MySQLStreamingBinaryResultSetRowPacket<?>) packet);
+        }
+        return 0L;
+    }
+    
+    private <T> long estimateBytes(final MySQLStreamingTextResultSetRowPacket<T> packet) {
+        return QueryDataFlusher.estimateBytes(packet.getCells(), packet.getCellValueExtractor());
+    }
+    
+    private <T> long estimateBytes(final MySQLStreamingBinaryResultSetRowPacket<T> packet) {
+        return QueryDataFlusher.estimateBytes(packet.getCells(), packet.getCellValueExtractor());
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLStreamingBinaryResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLStreamingTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionResourceLock;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MySQLCommandExecuteEngineTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    @Mock
+    private ProxyDatabaseConnectionManager databaseConnectionManager;
+    
+    @BeforeEach
+    void setUp() {
+        when(context.channel()).thenReturn(channel);
+        when(channel.isActive()).thenReturn(true);
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+        when(databaseConnectionManager.getConnectionResourceLock()).thenReturn(mock(ConnectionResourceLock.class));
+        ConnectionSession connectionSession = mock(ConnectionSession.class);
+        when(connectionSession.getTransactionStatus()).thenReturn(new TransactionStatus());
+        when(databaseConnectionManager.getConnectionSession()).thenReturn(connectionSession);
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), "16")));
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(props);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+    }
+    
+    @Test
+    void assertWriteQueryDataWithStreamingTextRows() throws SQLException {
+        MySQLStreamingTextResultSetRowPacket<String> packet = new MySQLStreamingTextResultSetRowPacket<>(
+                Collections.singletonList("foo_value"), each -> each, new MySQLTextProtocolValue[0]);
+        when(queryCommandExecutor.next()).thenReturn(true, false, true, false);
+        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(packet);
+        MySQLCommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine();
+        commandExecuteEngine.writeQueryData(context, databaseConnectionManager, queryCommandExecutor, 0);
+        verify(context, never()).flush();
+        when(queryCommandExecutor.next()).thenReturn(true, true, false);
+        commandExecuteEngine.writeQueryData(context, databaseConnectionManager, queryCommandExecutor, 0);
+        verify(context, times(3)).write(packet);
+        verify(context).flush();
+        verify(context, times(2)).write(isA(MySQLEofPacket.class));
+    }
+    
+    @Test
+    void assertWriteQueryDataWithStreamingBinaryRows() throws SQLException {
+        MySQLStreamingBinaryResultSetRowPacket<String> packet = new MySQLStreamingBinaryResultSetRowPacket<>(
+                Collections.singletonList("foo_value"), each -> each, new MySQLBinaryProtocolValue[0]);
+        when(queryCommandExecutor.next()).thenReturn(true, true, false);
+        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(packet);
+        new MySQLCommandExecuteEngine().writeQueryData(context, databaseConnectionManager, queryCommandExecutor, 0);
+        verify(context, times(2)).write(packet);
+        verify(context).flush();
+        verify(context).write(isA(MySQLEofPacket.class));
+    }
+}
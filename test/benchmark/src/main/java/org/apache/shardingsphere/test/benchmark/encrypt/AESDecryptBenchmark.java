@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.encrypt;
+
+import org.apache.shardingsphere.infra.algorithm.cryptographic.core.CryptographicAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AES decrypt benchmark, compares creating cipher for every value with reusing thread confined cipher and decrypting column block in batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AESDecryptBenchmark {
+    
+    private static final int BLOCK_SIZE = 1000;
+    
+    private CryptographicAlgorithm cryptographicAlgorithm;
+    
+    private byte[] secretKey;
+    
+    private List<Object> cipherValues;
+    
+    /**
+     * Set up.
+     *
+     * @throws GeneralSecurityException general security exception
+     */
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        Properties props = new Properties();
+        props.setProperty("aes-key-value", "benchmark");
+        props.setProperty("digest-algorithm-name", "SHA-1");
+        cryptographicAlgorithm = TypedSPILoader.getService(CryptographicAlgorithm.class, "AES", props);
+        secretKey = Arrays.copyOf(MessageDigest.getInstance("SHA-1").digest("benchmark".getBytes(StandardCharsets.UTF_8)), 16);
+        cipherValues = new ArrayList<>(BLOCK_SIZE);
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            cipherValues.add(cryptographicAlgorithm.encrypt("13800000" + i));
+        }
+    }
+    
+    /**
+     * Benchmark decrypting with a new cipher for every value.
+     *
+     * @return last plain value
+     * @throws GeneralSecurityException general security exception
+     */
+    @Benchmark
+    @OperationsPerInvocation(BLOCK_SIZE)
+    public Object benchPerCallCipherDecrypt() throws GeneralSecurityException {
+        Object result = null;
+        for (Object each : cipherValues) {
+            Cipher cipher = Cipher.getInstance("AES");
+            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(secretKey, "AES"));
+            result = new String(cipher.doFinal(Base64.getDecoder().decode(each.toString().trim())), StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark decrypting cell by cell.
+     *
+     * @return last plain value
+     */
+    @Benchmark
+    @OperationsPerInvocation(BLOCK_SIZE)
+    public Object benchDecrypt() {
+        Object result = null;
+        for (Object each : cipherValues) {
+            result = cryptographicAlgorithm.decrypt(each);
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark decrypting column block in batch.
+     *
+     * @return plain values
+     */
+    @Benchmark
+    @OperationsPerInvocation(BLOCK_SIZE)
+    public List<Object> benchBatchDecrypt() {
+        return cryptographicAlgorithm.batchDecrypt(cipherValues);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.fixture;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Benchmark SQL.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum BenchmarkSQL {
+    
+    POINT_SELECT("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?", Arrays.asList(10, 1000L)),
+    
+    IN_SELECT("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id IN (?, ?, ?, ?)", Arrays.asList(10, 1000L, 1001L, 1002L, 1003L)),
+    
+    RANGE_SELECT("SELECT order_id, user_id, status FROM t_order WHERE order_id BETWEEN ? AND ? ORDER BY order_id", Arrays.asList(1000L, 2000L)),
+    
+    BINDING_JOIN("SELECT o.order_id, o.status, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.order_id = ?", Arrays.asList(10, 1000L)),
+    
+    INSERT("INSERT INTO t_order (user_id, status) VALUES (?, ?)", Arrays.asList(10, "INIT")),
+    
+    UPDATE("UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?", Arrays.asList("PAID", 10, 1000L));
+    
+    private final String sql;
+    
+    private final List<Object> params;
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.fixture;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
+import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.metadata.jdbc.JDBCInstanceMetaData;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
+import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.config.pojo.YamlRootConfiguration;
+import org.apache.shardingsphere.infra.yaml.config.swapper.resource.YamlDataSourceConfigurationSwapper;
+import org.apache.shardingsphere.infra.yaml.config.swapper.rule.YamlRuleConfigurationSwapperEngine;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Kernel benchmark context.
+ */
+@Getter
+public final class KernelBenchmarkContext {
+    
+    private static final String RULE_CONFIG_FILE = "config/sharding-rule.yaml";
+    
+    private final DatabaseType databaseType;
+    
+    private final ShardingSphereSQLParserEngine sqlParserEngine;
+    
+    private final Collection<ShardingSphereRule> rules;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final RuleMetaData globalRuleMetaData;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ConfigurationProperties props;
+    
+    public KernelBenchmarkContext() throws IOException {
+        YamlRootConfiguration rootConfig = loadRootConfiguration();
+        databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        sqlParserEngine = new ShardingSphereSQLParserEngine(databaseType, new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+        props = new ConfigurationProperties(rootConfig.getProps());
+        DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(
+                new YamlDataSourceConfigurationSwapper().swapToDataSources(rootConfig.getDataSources()), new YamlRuleConfigurationSwapperEngine().swapToRuleConfigurations(rootConfig.getRules()));
+        ResourceMetaData resourceMetaData = new ResourceMetaData(databaseConfig.getDataSources(), databaseConfig.getStorageUnits());
+        rules = DatabaseRulesBuilder.build(rootConfig.getDatabaseName(), databaseType, databaseConfig, createComputeNodeInstanceContext(rootConfig.getDatabaseName()), resourceMetaData);
+        String schemaName = new DatabaseTypeRegistry(databaseType).getDefaultSchemaName(rootConfig.getDatabaseName());
+        database = new ShardingSphereDatabase(rootConfig.getDatabaseName(), databaseType, resourceMetaData, new RuleMetaData(rules), Collections.singleton(createSchema(schemaName)));
+        globalRuleMetaData = new RuleMetaData(GlobalRulesBuilder.buildRules(Collections.emptyList(), Collections.singleton(database), props));
+        metaData = new ShardingSphereMetaData(Collections.singleton(database), new ResourceMetaData(Collections.emptyMap()), globalRuleMetaData, props);
+    }
+    
+    private YamlRootConfiguration loadRootConfiguration() throws IOException {
+        try (
+                InputStream inputStream = Objects.requireNonNull(Thread.currentThread().getContextClassLoader().getResourceAsStream(RULE_CONFIG_FILE),
+                        String.format("Can not find configuration file `%s`", RULE_CONFIG_FILE));
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            byte[] buffer = new byte[4096];
+            int length;
+            while (-1 != (length = inputStream.read(buffer))) {
+                outputStream.write(buffer, 0, length);
+            }
+            return YamlEngine.unmarshal(outputStream.toByteArray(), YamlRootConfiguration.class);
+        }
+    }
+    
+    private ComputeNodeInstanceContext createComputeNodeInstanceContext(final String databaseName) {
+        ComputeNodeInstanceContext result = new ComputeNodeInstanceContext(
+                new ComputeNodeInstance(new JDBCInstanceMetaData(UUID.randomUUID().toString(), databaseName)), new ModeConfiguration("Standalone", null), new EventBusContext());
+        result.init(props -> 0);
+        return result;
+    }
+    
+    private ShardingSphereSchema createSchema(final String schemaName) {
+        ShardingSphereTable orderTable = new ShardingSphereTable("t_order", Arrays.asList(
+                new ShardingSphereColumn("order_id", Types.BIGINT, true, true, false, true, false, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, false),
+                new ShardingSphereColumn("creation_date", Types.DATE, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable orderItemTable = new ShardingSphereTable("t_order_item", Arrays.asList(
+                new ShardingSphereColumn("item_id", Types.BIGINT, true, true, false, true, false, false),
+                new ShardingSphereColumn("order_id", Types.BIGINT, false, false, false, true, false, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList());
+        return new ShardingSphereSchema(schemaName, Arrays.asList(orderTable, orderItemTable), Collections.emptyList());
+    }
+    
+    /**
+     * Parse SQL.
+     *
+     * @param sql SQL to be parsed
+     * @param useCache whether to use SQL statement cache
+     * @return SQL statement
+     */
+    public SQLStatement parse(final String sql, final boolean useCache) {
+        return sqlParserEngine.parse(sql, useCache);
+    }
+    
+    /**
+     * Bind SQL statement.
+     *
+     * @param sqlStatement SQL statement
+     * @param params SQL parameters
+     * @return SQL statement context
+     */
+    public SQLStatementContext bind(final SQLStatement sqlStatement, final List<Object> params) {
+        return new SQLBindEngine(metaData, database.getName(), new HintValueContext()).bind(sqlStatement, params);
+    }
+    
+    /**
+     * Create query context.
+     *
+     * @param benchmarkSQL benchmark SQL
+     * @return query context
+     */
+    public QueryContext createQueryContext(final BenchmarkSQL benchmarkSQL) {
+        SQLStatementContext sqlStatementContext = bind(parse(benchmarkSQL.getSql(), true), benchmarkSQL.getParams());
+        return new QueryContext(sqlStatementContext, benchmarkSQL.getSql(), benchmarkSQL.getParams(), new HintValueContext(), createConnectionContext(), metaData);
+    }
+    
+    /**
+     * Create connection context.
+     *
+     * @return connection context
+     */
+    public ConnectionContext createConnectionContext() {
+        ConnectionContext result = new ConnectionContext(Collections::emptyList);
+        result.setCurrentDatabaseName(database.getName());
+        return result;
+    }
+}
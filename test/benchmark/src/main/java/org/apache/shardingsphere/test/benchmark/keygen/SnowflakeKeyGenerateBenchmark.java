@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.keygen;
+
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snowflake key generate benchmark, compares generating keys one by one with reserving keys of a batched insert at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class SnowflakeKeyGenerateBenchmark {
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    private KeyGenerateAlgorithm algorithm;
+    
+    private KeyGenerateAlgorithm stripedAlgorithm;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        Properties props = new Properties();
+        props.setProperty("sequence-stripe-count", "4");
+        stripedAlgorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", props);
+    }
+    
+    /**
+     * Benchmark generating keys one by one.
+     *
+     * @return last generated keys
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Collection<? extends Comparable<?>> benchGenerateKeyOneByOne() {
+        Collection<? extends Comparable<?>> result = null;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            result = algorithm.generateKeys(null, 1);
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark generating keys of a batched insert at once.
+     *
+     * @return generated keys
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Collection<? extends Comparable<?>> benchGenerateKeysInBatch() {
+        return algorithm.generateKeys(null, BATCH_SIZE);
+    }
+    
+    /**
+     * Benchmark generating keys of a batched insert at once with sequence stripes.
+     *
+     * @return generated keys
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Collection<? extends Comparable<?>> benchGenerateKeysInBatchWithStripes() {
+        return stripedAlgorithm.generateKeys(null, BATCH_SIZE);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.merge;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.test.benchmark.fixture.KernelBenchmarkContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merge benchmark over stubbed query results of every shard.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MergeBenchmark {
+    
+    private static final String ORDER_BY_SQL = "SELECT order_id, user_id, status FROM t_order ORDER BY order_id";
+    
+    private static final String GROUP_BY_SQL = "SELECT user_id, COUNT(*) AS order_count FROM t_order GROUP BY user_id ORDER BY user_id";
+    
+    @Param({"16", "256"})
+    private int shardCount;
+    
+    @Param("100")
+    private int rowCountPerShard;
+    
+    private MergeEngine mergeEngine;
+    
+    private SQLStatementContext orderBySQLStatementContext;
+    
+    private SQLStatementContext groupBySQLStatementContext;
+    
+    private QueryResultMetaData orderByMetaData;
+    
+    private QueryResultMetaData groupByMetaData;
+    
+    private List<List<MemoryQueryResultDataRow>> orderByRows;
+    
+    private List<List<MemoryQueryResultDataRow>> groupByRows;
+    
+    /**
+     * Set up.
+     *
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws IOException {
+        KernelBenchmarkContext context = new KernelBenchmarkContext();
+        mergeEngine = new MergeEngine(context.getMetaData(), context.getDatabase(), context.getProps(), context.createConnectionContext());
+        orderBySQLStatementContext = context.bind(context.parse(ORDER_BY_SQL, false), Collections.emptyList());
+        groupBySQLStatementContext = context.bind(context.parse(GROUP_BY_SQL, false), Collections.emptyList());
+        orderByMetaData = new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("t_order", "order_id", "order_id", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("t_order", "status", "status", Types.VARCHAR, "VARCHAR", 50, 0)));
+        groupByMetaData = new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("", "COUNT(*)", "order_count", Types.BIGINT, "BIGINT", 20, 0)));
+        orderByRows = new ArrayList<>(shardCount);
+        groupByRows = new ArrayList<>(shardCount);
+        for (int shardIndex = 0; shardIndex < shardCount; shardIndex++) {
+            List<MemoryQueryResultDataRow> eachOrderByRows = new ArrayList<>(rowCountPerShard);
+            List<MemoryQueryResultDataRow> eachGroupByRows = new ArrayList<>(rowCountPerShard);
+            for (int rowIndex = 0; rowIndex < rowCountPerShard; rowIndex++) {
+                eachOrderByRows.add(new MemoryQueryResultDataRow(Arrays.asList((long) rowIndex * shardCount + shardIndex, rowIndex, "INIT")));
+                eachGroupByRows.add(new MemoryQueryResultDataRow(Arrays.asList(rowIndex, 1L)));
+            }
+            orderByRows.add(eachOrderByRows);
+            groupByRows.add(eachGroupByRows);
+        }
+    }
+    
+    /**
+     * Benchmark order by stream merge.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void orderByStreamMerge(final Blackhole blackhole) throws SQLException {
+        consume(mergeEngine.merge(createQueryResults(orderByMetaData, orderByRows), orderBySQLStatementContext), orderByMetaData.getColumnCount(), blackhole);
+    }
+    
+    /**
+     * Benchmark group by stream merge.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void groupByStreamMerge(final Blackhole blackhole) throws SQLException {
+        consume(mergeEngine.merge(createQueryResults(groupByMetaData, groupByRows), groupBySQLStatementContext), groupByMetaData.getColumnCount(), blackhole);
+    }
+    
+    private List<QueryResult> createQueryResults(final QueryResultMetaData metaData, final List<List<MemoryQueryResultDataRow>> rows) {
+        List<QueryResult> result = new ArrayList<>(rows.size());
+        for (List<MemoryQueryResultDataRow> each : rows) {
+            result.add(new RawMemoryQueryResult(metaData, each));
+        }
+        return result;
+    }
+    
+    private void consume(final MergedResult mergedResult, final int columnCount, final Blackhole blackhole) throws SQLException {
+        while (mergedResult.next()) {
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                blackhole.consume(mergedResult.getValue(columnIndex, Object.class));
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.pipeline;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelCreator;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipeline channel benchmark, one push thread transfers records to the benchmark thread which fetches them as importer does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineChannelBenchmark {
+    
+    private static final int PUSH_COUNT = 10000;
+    
+    private static final int RECORDS_PER_PUSH = 10;
+    
+    private static final int IMPORTER_BATCH_SIZE = 1000;
+    
+    @Param({"MEMORY", "RING"})
+    private String channelType;
+    
+    private PipelineChannelCreator channelCreator;
+    
+    private List<Record> records;
+    
+    private ExecutorService producerExecutor;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        channelCreator = TypedSPILoader.getService(PipelineChannelCreator.class, channelType, new Properties());
+        records = new ArrayList<>(RECORDS_PER_PUSH);
+        for (int i = 0; i < RECORDS_PER_PUSH; i++) {
+            records.add(new PlaceholderRecord(new IngestFinishedPosition()));
+        }
+        records = Collections.unmodifiableList(records);
+        producerExecutor = Executors.newSingleThreadExecutor();
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        producerExecutor.shutdownNow();
+    }
+    
+    /**
+     * Benchmark transferring records through pipeline channel.
+     *
+     * @return fetched records count
+     * @throws ExecutionException execution exception
+     * @throws InterruptedException interrupted exception
+     */
+    @Benchmark
+    @OperationsPerInvocation(PUSH_COUNT * RECORDS_PER_PUSH)
+    public int transfer() throws ExecutionException, InterruptedException {
+        PipelineChannel channel = channelCreator.newInstance(IMPORTER_BATCH_SIZE, fetchedRecords -> {
+        });
+        Future<?> producer = producerExecutor.submit(() -> {
+            for (int i = 0; i < PUSH_COUNT; i++) {
+                channel.push(records);
+            }
+        });
+        int result = 0;
+        while (result < PUSH_COUNT * RECORDS_PER_PUSH) {
+            result += channel.fetch(IMPORTER_BATCH_SIZE, 100L).size();
+        }
+        producer.get();
+        return result;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLStreamingBinaryResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLStreamingTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * MySQL result set row encode benchmark, compares encoding rows through intermediate row objects with streaming them into pooled buffer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MySQLResultSetRowEncodeBenchmark {
+    
+    private static final int[] COLUMN_TYPES = {Types.BIGINT, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.DECIMAL, Types.SMALLINT};
+    
+    private List<Object> cells;
+    
+    private MySQLTextProtocolValue[] textProtocolValues;
+    
+    private MySQLBinaryColumnType[] binaryColumnTypes;
+    
+    private MySQLBinaryProtocolValue[] binaryProtocolValues;
+    
+    private ByteBuf byteBuf;
+    
+    private MySQLPacketPayload payload;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        cells = Arrays.asList(1234567890123L, 42, "order_status_paid", "shipping address for benchmark", new BigDecimal("1024.50"), (short) 7);
+        textProtocolValues = new MySQLTextProtocolValue[COLUMN_TYPES.length];
+        binaryColumnTypes = new MySQLBinaryColumnType[COLUMN_TYPES.length];
+        binaryProtocolValues = new MySQLBinaryProtocolValue[COLUMN_TYPES.length];
+        for (int i = 0; i < COLUMN_TYPES.length; i++) {
+            textProtocolValues[i] = MySQLTextProtocolValueFactory.getTextProtocolValue(COLUMN_TYPES[i]);
+            binaryColumnTypes[i] = MySQLBinaryColumnType.valueOfJDBCType(COLUMN_TYPES[i]);
+            binaryProtocolValues[i] = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(binaryColumnTypes[i]);
+        }
+        byteBuf = PooledByteBufAllocator.DEFAULT.buffer(1024);
+        payload = new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        byteBuf.release();
+    }
+    
+    /**
+     * Benchmark encoding text row through copied value list.
+     *
+     * @return written bytes
+     */
+    @Benchmark
+    public int benchTextRow() {
+        byteBuf.clear();
+        new MySQLTextResultSetRowPacket(new ArrayList<>(cells)).write(payload);
+        return byteBuf.writerIndex();
+    }
+    
+    /**
+     * Benchmark encoding text row by streaming cells.
+     *
+     * @return written bytes
+     */
+    @Benchmark
+    public int benchStreamingTextRow() {
+        byteBuf.clear();
+        new MySQLStreamingTextResultSetRowPacket<>(cells, Function.identity(), textProtocolValues).write(payload);
+        return byteBuf.writerIndex();
+    }
+    
+    /**
+     * Benchmark encoding binary row through binary cells.
+     *
+     * @return written bytes
+     */
+    @Benchmark
+    public int benchBinaryRow() {
+        byteBuf.clear();
+        List<BinaryCell> binaryCells = new ArrayList<>(cells.size());
+        for (int i = 0; i < cells.size(); i++) {
+            binaryCells.add(new BinaryCell(binaryColumnTypes[i], cells.get(i)));
+        }
+        new MySQLBinaryResultSetRowPacket(new BinaryRow(binaryCells)).write(payload);
+        return byteBuf.writerIndex();
+    }
+    
+    /**
+     * Benchmark encoding binary row by streaming cells.
+     *
+     * @return written bytes
+     */
+    @Benchmark
+    public int benchStreamingBinaryRow() {
+        byteBuf.clear();
+        new MySQLStreamingBinaryResultSetRowPacket<>(cells, Function.identity(), binaryProtocolValues).write(payload);
+        return byteBuf.writerIndex();
+    }
+}
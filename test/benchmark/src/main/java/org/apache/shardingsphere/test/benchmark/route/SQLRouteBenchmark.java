@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.route;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.test.benchmark.fixture.BenchmarkSQL;
+import org.apache.shardingsphere.test.benchmark.fixture.KernelBenchmarkContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL route benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SQLRouteBenchmark {
+    
+    @Param
+    private BenchmarkSQL benchmarkSQL;
+    
+    private KernelBenchmarkContext context;
+    
+    private SQLRouteEngine sqlRouteEngine;
+    
+    private QueryContext queryContext;
+    
+    /**
+     * Set up.
+     *
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws IOException {
+        context = new KernelBenchmarkContext();
+        sqlRouteEngine = new SQLRouteEngine(context.getRules(), context.getProps());
+        queryContext = context.createQueryContext(benchmarkSQL);
+    }
+    
+    /**
+     * Benchmark route.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext route() {
+        if (queryContext.getSqlStatementContext() instanceof InsertStatementContext) {
+            ((InsertStatementContext) queryContext.getSqlStatementContext()).getGeneratedKeyContext().ifPresent(optional -> optional.getGeneratedValues().clear());
+        }
+        return sqlRouteEngine.route(queryContext, context.getGlobalRuleMetaData(), context.getDatabase());
+    }
+}
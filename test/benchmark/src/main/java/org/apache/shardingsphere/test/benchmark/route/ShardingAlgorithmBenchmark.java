@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.route;
+
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sharding algorithm benchmark for routing many precise sharding values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShardingAlgorithmBenchmark {
+    
+    private static final int SHARDING_COUNT = 64;
+    
+    private static final int VALUE_COUNT = 1000;
+    
+    @Param({"MOD", "HASH_MOD", "VOLUME_RANGE"})
+    private String algorithmType;
+    
+    private StandardShardingAlgorithm<Comparable<?>> shardingAlgorithm;
+    
+    private Collection<String> availableTargetNames;
+    
+    private List<PreciseShardingValue<Comparable<?>>> shardingValues;
+    
+    /**
+     * Set up.
+     */
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() {
+        shardingAlgorithm = (StandardShardingAlgorithm<Comparable<?>>) TypedSPILoader.getService(ShardingAlgorithm.class, algorithmType, createProperties());
+        availableTargetNames = new LinkedHashSet<>(SHARDING_COUNT + 2, 1F);
+        for (int i = 0; i < SHARDING_COUNT + 2; i++) {
+            availableTargetNames.add("t_order_" + i);
+        }
+        DataNodeInfo dataNodeInfo = new DataNodeInfo("t_order_", 1, '0');
+        shardingValues = new ArrayList<>(VALUE_COUNT);
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            shardingValues.add(new PreciseShardingValue<>("t_order", "order_id", dataNodeInfo, (long) i * 7919L % (SHARDING_COUNT * 1000L)));
+        }
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        if ("VOLUME_RANGE".equals(algorithmType)) {
+            result.setProperty("range-lower", "0");
+            result.setProperty("range-upper", String.valueOf(SHARDING_COUNT * 1000L));
+            result.setProperty("sharding-volume", "1000");
+        } else {
+            result.setProperty("sharding-count", String.valueOf(SHARDING_COUNT));
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark route precise sharding values.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void routePreciseShardingValues(final Blackhole blackhole) {
+        for (PreciseShardingValue<Comparable<?>> each : shardingValues) {
+            blackhole.consume(shardingAlgorithm.doSharding(availableTargetNames, each));
+        }
+    }
+}
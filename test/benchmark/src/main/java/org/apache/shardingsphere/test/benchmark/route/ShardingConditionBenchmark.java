@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.route;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.engine.WhereClauseShardingConditionEngine;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.test.benchmark.fixture.KernelBenchmarkContext;
+import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sharding condition benchmark for large in lists and or chains.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShardingConditionBenchmark {
+    
+    @Param({"IN_LIST", "IN_AND_IN", "OR_CHAIN"})
+    private String predicate;
+    
+    @Param({"100", "1000"})
+    private int size;
+    
+    private WhereClauseShardingConditionEngine shardingConditionEngine;
+    
+    private SQLStatementContext sqlStatementContext;
+    
+    /**
+     * Set up.
+     *
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws IOException {
+        KernelBenchmarkContext context = new KernelBenchmarkContext();
+        ShardingRule shardingRule = (ShardingRule) context.getRules().stream().filter(ShardingRule.class::isInstance).findFirst().orElseThrow(IllegalStateException::new);
+        shardingConditionEngine = new WhereClauseShardingConditionEngine(shardingRule, context.getGlobalRuleMetaData().getSingleRule(TimestampServiceRule.class));
+        sqlStatementContext = context.bind(context.parse("SELECT order_id, user_id, status FROM t_order WHERE " + createPredicate(), false), Collections.emptyList());
+    }
+    
+    private String createPredicate() {
+        switch (predicate) {
+            case "IN_LIST":
+                return "order_id IN (" + createValues(size, 0, 1) + ")";
+            case "IN_AND_IN":
+                return "order_id IN (" + createValues(size, 0, 2) + ") AND order_id IN (" + createValues(size, 0, 3) + ")";
+            case "OR_CHAIN":
+                return createOrChain(size);
+            default:
+                throw new UnsupportedOperationException(predicate);
+        }
+    }
+    
+    private String createValues(final int count, final long start, final long step) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(start + (long) (count - i) * step);
+        }
+        return result.toString();
+    }
+    
+    private String createOrChain(final int count) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                result.append(" OR ");
+            }
+            result.append(0 == i % 2 ? "order_id = " + i * 10L : "order_id BETWEEN " + i * 10L + " AND " + (i * 10L + 15L));
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Benchmark create sharding conditions.
+     *
+     * @return sharding conditions
+     */
+    @Benchmark
+    public List<ShardingCondition> createShardingConditions() {
+        return shardingConditionEngine.createShardingConditions(sqlStatementContext, Collections.emptyList());
+    }
+}
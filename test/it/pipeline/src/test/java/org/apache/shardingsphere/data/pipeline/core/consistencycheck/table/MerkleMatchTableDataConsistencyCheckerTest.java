@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MerkleMatchTableDataConsistencyCheckerTest {
+    
+    private static final int RECORDS_COUNT = 5000;
+    
+    private PipelineDataSource sourceDataSource;
+    
+    private PipelineDataSource targetDataSource;
+    
+    private ConsistencyCheckJobItemProgressContext progressContext;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "H2");
+        sourceDataSource = new PipelineDataSource(createHikariDataSource("merkle_source_" + RandomStringUtils.randomAlphanumeric(9)), databaseType);
+        targetDataSource = new PipelineDataSource(createHikariDataSource("merkle_target_" + RandomStringUtils.randomAlphanumeric(9)), databaseType);
+        createTableAndInitData(sourceDataSource);
+        createTableAndInitData(targetDataSource);
+        progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2");
+    }
+    
+    @AfterEach
+    void tearDown() throws SQLException {
+        sourceDataSource.close();
+        targetDataSource.close();
+    }
+    
+    private HikariDataSource createHikariDataSource(final String databaseName) {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl(String.format("jdbc:h2:mem:%s;DATABASE_TO_UPPER=false;MODE=MySQL", databaseName));
+        result.setUsername("root");
+        result.setPassword("root");
+        result.setMaximumPoolSize(10);
+        return result;
+    }
+    
+    private void createTableAndInitData(final PipelineDataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(12))");
+            PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)");
+            for (int i = 1; i <= RECORDS_COUNT; i++) {
+                preparedStatement.setInt(1, i);
+                preparedStatement.setInt(2, i % 10);
+                preparedStatement.setString(3, "OK");
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+    
+    @Test
+    void assertCheckWithSameRecords() {
+        assertTrue(check().isMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is((long) RECORDS_COUNT));
+    }
+    
+    @Test
+    void assertCheckWithDifferentRecord() throws SQLException {
+        execute(targetDataSource, "UPDATE t_order SET status='FAIL' WHERE order_id=4321");
+        assertFalse(check().isMatched());
+    }
+    
+    @Test
+    void assertCheckWithMissedRecord() throws SQLException {
+        execute(targetDataSource, "DELETE FROM t_order WHERE order_id=" + RECORDS_COUNT);
+        assertFalse(check().isMatched());
+    }
+    
+    private void execute(final PipelineDataSource dataSource, final String sql) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+    
+    private TableDataConsistencyCheckResult check() {
+        try (TableDataConsistencyChecker checker = TableDataConsistencyCheckerFactory.newInstance("MERKLE_MATCH",
+                PropertiesBuilder.build(new Property("parallelism", "2"), new Property("range-count", "8"), new Property("min-range-size", "10")))) {
+            QualifiedTable table = new QualifiedTable(null, "t_order");
+            TableInventoryCheckParameter param = new TableInventoryCheckParameter("foo_job", sourceDataSource, targetDataSource, table, table,
+                    Arrays.asList("order_id", "user_id", "status"), Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "integer", false, true, true)),
+                    null, progressContext);
+            return checker.buildTableInventoryChecker(param).checkSingleTableInventoryData();
+        }
+    }
+}